@@ -1,5 +1,8 @@
 package io.weaviate.client;
 
+import io.weaviate.client.base.RequestTimingsListener;
+import io.weaviate.client.base.concurrent.ClientExecutors;
+import io.weaviate.client.base.concurrent.ExecutorsConfig;
 import java.util.Map;
 
 public class Config {
@@ -12,6 +15,12 @@ public class Config {
   private final int connectionTimeout;
   private final int connectionRequestTimeout;
   private final int socketTimeout;
+  private volatile RequestTimingsListener requestTimingsListener;
+  private volatile ClientExecutors executors;
+  // guarded by this
+  private ClientExecutors defaultExecutors;
+  private int clients;
+  private boolean released;
 
   public Config(String scheme, String host) {
     this(scheme, host, null, DEFAULT_TIMEOUT_SECONDS, DEFAULT_TIMEOUT_SECONDS, DEFAULT_TIMEOUT_SECONDS);
@@ -50,4 +59,78 @@ public class Config {
   public int getSocketTimeout() {
     return socketTimeout;
   }
+
+  /**
+   * Registers a listener receiving the latency breakdown of every request.
+   * Timings are also available on each {@link io.weaviate.client.base.Result#getTimings()}.
+   */
+  public Config withRequestTimingsListener(RequestTimingsListener requestTimingsListener) {
+    this.requestTimingsListener = requestTimingsListener;
+    return this;
+  }
+
+  public RequestTimingsListener getRequestTimingsListener() {
+    return requestTimingsListener;
+  }
+
+  /**
+   * Sets the threads used by clients with this config, e.g. to share them with other components.
+   * They are owned by the caller, and left running when clients are closed.
+   */
+  public Config withExecutors(ClientExecutors executors) {
+    this.executors = executors;
+    return this;
+  }
+
+  /**
+   * Executors running the background work of clients with this config: the ones set with
+   * {@link #withExecutors(ClientExecutors)}, or defaults created on first use. Defaults are shut down once
+   * the last client using this config is closed; using them afterwards fails until a new client is created.
+   * A config no client was created with uses {@link ClientExecutors#shared()}.
+   *
+   * @throws IllegalStateException if all clients using the default executors are closed
+   */
+  public ClientExecutors getExecutors() {
+    ClientExecutors current = executors;
+    if (current != null) {
+      return current;
+    }
+    synchronized (this) {
+      if (clients == 0) {
+        if (released) {
+          throw new IllegalStateException("clients of this config are closed, their executors are shut down");
+        }
+        // nothing would shut down executors created for it
+        return ClientExecutors.shared();
+      }
+      if (defaultExecutors == null) {
+        defaultExecutors = ClientExecutors.create(ExecutorsConfig.defaultConfig().build());
+      }
+      return defaultExecutors;
+    }
+  }
+
+  /**
+   * Registers a client using the default executors, see {@link #releaseExecutors()}.
+   */
+  synchronized void retainExecutors() {
+    clients++;
+  }
+
+  /**
+   * Unregisters a client, shutting down the default executors when no other client uses them.
+   */
+  void releaseExecutors() {
+    ClientExecutors unused = null;
+    synchronized (this) {
+      if (--clients == 0) {
+        released = true;
+        unused = defaultExecutors;
+        defaultExecutors = null;
+      }
+    }
+    if (unused != null) {
+      unused.close();
+    }
+  }
 }
@@ -1,5 +1,6 @@
 package io.weaviate.client;
 
+import io.weaviate.client.base.cache.CacheInvalidator;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.http.builder.HttpApacheClientBuilder;
 import io.weaviate.client.base.http.impl.CommonsHttpClientImpl;
@@ -13,18 +14,29 @@ import io.weaviate.client.v1.cluster.Cluster;
 import io.weaviate.client.v1.contextionary.Contextionary;
 import io.weaviate.client.v1.data.Data;
 import io.weaviate.client.v1.graphql.GraphQL;
+import io.weaviate.client.v1.graphql.cache.QueryResultCache;
+import io.weaviate.client.v1.graphql.cache.QueryResultCacheConfig;
+import io.weaviate.client.v1.graphql.cache.SemanticQueryCache;
+import io.weaviate.client.v1.graphql.cache.SemanticQueryCacheConfig;
 import io.weaviate.client.v1.misc.Misc;
 import io.weaviate.client.v1.misc.api.MetaGetter;
 import io.weaviate.client.v1.schema.Schema;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Calendar;
 import java.util.Date;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
 
-public class WeaviateClient {
+public class WeaviateClient implements Closeable {
   private final Config config;
   private final DbVersionProvider dbVersionProvider;
   private final DbVersionSupport dbVersionSupport;
   private final HttpClient httpClient;
+  private volatile QueryResultCache queryResultCache;
+  private volatile SemanticQueryCache semanticQueryCache;
+  private final AtomicBoolean closed = new AtomicBoolean();
 
   public WeaviateClient(Config config) {
     this(config, new CommonsHttpClientImpl(config.getHeaders(), null, HttpApacheClientBuilder.build(config)));
@@ -37,10 +49,29 @@ public class WeaviateClient {
   public WeaviateClient(Config config, HttpClient httpClient) {
     this.config = config;
     this.httpClient = httpClient;
+    config.retainExecutors();
     dbVersionProvider = initDbVersionProvider();
     dbVersionSupport = new DbVersionSupport(dbVersionProvider);
   }
 
+  public WeaviateClient withQueryResultCache(QueryResultCacheConfig queryResultCacheConfig) {
+    this.queryResultCache = queryResultCacheConfig != null ? new QueryResultCache(queryResultCacheConfig) : null;
+    return this;
+  }
+
+  public QueryResultCache queryResultCache() {
+    return queryResultCache;
+  }
+
+  public WeaviateClient withSemanticQueryCache(SemanticQueryCacheConfig semanticQueryCacheConfig) {
+    this.semanticQueryCache = semanticQueryCacheConfig != null ? new SemanticQueryCache(semanticQueryCacheConfig) : null;
+    return this;
+  }
+
+  public SemanticQueryCache semanticQueryCache() {
+    return semanticQueryCache;
+  }
+
   public Misc misc() {
     return new Misc(httpClient, config, dbVersionProvider);
   }
@@ -51,12 +82,12 @@ public class WeaviateClient {
 
   public Data data() {
     dbVersionProvider.refresh();
-    return new Data(httpClient, config, dbVersionSupport);
+    return new Data(httpClient, config, dbVersionSupport, cacheInvalidator());
   }
 
   public Batch batch() {
     dbVersionProvider.refresh();
-    return new Batch(httpClient, config, dbVersionSupport, data());
+    return new Batch(httpClient, config, dbVersionSupport, data(), cacheInvalidator());
   }
 
   public Backup backup() {
@@ -76,7 +107,32 @@ public class WeaviateClient {
   }
 
   public GraphQL graphQL() {
-    return new GraphQL(httpClient, config);
+    return new GraphQL(httpClient, config, queryResultCache, semanticQueryCache);
+  }
+
+  /**
+   * Stops the client's background threads: token refresh, and the default executors of its config if no
+   * other client uses them, waiting for tasks still running. Auto batchers should be flushed and closed before.
+   * Executors set with {@link Config#withExecutors} are left to their owner.
+   */
+  @Override
+  public void close() {
+    if (!closed.compareAndSet(false, true)) {
+      return;
+    }
+    try {
+      if (httpClient instanceof Closeable) {
+        ((Closeable) httpClient).close();
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      config.releaseExecutors();
+    }
+  }
+
+  private CacheInvalidator cacheInvalidator() {
+    return CacheInvalidator.of(queryResultCache, semanticQueryCache);
   }
 
   private DbVersionProvider initDbVersionProvider() {
@@ -1,8 +1,10 @@
 package io.weaviate.client.base;
 
+import io.weaviate.client.base.concurrent.ClientExecutors;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.http.HttpResponse;
 import java.util.Collections;
+import org.apache.commons.lang3.StringUtils;
 
 import io.weaviate.client.Config;
 
@@ -17,6 +19,13 @@ public abstract class BaseClient<T> {
     this.serializer = new Serializer();
   }
 
+  /**
+   * Threads shared by the background work of the client.
+   */
+  protected ClientExecutors executors() {
+    return config.getExecutors();
+  }
+
   protected Response<T> sendGetRequest(String endpoint, Class<T> classOfT) {
     return sendRequest(endpoint, null, "GET", classOfT);
   }
@@ -25,6 +34,41 @@ public abstract class BaseClient<T> {
     return sendRequest(endpoint, payload, "POST", classOfT);
   }
 
+  /**
+   * Same as {@link #sendPostRequest(String, Object, Class)}, reporting the time it took the caller
+   * to build the payload as part of the request timings.
+   */
+  protected Response<T> sendPostRequest(String endpoint, Object payload, Class<T> classOfT, long buildNanos) {
+    return sendRequest(endpoint, payload, "POST", classOfT, buildNanos);
+  }
+
+  /**
+   * Same as {@link #sendPostRequest(String, Object, Class, long)}, giving up after timeoutMs instead of
+   * the configured timeouts.
+   */
+  protected Response<T> sendPostRequest(String endpoint, Object payload, Class<T> classOfT, long buildNanos,
+                                        int timeoutMs) {
+    return sendRequest(endpoint, "POST", classOfT, buildNanos, (url, timings) -> {
+      long start = System.nanoTime();
+      String json = toJsonString(payload);
+      timings.serializeNanos(System.nanoTime() - start);
+      return client.sendPostRequest(url, json, timeoutMs);
+    });
+  }
+
+  /**
+   * Sends a payload serialized by the caller, held as UTF-8 JSON in the first length bytes of the array.
+   *
+   * @param serializeNanos time it took the caller to serialize it
+   */
+  protected Response<T> sendPostRequest(String endpoint, byte[] json, int length, Class<T> classOfT,
+                                        long serializeNanos) {
+    return sendRequest(endpoint, "POST", classOfT, RequestTimings.NOT_MEASURED, (url, timings) -> {
+      timings.serializeNanos(serializeNanos);
+      return client.sendPostRequest(url, json, length);
+    });
+  }
+
   protected Response<T> sendPutRequest(String endpoint, Object payload, Class<T> classOfT) {
     return sendRequest(endpoint, payload, "PUT", classOfT);
   }
@@ -42,24 +86,62 @@ public abstract class BaseClient<T> {
   }
 
   private Response<T> sendRequest(String endpoint, Object payload, String method, Class<T> classOfT) {
-    try {
-      String url = config.getBaseURL() + endpoint;
+    return sendRequest(endpoint, payload, method, classOfT, RequestTimings.NOT_MEASURED);
+  }
+
+  private Response<T> sendRequest(String endpoint, Object payload, String method, Class<T> classOfT, long buildNanos) {
+    return sendRequest(endpoint, method, classOfT, buildNanos, (url, timings) -> {
+      long start = System.nanoTime();
       String json = toJsonString(payload);
-      HttpResponse response = this.sendHttpRequest(url, json, method);
+      timings.serializeNanos(System.nanoTime() - start);
+      return this.sendHttpRequest(url, json, method);
+    });
+  }
+
+  private Response<T> sendRequest(String endpoint, String method, Class<T> classOfT, long buildNanos,
+                                  HttpCall call) {
+    String url = config.getBaseURL() + endpoint;
+    RequestTimings.RequestTimingsBuilder timings = RequestTimings.builder()
+      .method(method)
+      .url(url)
+      .buildNanos(buildNanos);
+    long start = System.nanoTime();
+    Response<T> result;
+    try {
+      HttpResponse response = call.send(url, timings);
       int statusCode = response.getStatusCode();
       String responseBody = response.getBody();
-
+      timings.statusCode(statusCode)
+        .connectionNanos(response.getConnectionNanos())
+        .timeToFirstByteNanos(response.getTimeToFirstByteNanos())
+        .bodyReadNanos(response.getBodyReadNanos())
+        .requestBytes(response.getRequestBytes())
+        .responseBytes(response.getResponseBytes());
+
+      long receivedAt = System.nanoTime();
       if (statusCode < 399) {
         T body = toResponse(responseBody, classOfT);
-        return new Response<>(statusCode, body, null);
+        result = new Response<>(statusCode, body, null, finish(timings, start, receivedAt));
+      } else {
+        result = new Response<>(statusCode, null, toErrorResponse(responseBody), finish(timings, start, receivedAt));
       }
-
-      WeaviateErrorResponse error = toResponse(responseBody, WeaviateErrorResponse.class);
-      return new Response<>(statusCode, null, error);
     } catch (Exception e) {
       WeaviateErrorResponse errors = getWeaviateErrorResponse(e);
-      return new Response<>(0, null, errors);
+      result = new Response<>(0, null, errors, timings.totalNanos(System.nanoTime() - start).build());
+    }
+
+    RequestTimingsListener listener = config.getRequestTimingsListener();
+    if (listener != null) {
+      listener.onRequest(result.getTimings());
     }
+    return result;
+  }
+
+  private RequestTimings finish(RequestTimings.RequestTimingsBuilder timings, long start, long receivedAt) {
+    long now = System.nanoTime();
+    return timings.deserializeNanos(now - receivedAt)
+      .totalNanos(now - start)
+      .build();
   }
 
   private HttpResponse sendHttpRequest(String address, String json, String method) throws Exception {
@@ -89,6 +171,24 @@ public abstract class BaseClient<T> {
     return serializer.toJsonString(object);
   }
 
+  /**
+   * Parses an error body. A body which is not json is kept as the message, so that its status code
+   * is not lost; an empty body gives no error, as callers such as exists checks rely on it.
+   */
+  private WeaviateErrorResponse toErrorResponse(String responseBody) {
+    if (StringUtils.isBlank(responseBody)) {
+      return null;
+    }
+    try {
+      return toResponse(responseBody, WeaviateErrorResponse.class);
+    } catch (RuntimeException e) {
+      WeaviateErrorMessage error = WeaviateErrorMessage.builder()
+        .message(responseBody)
+        .build();
+      return WeaviateErrorResponse.builder().error(Collections.singletonList(error)).build();
+    }
+  }
+
   private WeaviateErrorResponse getWeaviateErrorResponse(Exception e) {
     WeaviateErrorMessage error = WeaviateErrorMessage.builder()
       .message(e.getMessage())
@@ -96,4 +196,8 @@ public abstract class BaseClient<T> {
       .build();
     return WeaviateErrorResponse.builder().error(Collections.singletonList(error)).build();
   }
+
+  private interface HttpCall {
+    HttpResponse send(String url, RequestTimings.RequestTimingsBuilder timings) throws Exception;
+  }
 }
@@ -0,0 +1,48 @@
+package io.weaviate.client.base;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Breakdown of where the time of a single request was spent.
+ * All durations are in nanoseconds; phases that could not be measured are reported as -1.
+ */
+@Getter
+@Builder
+@ToString
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class RequestTimings {
+  public static final long NOT_MEASURED = -1;
+
+  String method;
+  String url;
+  int statusCode;
+  /** building the request payload, e.g. rendering a GraphQL query */
+  @Builder.Default
+  long buildNanos = NOT_MEASURED;
+  /** serializing the payload to json */
+  @Builder.Default
+  long serializeNanos = NOT_MEASURED;
+  /** waiting for a pooled connection, including connecting if none was available */
+  @Builder.Default
+  long connectionNanos = NOT_MEASURED;
+  /** from sending the request until the response headers arrived */
+  @Builder.Default
+  long timeToFirstByteNanos = NOT_MEASURED;
+  /** reading the response body */
+  @Builder.Default
+  long bodyReadNanos = NOT_MEASURED;
+  /** deserializing the response body */
+  @Builder.Default
+  long deserializeNanos = NOT_MEASURED;
+  /** whole request, from serializing the payload until the response was deserialized */
+  @Builder.Default
+  long totalNanos = NOT_MEASURED;
+  @Builder.Default
+  long requestBytes = NOT_MEASURED;
+  @Builder.Default
+  long responseBytes = NOT_MEASURED;
+}
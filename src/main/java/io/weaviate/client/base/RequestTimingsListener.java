@@ -0,0 +1,10 @@
+package io.weaviate.client.base;
+
+/**
+ * Receives the latency breakdown of every request sent by the client.
+ * Invoked on the thread that sent the request, so implementations should return quickly.
+ */
+@FunctionalInterface
+public interface RequestTimingsListener {
+  void onRequest(RequestTimings timings);
+}
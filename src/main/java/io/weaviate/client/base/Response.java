@@ -12,4 +12,9 @@ public class Response<T> {
   int statusCode;
   T body;
   WeaviateErrorResponse errors;
+  RequestTimings timings;
+
+  public Response(int statusCode, T body, WeaviateErrorResponse errors) {
+    this(statusCode, body, errors, null);
+  }
 }
@@ -15,12 +15,19 @@ import lombok.experimental.FieldDefaults;
 public class Result<T> {
   T result;
   WeaviateError error;
+  @ToString.Exclude
+  RequestTimings timings;
 
   public Result(Response<T> response) {
-    this(response.getStatusCode(), response.getBody(), response.getErrors());
+    this(response.getStatusCode(), response.getBody(), response.getErrors(), response.getTimings());
   }
 
   public Result(int statusCode, T body, WeaviateErrorResponse errors) {
+    this(statusCode, body, errors, null);
+  }
+
+  public Result(int statusCode, T body, WeaviateErrorResponse errors, RequestTimings timings) {
+    this.timings = timings;
     if (errors != null && errors.getError() != null) {
       List<WeaviateErrorMessage> items = errors.getError().stream().filter(Objects::nonNull).collect(Collectors.toList());
       this.error = new WeaviateError(statusCode, items);
@@ -2,6 +2,11 @@ package io.weaviate.client.base;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 
 public class Serializer {
   private Gson gson;
@@ -17,4 +22,13 @@ public class Serializer {
   public String toJsonString(Object object) {
     return (object != null) ? gson.toJson(object) : null;
   }
+
+  /**
+   * Writes the object as UTF-8 JSON, without building a String first.
+   */
+  public void toJson(Object object, OutputStream out) throws IOException {
+    Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+    gson.toJson(object, writer);
+    writer.flush();
+  }
 }
@@ -12,5 +12,6 @@ import lombok.experimental.FieldDefaults;
 @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
 public class WeaviateErrorMessage {
   String message;
-  Throwable throwable;
+  // never part of a response body, and not deserializable by gson on newer JDKs
+  transient Throwable throwable;
 }
@@ -0,0 +1,41 @@
+package io.weaviate.client.base.cache;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Notified by write operations (data, batch, batch delete) so that cached
+ * query results of the affected classes are no longer served.
+ */
+public interface CacheInvalidator {
+  void invalidateClass(String className);
+  void invalidateAll();
+
+  /**
+   * Combines given invalidators, nulls are skipped
+   *
+   * @return combined invalidator or null if none given
+   */
+  static CacheInvalidator of(CacheInvalidator... invalidators) {
+    List<CacheInvalidator> all = Arrays.stream(invalidators).filter(Objects::nonNull).collect(Collectors.toList());
+    if (all.isEmpty()) {
+      return null;
+    }
+    if (all.size() == 1) {
+      return all.get(0);
+    }
+    return new CacheInvalidator() {
+      @Override
+      public void invalidateClass(String className) {
+        all.forEach(invalidator -> invalidator.invalidateClass(className));
+      }
+
+      @Override
+      public void invalidateAll() {
+        all.forEach(CacheInvalidator::invalidateAll);
+      }
+    };
+  }
+}
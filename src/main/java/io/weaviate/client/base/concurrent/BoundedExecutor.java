@@ -0,0 +1,146 @@
+package io.weaviate.client.base.concurrent;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs tasks on shared workers, at most concurrency of them at once. The rest wait in a queue, like they would
+ * in a fixed pool, so a per call pool can be replaced without creating threads.
+ * <p>
+ * Shutting down only affects the tasks of this executor, the workers keep running. {@link #shutdownNow()}
+ * drops the queued tasks and interrupts the running ones.
+ */
+public class BoundedExecutor extends AbstractExecutorService {
+
+  private final Executor workers;
+  private final int concurrency;
+  // guarded by queue
+  private final Queue<Runnable> queue = new ArrayDeque<>();
+  private final Set<Thread> threads = new HashSet<>();
+  private int running;
+  private boolean shutdown;
+  private boolean stopped;
+
+  public BoundedExecutor(Executor workers, int concurrency) {
+    if (concurrency < 1) {
+      throw new IllegalArgumentException("concurrency should be at least 1");
+    }
+    this.workers = workers;
+    this.concurrency = concurrency;
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    synchronized (queue) {
+      if (shutdown) {
+        throw new RejectedExecutionException("executor is shut down");
+      }
+      if (running >= concurrency) {
+        queue.add(task);
+        return;
+      }
+      running++;
+    }
+    try {
+      workers.execute(() -> runFrom(task));
+    } catch (RejectedExecutionException e) {
+      synchronized (queue) {
+        running--;
+        queue.notifyAll();
+      }
+      throw e;
+    }
+  }
+
+  private void runFrom(Runnable task) {
+    // the thread goes on with queued tasks, so the number of running ones never exceeds concurrency
+    Thread thread = Thread.currentThread();
+    synchronized (queue) {
+      threads.add(thread);
+    }
+    Runnable current = task;
+    while (current != null) {
+      try {
+        current.run();
+      } catch (RuntimeException e) {
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+      }
+      current = next(thread);
+    }
+  }
+
+  private Runnable next(Thread thread) {
+    boolean wasStopped;
+    synchronized (queue) {
+      Runnable task = queue.poll();
+      if (task != null) {
+        return task;
+      }
+      threads.remove(thread);
+      running--;
+      queue.notifyAll();
+      wasStopped = stopped;
+    }
+    if (wasStopped) {
+      // the interrupt was meant for the task, not for the worker going on with other work
+      Thread.interrupted();
+    }
+    return null;
+  }
+
+  @Override
+  public void shutdown() {
+    synchronized (queue) {
+      shutdown = true;
+    }
+  }
+
+  @Override
+  public List<Runnable> shutdownNow() {
+    synchronized (queue) {
+      shutdown = true;
+      stopped = true;
+      List<Runnable> dropped = new ArrayList<>(queue);
+      queue.clear();
+      threads.forEach(Thread::interrupt);
+      return dropped;
+    }
+  }
+
+  @Override
+  public boolean isShutdown() {
+    synchronized (queue) {
+      return shutdown;
+    }
+  }
+
+  @Override
+  public boolean isTerminated() {
+    synchronized (queue) {
+      return shutdown && running == 0;
+    }
+  }
+
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException {
+    long deadline = System.nanoTime() + unit.toNanos(timeout);
+    synchronized (queue) {
+      long remaining;
+      while (!(shutdown && running == 0)) {
+        if ((remaining = deadline - System.nanoTime()) <= 0) {
+          return false;
+        }
+        TimeUnit.NANOSECONDS.timedWait(queue, remaining);
+      }
+      return true;
+    }
+  }
+}
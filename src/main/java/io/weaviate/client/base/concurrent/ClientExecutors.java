@@ -0,0 +1,156 @@
+package io.weaviate.client.base.concurrent;
+
+import io.weaviate.client.base.util.VirtualThreads;
+import java.io.Closeable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Threads shared by everything a client runs in the background: auto batchers, token refresh and waiters.
+ * <p>
+ * The scheduler only fires delayed and periodic tasks, blocking work such as requests runs on the workers.
+ * Workers are started on demand and end when idle, so users limit concurrency (e.g. the batchers' poolSize),
+ * not the pool.
+ */
+public class ClientExecutors implements Closeable {
+
+  private final ScheduledExecutorService scheduler;
+  private final ExecutorService workers;
+  private final boolean owned;
+  private final long awaitTerminationMs;
+
+  private ClientExecutors(ScheduledExecutorService scheduler, ExecutorService workers, boolean owned,
+                          long awaitTerminationMs) {
+    this.scheduler = scheduler;
+    this.workers = workers;
+    this.owned = owned;
+    this.awaitTerminationMs = awaitTerminationMs;
+  }
+
+  /**
+   * Creates executors, shut down by {@link #close()}.
+   */
+  public static ClientExecutors create(ExecutorsConfig config) {
+    String prefix = config.getThreadNamePrefix();
+    ScheduledThreadPoolExecutor scheduler = new ScheduledThreadPoolExecutor(config.getSchedulerThreads(),
+      daemonThreads(prefix + "-scheduler"));
+    scheduler.setRemoveOnCancelPolicy(true);
+
+    Supplier<ExecutorService> platformWorkers = () -> new ThreadPoolExecutor(0, Integer.MAX_VALUE,
+      config.getKeepAliveMs(), TimeUnit.MILLISECONDS, new SynchronousQueue<>(), daemonThreads(prefix + "-worker"));
+    ExecutorService workers = config.isVirtualThreads()
+      ? VirtualThreads.newThreadPerTaskExecutor(prefix + "-worker", platformWorkers)
+      : platformWorkers.get();
+    return new ClientExecutors(scheduler, workers, true, config.getAwaitTerminationMs());
+  }
+
+  /**
+   * Uses executors managed by the caller, {@link #close()} leaves them running.
+   * The workers should not queue tasks while all their threads are busy, as batchers wait for each other's tasks.
+   */
+  public static ClientExecutors of(ScheduledExecutorService scheduler, ExecutorService workers) {
+    return new ClientExecutors(scheduler, workers, false, 0);
+  }
+
+  /**
+   * Executors of the process, created on first use and never shut down, for components used without a client.
+   * {@link #close()} leaves them running.
+   */
+  public static ClientExecutors shared() {
+    return Shared.INSTANCE;
+  }
+
+  public ScheduledExecutorService getScheduler() {
+    return scheduler;
+  }
+
+  public ExecutorService getWorkers() {
+    return workers;
+  }
+
+  /**
+   * Executor running at most concurrency tasks at once on the workers, to be shut down by the caller when done.
+   */
+  public BoundedExecutor bounded(int concurrency) {
+    return new BoundedExecutor(workers, concurrency);
+  }
+
+  /**
+   * Calls check on a worker, every intervalMs until it returns non null. No thread waits in between.
+   * Cancelling the returned future stops polling.
+   */
+  public <T> CompletableFuture<T> poll(Supplier<T> check, long intervalMs) {
+    CompletableFuture<T> result = new CompletableFuture<>();
+    pollAfter(0, check, intervalMs, result);
+    return result;
+  }
+
+  private <T> void pollAfter(long delayMs, Supplier<T> check, long intervalMs, CompletableFuture<T> result) {
+    try {
+      scheduler.schedule(() -> workers.execute(() -> {
+        if (result.isDone()) {
+          return;
+        }
+        try {
+          T value = check.get();
+          if (value != null) {
+            result.complete(value);
+          } else {
+            pollAfter(intervalMs, check, intervalMs, result);
+          }
+        } catch (RuntimeException e) {
+          result.completeExceptionally(e);
+        }
+      }), delayMs, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      result.completeExceptionally(e);
+    }
+  }
+
+  /**
+   * Shuts down executors created by {@link #create(ExecutorsConfig)}, waiting for running tasks.
+   */
+  @Override
+  public void close() {
+    if (!owned) {
+      return;
+    }
+    scheduler.shutdownNow();
+    workers.shutdown();
+    try {
+      if (!workers.awaitTermination(awaitTerminationMs, TimeUnit.MILLISECONDS)) {
+        workers.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      workers.shutdownNow();
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private static class Shared {
+    private static final ClientExecutors INSTANCE;
+
+    static {
+      ClientExecutors created = create(ExecutorsConfig.defaultConfig().build());
+      INSTANCE = of(created.scheduler, created.workers);
+    }
+  }
+
+  private static ThreadFactory daemonThreads(String namePrefix) {
+    AtomicInteger counter = new AtomicInteger();
+    return task -> {
+      Thread thread = new Thread(task, namePrefix + "-" + counter.getAndIncrement());
+      thread.setDaemon(true);
+      return thread;
+    };
+  }
+}
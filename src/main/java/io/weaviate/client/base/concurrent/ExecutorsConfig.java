@@ -0,0 +1,61 @@
+package io.weaviate.client.base.concurrent;
+
+import io.weaviate.client.base.util.Assert;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Builder
+@ToString
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class ExecutorsConfig {
+
+  public static final String THREAD_NAME_PREFIX = "weaviate";
+  public static final int SCHEDULER_THREADS = 1;
+  public static final int KEEP_ALIVE_MS = 60_000;
+  public static final int AWAIT_TERMINATION_MS = 10_000;
+
+  /**
+   * Threads are named {prefix}-scheduler-N and {prefix}-worker-N.
+   */
+  String threadNamePrefix;
+  /**
+   * Threads firing delayed and periodic tasks. They hand blocking work over to the workers.
+   */
+  int schedulerThreads;
+  /**
+   * Time after which an idle worker thread ends, so a client at rest keeps no worker threads.
+   */
+  int keepAliveMs;
+  /**
+   * Runs worker tasks on virtual threads, on Java 21 and newer. Platform threads are used on older versions.
+   */
+  boolean virtualThreads;
+  int awaitTerminationMs;
+
+  private ExecutorsConfig(String threadNamePrefix, int schedulerThreads, int keepAliveMs, boolean virtualThreads,
+                          int awaitTerminationMs) {
+    Assert.requiredNotNull(threadNamePrefix, "threadNamePrefix");
+    Assert.requireGreaterEqual(schedulerThreads, 1, "schedulerThreads");
+    Assert.requireGreaterEqual(keepAliveMs, 0, "keepAliveMs");
+    Assert.requireGreater(awaitTerminationMs, 0, "awaitTerminationMs");
+
+    this.threadNamePrefix = threadNamePrefix;
+    this.schedulerThreads = schedulerThreads;
+    this.keepAliveMs = keepAliveMs;
+    this.virtualThreads = virtualThreads;
+    this.awaitTerminationMs = awaitTerminationMs;
+  }
+
+  public static ExecutorsConfigBuilder defaultConfig() {
+    return ExecutorsConfig.builder()
+      .threadNamePrefix(THREAD_NAME_PREFIX)
+      .schedulerThreads(SCHEDULER_THREADS)
+      .keepAliveMs(KEEP_ALIVE_MS)
+      .virtualThreads(false)
+      .awaitTerminationMs(AWAIT_TERMINATION_MS);
+  }
+}
@@ -1,8 +1,26 @@
 package io.weaviate.client.base.http;
 
+import java.nio.charset.StandardCharsets;
+
 public interface HttpClient {
   HttpResponse sendGetRequest(String url) throws Exception;
   HttpResponse sendPostRequest(String url, String json) throws Exception;
+
+  /**
+   * Same as {@link #sendPostRequest(String, String)}, giving up after timeoutMs instead of the configured
+   * timeouts. Implementations not supporting it wait as usual.
+   */
+  default HttpResponse sendPostRequest(String url, String json, int timeoutMs) throws Exception {
+    return sendPostRequest(url, json);
+  }
+
+  /**
+   * Sends UTF-8 JSON held in the first length bytes of the array. The array may be reused once this returns.
+   */
+  default HttpResponse sendPostRequest(String url, byte[] json, int length) throws Exception {
+    return sendPostRequest(url, new String(json, 0, length, StandardCharsets.UTF_8));
+  }
+
   HttpResponse sendPutRequest(String url, String json) throws Exception;
   HttpResponse sendPatchRequest(String url, String json) throws Exception;
   HttpResponse sendDeleteRequest(String url, String json) throws Exception;
@@ -1,5 +1,6 @@
 package io.weaviate.client.base.http;
 
+import io.weaviate.client.base.RequestTimings;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
@@ -11,4 +12,14 @@ import lombok.experimental.FieldDefaults;
 public class HttpResponse {
   int statusCode;
   String body;
+  long connectionNanos;
+  long timeToFirstByteNanos;
+  long bodyReadNanos;
+  long requestBytes;
+  long responseBytes;
+
+  public HttpResponse(int statusCode, String body) {
+    this(statusCode, body, RequestTimings.NOT_MEASURED, RequestTimings.NOT_MEASURED,
+      RequestTimings.NOT_MEASURED, RequestTimings.NOT_MEASURED, RequestTimings.NOT_MEASURED);
+  }
 }
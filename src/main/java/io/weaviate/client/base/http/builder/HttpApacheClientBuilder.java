@@ -4,6 +4,7 @@ import org.apache.http.client.config.RequestConfig;
 import org.apache.http.impl.client.HttpClientBuilder;
 import io.weaviate.client.Config;
 import io.weaviate.client.base.http.impl.CommonsHttpClientImpl;
+import io.weaviate.client.base.http.impl.TimingHttpRequestExecutor;
 
 public class HttpApacheClientBuilder {
 
@@ -14,6 +15,8 @@ public class HttpApacheClientBuilder {
       .setConnectTimeout(config.getConnectionTimeout() * 1000)
       .setConnectionRequestTimeout(config.getConnectionRequestTimeout() * 1000)
       .setSocketTimeout(config.getSocketTimeout() * 1000).build();
-    return HttpClientBuilder.create().setDefaultRequestConfig(requestConfig)::build;
+    return HttpClientBuilder.create()
+      .setDefaultRequestConfig(requestConfig)
+      .setRequestExecutor(new TimingHttpRequestExecutor())::build;
   }
 }
@@ -2,7 +2,9 @@ package io.weaviate.client.base.http.impl;
 
 import java.io.Closeable;
 import java.io.IOException;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpHeaders;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpEntityEnclosingRequestBase;
@@ -13,6 +15,8 @@ import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpRequestBase;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.ByteArrayEntity;
+import org.apache.http.entity.ContentType;
 import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.util.EntityUtils;
@@ -20,6 +24,7 @@ import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.http.HttpResponse;
 
 import java.net.URI;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.Map;
 import io.weaviate.client.v1.auth.provider.AccessTokenProvider;
@@ -49,6 +54,22 @@ public class CommonsHttpClientImpl implements HttpClient, Closeable {
     return sendRequestWithPayload(new HttpPost(url), json);
   }
 
+  @Override
+  public HttpResponse sendPostRequest(String url, String json, int timeoutMs) throws Exception {
+    HttpPost request = new HttpPost(url);
+    request.setConfig(RequestConfig.custom()
+      .setConnectTimeout(timeoutMs)
+      .setConnectionRequestTimeout(timeoutMs)
+      .setSocketTimeout(timeoutMs)
+      .build());
+    return sendRequestWithPayload(request, json);
+  }
+
+  @Override
+  public HttpResponse sendPostRequest(String url, byte[] json, int length) throws Exception {
+    return sendRequestWithPayload(new HttpPost(url), new ByteArrayEntity(json, 0, length, ContentType.APPLICATION_JSON));
+  }
+
   @Override
   public HttpResponse sendPutRequest(String url, String json) throws Exception {
     return sendRequestWithPayload(new HttpPut(url), json);
@@ -78,9 +99,13 @@ public class CommonsHttpClientImpl implements HttpClient, Closeable {
   }
 
   private HttpResponse sendRequestWithPayload(HttpEntityEnclosingRequestBase request, String jsonString) throws Exception {
+    return sendRequestWithPayload(request, new StringEntity(jsonString, StandardCharsets.UTF_8));
+  }
+
+  private HttpResponse sendRequestWithPayload(HttpEntityEnclosingRequestBase request, HttpEntity entity) throws Exception {
     request.setHeader(HttpHeaders.ACCEPT, "application/json");
     request.setHeader(HttpHeaders.CONTENT_TYPE, "application/json");
-    request.setEntity(new StringEntity(jsonString, StandardCharsets.UTF_8));
+    request.setEntity(entity);
     return sendRequest(request);
   }
 
@@ -92,16 +117,44 @@ public class CommonsHttpClientImpl implements HttpClient, Closeable {
       request.addHeader("Authorization", String.format("Bearer %s", tokenProvider.getAccessToken()));
     }
 
-    CloseableHttpClient client = clientBuilder.build();
-    CloseableHttpResponse response = client.execute(request);
+    long requestBytes = 0;
+    if (request instanceof HttpEntityEnclosingRequestBase && ((HttpEntityEnclosingRequestBase) request).getEntity() != null) {
+      requestBytes = ((HttpEntityEnclosingRequestBase) request).getEntity().getContentLength();
+    }
 
-    int statusCode = response.getStatusLine().getStatusCode();
-    String body = response.getEntity() != null
-      ? EntityUtils.toString(response.getEntity(), StandardCharsets.UTF_8)
-      : "";
-    client.close();
+    TimingHttpRequestExecutor.Marks marks = TimingHttpRequestExecutor.start();
+    try {
+      long start = System.nanoTime();
+      CloseableHttpClient client = clientBuilder.build();
+      CloseableHttpResponse response = client.execute(request);
+      long headersAt = System.nanoTime();
+
+      int statusCode = response.getStatusLine().getStatusCode();
+      HttpEntity entity = response.getEntity();
+      byte[] content = entity != null ? EntityUtils.toByteArray(entity) : null;
+      long bodyReadAt = System.nanoTime();
+      String body = content != null ? new String(content, charsetOf(entity)) : "";
+      client.close();
+
+      // marks are only set if the client was built with TimingHttpRequestExecutor
+      long connectionNanos = -1;
+      long timeToFirstByteNanos = headersAt - start;
+      if (marks.sendingAt > 0 && marks.headersAt > 0) {
+        connectionNanos = marks.sendingAt - start;
+        timeToFirstByteNanos = marks.headersAt - marks.sendingAt;
+      }
+      return new HttpResponse(statusCode, body, connectionNanos, timeToFirstByteNanos, bodyReadAt - headersAt,
+        requestBytes, content != null ? content.length : 0);
+    } finally {
+      TimingHttpRequestExecutor.finish();
+    }
+  }
 
-    return new HttpResponse(statusCode, body);
+  private static Charset charsetOf(HttpEntity entity) {
+    ContentType contentType = ContentType.get(entity);
+    return contentType != null && contentType.getCharset() != null
+      ? contentType.getCharset()
+      : StandardCharsets.UTF_8;
   }
 
   @Override
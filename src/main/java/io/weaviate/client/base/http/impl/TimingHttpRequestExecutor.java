@@ -0,0 +1,56 @@
+package io.weaviate.client.base.http.impl;
+
+import java.io.IOException;
+import org.apache.http.HttpClientConnection;
+import org.apache.http.HttpException;
+import org.apache.http.HttpRequest;
+import org.apache.http.HttpResponse;
+import org.apache.http.protocol.HttpContext;
+import org.apache.http.protocol.HttpRequestExecutor;
+
+/**
+ * Request executor recording when the request started being written to a leased connection and
+ * when the response headers arrived. Marks are kept per thread, as requests are executed synchronously
+ * by the calling thread.
+ */
+public class TimingHttpRequestExecutor extends HttpRequestExecutor {
+
+  private static final ThreadLocal<Marks> MARKS = new ThreadLocal<>();
+
+  static Marks start() {
+    Marks marks = new Marks();
+    MARKS.set(marks);
+    return marks;
+  }
+
+  static void finish() {
+    MARKS.remove();
+  }
+
+  @Override
+  protected HttpResponse doSendRequest(HttpRequest request, HttpClientConnection conn, HttpContext context)
+    throws IOException, HttpException {
+    Marks marks = MARKS.get();
+    if (marks != null) {
+      marks.sendingAt = System.nanoTime();
+    }
+    return super.doSendRequest(request, conn, context);
+  }
+
+  @Override
+  protected HttpResponse doReceiveResponse(HttpRequest request, HttpClientConnection conn, HttpContext context)
+    throws HttpException, IOException {
+    HttpResponse response = super.doReceiveResponse(request, conn, context);
+    Marks marks = MARKS.get();
+    if (marks != null) {
+      marks.headersAt = System.nanoTime();
+    }
+    return response;
+  }
+
+  static class Marks {
+    // the last attempt wins if the request was retried
+    long sendingAt = -1;
+    long headersAt = -1;
+  }
+}
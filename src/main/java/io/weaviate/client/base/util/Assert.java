@@ -18,6 +18,12 @@ public class Assert {
     }
   }
 
+  public static void requireGreaterEqual(long value, long minValue, String paramName) {
+    if (value < minValue) {
+      throw new IllegalArgumentException(String.format("%s should be greater than or equal %d", paramName, minValue));
+    }
+  }
+
   public static void requiredNotNull(Object value, String paramName) {
     if (Objects.isNull(value)) {
       throw new IllegalArgumentException(String.format("%s should not be null", paramName));
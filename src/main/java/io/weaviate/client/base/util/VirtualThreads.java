@@ -0,0 +1,25 @@
+package io.weaviate.client.base.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+
+/**
+ * Access to virtual threads. The multi-release jar holds a Java 21 version of this class which supports them,
+ * this one is used on older Java versions.
+ */
+public class VirtualThreads {
+
+  private VirtualThreads() {}
+
+  public static boolean isSupported() {
+    return false;
+  }
+
+  /**
+   * Executor starting a new virtual thread, named namePrefix-N, for every task,
+   * the one of platformFallback on Java versions without virtual threads.
+   */
+  public static ExecutorService newThreadPerTaskExecutor(String namePrefix, Supplier<ExecutorService> platformFallback) {
+    return platformFallback.get();
+  }
+}
@@ -1,18 +1,18 @@
 package io.weaviate.client.v1.auth.provider;
 
 import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import io.weaviate.client.Config;
+import io.weaviate.client.base.concurrent.ClientExecutors;
 import io.weaviate.client.v1.auth.nimbus.BaseAuth;
 import io.weaviate.client.v1.auth.nimbus.NimbusAuth;
 
 public class AuthClientCredentialsTokenProvider implements AccessTokenProvider {
 
   private final NimbusAuth nimbusAuth;
-  private String accessToken;
-  private ScheduledExecutorService executor;
+  private volatile String accessToken;
+  private ScheduledFuture<?> refreshTask;
 
   public AuthClientCredentialsTokenProvider(Config config, BaseAuth.AuthResponse authResponse, List<String> clientScopes,
     String accessToken, long lifetimeSeconds, String clientSecret) {
@@ -27,12 +27,13 @@ public class AuthClientCredentialsTokenProvider implements AccessTokenProvider {
   }
 
   public void shutdown() {
-    executor.shutdown();
+    refreshTask.cancel(false);
   }
 
   private void scheduleRefreshTokenTask(Config config, BaseAuth.AuthResponse authResponse, List<String> clientScopes, String clientSecret, long period) {
-    executor = Executors.newSingleThreadScheduledExecutor();
-    executor.scheduleAtFixedRate(() -> accessToken = nimbusAuth.refreshClientCredentialsToken(config, authResponse, clientScopes, clientSecret),
+    ClientExecutors executors = config.getExecutors();
+    refreshTask = executors.getScheduler().scheduleAtFixedRate(() -> executors.getWorkers().execute(
+        () -> accessToken = nimbusAuth.refreshClientCredentialsToken(config, authResponse, clientScopes, clientSecret)),
       period, period, TimeUnit.SECONDS);
   }
 }
@@ -1,17 +1,17 @@
 package io.weaviate.client.v1.auth.provider;
 
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import org.apache.commons.lang3.StringUtils;
 import io.weaviate.client.Config;
+import io.weaviate.client.base.concurrent.ClientExecutors;
 import io.weaviate.client.v1.auth.nimbus.BaseAuth;
 import io.weaviate.client.v1.auth.nimbus.NimbusAuth;
 
 public class AuthRefreshTokenProvider implements AccessTokenProvider {
   private final NimbusAuth nimbusAuth;
-  private String accessToken;
-  private ScheduledExecutorService executor;
+  private volatile String accessToken;
+  private ScheduledFuture<?> refreshTask;
 
   public AuthRefreshTokenProvider(Config config, BaseAuth.AuthResponse authResponse, String accessToken, long lifetimeSeconds, String refreshToken) {
     this.nimbusAuth = new NimbusAuth();
@@ -28,12 +28,15 @@ public class AuthRefreshTokenProvider implements AccessTokenProvider {
 
   @Override
   public void shutdown() {
-    executor.shutdown();
+    if (refreshTask != null) {
+      refreshTask.cancel(false);
+    }
   }
 
   private void scheduleRefreshTokenTask(Config config, BaseAuth.AuthResponse authResponse, String refreshToken, long period) {
-    executor = Executors.newSingleThreadScheduledExecutor();
-    executor.scheduleAtFixedRate(() -> accessToken = nimbusAuth.refreshToken(config, authResponse, refreshToken),
+    ClientExecutors executors = config.getExecutors();
+    refreshTask = executors.getScheduler().scheduleAtFixedRate(() -> executors.getWorkers().execute(
+        () -> accessToken = nimbusAuth.refreshToken(config, authResponse, refreshToken)),
       period, period, TimeUnit.SECONDS);
   }
 }
@@ -10,7 +10,9 @@ import io.weaviate.client.base.BaseClient;
 import io.weaviate.client.base.ClientResult;
 import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
+import io.weaviate.client.base.concurrent.ClientExecutors;
 import io.weaviate.client.base.http.HttpClient;
+import java.util.concurrent.CompletableFuture;
 
 public class BackupCreator extends BaseClient<BackupCreateResponse> implements ClientResult<BackupCreateResponse> {
 
@@ -56,12 +58,7 @@ public class BackupCreator extends BaseClient<BackupCreateResponse> implements C
 
   @Override
   public Result<BackupCreateResponse> run() {
-    BackupCreate payload = BackupCreate.builder()
-      .id(backupId)
-      .config(BackupCreateConfig.builder().build())
-      .include(includeClassNames)
-      .exclude(excludeClassNames)
-      .build();
+    BackupCreate payload = payload();
 
     if (waitForCompletion) {
       return createAndWaitForCompletion(payload);
@@ -69,6 +66,36 @@ public class BackupCreator extends BaseClient<BackupCreateResponse> implements C
     return create(payload);
   }
 
+  /**
+   * Same as {@link #run()}, without blocking the caller. Requests run on the client's worker threads,
+   * and no thread is held while waiting for completion.
+   */
+  public CompletableFuture<Result<BackupCreateResponse>> runAsync() {
+    BackupCreate payload = payload();
+    ClientExecutors executors = executors();
+    CompletableFuture<Result<BackupCreateResponse>> started = CompletableFuture.supplyAsync(() -> create(payload),
+      executors.getWorkers());
+    if (!waitForCompletion) {
+      return started;
+    }
+    return started.thenCompose(result -> {
+      if (result.hasErrors()) {
+        return CompletableFuture.completedFuture(result);
+      }
+      statusGetter.withBackend(backend).withBackupId(backupId);
+      return executors.poll(() -> completed(statusGetter.statusCreate(), result), WAIT_INTERVAL);
+    });
+  }
+
+  private BackupCreate payload() {
+    return BackupCreate.builder()
+      .id(backupId)
+      .config(BackupCreateConfig.builder().build())
+      .include(includeClassNames)
+      .exclude(excludeClassNames)
+      .build();
+  }
+
   private Result<BackupCreateResponse> create(BackupCreate payload) {
     Response<BackupCreateResponse> response = sendPostRequest(path(), payload, BackupCreateResponse.class);
     return new Result<>(response);
@@ -83,14 +110,9 @@ public class BackupCreator extends BaseClient<BackupCreateResponse> implements C
     statusGetter.withBackend(backend).withBackupId(backupId);
     while(true) {
       Response<BackupCreateStatusResponse> statusResponse = statusGetter.statusCreate();
-      if (new Result<>(statusResponse).hasErrors()) {
-        return merge(statusResponse, result);
-      }
-
-      switch (statusResponse.getBody().getStatus()) {
-        case CreateStatus.SUCCESS:
-        case CreateStatus.FAILED:
-          return merge(statusResponse, result);
+      Result<BackupCreateResponse> completed = completed(statusResponse, result);
+      if (completed != null) {
+        return completed;
       }
 
       try {
@@ -101,6 +123,22 @@ public class BackupCreator extends BaseClient<BackupCreateResponse> implements C
     }
   }
 
+  /**
+   * Final result if the status tells the backup is done or cannot be checked, null otherwise.
+   */
+  private Result<BackupCreateResponse> completed(Response<BackupCreateStatusResponse> statusResponse,
+                                                 Result<BackupCreateResponse> result) {
+    if (new Result<>(statusResponse).hasErrors()) {
+      return merge(statusResponse, result);
+    }
+    switch (statusResponse.getBody().getStatus()) {
+      case CreateStatus.SUCCESS:
+      case CreateStatus.FAILED:
+        return merge(statusResponse, result);
+    }
+    return null;
+  }
+
   private String path() {
     return String.format("/backups/%s", backend);
   }
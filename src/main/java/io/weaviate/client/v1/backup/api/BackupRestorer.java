@@ -10,7 +10,9 @@ import io.weaviate.client.base.BaseClient;
 import io.weaviate.client.base.ClientResult;
 import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
+import io.weaviate.client.base.concurrent.ClientExecutors;
 import io.weaviate.client.base.http.HttpClient;
+import java.util.concurrent.CompletableFuture;
 
 public class BackupRestorer extends BaseClient<BackupRestoreResponse> implements ClientResult<BackupRestoreResponse> {
 
@@ -60,11 +62,7 @@ public class BackupRestorer extends BaseClient<BackupRestoreResponse> implements
 
   @Override
   public Result<BackupRestoreResponse> run() {
-    BackupRestore payload = BackupRestore.builder()
-      .config(BackupRestoreConfig.builder().build())
-      .include(includeClassNames)
-      .exclude(excludeClassNames)
-      .build();
+    BackupRestore payload = payload();
 
     if (waitForCompletion) {
       return restoreAndWaitForCompletion(payload);
@@ -72,6 +70,35 @@ public class BackupRestorer extends BaseClient<BackupRestoreResponse> implements
     return restore(payload);
   }
 
+  /**
+   * Same as {@link #run()}, without blocking the caller. Requests run on the client's worker threads,
+   * and no thread is held while waiting for completion.
+   */
+  public CompletableFuture<Result<BackupRestoreResponse>> runAsync() {
+    BackupRestore payload = payload();
+    ClientExecutors executors = executors();
+    CompletableFuture<Result<BackupRestoreResponse>> started = CompletableFuture.supplyAsync(() -> restore(payload),
+      executors.getWorkers());
+    if (!waitForCompletion) {
+      return started;
+    }
+    return started.thenCompose(result -> {
+      if (result.hasErrors()) {
+        return CompletableFuture.completedFuture(result);
+      }
+      statusGetter.withBackend(backend).withBackupId(backupId);
+      return executors.poll(() -> completed(statusGetter.statusRestore(), result), WAIT_INTERVAL);
+    });
+  }
+
+  private BackupRestore payload() {
+    return BackupRestore.builder()
+      .config(BackupRestoreConfig.builder().build())
+      .include(includeClassNames)
+      .exclude(excludeClassNames)
+      .build();
+  }
+
 
   private Result<BackupRestoreResponse> restore(BackupRestore payload) {
     Response<BackupRestoreResponse> response = sendPostRequest(path(), payload, BackupRestoreResponse.class);
@@ -87,14 +114,9 @@ public class BackupRestorer extends BaseClient<BackupRestoreResponse> implements
     statusGetter.withBackend(backend).withBackupId(backupId);
     while(true) {
       Response<BackupRestoreStatusResponse> statusResponse = statusGetter.statusRestore();
-      if (new Result<>(statusResponse).hasErrors()) {
-        return merge(statusResponse, result);
-      }
-
-      switch (statusResponse.getBody().getStatus()) {
-        case RestoreStatus.SUCCESS:
-        case RestoreStatus.FAILED:
-          return merge(statusResponse, result);
+      Result<BackupRestoreResponse> completed = completed(statusResponse, result);
+      if (completed != null) {
+        return completed;
       }
 
       try {
@@ -105,6 +127,22 @@ public class BackupRestorer extends BaseClient<BackupRestoreResponse> implements
     }
   }
 
+  /**
+   * Final result if the status tells the restore is done or cannot be checked, null otherwise.
+   */
+  private Result<BackupRestoreResponse> completed(Response<BackupRestoreStatusResponse> statusResponse,
+                                                  Result<BackupRestoreResponse> result) {
+    if (new Result<>(statusResponse).hasErrors()) {
+      return merge(statusResponse, result);
+    }
+    switch (statusResponse.getBody().getStatus()) {
+      case RestoreStatus.SUCCESS:
+      case RestoreStatus.FAILED:
+        return merge(statusResponse, result);
+    }
+    return null;
+  }
+
   private String path() {
     return String.format("/backups/%s/%s/restore", backend, backupId);
   }
@@ -1,32 +1,58 @@
 package io.weaviate.client.v1.batch;
 
+import io.weaviate.client.base.cache.CacheInvalidator;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.util.BeaconPath;
 import io.weaviate.client.base.util.DbVersionSupport;
+import io.weaviate.client.v1.batch.api.BulkObjectsDeleter;
+import io.weaviate.client.v1.batch.api.ColumnarObjectsCreator;
+import io.weaviate.client.v1.batch.api.GraphIngestionScheduler;
+import io.weaviate.client.v1.batch.api.MappedObjectsCreator;
 import io.weaviate.client.v1.batch.api.ObjectsBatchDeleter;
 import io.weaviate.client.v1.batch.api.ObjectsBatcher;
 import io.weaviate.client.v1.batch.api.ReferencePayloadBuilder;
 import io.weaviate.client.v1.batch.api.ReferencesBatcher;
+import io.weaviate.client.v1.batch.loader.BulkFileLoader;
+import io.weaviate.client.v1.batch.loader.EdgeLoadConfig;
+import io.weaviate.client.v1.batch.loader.FileLoadConfig;
+import io.weaviate.client.v1.batch.loader.GraphEdgeLoader;
+import io.weaviate.client.v1.batch.loader.VectorImportConfig;
+import io.weaviate.client.v1.batch.loader.VectorImporter;
+import io.weaviate.client.v1.batch.model.BatchReference;
+import io.weaviate.client.v1.batch.util.BeaconEncoder;
 import io.weaviate.client.v1.batch.util.ObjectsPath;
 import io.weaviate.client.v1.batch.util.ReferencesPath;
 import io.weaviate.client.Config;
 import io.weaviate.client.v1.data.Data;
+import io.weaviate.client.v1.mapping.WeaviateCodec;
+import io.weaviate.client.v1.mapping.WeaviateCodecs;
+import java.util.List;
+import java.util.function.Consumer;
 
 public class Batch {
   private final Config config;
   private final HttpClient httpClient;
+  private final DbVersionSupport dbVersionSupport;
   private final BeaconPath beaconPath;
   private final ObjectsPath objectsPath;
   private final ReferencesPath referencesPath;
   private final Data data;
+  private final CacheInvalidator cacheInvalidator;
 
   public Batch(HttpClient httpClient, Config config, DbVersionSupport dbVersionSupport, Data data) {
+    this(httpClient, config, dbVersionSupport, data, null);
+  }
+
+  public Batch(HttpClient httpClient, Config config, DbVersionSupport dbVersionSupport, Data data,
+               CacheInvalidator cacheInvalidator) {
     this.config = config;
     this.httpClient = httpClient;
+    this.dbVersionSupport = dbVersionSupport;
     this.beaconPath = new BeaconPath(dbVersionSupport);
     this.objectsPath = new ObjectsPath();
     this.referencesPath = new ReferencesPath();
     this.data = data;
+    this.cacheInvalidator = cacheInvalidator;
   }
 
   public ObjectsBatcher objectsBatcher() {
@@ -34,7 +60,7 @@ public class Batch {
   }
 
   public ObjectsBatcher objectsBatcher(ObjectsBatcher.BatchRetriesConfig batchRetriesConfig) {
-    return ObjectsBatcher.create(httpClient, config, data, objectsPath, batchRetriesConfig);
+    return ObjectsBatcher.create(httpClient, config, data, objectsPath, batchRetriesConfig, cacheInvalidator);
   }
 
   public ObjectsBatcher objectsAutoBatcher() {
@@ -60,11 +86,68 @@ public class Batch {
 
   public ObjectsBatcher objectsAutoBatcher(ObjectsBatcher.BatchRetriesConfig batchRetriesConfig,
                                            ObjectsBatcher.AutoBatchConfig autoBatchConfig) {
-    return ObjectsBatcher.createAuto(httpClient, config, data, objectsPath, batchRetriesConfig, autoBatchConfig);
+    return ObjectsBatcher.createAuto(httpClient, config, data, objectsPath, batchRetriesConfig, autoBatchConfig, cacheInvalidator);
+  }
+
+  /**
+   * @param type class annotated with {@link io.weaviate.client.v1.mapping.WeaviateClass}
+   */
+  public <T> MappedObjectsCreator<T> mappedObjectsCreator(Class<T> type) {
+    return mappedObjectsCreator(WeaviateCodecs.of(type));
+  }
+
+  public <T> MappedObjectsCreator<T> mappedObjectsCreator(WeaviateCodec<T> codec) {
+    return new MappedObjectsCreator<>(httpClient, config, objectsPath, codec, cacheInvalidator);
+  }
+
+  public GraphIngestionScheduler graphIngestionScheduler(ObjectsBatcher.AutoBatchConfig objectsAutoBatchConfig,
+                                                         ReferencesBatcher.AutoBatchConfig referencesAutoBatchConfig,
+                                                         Consumer<List<BatchReference>> unresolvedCallback) {
+    return graphIngestionScheduler(
+      ObjectsBatcher.BatchRetriesConfig.defaultConfig().build(), objectsAutoBatchConfig,
+      ReferencesBatcher.BatchRetriesConfig.defaultConfig().build(), referencesAutoBatchConfig,
+      unresolvedCallback
+    );
+  }
+
+  public GraphIngestionScheduler graphIngestionScheduler(ObjectsBatcher.BatchRetriesConfig objectsRetriesConfig,
+                                                         ObjectsBatcher.AutoBatchConfig objectsAutoBatchConfig,
+                                                         ReferencesBatcher.BatchRetriesConfig referencesRetriesConfig,
+                                                         ReferencesBatcher.AutoBatchConfig referencesAutoBatchConfig,
+                                                         Consumer<List<BatchReference>> unresolvedCallback) {
+    return new GraphIngestionScheduler(this::objectsAutoBatcher, objectsRetriesConfig, objectsAutoBatchConfig,
+      referencesAutoBatcher(referencesRetriesConfig, referencesAutoBatchConfig), unresolvedCallback);
+  }
+
+  /**
+   * @param referencesBatcher auto batcher the edges are passed to, preferably with limited pending batches
+   */
+  public GraphEdgeLoader graphEdgeLoader(ReferencesBatcher referencesBatcher, EdgeLoadConfig edgeLoadConfig) {
+    BeaconEncoder encoder = new BeaconEncoder(dbVersionSupport.supportsClassNameNamespacedEndpoints());
+    return new GraphEdgeLoader(referencesBatcher, encoder, edgeLoadConfig);
+  }
+
+  /**
+   * @param batcher auto batcher the loaded objects are passed to, preferably an adaptive one
+   */
+  public BulkFileLoader bulkFileLoader(ObjectsBatcher batcher, FileLoadConfig fileLoadConfig) {
+    return new BulkFileLoader(batcher, fileLoadConfig, config.getExecutors());
+  }
+
+  public VectorImporter vectorImporter(VectorImportConfig vectorImportConfig) {
+    return new VectorImporter(httpClient, config, objectsPath, vectorImportConfig, cacheInvalidator);
+  }
+
+  public ColumnarObjectsCreator columnarObjectsCreator() {
+    return new ColumnarObjectsCreator(httpClient, config, objectsPath, cacheInvalidator);
   }
 
   public ObjectsBatchDeleter objectsBatchDeleter() {
-    return new ObjectsBatchDeleter(httpClient, config, objectsPath);
+    return new ObjectsBatchDeleter(httpClient, config, objectsPath, cacheInvalidator);
+  }
+
+  public BulkObjectsDeleter bulkObjectsDeleter() {
+    return new BulkObjectsDeleter(this::objectsBatchDeleter, config.getExecutors());
   }
 
   public ReferencePayloadBuilder referencePayloadBuilder() {
@@ -75,7 +158,7 @@ public class Batch {
     return referencesBatcher(ReferencesBatcher.BatchRetriesConfig.defaultConfig().build());
   }
   public ReferencesBatcher referencesBatcher(ReferencesBatcher.BatchRetriesConfig batchRetriesConfig) {
-    return ReferencesBatcher.create(httpClient, config, referencesPath, batchRetriesConfig);
+    return ReferencesBatcher.create(httpClient, config, referencesPath, batchRetriesConfig, cacheInvalidator);
   }
 
   public ReferencesBatcher referencesAutoBatcher() {
@@ -101,6 +184,6 @@ public class Batch {
 
   public ReferencesBatcher referencesAutoBatcher(ReferencesBatcher.BatchRetriesConfig batchRetriesConfig,
                                                  ReferencesBatcher.AutoBatchConfig autoBatchConfig) {
-    return ReferencesBatcher.createAuto(httpClient, config, referencesPath, batchRetriesConfig, autoBatchConfig);
+    return ReferencesBatcher.createAuto(httpClient, config, referencesPath, batchRetriesConfig, autoBatchConfig, cacheInvalidator);
   }
 }
@@ -0,0 +1,183 @@
+package io.weaviate.client.v1.batch.api;
+
+import io.weaviate.client.base.util.Assert;
+import java.util.function.LongSupplier;
+
+/**
+ * Adjusts the batch size and the number of concurrently sent batches of an auto batcher
+ * toward the highest sustained number of objects per second.
+ * <p>
+ * Batch latency and throughput are measured in windows of completed batches. After each window
+ * one of the two values is grown (alternating between them); if throughput drops, the change
+ * is reverted. Timeouts halve the batch size and server overload (5xx, 429, refused connections)
+ * halves the concurrency.
+ */
+public class AdaptiveBatchTuner {
+
+  private static final double GROWTH_FACTOR = 1.25;
+  // throughput drops smaller than this are treated as noise
+  private static final double TOLERANCE = 0.95;
+  private static final int MIN_WINDOW_BATCHES = 4;
+  private static final double ERROR_RATE_WEIGHT = 0.1;
+
+  enum Outcome {
+    SUCCESS, TIMEOUT, OVERLOADED
+  }
+
+  private enum Action {
+    NONE, GROW_BATCH_SIZE, GROW_CONCURRENCY
+  }
+
+  private final int minBatchSize;
+  private final int maxBatchSize;
+  private final int maxConcurrency;
+  private final LongSupplier clock;
+
+  private volatile int batchSize;
+  private volatile int concurrency;
+  private volatile double objectsPerSecond;
+  private volatile double errorRate;
+  private volatile long averageLatencyNanos;
+
+  private long windowStart;
+  private long windowObjects;
+  private long windowLatencyNanos;
+  private int windowBatches;
+  private double lastThroughput;
+  private Action lastAction = Action.NONE;
+  private int batchSizeBeforeGrowth;
+  private boolean growBatchSizeNext = true;
+  private long lastDecreaseAt;
+
+  public AdaptiveBatchTuner(int initialBatchSize, int minBatchSize, int maxBatchSize, int maxConcurrency) {
+    this(initialBatchSize, minBatchSize, maxBatchSize, maxConcurrency, System::nanoTime);
+  }
+
+  AdaptiveBatchTuner(int initialBatchSize, int minBatchSize, int maxBatchSize, int maxConcurrency, LongSupplier clock) {
+    Assert.requireGreaterEqual(minBatchSize, 1, "minBatchSize");
+    Assert.requireGreaterEqual(maxBatchSize, minBatchSize, "maxBatchSize");
+    Assert.requireGreaterEqual(maxConcurrency, 1, "maxConcurrency");
+
+    this.minBatchSize = minBatchSize;
+    this.maxBatchSize = maxBatchSize;
+    this.maxConcurrency = maxConcurrency;
+    this.clock = clock;
+    this.batchSize = Math.max(minBatchSize, Math.min(maxBatchSize, initialBatchSize));
+    this.concurrency = 1;
+    this.windowStart = clock.getAsLong();
+    this.lastDecreaseAt = windowStart;
+  }
+
+  /**
+   * Current number of objects per batch.
+   */
+  public int getBatchSize() {
+    return batchSize;
+  }
+
+  /**
+   * Current number of batches allowed to be sent at the same time.
+   */
+  public int getConcurrency() {
+    return concurrency;
+  }
+
+  /**
+   * Objects per second measured in the last completed window.
+   */
+  public double getObjectsPerSecond() {
+    return objectsPerSecond;
+  }
+
+  /**
+   * Moving average of the share of batch requests that timed out or were rejected by an overloaded server.
+   */
+  public double getErrorRate() {
+    return errorRate;
+  }
+
+  /**
+   * Average batch request latency in the last completed window.
+   */
+  public long getAverageLatencyNanos() {
+    return averageLatencyNanos;
+  }
+
+  long now() {
+    return clock.getAsLong();
+  }
+
+  synchronized void onBatchCompleted(int size, long startedAt, Outcome outcome) {
+    long now = clock.getAsLong();
+    errorRate = errorRate * (1 - ERROR_RATE_WEIGHT) + (outcome == Outcome.SUCCESS ? 0 : ERROR_RATE_WEIGHT);
+
+    if (outcome != Outcome.SUCCESS) {
+      // batches sent before the last decrease do not reflect it yet
+      if (startedAt >= lastDecreaseAt) {
+        if (outcome == Outcome.TIMEOUT) {
+          batchSize = Math.max(minBatchSize, batchSize / 2);
+        } else {
+          concurrency = Math.max(1, concurrency / 2);
+        }
+        lastDecreaseAt = now;
+        lastAction = Action.NONE;
+        lastThroughput = 0;
+        resetWindow(now);
+      }
+      return;
+    }
+
+    windowObjects += size;
+    windowLatencyNanos += now - startedAt;
+    windowBatches++;
+    if (windowBatches < Math.max(MIN_WINDOW_BATCHES, concurrency * 2)) {
+      return;
+    }
+
+    double throughput = windowObjects * 1_000_000_000d / Math.max(1, now - windowStart);
+    objectsPerSecond = throughput;
+    averageLatencyNanos = windowLatencyNanos / windowBatches;
+
+    if (lastAction != Action.NONE && throughput < lastThroughput * TOLERANCE) {
+      revert(lastAction);
+      lastAction = Action.NONE;
+    } else {
+      lastThroughput = throughput;
+      lastAction = grow();
+    }
+    resetWindow(now);
+  }
+
+  private Action grow() {
+    boolean canGrowBatchSize = batchSize < maxBatchSize;
+    boolean canGrowConcurrency = concurrency < maxConcurrency;
+    boolean growBatchSize = growBatchSizeNext ? canGrowBatchSize : !canGrowConcurrency && canGrowBatchSize;
+    growBatchSizeNext = !growBatchSizeNext;
+
+    if (growBatchSize) {
+      batchSizeBeforeGrowth = batchSize;
+      batchSize = Math.min(maxBatchSize, Math.max(batchSize + 1, (int) (batchSize * GROWTH_FACTOR)));
+      return Action.GROW_BATCH_SIZE;
+    }
+    if (canGrowConcurrency) {
+      concurrency++;
+      return Action.GROW_CONCURRENCY;
+    }
+    return Action.NONE;
+  }
+
+  private void revert(Action action) {
+    if (action == Action.GROW_BATCH_SIZE) {
+      batchSize = batchSizeBeforeGrowth;
+    } else if (action == Action.GROW_CONCURRENCY) {
+      concurrency = Math.max(1, concurrency - 1);
+    }
+  }
+
+  private void resetWindow(long now) {
+    windowStart = now;
+    windowObjects = 0;
+    windowLatencyNanos = 0;
+    windowBatches = 0;
+  }
+}
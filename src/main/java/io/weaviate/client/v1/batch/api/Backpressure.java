@@ -0,0 +1,81 @@
+package io.weaviate.client.v1.batch.api;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Holds producers back according to the configured policy while a batcher cannot take more items.
+ */
+class Backpressure<T> {
+
+  private final BackpressurePolicy policy;
+  private final long timeoutNanos;
+  private final Consumer<List<T>> callback;
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition released = lock.newCondition();
+
+  Backpressure(BackpressurePolicy policy, int timeoutMs, Consumer<List<T>> callback) {
+    this.policy = policy;
+    this.timeoutNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+    this.callback = callback;
+  }
+
+  /**
+   * @return true if items can be added, false if they were passed to the callback instead
+   * @throws RejectedExecutionException if items were rejected
+   */
+  boolean admit(T[] items, BooleanSupplier isFull) {
+    if (!isFull.getAsBoolean()) {
+      return true;
+    }
+    switch (policy) {
+      case REJECT:
+        throw new RejectedExecutionException("Too many pending batches, " + items.length + " items rejected");
+      case CALLBACK:
+        callback.accept(Arrays.asList(items));
+        return false;
+      default:
+        return await(items, isFull);
+    }
+  }
+
+  /**
+   * Wakes up waiting producers, to be called whenever a pending batch completes.
+   */
+  void release() {
+    lock.lock();
+    try {
+      released.signalAll();
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private boolean await(T[] items, BooleanSupplier isFull) {
+    lock.lock();
+    try {
+      long remainingNanos = timeoutNanos;
+      while (isFull.getAsBoolean()) {
+        if (policy == BackpressurePolicy.BLOCK) {
+          released.await();
+        } else if (remainingNanos > 0) {
+          remainingNanos = released.awaitNanos(remainingNanos);
+        } else {
+          throw new RejectedExecutionException("Timed out waiting for pending batches, " + items.length + " items rejected");
+        }
+      }
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RejectedExecutionException("Interrupted waiting for pending batches, " + items.length + " items rejected", e);
+    } finally {
+      lock.unlock();
+    }
+  }
+}
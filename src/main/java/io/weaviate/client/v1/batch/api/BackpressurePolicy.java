@@ -0,0 +1,25 @@
+package io.weaviate.client.v1.batch.api;
+
+/**
+ * What an auto batcher does with added items once the limit of pending batches is reached
+ * and a full batch is already waiting to be sent.
+ */
+public enum BackpressurePolicy {
+  /**
+   * Adding thread waits until a pending batch completes.
+   */
+  BLOCK,
+  /**
+   * Adding thread waits until a pending batch completes, at most backpressureTimeoutMs.
+   * Items are then rejected with {@link java.util.concurrent.RejectedExecutionException}.
+   */
+  BLOCK_WITH_TIMEOUT,
+  /**
+   * Items are rejected right away with {@link java.util.concurrent.RejectedExecutionException}.
+   */
+  REJECT,
+  /**
+   * Items are not added, but handed over to backpressureCallback.
+   */
+  CALLBACK
+}
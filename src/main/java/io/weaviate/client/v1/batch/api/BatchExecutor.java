@@ -0,0 +1,159 @@
+package io.weaviate.client.v1.batch.api;
+
+import io.weaviate.client.base.concurrent.ClientExecutors;
+import io.weaviate.client.base.util.VirtualThreads;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the work of an auto batcher: sending batches, delayed retries and linger checks.
+ * Tasks run on the client's shared workers, or on the batcher's own virtual threads, at most concurrency
+ * of them at once. The rest wait in a queue, like they would in a fixed pool. Delayed tasks are fired
+ * by the client's scheduler and handed over to the workers.
+ */
+class BatchExecutor implements Executor {
+
+  private static final long CLOSE_CHECK_MS = 10;
+
+  private final ScheduledExecutorService scheduler;
+  private final ExecutorService workers;
+  private final int concurrency;
+  private final boolean ownWorkers;
+  // guarded by queue
+  private final Queue<Runnable> queue = new ArrayDeque<>();
+  private final List<ScheduledFuture<?>> scheduled = new ArrayList<>();
+  private int running;
+  private boolean closed;
+  private boolean terminated;
+
+  private BatchExecutor(ScheduledExecutorService scheduler, ExecutorService workers, int concurrency,
+                        boolean ownWorkers) {
+    this.scheduler = scheduler;
+    this.workers = workers;
+    this.concurrency = concurrency;
+    this.ownWorkers = ownWorkers;
+  }
+
+  /**
+   * @param concurrency    number of tasks run at the same time
+   * @param virtualThreads use own virtual threads if the Java version supports them
+   */
+  static BatchExecutor create(ClientExecutors executors, int concurrency, boolean virtualThreads, String name) {
+    boolean virtual = virtualThreads && VirtualThreads.isSupported();
+    ExecutorService workers = virtual
+      ? VirtualThreads.newThreadPerTaskExecutor(name, executors::getWorkers)
+      : executors.getWorkers();
+    return new BatchExecutor(executors.getScheduler(), workers, concurrency, virtual);
+  }
+
+  @Override
+  public void execute(Runnable task) {
+    synchronized (queue) {
+      if (terminated) {
+        throw new RejectedExecutionException("executor is closed");
+      }
+      if (running >= concurrency) {
+        queue.add(task);
+        return;
+      }
+      running++;
+    }
+    try {
+      workers.execute(() -> runFrom(task));
+    } catch (RejectedExecutionException e) {
+      next();
+      throw e;
+    }
+  }
+
+  private void runFrom(Runnable task) {
+    // the thread goes on with queued tasks, so the number of running ones never exceeds concurrency
+    Runnable current = task;
+    while (current != null) {
+      try {
+        current.run();
+      } catch (RuntimeException e) {
+        Thread thread = Thread.currentThread();
+        thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+      }
+      current = next();
+    }
+  }
+
+  private Runnable next() {
+    synchronized (queue) {
+      Runnable task = queue.poll();
+      if (task == null) {
+        running--;
+        queue.notifyAll();
+      }
+      return task;
+    }
+  }
+
+  /**
+   * Runs the task with the executor after the given delay.
+   */
+  ScheduledFuture<?> schedule(Runnable task, long delay, TimeUnit unit) {
+    synchronized (queue) {
+      if (closed) {
+        throw new RejectedExecutionException("executor is closed");
+      }
+      scheduled.removeIf(ScheduledFuture::isDone);
+      ScheduledFuture<?> future = scheduler.schedule(() -> execute(task), delay, unit);
+      scheduled.add(future);
+      return future;
+    }
+  }
+
+  boolean isShutdown() {
+    synchronized (queue) {
+      return closed;
+    }
+  }
+
+  /**
+   * Stops accepting delayed tasks and waits for the accepted ones and everything they start.
+   * Tasks not done in time are dropped, and interrupted if the threads are the batcher's own.
+   */
+  void close(long awaitTerminationMs) {
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(awaitTerminationMs);
+    try {
+      synchronized (queue) {
+        closed = true;
+        long remaining;
+        while ((running > 0 || hasPendingDelayed()) && (remaining = deadline - System.nanoTime()) > 0) {
+          // cancelled delayed tasks do not notify
+          TimeUnit.NANOSECONDS.timedWait(queue, Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(CLOSE_CHECK_MS)));
+        }
+        terminated = true;
+        queue.clear();
+        scheduled.forEach(future -> future.cancel(false));
+      }
+      if (ownWorkers) {
+        workers.shutdown();
+        if (!workers.awaitTermination(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS)) {
+          workers.shutdownNow();
+        }
+      }
+    } catch (InterruptedException e) {
+      if (ownWorkers) {
+        workers.shutdownNow();
+      }
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  private boolean hasPendingDelayed() {
+    scheduled.removeIf(ScheduledFuture::isDone);
+    return !scheduled.isEmpty();
+  }
+}
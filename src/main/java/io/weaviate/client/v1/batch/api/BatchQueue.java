@@ -0,0 +1,243 @@
+package io.weaviate.client.v1.batch.api;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.IntSupplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Ingestion queue shared by batchers. Producers add items without locking,
+ * while at most one thread at a time cuts batches off the head of the queue.
+ * <p>
+ * If a weigher is given, batches are cut on the number of items or on their total
+ * weight (estimated bytes), whichever limit is reached first.
+ * <p>
+ * If a key is given, an item added while another one with the same key is still queued
+ * takes its place (last write wins), so a batch never carries two items with the same key.
+ */
+class BatchQueue<T> {
+
+  private final Queue<Entry<T>> items = new ConcurrentLinkedQueue<>();
+  // incremented only after items are added, so they never exceed the actual queue content
+  private final AtomicInteger size = new AtomicInteger();
+  private final AtomicLong bytes = new AtomicLong();
+  private final ReentrantLock drainLock = new ReentrantLock();
+  private final ToLongFunction<T> weigher;
+  private final long maxBatchBytes;
+  private final Function<T, ?> keyOf;
+  private final ConcurrentHashMap<Object, Entry<T>> queuedByKey;
+
+  BatchQueue() {
+    this(null, 0);
+  }
+
+  BatchQueue(ToLongFunction<T> weigher, long maxBatchBytes) {
+    this(weigher, maxBatchBytes, null);
+  }
+
+  /**
+   * @param weigher       estimates the serialized size of an item
+   * @param maxBatchBytes size budget of a single batch, 0 for no limit
+   * @param keyOf         key of items replacing each other while queued, null to keep every item
+   */
+  BatchQueue(ToLongFunction<T> weigher, long maxBatchBytes, Function<T, ?> keyOf) {
+    this.weigher = maxBatchBytes > 0 ? weigher : null;
+    this.maxBatchBytes = maxBatchBytes;
+    this.keyOf = keyOf;
+    this.queuedByKey = keyOf != null ? new ConcurrentHashMap<>() : null;
+  }
+
+  void addAll(T[] added) {
+    addAll(added, null);
+  }
+
+  /**
+   * @param superseded receives queued items replaced by added ones, may be null
+   */
+  void addAll(T[] added, Consumer<T> superseded) {
+    int addedEntries = 0;
+    long addedBytes = 0;
+    long enqueuedAt = System.nanoTime();
+    for (T item : added) {
+      long weight = weigher != null ? weigher.applyAsLong(item) : 0;
+      Entry<T> entry = new Entry<>(keyOf != null ? keyOf.apply(item) : null, item, weight, enqueuedAt);
+      if (entry.key != null && !putKeyed(entry, superseded)) {
+        continue;
+      }
+      items.offer(entry);
+      addedEntries++;
+      addedBytes += weight;
+    }
+    // size first: a batch cut because of the byte budget must find the items counted
+    size.addAndGet(addedEntries);
+    bytes.addAndGet(addedBytes);
+  }
+
+  /**
+   * @return true if entry has to be queued, false if it was merged into an entry already queued
+   */
+  private boolean putKeyed(Entry<T> entry, Consumer<T> superseded) {
+    while (true) {
+      Entry<T> queued = queuedByKey.putIfAbsent(entry.key, entry);
+      if (queued == null) {
+        return true;
+      }
+      T replaced = null;
+      synchronized (queued) {
+        if (!queued.drained) {
+          replaced = queued.item;
+          bytes.addAndGet(entry.bytes - queued.bytes);
+          queued.item = entry.item;
+          queued.bytes = entry.bytes;
+        }
+      }
+      if (replaced != null) {
+        if (superseded != null) {
+          superseded.accept(replaced);
+        }
+        return false;
+      }
+      // queued entry was taken into a batch meanwhile, entry starts a new one
+      if (queuedByKey.replace(entry.key, queued, entry)) {
+        return true;
+      }
+    }
+  }
+
+  int size() {
+    return size.get();
+  }
+
+  long bytes() {
+    return bytes.get();
+  }
+
+  boolean isEmpty() {
+    return size.get() == 0;
+  }
+
+  /**
+   * Passes full batches to the sink. Never blocks producers: if another thread is already
+   * draining, that thread picks up the newly added items before it lets go of the queue.
+   */
+  void drainFull(int batchSize, Consumer<List<T>> sink) {
+    drainFull(() -> batchSize, () -> true, sink);
+  }
+
+  /**
+   * Passes full batches to the sink as long as hasCapacity allows it.
+   * Whenever capacity is freed up, drainFull has to be called again.
+   */
+  void drainFull(IntSupplier batchSize, BooleanSupplier hasCapacity, Consumer<List<T>> sink) {
+    while (isFull(batchSize.getAsInt()) && hasCapacity.getAsBoolean() && drainLock.tryLock()) {
+      try {
+        while (isFull(batchSize.getAsInt()) && hasCapacity.getAsBoolean()) {
+          List<T> batch = poll(batchSize.getAsInt());
+          if (batch.isEmpty()) {
+            break;
+          }
+          sink.accept(batch);
+        }
+      } finally {
+        drainLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Passes batches to the sink for as long as the oldest queued item has waited at least lingerNanos,
+   * even if they are not full.
+   *
+   * @return nanos until the oldest remaining item will have waited lingerNanos, -1 if the queue is empty
+   */
+  long drainLingering(long lingerNanos, IntSupplier batchSize, BooleanSupplier hasCapacity, Consumer<List<T>> sink) {
+    if (drainLock.tryLock()) {
+      try {
+        while (hasCapacity.getAsBoolean() && waitedNanos(items.peek()) >= lingerNanos) {
+          List<T> batch = poll(batchSize.getAsInt());
+          if (batch.isEmpty()) {
+            break;
+          }
+          sink.accept(batch);
+        }
+      } finally {
+        drainLock.unlock();
+      }
+    }
+    Entry<T> oldest = items.peek();
+    return oldest != null ? Math.max(0, lingerNanos - waitedNanos(oldest)) : -1;
+  }
+
+  /**
+   * Passes all queued items to the sink, in batches of at most batchSize (and maxBatchBytes),
+   * waiting for a concurrent drain to finish first.
+   */
+  void drainAll(int batchSize, Consumer<List<T>> sink) {
+    drainLock.lock();
+    try {
+      while (size.get() > 0) {
+        sink.accept(poll(batchSize));
+      }
+    } finally {
+      drainLock.unlock();
+    }
+  }
+
+  private long waitedNanos(Entry<T> entry) {
+    return entry != null ? System.nanoTime() - entry.enqueuedAt : -1;
+  }
+
+  boolean isFull(int batchSize) {
+    return size.get() >= batchSize || (maxBatchBytes > 0 && bytes.get() >= maxBatchBytes);
+  }
+
+  private List<T> poll(int maxSize) {
+    int available = size.get();
+    List<T> batch = new ArrayList<>(Math.min(maxSize, available));
+    long batchBytes = 0;
+    while (batch.size() < maxSize && batch.size() < available) {
+      Entry<T> next = items.peek();
+      synchronized (next) {
+        // a single item above the budget still makes its own batch
+        if (!batch.isEmpty() && maxBatchBytes > 0 && batchBytes + next.bytes > maxBatchBytes) {
+          break;
+        }
+        items.poll();
+        next.drained = true;
+        batch.add(next.item);
+        batchBytes += next.bytes;
+      }
+      if (next.key != null) {
+        queuedByKey.remove(next.key, next);
+      }
+    }
+    size.addAndGet(-batch.size());
+    bytes.addAndGet(-batchBytes);
+    return batch;
+  }
+
+  private static class Entry<T> {
+    private final Object key;
+    private final long enqueuedAt;
+    // guarded by the entry itself, replaced while the entry is queued
+    private T item;
+    private long bytes;
+    private boolean drained;
+
+    private Entry(Object key, T item, long bytes, long enqueuedAt) {
+      this.key = key;
+      this.item = item;
+      this.bytes = bytes;
+      this.enqueuedAt = enqueuedAt;
+    }
+  }
+}
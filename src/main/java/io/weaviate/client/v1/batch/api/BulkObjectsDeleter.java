@@ -0,0 +1,261 @@
+package io.weaviate.client.v1.batch.api;
+
+import io.weaviate.client.base.ClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.concurrent.ClientExecutors;
+import io.weaviate.client.base.util.Assert;
+import io.weaviate.client.v1.batch.model.BatchDeleteOutput;
+import io.weaviate.client.v1.batch.model.BatchDeleteResponse;
+import io.weaviate.client.v1.batch.model.BulkDeleteResult;
+import io.weaviate.client.v1.filters.Operator;
+import io.weaviate.client.v1.filters.WhereFilter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Deletes all objects matching a filter, however many there are. Each delete request removes at most
+ * the server's per-request limit, so requests are repeated until a filter matches nothing more.
+ * <p>
+ * The work can be split into partitions (filters combined with the main filter, e.g. ranges of a property)
+ * or into chunks of explicit ids, deleted in parallel.
+ */
+public class BulkObjectsDeleter implements ClientResult<BulkDeleteResult> {
+
+  public static final int IDS_PER_REQUEST = 1000;
+  private static final String[] ID_PATH = {"id"};
+
+  private final Supplier<ObjectsBatchDeleter> deleterSupplier;
+  private final ClientExecutors executors;
+  private String className;
+  private String consistencyLevel;
+  private WhereFilter where;
+  private List<WhereFilter> partitions = Collections.emptyList();
+  private List<String> ids = Collections.emptyList();
+  private int idsPerRequest = IDS_PER_REQUEST;
+  private int parallelism = 1;
+  private long throttleMs;
+  private Consumer<BulkDeleteResult> progressCallback;
+
+  public BulkObjectsDeleter(Supplier<ObjectsBatchDeleter> deleterSupplier, ClientExecutors executors) {
+    this.deleterSupplier = deleterSupplier;
+    this.executors = executors;
+  }
+
+  public BulkObjectsDeleter withClassName(String className) {
+    this.className = className;
+    return this;
+  }
+
+  public BulkObjectsDeleter withConsistencyLevel(String consistencyLevel) {
+    this.consistencyLevel = consistencyLevel;
+    return this;
+  }
+
+  public BulkObjectsDeleter withWhere(WhereFilter where) {
+    this.where = where;
+    return this;
+  }
+
+  /**
+   * Filters splitting the objects to delete into parts deleted independently. Each is combined with
+   * the where filter, if given. Objects not matched by any partition are not deleted.
+   */
+  public BulkObjectsDeleter withPartitions(WhereFilter... partitions) {
+    this.partitions = Arrays.asList(partitions);
+    return this;
+  }
+
+  /**
+   * Ids of the objects to delete, sent in chunks of idsPerRequest as "id ContainsAny" filters.
+   * Supported as of Weaviate v1.21.
+   */
+  public BulkObjectsDeleter withIds(Collection<String> ids) {
+    this.ids = new ArrayList<>(ids);
+    return this;
+  }
+
+  public BulkObjectsDeleter withIdsPerRequest(int idsPerRequest) {
+    Assert.requireGreaterEqual(idsPerRequest, 1, "idsPerRequest");
+    this.idsPerRequest = idsPerRequest;
+    return this;
+  }
+
+  /**
+   * Number of partitions or id chunks deleted at the same time.
+   */
+  public BulkObjectsDeleter withParallelism(int parallelism) {
+    this.parallelism = parallelism;
+    return this;
+  }
+
+  /**
+   * Pause between consecutive requests of the same worker, to limit the load put on the server.
+   */
+  public BulkObjectsDeleter withThrottleMs(long throttleMs) {
+    this.throttleMs = throttleMs;
+    return this;
+  }
+
+  public BulkObjectsDeleter withProgressCallback(Consumer<BulkDeleteResult> progressCallback) {
+    this.progressCallback = progressCallback;
+    return this;
+  }
+
+  @Override
+  public Result<BulkDeleteResult> run() {
+    Progress progress = new Progress(filters());
+    List<WeaviateErrorMessage> errors = Collections.synchronizedList(new ArrayList<>());
+    ExecutorService executor = executors.bounded(Math.max(1, Math.min(parallelism, progress.filters.size())));
+    try {
+      List<Future<?>> futures = new ArrayList<>(progress.filters.size());
+      for (WhereFilter filter : progress.filters) {
+        futures.add(executor.submit(() -> deleteAll(filter, progress, errors)));
+      }
+      for (Future<?> future : futures) {
+        future.get();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      errors.add(WeaviateErrorMessage.builder().message("bulk delete interrupted").throwable(e).build());
+    } catch (ExecutionException e) {
+      errors.add(WeaviateErrorMessage.builder().message(e.getCause().getMessage()).throwable(e.getCause()).build());
+    } finally {
+      executor.shutdownNow();
+    }
+
+    if (errors.isEmpty()) {
+      return new Result<>(200, progress.snapshot(), null);
+    }
+    return new Result<>(0, progress.snapshot(), WeaviateErrorResponse.builder()
+      .error(new ArrayList<>(errors))
+      .build());
+  }
+
+  private void deleteAll(WhereFilter filter, Progress progress, List<WeaviateErrorMessage> errors) {
+    while (!Thread.currentThread().isInterrupted()) {
+      Result<BatchDeleteResponse> result = deleterSupplier.get()
+        .withClassName(className)
+        .withConsistencyLevel(consistencyLevel)
+        .withWhere(filter)
+        .withOutput(BatchDeleteOutput.MINIMAL)
+        .run();
+      progress.requests.incrementAndGet();
+
+      if (result.hasErrors()) {
+        errors.addAll(result.getError().getMessages());
+        break;
+      }
+      BatchDeleteResponse.Results results = result.getResult() != null ? result.getResult().getResults() : null;
+      long successful = results != null && results.getSuccessful() != null ? results.getSuccessful() : 0;
+      long failed = results != null && results.getFailed() != null ? results.getFailed() : 0;
+      long matches = results != null && results.getMatches() != null ? results.getMatches() : 0;
+      long limit = results != null && results.getLimit() != null ? results.getLimit() : 0;
+      progress.successful.addAndGet(successful);
+      progress.failed.addAndGet(failed);
+
+      // fewer matches than the limit means all of them were handled by this request
+      boolean done = matches == 0 || limit <= 0 || matches < limit;
+      if (done) {
+        progress.completedFilters.incrementAndGet();
+      }
+      report(progress);
+      if (done) {
+        break;
+      }
+      if (successful == 0) {
+        errors.add(WeaviateErrorMessage.builder()
+          .message(String.format("no objects could be deleted, %d still match %s", matches, filter))
+          .build());
+        break;
+      }
+      if (!pause()) {
+        break;
+      }
+    }
+  }
+
+  private boolean pause() {
+    if (throttleMs <= 0) {
+      return true;
+    }
+    try {
+      TimeUnit.MILLISECONDS.sleep(throttleMs);
+      return true;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private void report(Progress progress) {
+    if (progressCallback != null) {
+      progressCallback.accept(progress.snapshot());
+    }
+  }
+
+  private List<WhereFilter> filters() {
+    List<WhereFilter> filters = new ArrayList<>();
+    if (!ids.isEmpty()) {
+      for (int from = 0; from < ids.size(); from += idsPerRequest) {
+        List<String> chunk = ids.subList(from, Math.min(ids.size(), from + idsPerRequest));
+        filters.add(and(where, WhereFilter.builder()
+          .path(ID_PATH)
+          .operator(Operator.ContainsAny)
+          .valueTextArray(chunk.toArray(new String[0]))
+          .build()));
+      }
+    } else if (!partitions.isEmpty()) {
+      partitions.forEach(partition -> filters.add(and(where, partition)));
+    } else {
+      filters.add(where);
+    }
+    return filters;
+  }
+
+  private static WhereFilter and(WhereFilter where, WhereFilter filter) {
+    if (where == null) {
+      return filter;
+    }
+    return WhereFilter.builder()
+      .operator(Operator.And)
+      .operands(new WhereFilter[]{where, filter})
+      .build();
+  }
+
+  private static class Progress {
+    private final List<WhereFilter> filters;
+    private final AtomicLong successful = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicInteger completedFilters = new AtomicInteger();
+    private final long startedAt = System.nanoTime();
+
+    private Progress(List<WhereFilter> filters) {
+      this.filters = filters;
+    }
+
+    private BulkDeleteResult snapshot() {
+      return BulkDeleteResult.builder()
+        .successful(successful.get())
+        .failed(failed.get())
+        .requests(requests.get())
+        .completedFilters(completedFilters.get())
+        .totalFilters(filters.size())
+        .elapsedMs(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt))
+        .build();
+    }
+  }
+}
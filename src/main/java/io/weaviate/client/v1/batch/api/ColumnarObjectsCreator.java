@@ -0,0 +1,123 @@
+package io.weaviate.client.v1.batch.api;
+
+import com.google.gson.stream.JsonWriter;
+import io.weaviate.client.Config;
+import io.weaviate.client.base.BaseClient;
+import io.weaviate.client.base.ClientResult;
+import io.weaviate.client.base.Response;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.cache.CacheInvalidator;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.util.Assert;
+import io.weaviate.client.v1.batch.model.ColumnarBatch;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.batch.util.JsonBufferPool;
+import io.weaviate.client.v1.batch.util.ObjectsPath;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Creates the objects of a {@link ColumnarBatch}, sending batchSize rows per request. Request bodies are
+ * encoded row by row from the columns into a buffer kept by the creator and reused across runs, so runs
+ * of one creator must not overlap.
+ * <p>
+ * Requests are sent one after another. The first failed request stops the run; its error is returned
+ * along with the responses of the requests sent before it.
+ */
+public class ColumnarObjectsCreator extends BaseClient<ObjectGetResponse[]> implements ClientResult<ObjectGetResponse[]> {
+
+  public static final int BATCH_SIZE = 100;
+
+  private final ObjectsPath objectsPath;
+  private final CacheInvalidator cacheInvalidator;
+  // reused for every request of every run, grown to the largest body
+  private final JsonBufferPool.Buffer buffer = new JsonBufferPool.Buffer(JsonBufferPool.INITIAL_BYTES);
+  private ColumnarBatch batch;
+  private int batchSize = BATCH_SIZE;
+  private String consistencyLevel;
+
+  public ColumnarObjectsCreator(HttpClient httpClient, Config config, ObjectsPath objectsPath,
+                                CacheInvalidator cacheInvalidator) {
+    super(httpClient, config);
+    this.objectsPath = objectsPath;
+    this.cacheInvalidator = cacheInvalidator;
+  }
+
+  public ColumnarObjectsCreator withBatch(ColumnarBatch batch) {
+    this.batch = batch;
+    return this;
+  }
+
+  /**
+   * Number of rows sent per request.
+   */
+  public ColumnarObjectsCreator withBatchSize(int batchSize) {
+    Assert.requireGreaterEqual(batchSize, 1, "batchSize");
+    this.batchSize = batchSize;
+    return this;
+  }
+
+  public ColumnarObjectsCreator withConsistencyLevel(String consistencyLevel) {
+    this.consistencyLevel = consistencyLevel;
+    return this;
+  }
+
+  @Override
+  public Result<ObjectGetResponse[]> run() {
+    Assert.requiredNotNull(batch, "batch");
+    String path = objectsPath.buildCreate(ObjectsPath.Params.builder()
+      .consistencyLevel(consistencyLevel)
+      .build());
+    List<ObjectGetResponse> responses = new ArrayList<>(batch.getRows());
+    try {
+      for (int from = 0; from < batch.getRows(); from += batchSize) {
+        int to = Math.min(batch.getRows(), from + batchSize);
+        buffer.reset();
+        long start = System.nanoTime();
+        try {
+          write(from, to);
+        } catch (IOException | RuntimeException e) {
+          WeaviateErrorMessage error = WeaviateErrorMessage.builder()
+            .message(String.format("could not serialize rows %d to %d: %s", from, to, e.getMessage()))
+            .throwable(e)
+            .build();
+          return new Result<>(0, responses.toArray(new ObjectGetResponse[0]),
+            WeaviateErrorResponse.builder().error(Collections.singletonList(error)).build());
+        }
+        Response<ObjectGetResponse[]> resp = sendPostRequest(path, buffer.array(), buffer.size(),
+          ObjectGetResponse[].class, System.nanoTime() - start);
+        if (resp.getErrors() != null) {
+          return new Result<>(resp.getStatusCode(), responses.toArray(new ObjectGetResponse[0]), resp.getErrors(),
+            resp.getTimings());
+        }
+        if (resp.getBody() != null) {
+          responses.addAll(Arrays.asList(resp.getBody()));
+        }
+      }
+    } finally {
+      if (cacheInvalidator != null) {
+        cacheInvalidator.invalidateClass(batch.getClassName());
+      }
+    }
+    return new Result<>(200, responses.toArray(new ObjectGetResponse[0]), null);
+  }
+
+  private void write(int from, int to) throws IOException {
+    JsonWriter out = new JsonWriter(new OutputStreamWriter(buffer, StandardCharsets.UTF_8));
+    out.setHtmlSafe(false);
+    out.beginObject();
+    out.name("fields").beginArray().value("ALL").endArray();
+    out.name("objects").beginArray();
+    batch.writeRows(out, from, to);
+    out.endArray();
+    out.endObject();
+    out.flush();
+  }
+}
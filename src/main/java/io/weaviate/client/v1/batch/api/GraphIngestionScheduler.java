@@ -0,0 +1,224 @@
+package io.weaviate.client.v1.batch.api;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.batch.model.BatchReference;
+import io.weaviate.client.v1.batch.model.FailedBatchObject;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+/**
+ * Sends objects and references in one pipelined flow. A reference is held back while any of its endpoints
+ * is an object added to this scheduler and not yet stored, and released to the references batcher as soon
+ * as all of them are. Endpoints never added here are considered to exist already.
+ * <p>
+ * References to objects which failed to be stored are not sent, but passed to the unresolved callback.
+ */
+public class GraphIngestionScheduler implements Closeable {
+
+  private static final String BEACON_PREFIX = "weaviate://localhost/";
+
+  private final ObjectsBatcher objectsBatcher;
+  private final ReferencesBatcher referencesBatcher;
+  private final Consumer<List<BatchReference>> unresolvedCallback;
+  // guarded by this
+  private final Set<String> pendingIds = new HashSet<>();
+  private final Map<String, List<ParkedReference>> parkedByEndpoint = new HashMap<>();
+
+  /**
+   * @param objectsBatcherFactory creates the auto objects batcher, from configs extended with
+   *                              the scheduler's callbacks
+   * @param unresolvedCallback    receives references to objects which could not be stored, may be null
+   */
+  public GraphIngestionScheduler(
+    BiFunction<ObjectsBatcher.BatchRetriesConfig, ObjectsBatcher.AutoBatchConfig, ObjectsBatcher> objectsBatcherFactory,
+    ObjectsBatcher.BatchRetriesConfig objectsRetriesConfig, ObjectsBatcher.AutoBatchConfig objectsAutoBatchConfig,
+    ReferencesBatcher referencesBatcher, Consumer<List<BatchReference>> unresolvedCallback) {
+
+    Consumer<List<FailedBatchObject>> deadLetterCallback = objectsRetriesConfig.getDeadLetterCallback();
+    Consumer<Result<ObjectGetResponse[]>> callback = objectsAutoBatchConfig.getCallback();
+    this.objectsBatcher = objectsBatcherFactory.apply(
+      objectsRetriesConfig.toBuilder()
+        .deadLetterCallback(failures -> {
+          objectsFailed(failures);
+          if (deadLetterCallback != null) {
+            deadLetterCallback.accept(failures);
+          }
+        })
+        .build(),
+      objectsAutoBatchConfig.toBuilder()
+        .callback(result -> {
+          objectsStored(result);
+          if (callback != null) {
+            callback.accept(result);
+          }
+        })
+        .build());
+    this.referencesBatcher = referencesBatcher;
+    this.unresolvedCallback = unresolvedCallback;
+  }
+
+  public GraphIngestionScheduler withObjects(WeaviateObject... objects) {
+    synchronized (this) {
+      for (WeaviateObject object : objects) {
+        if (object.getId() == null) {
+          object.setId(UUID.randomUUID().toString());
+        }
+        pendingIds.add(normalize(object.getId()));
+      }
+    }
+    objectsBatcher.withObjects(objects);
+    return this;
+  }
+
+  public GraphIngestionScheduler withReferences(BatchReference... references) {
+    List<BatchReference> ready = new ArrayList<>(references.length);
+    synchronized (this) {
+      for (BatchReference reference : references) {
+        ParkedReference parked = new ParkedReference(reference);
+        park(parked, normalize(fromId(reference.getFrom())));
+        park(parked, normalize(toId(reference.getTo())));
+        if (parked.missingEndpoints == 0) {
+          ready.add(reference);
+        }
+      }
+    }
+    send(ready);
+    return this;
+  }
+
+  /**
+   * Number of references waiting for their endpoints to be stored.
+   */
+  public synchronized int parkedReferences() {
+    Set<ParkedReference> parked = Collections.newSetFromMap(new IdentityHashMap<>());
+    parkedByEndpoint.values().forEach(parked::addAll);
+    return parked.size();
+  }
+
+  /**
+   * Sends all objects and then all references, including the ones released by the stored objects.
+   */
+  public void flush() {
+    objectsBatcher.flush();
+    referencesBatcher.flush();
+  }
+
+  @Override
+  public void close() {
+    objectsBatcher.close();
+    referencesBatcher.close();
+  }
+
+  private void park(ParkedReference parked, String endpointId) {
+    if (endpointId != null && pendingIds.contains(endpointId)) {
+      parked.missingEndpoints++;
+      parkedByEndpoint.computeIfAbsent(endpointId, id -> new ArrayList<>()).add(parked);
+    }
+  }
+
+  private void objectsStored(Result<ObjectGetResponse[]> result) {
+    if (result == null || result.getResult() == null) {
+      return;
+    }
+    List<BatchReference> ready = new ArrayList<>();
+    synchronized (this) {
+      for (ObjectGetResponse response : result.getResult()) {
+        if (response.getResult() == null || response.getResult().getErrors() == null) {
+          String id = normalize(response.getId());
+          pendingIds.remove(id);
+          List<ParkedReference> parked = parkedByEndpoint.remove(id);
+          if (parked != null) {
+            for (ParkedReference reference : parked) {
+              if (--reference.missingEndpoints == 0 && !reference.unresolved) {
+                ready.add(reference.reference);
+              }
+            }
+          }
+        }
+      }
+    }
+    send(ready);
+  }
+
+  private void objectsFailed(List<FailedBatchObject> failures) {
+    List<BatchReference> unresolved = new ArrayList<>();
+    synchronized (this) {
+      for (FailedBatchObject failure : failures) {
+        String id = normalize(failure.getObject().getId());
+        pendingIds.remove(id);
+        List<ParkedReference> parked = parkedByEndpoint.remove(id);
+        if (parked != null) {
+          for (ParkedReference reference : parked) {
+            reference.missingEndpoints--;
+            if (!reference.unresolved) {
+              reference.unresolved = true;
+              unresolved.add(reference.reference);
+            }
+          }
+        }
+      }
+    }
+    if (unresolvedCallback != null && !unresolved.isEmpty()) {
+      unresolvedCallback.accept(unresolved);
+    }
+  }
+
+  private void send(List<BatchReference> ready) {
+    if (!ready.isEmpty()) {
+      referencesBatcher.withReferences(ready.toArray(new BatchReference[0]));
+    }
+  }
+
+  /**
+   * Id of the source object of a "weaviate://localhost/{className}/{id}/{property}" beacon.
+   */
+  static String fromId(String beacon) {
+    String[] segments = segments(beacon);
+    return segments != null && segments.length >= 2 ? segments[segments.length - 2] : null;
+  }
+
+  /**
+   * Id of the target object of a "weaviate://localhost[/{className}]/{id}" beacon.
+   */
+  static String toId(String beacon) {
+    String[] segments = segments(beacon);
+    return segments != null && segments.length >= 1 ? segments[segments.length - 1] : null;
+  }
+
+  /**
+   * Ids are matched case insensitively, as the server returns them in lowercase whatever case they were sent in.
+   */
+  private static String normalize(String id) {
+    return id != null ? id.toLowerCase(Locale.ROOT) : null;
+  }
+
+  private static String[] segments(String beacon) {
+    if (beacon == null || !beacon.startsWith(BEACON_PREFIX)) {
+      return null;
+    }
+    return beacon.substring(BEACON_PREFIX.length()).split("/");
+  }
+
+  private static class ParkedReference {
+    private final BatchReference reference;
+    private int missingEndpoints;
+    private boolean unresolved;
+
+    private ParkedReference(BatchReference reference) {
+      this.reference = reference;
+    }
+  }
+}
@@ -0,0 +1,104 @@
+package io.weaviate.client.v1.batch.api;
+
+import com.google.gson.stream.JsonWriter;
+import io.weaviate.client.Config;
+import io.weaviate.client.base.BaseClient;
+import io.weaviate.client.base.ClientResult;
+import io.weaviate.client.base.Response;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.cache.CacheInvalidator;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.batch.util.ObjectsPath;
+import io.weaviate.client.v1.mapping.WeaviateCodec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Creates objects of a mapped class in a single batch request. The request body is written straight from
+ * the instances by their generated codec, without building WeaviateObjects or property maps.
+ */
+public class MappedObjectsCreator<T> extends BaseClient<ObjectGetResponse[]> implements ClientResult<ObjectGetResponse[]> {
+
+  private final ObjectsPath objectsPath;
+  private final CacheInvalidator cacheInvalidator;
+  private final WeaviateCodec<T> codec;
+  private final List<T> objects = new ArrayList<>();
+  private String consistencyLevel;
+
+  public MappedObjectsCreator(HttpClient httpClient, Config config, ObjectsPath objectsPath, WeaviateCodec<T> codec,
+                              CacheInvalidator cacheInvalidator) {
+    super(httpClient, config);
+    this.objectsPath = objectsPath;
+    this.codec = codec;
+    this.cacheInvalidator = cacheInvalidator;
+  }
+
+  @SafeVarargs
+  public final MappedObjectsCreator<T> withObjects(T... objects) {
+    return withObjects(Arrays.asList(objects));
+  }
+
+  public MappedObjectsCreator<T> withObjects(Collection<T> objects) {
+    this.objects.addAll(objects);
+    return this;
+  }
+
+  public MappedObjectsCreator<T> withConsistencyLevel(String consistencyLevel) {
+    this.consistencyLevel = consistencyLevel;
+    return this;
+  }
+
+  @Override
+  public Result<ObjectGetResponse[]> run() {
+    if (objects.isEmpty()) {
+      return new Result<>(0, new ObjectGetResponse[0], null);
+    }
+    ByteArrayOutputStream body = new ByteArrayOutputStream(objects.size() * 256);
+    long start = System.nanoTime();
+    try {
+      write(body);
+    } catch (IOException | RuntimeException e) {
+      WeaviateErrorMessage error = WeaviateErrorMessage.builder()
+        .message(String.format("could not serialize %s objects: %s", codec.className(), e.getMessage()))
+        .throwable(e)
+        .build();
+      return new Result<>(0, null, WeaviateErrorResponse.builder().error(Collections.singletonList(error)).build());
+    }
+    long serializeNanos = System.nanoTime() - start;
+
+    String path = objectsPath.buildCreate(ObjectsPath.Params.builder()
+      .consistencyLevel(consistencyLevel)
+      .build());
+    byte[] json = body.toByteArray();
+    Response<ObjectGetResponse[]> resp = sendPostRequest(path, json, json.length, ObjectGetResponse[].class,
+      serializeNanos);
+    if (cacheInvalidator != null) {
+      cacheInvalidator.invalidateClass(codec.className());
+    }
+    return new Result<>(resp);
+  }
+
+  private void write(ByteArrayOutputStream body) throws IOException {
+    JsonWriter out = new JsonWriter(new OutputStreamWriter(body, StandardCharsets.UTF_8));
+    out.setHtmlSafe(false);
+    out.beginObject();
+    out.name("fields").beginArray().value("ALL").endArray();
+    out.name("objects").beginArray();
+    for (T object : objects) {
+      codec.write(out, object);
+    }
+    out.endArray();
+    out.endObject();
+    out.flush();
+  }
+}
@@ -10,12 +10,14 @@ import io.weaviate.client.base.BaseClient;
 import io.weaviate.client.base.ClientResult;
 import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
+import io.weaviate.client.base.cache.CacheInvalidator;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.v1.filters.WhereFilter;
 
 public class ObjectsBatchDeleter extends BaseClient<BatchDeleteResponse> implements ClientResult<BatchDeleteResponse> {
 
     private final ObjectsPath objectsPath;
+    private final CacheInvalidator cacheInvalidator;
     private String className;
     private String consistencyLevel;
     private WhereFilter where;
@@ -24,8 +26,14 @@ public class ObjectsBatchDeleter extends BaseClient<BatchDeleteResponse> impleme
 
 
     public ObjectsBatchDeleter(HttpClient httpClient, Config config, ObjectsPath objectsPath) {
+        this(httpClient, config, objectsPath, null);
+    }
+
+    public ObjectsBatchDeleter(HttpClient httpClient, Config config, ObjectsPath objectsPath,
+                               CacheInvalidator cacheInvalidator) {
         super(httpClient, config);
         this.objectsPath = objectsPath;
+        this.cacheInvalidator = cacheInvalidator;
     }
 
 
@@ -70,6 +78,9 @@ public class ObjectsBatchDeleter extends BaseClient<BatchDeleteResponse> impleme
             .consistencyLevel(consistencyLevel)
             .build());
         Response<BatchDeleteResponse> resp = sendDeleteRequest(path, batchDelete, BatchDeleteResponse.class);
+        if (cacheInvalidator != null && !Boolean.TRUE.equals(dryRun)) {
+            cacheInvalidator.invalidateClass(className);
+        }
         return new Result<>(resp);
     }
 
@@ -0,0 +1,373 @@
+package io.weaviate.client.v1.batch.api;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.concurrent.ClientExecutors;
+import io.weaviate.client.v1.data.Data;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.client.v1.filters.Operator;
+import io.weaviate.client.v1.filters.WhereFilter;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.query.Get;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.tuple.Pair;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Checks which objects of a timed out batch were nevertheless created, fetching them
+ * in bulk with GraphQL Get queries filtering on ids, instead of one request per object.
+ */
+class ObjectsBatchVerifier {
+
+  static final int CHUNK_SIZE = 100;
+  static final int PARALLELISM = 4;
+  // floats are stored as float32, numbers may come back with a rounding difference
+  private static final double NUMBER_TOLERANCE = 1e-6;
+  private static final Object LEAF = new Object();
+
+  private final Supplier<Get> getFactory;
+  private final Data data;
+  private final ClientExecutors executors;
+  private final int chunkSize;
+  private final int parallelism;
+
+  ObjectsBatchVerifier(Supplier<Get> getFactory, Data data, ClientExecutors executors) {
+    this(getFactory, data, executors, CHUNK_SIZE, PARALLELISM);
+  }
+
+  ObjectsBatchVerifier(Supplier<Get> getFactory, Data data, ClientExecutors executors, int chunkSize,
+                       int parallelism) {
+    this.getFactory = getFactory;
+    this.data = data;
+    this.executors = executors;
+    this.chunkSize = chunkSize;
+    this.parallelism = parallelism;
+  }
+
+  /**
+   * @return objects found in Weaviate identical to the batch ones (left) and batch objects to be sent again (right)
+   */
+  Pair<List<WeaviateObject>, List<WeaviateObject>> verify(List<WeaviateObject> batch, String consistencyLevel) {
+    List<List<WeaviateObject>> chunks = new ArrayList<>();
+    // objects without class can not be queried, they are sent again like the ones not found
+    List<WeaviateObject> unverifiable = batch.stream()
+      .filter(object -> object.getClassName() == null)
+      .collect(Collectors.toList());
+    batch.stream()
+      .filter(object -> object.getClassName() != null)
+      .collect(Collectors.groupingBy(WeaviateObject::getClassName, LinkedHashMap::new, Collectors.toList()))
+      .values()
+      .forEach(objects -> {
+        for (int i = 0; i < objects.size(); i += chunkSize) {
+          chunks.add(objects.subList(i, Math.min(objects.size(), i + chunkSize)));
+        }
+      });
+
+    List<Pair<List<WeaviateObject>, List<WeaviateObject>>> verified;
+    if (chunks.size() == 1 || parallelism == 1) {
+      verified = chunks.stream().map(chunk -> verifyChunk(chunk, consistencyLevel)).collect(Collectors.toList());
+    } else {
+      ExecutorService executor = executors.bounded(Math.min(parallelism, chunks.size()));
+      try {
+        List<CompletableFuture<Pair<List<WeaviateObject>, List<WeaviateObject>>>> futures = chunks.stream()
+          .map(chunk -> CompletableFuture.supplyAsync(() -> verifyChunk(chunk, consistencyLevel), executor))
+          .collect(Collectors.toList());
+        verified = futures.stream().map(CompletableFuture::join).collect(Collectors.toList());
+      } finally {
+        executor.shutdownNow();
+      }
+    }
+
+    List<WeaviateObject> created = new ArrayList<>(batch.size());
+    List<WeaviateObject> rerun = new ArrayList<>(unverifiable);
+    verified.forEach(pair -> {
+      created.addAll(pair.getLeft());
+      rerun.addAll(pair.getRight());
+    });
+    return Pair.of(created, rerun);
+  }
+
+  private Pair<List<WeaviateObject>, List<WeaviateObject>> verifyChunk(List<WeaviateObject> chunk, String consistencyLevel) {
+    Map<String, WeaviateObject> existing = fetchExisting(chunk, consistencyLevel);
+    if (existing == null) {
+      existing = fetchExistingOneByOne(chunk);
+    }
+
+    List<WeaviateObject> created = new ArrayList<>(chunk.size());
+    List<WeaviateObject> rerun = new ArrayList<>();
+    for (WeaviateObject batchObject : chunk) {
+      WeaviateObject existingObject = existing.get(batchObject.getId());
+      if (existingObject == null || !isSameObject(batchObject, existingObject)) {
+        rerun.add(batchObject);
+      } else {
+        created.add(existingObject);
+      }
+    }
+    return Pair.of(created, rerun);
+  }
+
+  /**
+   * @return existing objects by id, null if the query failed
+   */
+  @SuppressWarnings("unchecked")
+  private Map<String, WeaviateObject> fetchExisting(List<WeaviateObject> chunk, String consistencyLevel) {
+    String className = chunk.get(0).getClassName();
+    String[] ids = chunk.stream().map(WeaviateObject::getId).toArray(String[]::new);
+
+    Field[] fields = ArrayUtils.add(propertyFields(chunk), Field.builder()
+      .name("_additional")
+      .fields(field("id"), field("vector"), field("creationTimeUnix"), field("lastUpdateTimeUnix"))
+      .build());
+    Get get = getFactory.get()
+      .withClassName(className)
+      .withFields(fields)
+      .withWhere(WhereFilter.builder()
+        .path(new String[]{"id"})
+        .operator(Operator.ContainsAny)
+        .valueTextArray(ids)
+        .build())
+      .withLimit(ids.length);
+    if (consistencyLevel != null) {
+      get.withConsistencyLevel(consistencyLevel);
+    }
+
+    Result<GraphQLResponse> result = get.run();
+    if (result.hasErrors() || result.getResult() == null || ArrayUtils.isNotEmpty(result.getResult().getErrors())) {
+      return null;
+    }
+
+    Map<String, WeaviateObject> existing = new HashMap<>();
+    Object getData = result.getResult().getData() instanceof Map
+      ? ((Map<String, Object>) result.getResult().getData()).get("Get")
+      : null;
+    Object objects = getData instanceof Map
+      ? ((Map<String, Object>) getData).values().stream().findFirst().orElse(null)
+      : null;
+    if (objects instanceof List) {
+      for (Object item : (List<Object>) objects) {
+        WeaviateObject object = toObject(className, (Map<String, Object>) item);
+        existing.put(object.getId(), object);
+      }
+    }
+    return existing;
+  }
+
+  /**
+   * Fallback for Weaviate versions not supporting id filters with ContainsAny.
+   */
+  private Map<String, WeaviateObject> fetchExistingOneByOne(List<WeaviateObject> chunk) {
+    Map<String, WeaviateObject> existing = new HashMap<>();
+    if (data == null) {
+      return existing;
+    }
+    for (WeaviateObject batchObject : chunk) {
+      Result<List<WeaviateObject>> result = data.objectsGetter()
+        .withID(batchObject.getId())
+        .withClassName(batchObject.getClassName())
+        .withVector()
+        .run();
+      if (!result.hasErrors() && ObjectUtils.isNotEmpty(result.getResult())) {
+        existing.put(batchObject.getId(), result.getResult().get(0));
+      }
+    }
+    return existing;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static WeaviateObject toObject(String className, Map<String, Object> item) {
+    Map<String, Object> additional = item.get("_additional") instanceof Map
+      ? (Map<String, Object>) item.get("_additional")
+      : new HashMap<>();
+    Map<String, Object> properties = new LinkedHashMap<>(item);
+    properties.remove("_additional");
+
+    Float[] vector = null;
+    if (additional.get("vector") instanceof List) {
+      vector = ((List<Object>) additional.get("vector")).stream()
+        .map(v -> ((Number) v).floatValue())
+        .toArray(Float[]::new);
+    }
+    return WeaviateObject.builder()
+      .id((String) additional.get("id"))
+      .className(className)
+      .properties(properties)
+      .vector(vector)
+      .creationTimeUnix(toLong(additional.get("creationTimeUnix")))
+      .lastUpdateTimeUnix(toLong(additional.get("lastUpdateTimeUnix")))
+      .build();
+  }
+
+  private static Long toLong(Object value) {
+    if (value instanceof Number) {
+      return ((Number) value).longValue();
+    }
+    if (value instanceof String) {
+      try {
+        return Long.parseLong((String) value);
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  static boolean isSameObject(WeaviateObject batchObject, WeaviateObject existingObject) {
+    // a missing vector is generated by a vectorizer and can not be compared
+    if (batchObject.getVector() != null && !isSame(batchObject.getVector(), existingObject.getVector())) {
+      return false;
+    }
+    if (batchObject.getProperties() == null) {
+      return true;
+    }
+    return isSame(batchObject.getProperties(), existingObject.getProperties() != null
+      ? existingObject.getProperties()
+      : new HashMap<>());
+  }
+
+  /**
+   * Compares a value sent in a batch with its counterpart read back from Weaviate,
+   * e.g. numbers regardless of their type, arrays and lists element by element.
+   */
+  static boolean isSame(Object expected, Object actual) {
+    if (expected == null || isReference(expected)) {
+      // nulls are not stored, references are not fetched
+      return true;
+    }
+    if (actual == null) {
+      return false;
+    }
+    if (expected instanceof Number && actual instanceof Number) {
+      double e = ((Number) expected).doubleValue();
+      double a = ((Number) actual).doubleValue();
+      return Math.abs(e - a) <= NUMBER_TOLERANCE * Math.max(1, Math.abs(e));
+    }
+    if (expected instanceof Map) {
+      if (!(actual instanceof Map)) {
+        return false;
+      }
+      Map<?, ?> actualMap = (Map<?, ?>) actual;
+      return ((Map<?, ?>) expected).entrySet().stream()
+        .allMatch(entry -> isSame(entry.getValue(), actualMap.get(String.valueOf(entry.getKey()))));
+    }
+    List<Object> expectedItems = toList(expected);
+    if (expectedItems != null) {
+      List<Object> actualItems = toList(actual);
+      if (actualItems == null || actualItems.size() != expectedItems.size()) {
+        return false;
+      }
+      for (int i = 0; i < expectedItems.size(); i++) {
+        if (!isSame(expectedItems.get(i), actualItems.get(i))) {
+          return false;
+        }
+      }
+      return true;
+    }
+    if (expected instanceof String || expected instanceof Boolean) {
+      return expected.equals(actual);
+    }
+    // other objects (e.g. beans) are not fetched
+    return true;
+  }
+
+  private static List<Object> toList(Object value) {
+    if (value instanceof Collection) {
+      return new ArrayList<>((Collection<?>) value);
+    }
+    if (value != null && value.getClass().isArray()) {
+      int length = Array.getLength(value);
+      List<Object> items = new ArrayList<>(length);
+      for (int i = 0; i < length; i++) {
+        items.add(Array.get(value, i));
+      }
+      return items;
+    }
+    return null;
+  }
+
+  private static boolean isReference(Object value) {
+    List<Object> items = toList(value);
+    return items != null && !items.isEmpty()
+      && items.get(0) instanceof Map && ((Map<?, ?>) items.get(0)).containsKey("beacon");
+  }
+
+  /**
+   * Selects all properties set on the objects, including nested ones. References are skipped.
+   */
+  static Field[] propertyFields(List<WeaviateObject> objects) {
+    Map<String, Object> shape = new LinkedHashMap<>();
+    objects.stream()
+      .filter(o -> o.getProperties() != null)
+      .forEach(o -> mergeShape(shape, o.getProperties()));
+    return toFields(shape);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void mergeShape(Map<String, Object> shape, Map<?, ?> properties) {
+    properties.forEach((key, value) -> {
+      if (value == null || isReference(value)) {
+        return;
+      }
+      String name = String.valueOf(key);
+      Map<?, ?> nested = nestedMap(value);
+      if (nested == null) {
+        if (!shape.containsKey(name) && isSelectable(value)) {
+          shape.put(name, LEAF);
+        }
+        return;
+      }
+      Object existing = shape.get(name);
+      Map<String, Object> nestedShape = existing instanceof Map ? (Map<String, Object>) existing : new LinkedHashMap<>();
+      shape.put(name, nestedShape);
+      List<Object> items = toList(value);
+      if (items != null) {
+        items.stream().filter(item -> item instanceof Map).forEach(item -> mergeShape(nestedShape, (Map<?, ?>) item));
+      } else {
+        mergeShape(nestedShape, nested);
+      }
+    });
+  }
+
+  /**
+   * @return the map, or the first map of a list of maps, null for scalar values
+   */
+  private static Map<?, ?> nestedMap(Object value) {
+    if (value instanceof Map) {
+      return (Map<?, ?>) value;
+    }
+    List<Object> items = toList(value);
+    if (items != null && !items.isEmpty() && items.get(0) instanceof Map) {
+      return (Map<?, ?>) items.get(0);
+    }
+    return null;
+  }
+
+  private static boolean isSelectable(Object value) {
+    return value instanceof String || value instanceof Number || value instanceof Boolean || toList(value) != null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Field[] toFields(Map<String, Object> shape) {
+    return shape.entrySet().stream()
+      .filter(entry -> !(entry.getValue() instanceof Map) || !((Map<?, ?>) entry.getValue()).isEmpty())
+      .map(entry -> entry.getValue() instanceof Map
+        ? Field.builder().name(entry.getKey()).fields(toFields((Map<String, Object>) entry.getValue())).build()
+        : field(entry.getKey()))
+      .toArray(Field[]::new);
+  }
+
+  private static Field field(String name) {
+    return Field.builder().name(name).build();
+  }
+}
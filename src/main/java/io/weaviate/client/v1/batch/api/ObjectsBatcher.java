@@ -1,7 +1,16 @@
 package io.weaviate.client.v1.batch.api;
 
+import io.weaviate.client.v1.batch.metrics.BatchMetricsListener;
+import io.weaviate.client.v1.batch.metrics.RetryCause;
+import io.weaviate.client.v1.batch.model.FailedBatchObject;
 import io.weaviate.client.v1.batch.model.ObjectGetResponse;
 import io.weaviate.client.v1.batch.model.ObjectsBatchRequestBody;
+import io.weaviate.client.v1.batch.spool.BatchSpool;
+import io.weaviate.client.v1.batch.spool.SpoolConfig;
+import io.weaviate.client.v1.batch.spool.SpoolRecord;
+import io.weaviate.client.v1.batch.util.BatchFailures;
+import io.weaviate.client.v1.batch.util.JsonBufferPool;
+import io.weaviate.client.v1.batch.util.ObjectSizeEstimator;
 import io.weaviate.client.v1.batch.util.ObjectsPath;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -16,29 +25,47 @@ import io.weaviate.client.base.BaseClient;
 import io.weaviate.client.base.ClientResult;
 import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
+import io.weaviate.client.base.Serializer;
 import io.weaviate.client.base.WeaviateErrorMessage;
 import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.cache.CacheInvalidator;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.util.Assert;
 import io.weaviate.client.v1.data.Data;
 import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.client.v1.graphql.query.Get;
 
 import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.net.ConnectException;
 import java.net.SocketTimeoutException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -46,53 +73,119 @@ import java.util.stream.Stream;
 public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
   implements ClientResult<ObjectGetResponse[]>, Closeable {
 
-  private final Data data;
+  private static final long MIN_LINGER_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+  private static final int BUFFER_RETAINED_BYTES = 16 * 1024 * 1024;
+
+  private final ObjectsBatchVerifier verifier;
   private final ObjectsPath objectsPath;
+  private final CacheInvalidator cacheInvalidator;
 
   private final BatchRetriesConfig batchRetriesConfig;
   private final AutoBatchConfig autoBatchConfig;
   private final boolean autoRunEnabled;
-  private final ScheduledExecutorService executorService;
+  private final BatchExecutor executorService;
   private final DelayedExecutor<?> delayedExecutor;
-  private final List<WeaviateObject> objects;
+  private volatile ScheduledFuture<?> lingerFlush;
+  private final BatchQueue<WeaviateObject> objects;
   private String consistencyLevel;
   private final List<CompletableFuture<Result<ObjectGetResponse[]>>> undoneFutures;
+  private final Backpressure<WeaviateObject> backpressure;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final AdaptiveBatchTuner tuner;
+  private final BatchSpool spool;
+  // sequences of the objects queued, per instance in the order it was added; guarded by itself
+  private final Map<WeaviateObject, Deque<Long>> spooledSequences;
+  private final Serializer spoolSerializer;
+  private final Map<Object, CompletableFuture<?>> lastBatchByKey;
+  private final BatchMetricsListener metrics;
+  private final JsonBufferPool bufferPool;
+  private final ExecutorService encoder;
+  private final Serializer batchSerializer;
 
 
   private ObjectsBatcher(HttpClient httpClient, Config config, Data data, ObjectsPath objectsPath,
-                         BatchRetriesConfig batchRetriesConfig, AutoBatchConfig autoBatchConfig) {
+                         BatchRetriesConfig batchRetriesConfig, AutoBatchConfig autoBatchConfig,
+                         CacheInvalidator cacheInvalidator) {
     super(httpClient, config);
-    this.data = data;
+    this.verifier = new ObjectsBatchVerifier(() -> new Get(httpClient, config), data, config.getExecutors());
     this.objectsPath = objectsPath;
-    this.objects = new ArrayList<>();
+    this.cacheInvalidator = cacheInvalidator;
     this.batchRetriesConfig = batchRetriesConfig;
 
     if (autoBatchConfig != null) {
+      this.objects = new BatchQueue<>(ObjectSizeEstimator::estimate, autoBatchConfig.maxBatchBytes,
+        autoBatchConfig.coalesceById ? ObjectsBatcher::coalescingKey : null);
       this.autoRunEnabled = true;
       this.autoBatchConfig = autoBatchConfig;
-      this.executorService = Executors.newScheduledThreadPool(autoBatchConfig.poolSize);
+      this.executorService = BatchExecutor.create(config.getExecutors(), autoBatchConfig.poolSize,
+        autoBatchConfig.virtualThreads, "weaviate-objects-batcher");
       this.delayedExecutor = new ExecutorServiceDelayedExecutor(executorService);
       this.undoneFutures = Collections.synchronizedList(new ArrayList<>());
+      this.backpressure = autoBatchConfig.maxPendingBatches > 0
+        ? new Backpressure<>(autoBatchConfig.backpressurePolicy, autoBatchConfig.backpressureTimeoutMs,
+            autoBatchConfig.backpressureCallback)
+        : null;
+      this.tuner = autoBatchConfig.adaptive
+        ? new AdaptiveBatchTuner(autoBatchConfig.batchSize, autoBatchConfig.minBatchSize,
+            autoBatchConfig.maxBatchSize, autoBatchConfig.poolSize)
+        : null;
+      this.spool = autoBatchConfig.spool != null ? openSpool(autoBatchConfig.spool) : null;
+      this.lastBatchByKey = autoBatchConfig.orderedById ? new ConcurrentHashMap<>() : null;
+      this.metrics = autoBatchConfig.metricsListener;
+      this.bufferPool = autoBatchConfig.preSerialize
+        ? new JsonBufferPool(autoBatchConfig.poolSize + 1, BUFFER_RETAINED_BYTES)
+        : null;
+      // a stage of its own, so batches are encoded while earlier ones are being sent
+      this.encoder = autoBatchConfig.preSerialize ? config.getExecutors().bounded(autoBatchConfig.poolSize) : null;
     } else {
+      this.objects = new BatchQueue<>();
       this.autoRunEnabled = false;
       this.autoBatchConfig = null;
       this.executorService = null;
       this.delayedExecutor = new SleepDelayedExecutor();
       this.undoneFutures = null;
+      this.backpressure = null;
+      this.tuner = null;
+      this.spool = null;
+      this.lastBatchByKey = null;
+      this.metrics = null;
+      this.bufferPool = null;
+      this.encoder = null;
+    }
+    this.batchSerializer = bufferPool != null ? new Serializer() : null;
+    this.spooledSequences = spool != null ? new IdentityHashMap<>() : null;
+    this.spoolSerializer = spool != null ? new Serializer() : null;
+
+    if (autoRunEnabled && autoBatchConfig.lingerMs > 0) {
+      scheduleLingerFlush(TimeUnit.MILLISECONDS.toNanos(autoBatchConfig.lingerMs));
+    }
+    if (spool != null) {
+      replaySpool();
     }
   }
 
   public static ObjectsBatcher create(HttpClient httpClient, Config config, Data data, ObjectsPath objectsPath,
                                       BatchRetriesConfig batchRetriesConfig) {
+    return create(httpClient, config, data, objectsPath, batchRetriesConfig, null);
+  }
+
+  public static ObjectsBatcher create(HttpClient httpClient, Config config, Data data, ObjectsPath objectsPath,
+                                      BatchRetriesConfig batchRetriesConfig, CacheInvalidator cacheInvalidator) {
     Assert.requiredNotNull(batchRetriesConfig, "batchRetriesConfig");
-    return new ObjectsBatcher(httpClient, config, data, objectsPath, batchRetriesConfig, null);
+    return new ObjectsBatcher(httpClient, config, data, objectsPath, batchRetriesConfig, null, cacheInvalidator);
   }
 
   public static ObjectsBatcher createAuto(HttpClient httpClient, Config config, Data data, ObjectsPath objectsPath,
                                           BatchRetriesConfig batchRetriesConfig, AutoBatchConfig autoBatchConfig) {
+    return createAuto(httpClient, config, data, objectsPath, batchRetriesConfig, autoBatchConfig, null);
+  }
+
+  public static ObjectsBatcher createAuto(HttpClient httpClient, Config config, Data data, ObjectsPath objectsPath,
+                                          BatchRetriesConfig batchRetriesConfig, AutoBatchConfig autoBatchConfig,
+                                          CacheInvalidator cacheInvalidator) {
     Assert.requiredNotNull(batchRetriesConfig, "batchRetriesConfig");
     Assert.requiredNotNull(autoBatchConfig, "autoBatchConfig");
-    return new ObjectsBatcher(httpClient, config, data, objectsPath, batchRetriesConfig, autoBatchConfig);
+    return new ObjectsBatcher(httpClient, config, data, objectsPath, batchRetriesConfig, autoBatchConfig, cacheInvalidator);
   }
 
 
@@ -102,7 +195,17 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
 
   public ObjectsBatcher withObjects(WeaviateObject... objects) {
     addMissingIds(objects);
-    this.objects.addAll(Arrays.asList(objects));
+    if (backpressure != null && !backpressure.admit(objects, this::isBackedUp)) {
+      return this;
+    }
+    if (spool != null) {
+      appendToSpool(objects);
+    }
+    this.objects.addAll(objects, spool != null ? this::acknowledgeSuperseded : null);
+    if (metrics != null) {
+      metrics.onSubmitted(objects.length, Arrays.stream(objects).mapToLong(ObjectSizeEstimator::estimate).sum(),
+        this.objects.size());
+    }
     autoRun();
     return this;
   }
@@ -112,6 +215,13 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
     return this;
   }
 
+  /**
+   * Batch size and concurrency currently chosen in adaptive mode, null if the batcher is not adaptive.
+   */
+  public AdaptiveBatchTuner tuner() {
+    return tuner;
+  }
+
   @Override
   public Result<ObjectGetResponse[]> run() {
     if (autoRunEnabled) {
@@ -119,12 +229,13 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
       return null;
     }
 
-    if (objects.isEmpty()) {
+    List<WeaviateObject> batch = new ArrayList<>(objects.size());
+    objects.drainAll(Integer.MAX_VALUE, batch::addAll);
+    if (batch.isEmpty()) {
       return new Result<>(0, new ObjectGetResponse[0], null);
     }
 
-    List<WeaviateObject> batch = extractBatch(objects.size());
-    return runRecursively(batch, 0, 0, null,
+    return runRecursively(batch, null, 0, 0, 0, null,
       (DelayedExecutor<Result<ObjectGetResponse[]>>) delayedExecutor);
   }
 
@@ -134,10 +245,7 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
       return;
     }
 
-    if (!objects.isEmpty()) {
-      List<WeaviateObject> batch = extractBatch(objects.size());
-      runInThread(batch);
-    }
+    objects.drainAll(currentBatchSize(), this::runInThread);
 
     CompletableFuture<?>[] futures = undoneFutures.toArray(new CompletableFuture[0]);
     if (futures.length == 0) {
@@ -153,13 +261,21 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
       return;
     }
 
-    executorService.shutdown();
-    try {
-      if (!executorService.awaitTermination(autoBatchConfig.awaitTerminationMs, TimeUnit.MILLISECONDS)) {
-        executorService.shutdownNow();
+    ScheduledFuture<?> pendingLingerFlush = lingerFlush;
+    if (pendingLingerFlush != null) {
+      pendingLingerFlush.cancel(false);
+    }
+    if (encoder != null) {
+      // batches being encoded are still sent
+      encoder.shutdown();
+    }
+    executorService.close(autoBatchConfig.awaitTerminationMs);
+    if (spool != null) {
+      try {
+        spool.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
       }
-    } catch (InterruptedException e) {
-      executorService.shutdownNow();
     }
   }
 
@@ -170,14 +286,118 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
       .forEach(o -> o.setId(UUID.randomUUID().toString()));
   }
 
-  private List<WeaviateObject> extractBatch(int batchSize) {
-    List<WeaviateObject> batch = new ArrayList<>(batchSize);
-    List<WeaviateObject> sublist = objects.subList(0, batchSize);
+  private static BatchSpool openSpool(SpoolConfig spoolConfig) {
+    try {
+      return BatchSpool.open(spoolConfig);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void replaySpool() {
+    List<SpoolRecord> records = spool.recovered();
+    if (records.isEmpty()) {
+      return;
+    }
+    WeaviateObject[] replayed = new WeaviateObject[records.size()];
+    for (int i = 0; i < replayed.length; i++) {
+      SpoolRecord record = records.get(i);
+      replayed[i] = spoolSerializer.toResponse(new String(record.getPayload(), StandardCharsets.UTF_8), WeaviateObject.class);
+      addSpooledSequence(replayed[i], record.getSequence());
+    }
+    objects.addAll(replayed, this::acknowledgeSuperseded);
+    autoRun();
+  }
+
+  private void appendToSpool(WeaviateObject[] objects) {
+    // objects are on disk before withObjects returns
+    try {
+      for (WeaviateObject object : objects) {
+        long sequence = spool.append(spoolSerializer.toJsonString(object).getBytes(StandardCharsets.UTF_8));
+        addSpooledSequence(object, sequence);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void acknowledgeSuperseded(WeaviateObject object) {
+    // the newer version is spooled as well, so the older one is not needed anymore
+    Long sequence = takeSpooledSequence(object);
+    if (sequence != null) {
+      try {
+        spool.acknowledge(Collections.singletonList(sequence));
+      } catch (IOException e) {
+        // checkpoint stays behind, the older version may be sent once more after restart
+      }
+    }
+  }
+
+  private static Object coalescingKey(WeaviateObject object) {
+    return Arrays.asList(object.getClassName(), object.getId());
+  }
 
-    batch.addAll(sublist);
-    sublist.clear();
+  private void acknowledgeSpooled(List<WeaviateObject> batch, Result<ObjectGetResponse[]> result) {
+    // dead-lettered objects are acknowledged already, objects the server did not confirm are left
+    // unacknowledged in the spool and sent again after restart
+    Set<String> stored = new HashSet<>();
+    if (result != null && result.getResult() != null) {
+      for (ObjectGetResponse response : result.getResult()) {
+        if (response.getResult() == null || response.getResult().getErrors() == null) {
+          stored.add(response.getId());
+        }
+      }
+    }
+    List<WeaviateObject> confirmed = new ArrayList<>();
+    for (WeaviateObject object : batch) {
+      if (stored.contains(object.getId())) {
+        confirmed.add(object);
+      } else {
+        takeSpooledSequence(object);
+      }
+    }
+    acknowledgeSpooled(confirmed);
+  }
 
-    return batch;
+  private void addSpooledSequence(WeaviateObject object, long sequence) {
+    synchronized (spooledSequences) {
+      spooledSequences.computeIfAbsent(object, o -> new ArrayDeque<>()).add(sequence);
+    }
+  }
+
+  /**
+   * Sequence of the earliest added occurrence of the object not acknowledged yet, null if there is none.
+   */
+  private Long takeSpooledSequence(WeaviateObject object) {
+    synchronized (spooledSequences) {
+      Deque<Long> sequences = spooledSequences.get(object);
+      if (sequences == null) {
+        return null;
+      }
+      Long sequence = sequences.poll();
+      if (sequences.isEmpty()) {
+        spooledSequences.remove(object);
+      }
+      return sequence;
+    }
+  }
+
+  private void acknowledgeSpooled(List<WeaviateObject> objects) {
+    List<Long> sequences = new ArrayList<>(objects.size());
+    for (WeaviateObject object : objects) {
+      Long sequence = takeSpooledSequence(object);
+      if (sequence != null) {
+        sequences.add(sequence);
+      }
+    }
+    if (sequences.isEmpty()) {
+      return;
+    }
+    try {
+      spool.acknowledge(sequences);
+    } catch (IOException e) {
+      // checkpoint stays behind, confirmed objects may be sent once more after restart
+    }
   }
 
   private void autoRun() {
@@ -185,17 +405,60 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
       return;
     }
 
-    while (objects.size() >= autoBatchConfig.batchSize) {
-      List<WeaviateObject> batch = extractBatch(autoBatchConfig.batchSize);
-      runInThread(batch);
+    objects.drainFull(this::currentBatchSize, this::hasCapacity, this::runInThread);
+  }
+
+  private void flushLingering() {
+    long lingerNanos = TimeUnit.MILLISECONDS.toNanos(autoBatchConfig.lingerMs);
+    long untilNext = objects.drainLingering(lingerNanos, this::currentBatchSize, this::hasCapacity, this::runInThread);
+    // an empty queue is checked a few times per linger period
+    scheduleLingerFlush(untilNext < 0 ? lingerNanos / 4 : untilNext);
+  }
+
+  private void scheduleLingerFlush(long delayNanos) {
+    if (executorService.isShutdown()) {
+      return;
+    }
+    try {
+      lingerFlush = executorService.schedule(this::flushLingering,
+        Math.max(delayNanos, MIN_LINGER_CHECK_NANOS), TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException e) {
+      // batcher was closed meanwhile
     }
   }
 
+  private int currentBatchSize() {
+    return tuner != null ? tuner.getBatchSize() : autoBatchConfig.batchSize;
+  }
+
+  private boolean hasCapacity() {
+    int pending = inFlight.get();
+    return (tuner == null || pending < tuner.getConcurrency())
+      && (autoBatchConfig.maxPendingBatches == 0 || pending < autoBatchConfig.maxPendingBatches);
+  }
+
+  private boolean isBackedUp() {
+    return objects.isFull(currentBatchSize()) && !hasCapacity();
+  }
+
   private void runInThread(List<WeaviateObject> batch) {
-    CompletableFuture<Result<ObjectGetResponse[]>> future = CompletableFuture.supplyAsync(
-      () -> createRunFuture(batch),
-      executorService
-    ).thenCompose(f -> f);
+    int pending = inFlight.incrementAndGet();
+    long startedAt = System.nanoTime();
+    if (metrics != null) {
+      metrics.onBatchStarted(batch.size(), pending);
+    }
+    // encoded on the workers, not by the producer or the linger timer cutting the batch under the drain lock
+    CompletableFuture<EncodedBatch> encoding = encoder != null
+      ? CompletableFuture.supplyAsync(() -> encode(batch), encoder)
+      : CompletableFuture.completedFuture(null);
+    CompletableFuture<Result<ObjectGetResponse[]>> future;
+    if (lastBatchByKey != null) {
+      future = previousBatchesOf(batch).thenCombine(encoding, (ignored, encoded) -> encoded)
+        .thenComposeAsync(encoded -> createRunFuture(batch, encoded), executorService);
+      registerOrdered(batch, future);
+    } else {
+      future = encoding.thenComposeAsync(encoded -> createRunFuture(batch, encoded), executorService);
+    }
 
     if (autoBatchConfig.callback != null) {
       future = future.whenComplete((result, e) -> autoBatchConfig.callback.accept(result));
@@ -203,127 +466,264 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
 
     CompletableFuture<Result<ObjectGetResponse[]>> undoneFuture = future;
     undoneFutures.add(undoneFuture);
-    undoneFuture.whenComplete((result, ex) -> undoneFutures.remove(undoneFuture));
+    undoneFuture.whenComplete((result, ex) -> {
+      if (spool != null) {
+        acknowledgeSpooled(batch, result);
+      }
+      undoneFutures.remove(undoneFuture);
+      encoding.thenAccept(encoded -> {
+        if (encoded != null) {
+          bufferPool.release(encoded.buffer);
+        }
+      });
+      int stillPending = inFlight.decrementAndGet();
+      if (metrics != null) {
+        metrics.onBatchCompleted(batch.size(), System.nanoTime() - startedAt, stillPending);
+      }
+      // batches held back by the concurrency or pending batches limit can be sent now
+      autoRun();
+      if (backpressure != null) {
+        backpressure.release();
+      }
+    });
   }
 
-  private CompletableFuture<Result<ObjectGetResponse[]>> createRunFuture(List<WeaviateObject> batch) {
-    return runRecursively(batch, 0, 0, null,
+  /**
+   * Completes once all sent batches sharing objects with the given batch are done.
+   * Batches are cut under the queue's drain lock, so they are registered in submission order.
+   */
+  private CompletableFuture<Void> previousBatchesOf(List<WeaviateObject> batch) {
+    CompletableFuture<?>[] previous = batch.stream()
+      .map(object -> lastBatchByKey.get(coalescingKey(object)))
+      .filter(Objects::nonNull)
+      .distinct()
+      .map(f -> f.handle((result, e) -> null))
+      .toArray(CompletableFuture[]::new);
+    return CompletableFuture.allOf(previous);
+  }
+
+  private void registerOrdered(List<WeaviateObject> batch, CompletableFuture<?> future) {
+    List<Object> keys = batch.stream().map(ObjectsBatcher::coalescingKey).collect(Collectors.toList());
+    keys.forEach(key -> lastBatchByKey.put(key, future));
+    future.whenComplete((result, e) -> keys.forEach(key -> lastBatchByKey.remove(key, future)));
+  }
+
+  private CompletableFuture<Result<ObjectGetResponse[]>> createRunFuture(List<WeaviateObject> batch,
+                                                                        EncodedBatch encoded) {
+    return runRecursively(batch, encoded, 0, 0, 0, null,
       (DelayedExecutor<CompletableFuture<Result<ObjectGetResponse[]>>>) delayedExecutor);
   }
 
-  private <T> T runRecursively(List<WeaviateObject> batch, int connectionErrorCount, int timeoutErrorCount,
+  /**
+   * @param encoded body of the batch serialized in advance, null to serialize it when sending
+   */
+  private <T> T runRecursively(List<WeaviateObject> batch, EncodedBatch encoded, int connectionErrorCount,
+                               int timeoutErrorCount, int objectErrorCount,
                                List<ObjectGetResponse> combinedSingleResponses, DelayedExecutor<T> delayedExecutor) {
-    Result<ObjectGetResponse[]> result = internalRun(batch);
+    Result<ObjectGetResponse[]> result = internalRun(batch, encoded);
+    boolean executeAgain = false;
+    int delay = 0;
 
     if (result.hasErrors()) {
       List<WeaviateErrorMessage> messages = result.getError().getMessages();
       if (!messages.isEmpty()) {
         Throwable throwable = messages.get(0).getThrowable();
-        boolean executeAgain = false;
-        int delay = 0;
 
         if (throwable instanceof ConnectException) {
           if (connectionErrorCount++ < batchRetriesConfig.maxConnectionRetries) {
             executeAgain = true;
             delay = connectionErrorCount * batchRetriesConfig.retriesIntervalMs;
+            retried(RetryCause.CONNECTION, batch.size());
           }
         } else if (throwable instanceof SocketTimeoutException) {
           Pair<List<ObjectGetResponse>, List<WeaviateObject>> pair = fetchCreatedAndBuildBatchToReRun(batch);
           combinedSingleResponses = combineSingleResponses(combinedSingleResponses, pair.getLeft());
           batch = pair.getRight();
+          encoded = null;
 
           if (ObjectUtils.isNotEmpty(batch) && timeoutErrorCount++ < batchRetriesConfig.maxTimeoutRetries) {
             executeAgain = true;
             delay = timeoutErrorCount * batchRetriesConfig.retriesIntervalMs;
+            retried(RetryCause.TIMEOUT, batch.size());
           }
         }
-
-        if (executeAgain) {
-          int lambdaConnectionErrorCount = connectionErrorCount;
-          int lambdaTimeoutErrorCount = timeoutErrorCount;
-          List<WeaviateObject> lambdaBatch = batch;
-          List<ObjectGetResponse> lambdaCombinedSingleResponses = combinedSingleResponses;
-
-          return delayedExecutor.delayed(
-            delay,
-            () -> runRecursively(lambdaBatch, lambdaConnectionErrorCount, lambdaTimeoutErrorCount, lambdaCombinedSingleResponses, delayedExecutor)
-          );
-        }
+      }
+      if (!executeAgain && ObjectUtils.isNotEmpty(batch)) {
+        deadLetter(batch, messages.stream().map(WeaviateErrorMessage::getMessage).collect(Collectors.toList()),
+          BatchFailures.isRetryable(result.getError()));
       }
     } else {
-      batch = null;
+      // batch went through, but single objects may have failed
+      List<FailedBatchObject> failures = findFailures(batch, result.getResult());
+      List<FailedBatchObject> retryable = failures.stream()
+        .filter(FailedBatchObject::isRetryable)
+        .collect(Collectors.toList());
+
+      if (!retryable.isEmpty() && objectErrorCount++ < batchRetriesConfig.maxObjectRetries) {
+        deadLetter(failures.stream().filter(f -> !f.isRetryable()).collect(Collectors.toList()));
+        Set<String> retryableIds = retryable.stream().map(f -> f.getObject().getId()).collect(Collectors.toSet());
+        combinedSingleResponses = combineSingleResponses(combinedSingleResponses, Arrays.stream(result.getResult())
+          .filter(response -> !retryableIds.contains(response.getId()))
+          .collect(Collectors.toList()));
+        batch = retryable.stream().map(FailedBatchObject::getObject).collect(Collectors.toList());
+        encoded = null;
+        executeAgain = true;
+        delay = objectErrorCount * batchRetriesConfig.retriesIntervalMs;
+        retried(RetryCause.ITEM_ERROR, batch.size());
+      } else {
+        deadLetter(failures);
+        batch = null;
+      }
+    }
+
+    if (executeAgain) {
+      int lambdaConnectionErrorCount = connectionErrorCount;
+      int lambdaTimeoutErrorCount = timeoutErrorCount;
+      int lambdaObjectErrorCount = objectErrorCount;
+      List<WeaviateObject> lambdaBatch = batch;
+      EncodedBatch lambdaEncoded = encoded;
+      List<ObjectGetResponse> lambdaCombinedSingleResponses = combinedSingleResponses;
+
+      return delayedExecutor.delayed(
+        delay,
+        () -> runRecursively(lambdaBatch, lambdaEncoded, lambdaConnectionErrorCount, lambdaTimeoutErrorCount, lambdaObjectErrorCount,
+          lambdaCombinedSingleResponses, delayedExecutor)
+      );
     }
 
     Result<ObjectGetResponse[]> finalResult = createFinalResultFromLastResultAndCombinedSingleResponses(result, combinedSingleResponses, batch);
     return delayedExecutor.now(finalResult);
   }
 
-  private Result<ObjectGetResponse[]> internalRun(List<WeaviateObject> batch) {
-    ObjectsBatchRequestBody batchRequest = ObjectsBatchRequestBody.builder()
-      .objects(batch.toArray(new WeaviateObject[0]))
-      .fields(new String[]{"ALL"})
-      .build();
-    String path = objectsPath.buildCreate(ObjectsPath.Params.builder()
-        .consistencyLevel(consistencyLevel)
-        .build());
-    Response<ObjectGetResponse[]> resp = sendPostRequest(path, batchRequest, ObjectGetResponse[].class);
-    return new Result<>(resp);
-  }
-
-  private Pair<List<ObjectGetResponse>, List<WeaviateObject>> fetchCreatedAndBuildBatchToReRun(List<WeaviateObject> batch) {
-    List<WeaviateObject> rerunBatch = new ArrayList<>(batch.size());
-    List<ObjectGetResponse> createdResponses = new ArrayList<>(batch.size());
-
-    for (WeaviateObject batchObject: batch) {
-      Result<List<WeaviateObject>> existingResult = fetchExistingObject(batchObject);
+  private List<FailedBatchObject> findFailures(List<WeaviateObject> batch, ObjectGetResponse[] responses) {
+    if (ArrayUtils.isEmpty(responses)) {
+      return Collections.emptyList();
+    }
+    Map<String, WeaviateObject> objectsById = new HashMap<>();
+    batch.forEach(object -> objectsById.put(object.getId(), object));
 
-      if (existingResult.hasErrors() || ObjectUtils.isEmpty(existingResult.getResult())) {
-        rerunBatch.add(batchObject);
+    List<FailedBatchObject> failures = new ArrayList<>();
+    for (ObjectGetResponse response : responses) {
+      if (response.getResult() == null || response.getResult().getErrors() == null) {
         continue;
       }
-
-      WeaviateObject existingObject = existingResult.getResult().get(0);
-      if (isDifferentObject(batchObject, existingObject)) {
-        rerunBatch.add(batchObject);
+      WeaviateObject object = objectsById.remove(response.getId());
+      if (object == null) {
         continue;
       }
+      List<String> errors = BatchFailures.errorMessages(response.getResult().getErrors());
+      failures.add(FailedBatchObject.builder()
+        .object(object)
+        .errors(errors)
+        .retryable(!errors.isEmpty() && errors.stream().allMatch(batchRetriesConfig.retryableError))
+        .build());
+    }
+    return failures;
+  }
+
+  private void deadLetter(List<WeaviateObject> objects, List<String> errors, boolean retryable) {
+    deadLetter(objects.stream()
+      .map(object -> FailedBatchObject.builder().object(object).errors(errors).retryable(retryable).build())
+      .collect(Collectors.toList()));
+  }
 
-      createdResponses.add(createResponseFromExistingObject(existingObject));
+
+  private void deadLetter(List<FailedBatchObject> failures) {
+    if (spool != null && !failures.isEmpty()) {
+      // handed over to the dead letter callback, so the checkpoint can move past them
+      acknowledgeSpooled(failures.stream().map(FailedBatchObject::getObject).collect(Collectors.toList()));
+    }
+    if (metrics != null && !failures.isEmpty()) {
+      metrics.onFailed(failures.size());
+    }
+    if (batchRetriesConfig.deadLetterCallback != null && !failures.isEmpty()) {
+      batchRetriesConfig.deadLetterCallback.accept(failures);
     }
+  }
 
-    return Pair.of(createdResponses, rerunBatch);
+  private void retried(RetryCause cause, int objects) {
+    if (metrics != null) {
+      metrics.onRetry(cause, objects);
+    }
   }
 
-  private Result<List<WeaviateObject>> fetchExistingObject(WeaviateObject batchObject) {
-    return data.objectsGetter()
-      .withID(batchObject.getId())
-      .withClassName(batchObject.getClassName())
-      .withVector()
-      .run();
+  private static ObjectsBatchRequestBody requestBody(List<WeaviateObject> batch) {
+    return ObjectsBatchRequestBody.builder()
+      .objects(batch.toArray(new WeaviateObject[0]))
+      .fields(new String[]{"ALL"})
+      .build();
   }
 
-  private boolean isDifferentObject(WeaviateObject batchObject, WeaviateObject existingObject) {
-    if ((existingObject.getVector() != null || batchObject.getVector() != null)
-      && !Arrays.equals(existingObject.getVector(), batchObject.getVector())
-    ) {
-      return true;
+  private EncodedBatch encode(List<WeaviateObject> batch) {
+    JsonBufferPool.Buffer buffer = bufferPool.acquire();
+    long start = System.nanoTime();
+    try {
+      batchSerializer.toJson(requestBody(batch), buffer);
+      return new EncodedBatch(buffer, System.nanoTime() - start);
+    } catch (IOException | RuntimeException e) {
+      // serialized again when sending, where a failure is reported as the batch's error
+      bufferPool.release(buffer);
+      return null;
     }
+  }
 
-    Map<String, Object> existingProperties = existingObject.getProperties();
-    Map<String, Object> batchProperties = batchObject.getProperties();
+  private Result<ObjectGetResponse[]> internalRun(List<WeaviateObject> batch, EncodedBatch encoded) {
+    String path = objectsPath.buildCreate(ObjectsPath.Params.builder()
+        .consistencyLevel(consistencyLevel)
+        .build());
+    long startedAt = tuner != null ? tuner.now() : 0;
+    long sentAt = System.nanoTime();
+    Response<ObjectGetResponse[]> resp = encoded != null
+      ? sendPostRequest(path, encoded.buffer.array(), encoded.buffer.size(), ObjectGetResponse[].class,
+          encoded.serializeNanos)
+      : sendPostRequest(path, requestBody(batch), ObjectGetResponse[].class);
+    invalidateCache(batch);
+    Result<ObjectGetResponse[]> result = new Result<>(resp);
+    if (metrics != null) {
+      metrics.onRequest(batch.size(), System.nanoTime() - sentAt, result.hasErrors());
+    }
+    if (tuner != null) {
+      AdaptiveBatchTuner.Outcome outcome = tuningOutcome(result);
+      if (outcome != null) {
+        tuner.onBatchCompleted(batch.size(), startedAt, outcome);
+      }
+    }
+    return result;
+  }
 
-    if ((existingProperties != null && batchProperties == null)
-      || (existingProperties == null && batchProperties != null)
-    ) {
-      return true;
+  private AdaptiveBatchTuner.Outcome tuningOutcome(Result<ObjectGetResponse[]> result) {
+    if (!result.hasErrors()) {
+      return AdaptiveBatchTuner.Outcome.SUCCESS;
     }
+    int statusCode = result.getError().getStatusCode();
+    List<WeaviateErrorMessage> messages = result.getError().getMessages();
+    Throwable throwable = messages.isEmpty() ? null : messages.get(0).getThrowable();
+    if (throwable instanceof SocketTimeoutException) {
+      return AdaptiveBatchTuner.Outcome.TIMEOUT;
+    }
+    if (throwable instanceof ConnectException || statusCode >= 500 || statusCode == 429) {
+      return AdaptiveBatchTuner.Outcome.OVERLOADED;
+    }
+    // client errors say nothing about the load the server can take
+    return null;
+  }
 
-    if (existingProperties != null && !existingProperties.equals(batchProperties)) {
-      // TODO improve as lists will always be !=
-      return true;
+  private void invalidateCache(List<WeaviateObject> batch) {
+    if (cacheInvalidator != null) {
+      batch.stream()
+        .map(WeaviateObject::getClassName)
+        .distinct()
+        .forEach(cacheInvalidator::invalidateClass);
     }
+  }
 
-    return false;
+  private Pair<List<ObjectGetResponse>, List<WeaviateObject>> fetchCreatedAndBuildBatchToReRun(List<WeaviateObject> batch) {
+    Pair<List<WeaviateObject>, List<WeaviateObject>> verified = verifier.verify(batch, consistencyLevel);
+    List<ObjectGetResponse> createdResponses = verified.getLeft().stream()
+      .map(this::createResponseFromExistingObject)
+      .collect(Collectors.toList());
+
+    return Pair.of(createdResponses, verified.getRight());
   }
 
   private ObjectGetResponse createResponseFromExistingObject(WeaviateObject existingObject) {
@@ -405,7 +805,7 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
   @RequiredArgsConstructor
   private static class ExecutorServiceDelayedExecutor implements DelayedExecutor<CompletableFuture<Result<ObjectGetResponse[]>>> {
 
-    private final ScheduledExecutorService executorService;
+    private final BatchExecutor executorService;
 
     @Override
     public CompletableFuture<Result<ObjectGetResponse[]>> delayed(int delay, Supplier<CompletableFuture<Result<ObjectGetResponse[]>>> supplier) {
@@ -439,59 +839,192 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
   }
 
   @Getter
-  @Builder
+  @Builder(toBuilder = true)
   @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
   public static class BatchRetriesConfig {
 
     public static final int MAX_TIMEOUT_RETRIES = 3;
     public static final int MAX_CONNECTION_RETRIES = 3;
+    public static final int MAX_OBJECT_RETRIES = 0;
     public static final int RETRIES_INTERVAL = 2000;
 
+    private static final String[] TRANSIENT_ERRORS = {
+      "timeout", "timed out", "deadline exceeded", "connection refused", "connection reset", "broken pipe",
+      "unavailable", "too many requests", "resource exhausted", "overloaded", "try again", "temporarily"
+    };
+
     int maxTimeoutRetries;
     int maxConnectionRetries;
+    /**
+     * Retries of single objects reported as failed in an otherwise successful batch, if their errors are retryable.
+     * Off by default, failed objects are passed to the deadLetterCallback right away.
+     */
+    int maxObjectRetries;
     int retriesIntervalMs;
-
-    private BatchRetriesConfig(int maxTimeoutRetries, int maxConnectionRetries, int retriesIntervalMs) {
+    /**
+     * Tells if an error reported for a single object is transient. Objects with other errors are not retried.
+     */
+    Predicate<String> retryableError;
+    /**
+     * Receives objects that failed permanently or ran out of retries.
+     */
+    Consumer<List<FailedBatchObject>> deadLetterCallback;
+
+    private BatchRetriesConfig(int maxTimeoutRetries, int maxConnectionRetries, int maxObjectRetries,
+                               int retriesIntervalMs, Predicate<String> retryableError,
+                               Consumer<List<FailedBatchObject>> deadLetterCallback) {
       Assert.requireGreaterEqual(maxTimeoutRetries, 0, "maxTimeoutRetries");
       Assert.requireGreaterEqual(maxConnectionRetries, 0, "maxConnectionRetries");
+      Assert.requireGreaterEqual(maxObjectRetries, 0, "maxObjectRetries");
       Assert.requireGreater(retriesIntervalMs, 0, "retriesIntervalMs");
 
       this.maxTimeoutRetries = maxTimeoutRetries;
       this.maxConnectionRetries = maxConnectionRetries;
+      this.maxObjectRetries = maxObjectRetries;
       this.retriesIntervalMs = retriesIntervalMs;
+      this.retryableError = retryableError != null ? retryableError : BatchRetriesConfig::isTransientError;
+      this.deadLetterCallback = deadLetterCallback;
+    }
+
+    public static boolean isTransientError(String message) {
+      String lowerCase = message.toLowerCase(Locale.ROOT);
+      return Arrays.stream(TRANSIENT_ERRORS).anyMatch(lowerCase::contains);
     }
 
     public static BatchRetriesConfigBuilder defaultConfig() {
       return BatchRetriesConfig.builder()
         .maxTimeoutRetries(MAX_TIMEOUT_RETRIES)
         .maxConnectionRetries(MAX_CONNECTION_RETRIES)
-        .retriesIntervalMs(RETRIES_INTERVAL);
+        .maxObjectRetries(MAX_OBJECT_RETRIES)
+        .retriesIntervalMs(RETRIES_INTERVAL)
+        .retryableError(BatchRetriesConfig::isTransientError)
+        .deadLetterCallback(null);
     }
   }
 
   @Getter
-  @Builder
+  @Builder(toBuilder = true)
   @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
   public static class AutoBatchConfig {
 
     public static final int BATCH_SIZE = 100;
     public static final int POOL_SIZE = 1;
     public static final int AWAIT_TERMINATION_MS = 10_000;
+    public static final int LINGER_MS = 0;
+    public static final int MAX_PENDING_BATCHES = 0;
+    public static final int BACKPRESSURE_TIMEOUT_MS = 60_000;
+    public static final long MAX_BATCH_BYTES = 0;
+    public static final int MIN_BATCH_SIZE = 10;
+    public static final int MAX_BATCH_SIZE = 1000;
 
     int batchSize;
+    /**
+     * Number of batches sent at the same time. They run on the worker threads shared by the client
+     * (see {@link io.weaviate.client.Config#getExecutors()}).
+     */
     int poolSize;
     int awaitTerminationMs;
+    /**
+     * Sends batches on the batcher's own virtual threads, on Java 21 and newer, instead of the shared workers.
+     */
+    boolean virtualThreads;
+    /**
+     * Time after which a partial batch is sent, counted from when its oldest object was added.
+     * 0 disables it, leaving partial batches until flush() is called.
+     */
+    int lingerMs;
+    /**
+     * Estimated serialized size at which a batch is sent even if it has fewer than batchSize objects.
+     * 0 disables the limit.
+     */
+    long maxBatchBytes;
+    /**
+     * Lets the batcher tune the batch size (starting at batchSize, kept between minBatchSize and maxBatchSize)
+     * and the number of concurrently sent batches (up to poolSize) based on measured throughput.
+     */
+    boolean adaptive;
+    int minBatchSize;
+    int maxBatchSize;
+    /**
+     * Limit of batches sent or waiting to be sent at the same time, 0 for no limit.
+     * Once it is reached and a full batch is waiting, added items are handled according to backpressurePolicy.
+     */
+    int maxPendingBatches;
+    BackpressurePolicy backpressurePolicy;
+    int backpressureTimeoutMs;
+    Consumer<List<WeaviateObject>> backpressureCallback;
+    /**
+     * Keeps a single version of every object (by class and id) waiting to be sent.
+     * An object added while an older version of it is queued replaces that version in place.
+     */
+    boolean coalesceById;
+    /**
+     * Sends batches sharing an object (by class and id) one after another, in the order the objects were added.
+     * Batches without common objects are still sent concurrently.
+     */
+    boolean orderedById;
+    /**
+     * Writes added objects to disk before they are queued. Objects neither confirmed by the server nor passed
+     * to the dead letter callback are sent again by the next batcher created with the same spool directory.
+     * null disables it.
+     */
+    SpoolConfig spool;
+    /**
+     * Receives metrics events, e.g. a {@link io.weaviate.client.v1.batch.metrics.BatchMetrics}. null disables them.
+     */
+    BatchMetricsListener metricsListener;
+    /**
+     * Serializes every batch into a reused byte buffer as soon as it is cut, in a stage of its own on the client
+     * workers (at most poolSize batches at once), and sends it once encoded. Encoding of a batch overlaps
+     * sending of earlier ones, and no String of the whole request body is built.
+     */
+    boolean preSerialize;
     Consumer<Result<ObjectGetResponse[]>> callback;
 
-    private AutoBatchConfig(int batchSize, int poolSize, int awaitTerminationMs,
-                            Consumer<Result<ObjectGetResponse[]>> callback) {
+    private AutoBatchConfig(int batchSize, int poolSize, int awaitTerminationMs, boolean virtualThreads,
+                            int lingerMs, long maxBatchBytes, boolean adaptive, int minBatchSize, int maxBatchSize,
+                            int maxPendingBatches, BackpressurePolicy backpressurePolicy, int backpressureTimeoutMs,
+                            Consumer<List<WeaviateObject>> backpressureCallback, boolean coalesceById,
+                            boolean orderedById, SpoolConfig spool, BatchMetricsListener metricsListener,
+                            boolean preSerialize, Consumer<Result<ObjectGetResponse[]>> callback) {
       Assert.requireGreaterEqual(batchSize, 1, "batchSize");
       Assert.requireGreaterEqual(poolSize, 1, "corePoolSize");
       Assert.requireGreater(awaitTerminationMs, 0, "awaitTerminationMs");
+      Assert.requireGreaterEqual(lingerMs, 0, "lingerMs");
+      Assert.requireGreaterEqual(maxPendingBatches, 0, "maxPendingBatches");
+      if (maxPendingBatches > 0) {
+        Assert.requiredNotNull(backpressurePolicy, "backpressurePolicy");
+        if (backpressurePolicy == BackpressurePolicy.BLOCK_WITH_TIMEOUT) {
+          Assert.requireGreater(backpressureTimeoutMs, 0, "backpressureTimeoutMs");
+        }
+        if (backpressurePolicy == BackpressurePolicy.CALLBACK) {
+          Assert.requiredNotNull(backpressureCallback, "backpressureCallback");
+        }
+      }
+      Assert.requireGreaterEqual(maxBatchBytes, 0, "maxBatchBytes");
+      if (adaptive) {
+        Assert.requireGreaterEqual(minBatchSize, 1, "minBatchSize");
+        Assert.requireGreaterEqual(maxBatchSize, minBatchSize, "maxBatchSize");
+      }
 
       this.batchSize = batchSize;
+      this.maxBatchBytes = maxBatchBytes;
+      this.adaptive = adaptive;
+      this.minBatchSize = minBatchSize;
+      this.maxBatchSize = maxBatchSize;
       this.poolSize = poolSize;
       this.awaitTerminationMs = awaitTerminationMs;
+      this.virtualThreads = virtualThreads;
+      this.lingerMs = lingerMs;
+      this.maxPendingBatches = maxPendingBatches;
+      this.backpressurePolicy = backpressurePolicy;
+      this.backpressureTimeoutMs = backpressureTimeoutMs;
+      this.backpressureCallback = backpressureCallback;
+      this.coalesceById = coalesceById;
+      this.orderedById = orderedById;
+      this.spool = spool;
+      this.metricsListener = metricsListener;
+      this.preSerialize = preSerialize;
       this.callback = callback;
     }
 
@@ -500,7 +1033,32 @@ public class ObjectsBatcher extends BaseClient<ObjectGetResponse[]>
         .batchSize(BATCH_SIZE)
         .poolSize(POOL_SIZE)
         .awaitTerminationMs(AWAIT_TERMINATION_MS)
+        .virtualThreads(false)
+        .lingerMs(LINGER_MS)
+        .maxPendingBatches(MAX_PENDING_BATCHES)
+        .backpressurePolicy(BackpressurePolicy.BLOCK)
+        .backpressureTimeoutMs(BACKPRESSURE_TIMEOUT_MS)
+        .backpressureCallback(null)
+        .maxBatchBytes(MAX_BATCH_BYTES)
+        .adaptive(false)
+        .minBatchSize(MIN_BATCH_SIZE)
+        .maxBatchSize(MAX_BATCH_SIZE)
+        .coalesceById(false)
+        .orderedById(false)
+        .spool(null)
+        .metricsListener(null)
+        .preSerialize(false)
         .callback(null);
     }
   }
+
+  private static class EncodedBatch {
+    private final JsonBufferPool.Buffer buffer;
+    private final long serializeNanos;
+
+    private EncodedBatch(JsonBufferPool.Buffer buffer, long serializeNanos) {
+      this.buffer = buffer;
+      this.serializeNanos = serializeNanos;
+    }
+  }
 }
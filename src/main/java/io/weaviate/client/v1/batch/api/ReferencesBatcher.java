@@ -1,5 +1,7 @@
 package io.weaviate.client.v1.batch.api;
 
+import io.weaviate.client.v1.batch.metrics.BatchMetricsListener;
+import io.weaviate.client.v1.batch.metrics.RetryCause;
 import io.weaviate.client.v1.batch.model.BatchReference;
 import io.weaviate.client.v1.batch.model.BatchReferenceResponse;
 import io.weaviate.client.v1.batch.util.ReferencesPath;
@@ -9,6 +11,7 @@ import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.experimental.FieldDefaults;
 import org.apache.commons.lang3.ObjectUtils;
+import org.apache.commons.lang3.StringUtils;
 import io.weaviate.client.Config;
 import io.weaviate.client.base.BaseClient;
 import io.weaviate.client.base.ClientResult;
@@ -16,6 +19,7 @@ import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.WeaviateErrorMessage;
 import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.cache.CacheInvalidator;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.util.Assert;
 
@@ -28,9 +32,10 @@ import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -38,51 +43,83 @@ import java.util.stream.Collectors;
 public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
   implements ClientResult<BatchReferenceResponse[]>, Closeable {
 
+  private static final long MIN_LINGER_CHECK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
   private final ReferencesPath referencesPath;
+  private final CacheInvalidator cacheInvalidator;
 
   private final BatchRetriesConfig batchRetriesConfig;
   private final AutoBatchConfig autoBatchConfig;
   private final boolean autoRunEnabled;
-  private final ScheduledExecutorService executorService;
+  private final BatchExecutor executorService;
   private final DelayedExecutor<?> delayedExecutor;
-  private final List<BatchReference> references;
+  private volatile ScheduledFuture<?> lingerFlush;
+  private final BatchQueue<BatchReference> references;
   private String consistencyLevel;
   private final List<CompletableFuture<Result<BatchReferenceResponse[]>>> undoneFutures;
+  private final Backpressure<BatchReference> backpressure;
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final BatchMetricsListener metrics;
 
 
   private ReferencesBatcher(HttpClient httpClient, Config config, ReferencesPath referencesPath,
-                            BatchRetriesConfig batchRetriesConfig, AutoBatchConfig autoBatchConfig) {
+                            BatchRetriesConfig batchRetriesConfig, AutoBatchConfig autoBatchConfig,
+                            CacheInvalidator cacheInvalidator) {
     super(httpClient, config);
     this.referencesPath = referencesPath;
-    this.references = new ArrayList<>();
+    this.cacheInvalidator = cacheInvalidator;
+    this.references = new BatchQueue<>();
     this.batchRetriesConfig = batchRetriesConfig;
 
     if (autoBatchConfig != null) {
       this.autoRunEnabled = true;
       this.autoBatchConfig = autoBatchConfig;
-      this.executorService = Executors.newScheduledThreadPool(autoBatchConfig.poolSize);
+      this.executorService = BatchExecutor.create(config.getExecutors(), autoBatchConfig.poolSize,
+        autoBatchConfig.virtualThreads, "weaviate-references-batcher");
       this.delayedExecutor = new ExecutorServiceDelayedExecutor(executorService);
       this.undoneFutures = Collections.synchronizedList(new ArrayList<>());
+      this.backpressure = autoBatchConfig.maxPendingBatches > 0
+        ? new Backpressure<>(autoBatchConfig.backpressurePolicy, autoBatchConfig.backpressureTimeoutMs,
+            autoBatchConfig.backpressureCallback)
+        : null;
+      this.metrics = autoBatchConfig.metricsListener;
     } else {
       this.autoRunEnabled = false;
       this.autoBatchConfig = null;
       this.executorService = null;
       this.delayedExecutor = new SleepDelayedExecutor();
       this.undoneFutures = null;
+      this.backpressure = null;
+      this.metrics = null;
+    }
+
+    if (autoRunEnabled && autoBatchConfig.lingerMs > 0) {
+      scheduleLingerFlush(TimeUnit.MILLISECONDS.toNanos(autoBatchConfig.lingerMs));
     }
   }
 
   public static ReferencesBatcher create(HttpClient httpClient, Config config, ReferencesPath referencesPath,
                                          BatchRetriesConfig batchRetriesConfig) {
+    return create(httpClient, config, referencesPath, batchRetriesConfig, null);
+  }
+
+  public static ReferencesBatcher create(HttpClient httpClient, Config config, ReferencesPath referencesPath,
+                                         BatchRetriesConfig batchRetriesConfig, CacheInvalidator cacheInvalidator) {
     Assert.requiredNotNull(batchRetriesConfig, "batchRetriesConfig");
-    return new ReferencesBatcher(httpClient, config, referencesPath, batchRetriesConfig, null);
+    return new ReferencesBatcher(httpClient, config, referencesPath, batchRetriesConfig, null, cacheInvalidator);
   }
 
   public static ReferencesBatcher createAuto(HttpClient httpClient, Config config, ReferencesPath referencesPath,
                                              BatchRetriesConfig batchRetriesConfig, AutoBatchConfig autoBatchConfig) {
+    return createAuto(httpClient, config, referencesPath, batchRetriesConfig, autoBatchConfig, null);
+  }
+
+  public static ReferencesBatcher createAuto(HttpClient httpClient, Config config, ReferencesPath referencesPath,
+                                             BatchRetriesConfig batchRetriesConfig, AutoBatchConfig autoBatchConfig,
+                                             CacheInvalidator cacheInvalidator) {
     Assert.requiredNotNull(batchRetriesConfig, "batchRetriesConfig");
     Assert.requiredNotNull(autoBatchConfig, "autoBatchConfig");
-    return new ReferencesBatcher(httpClient, config, referencesPath, batchRetriesConfig, autoBatchConfig);
+    return new ReferencesBatcher(httpClient, config, referencesPath, batchRetriesConfig, autoBatchConfig, cacheInvalidator);
   }
 
 
@@ -91,7 +128,14 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
   }
 
   public ReferencesBatcher withReferences(BatchReference... references) {
-    this.references.addAll(Arrays.asList(references));
+    if (backpressure != null && !backpressure.admit(references, this::isBackedUp)) {
+      return this;
+    }
+    this.references.addAll(references);
+    if (metrics != null) {
+      metrics.onSubmitted(references.length, Arrays.stream(references).mapToLong(ReferencesBatcher::estimateSize).sum(),
+        this.references.size());
+    }
     autoRun();
     return this;
   }
@@ -108,11 +152,12 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
       return null;
     }
 
-    if (references.isEmpty()) {
+    List<BatchReference> batch = new ArrayList<>(references.size());
+    references.drainAll(Integer.MAX_VALUE, batch::addAll);
+    if (batch.isEmpty()) {
       return new Result<>(0, new BatchReferenceResponse[0], null);
     }
 
-    List<BatchReference> batch = extractBatch(references.size());
     return runRecursively(batch, 0, 0,
       (DelayedExecutor<Result<BatchReferenceResponse[]>>) delayedExecutor);
   }
@@ -123,10 +168,7 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
       return;
     }
 
-    if (!references.isEmpty()) {
-      List<BatchReference> batch = extractBatch(references.size());
-      runInThread(batch);
-    }
+    references.drainAll(autoBatchConfig.batchSize, this::runInThread);
 
     CompletableFuture<?>[] futures = undoneFutures.toArray(new CompletableFuture[0]);
     if (futures.length == 0) {
@@ -142,38 +184,54 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
       return;
     }
 
-    executorService.shutdown();
-    try {
-      if (!executorService.awaitTermination(autoBatchConfig.awaitTerminationMs, TimeUnit.MILLISECONDS)) {
-        executorService.shutdownNow();
-      }
-    } catch (InterruptedException e) {
-      executorService.shutdownNow();
+    ScheduledFuture<?> pendingLingerFlush = lingerFlush;
+    if (pendingLingerFlush != null) {
+      pendingLingerFlush.cancel(false);
     }
+    executorService.close(autoBatchConfig.awaitTerminationMs);
   }
 
-  private List<BatchReference> extractBatch(int batchSize) {
-    List<BatchReference> batch = new ArrayList<>(batchSize);
-    List<BatchReference> sublist = references.subList(0, batchSize);
+  private void autoRun() {
+    if (!autoRunEnabled) {
+      return;
+    }
 
-    batch.addAll(sublist);
-    sublist.clear();
+    references.drainFull(() -> autoBatchConfig.batchSize, this::hasCapacity, this::runInThread);
+  }
 
-    return batch;
+  private void flushLingering() {
+    long lingerNanos = TimeUnit.MILLISECONDS.toNanos(autoBatchConfig.lingerMs);
+    long untilNext = references.drainLingering(lingerNanos, () -> autoBatchConfig.batchSize, this::hasCapacity, this::runInThread);
+    // an empty queue is checked a few times per linger period
+    scheduleLingerFlush(untilNext < 0 ? lingerNanos / 4 : untilNext);
   }
 
-  private void autoRun() {
-    if (!autoRunEnabled) {
+  private void scheduleLingerFlush(long delayNanos) {
+    if (executorService.isShutdown()) {
       return;
     }
-
-    while (references.size() >= autoBatchConfig.batchSize) {
-      List<BatchReference> batch = extractBatch(autoBatchConfig.batchSize);
-      runInThread(batch);
+    try {
+      lingerFlush = executorService.schedule(this::flushLingering,
+        Math.max(delayNanos, MIN_LINGER_CHECK_NANOS), TimeUnit.NANOSECONDS);
+    } catch (RejectedExecutionException e) {
+      // batcher was closed meanwhile
     }
   }
 
+  private boolean hasCapacity() {
+    return autoBatchConfig.maxPendingBatches == 0 || inFlight.get() < autoBatchConfig.maxPendingBatches;
+  }
+
+  private boolean isBackedUp() {
+    return references.isFull(autoBatchConfig.batchSize) && !hasCapacity();
+  }
+
   private void runInThread(List<BatchReference> batch) {
+    int pending = inFlight.incrementAndGet();
+    long startedAt = System.nanoTime();
+    if (metrics != null) {
+      metrics.onBatchStarted(batch.size(), pending);
+    }
     CompletableFuture<Result<BatchReferenceResponse[]>> future = CompletableFuture.supplyAsync(
       () -> createRunFuture(batch),
       executorService
@@ -185,7 +243,18 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
 
     CompletableFuture<Result<BatchReferenceResponse[]>> undoneFuture = future;
     undoneFutures.add(undoneFuture);
-    undoneFuture.whenComplete((result, ex) -> undoneFutures.remove(undoneFuture));
+    undoneFuture.whenComplete((result, ex) -> {
+      undoneFutures.remove(undoneFuture);
+      int stillPending = inFlight.decrementAndGet();
+      if (metrics != null) {
+        metrics.onBatchCompleted(batch.size(), System.nanoTime() - startedAt, stillPending);
+      }
+      // batches held back by the pending batches limit can be sent now
+      autoRun();
+      if (backpressure != null) {
+        backpressure.release();
+      }
+    });
   }
 
   private CompletableFuture<Result<BatchReferenceResponse[]>> createRunFuture(List<BatchReference> batch) {
@@ -208,11 +277,13 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
           if (connectionErrorCount++ < batchRetriesConfig.maxConnectionRetries) {
             executeAgain = true;
             delay = connectionErrorCount * batchRetriesConfig.retriesIntervalMs;
+            retried(RetryCause.CONNECTION, batch.size());
           }
         } else if (throwable instanceof SocketTimeoutException) {
           if (timeoutErrorCount++ < batchRetriesConfig.maxTimeoutRetries) {
             executeAgain = true;
             delay = timeoutErrorCount * batchRetriesConfig.retriesIntervalMs;
+            retried(RetryCause.TIMEOUT, batch.size());
           }
         }
 
@@ -230,18 +301,65 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
     } else {
       batch = null;
     }
+    if (metrics != null) {
+      int failed = batch != null ? batch.size() : failedReferences(result.getResult());
+      if (failed > 0) {
+        metrics.onFailed(failed);
+      }
+    }
 
     Result<BatchReferenceResponse[]> finalResult = createFinalResultFromLastResult(result, batch);
     return delayedExecutor.now(finalResult);
   }
 
+  private void retried(RetryCause cause, int references) {
+    if (metrics != null) {
+      metrics.onRetry(cause, references);
+    }
+  }
+
+  private static int failedReferences(BatchReferenceResponse[] responses) {
+    if (responses == null) {
+      return 0;
+    }
+    return (int) Arrays.stream(responses)
+      .filter(response -> response.getResult() != null && response.getResult().getErrors() != null)
+      .count();
+  }
+
+  private static long estimateSize(BatchReference reference) {
+    // {"from":"...","to":"..."}
+    return 20 + StringUtils.length(reference.getFrom()) + StringUtils.length(reference.getTo());
+  }
+
   private Result<BatchReferenceResponse[]> internalRun(List<BatchReference> batch) {
     BatchReference[] payload = batch.toArray(new BatchReference[0]);
     String path = referencesPath.buildCreate(ReferencesPath.Params.builder()
         .consistencyLevel(consistencyLevel)
         .build());
+    long sentAt = System.nanoTime();
     Response<BatchReferenceResponse[]> resp = sendPostRequest(path, payload, BatchReferenceResponse[].class);
-    return new Result<>(resp);
+    invalidateCache(batch);
+    Result<BatchReferenceResponse[]> result = new Result<>(resp);
+    if (metrics != null) {
+      metrics.onRequest(batch.size(), System.nanoTime() - sentAt, result.hasErrors());
+    }
+    return result;
+  }
+
+  private void invalidateCache(List<BatchReference> batch) {
+    if (cacheInvalidator != null) {
+      batch.stream()
+        .map(ref -> fromClassName(ref.getFrom()))
+        .distinct()
+        .forEach(cacheInvalidator::invalidateClass);
+    }
+  }
+
+  // weaviate://localhost/{className}/{id}/{property}, class name is missing in deprecated beacons
+  private String fromClassName(String beacon) {
+    String[] parts = StringUtils.split(StringUtils.removeStart(beacon, "weaviate://localhost/"), '/');
+    return parts != null && parts.length == 3 ? parts[0] : null;
   }
 
   private Result<BatchReferenceResponse[]> createFinalResultFromLastResult(
@@ -285,7 +403,7 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
   @RequiredArgsConstructor
   private static class ExecutorServiceDelayedExecutor implements DelayedExecutor<CompletableFuture<Result<BatchReferenceResponse[]>>> {
 
-    private final ScheduledExecutorService executorService;
+    private final BatchExecutor executorService;
 
     @Override
     public CompletableFuture<Result<BatchReferenceResponse[]>> delayed(int delay, Supplier<CompletableFuture<Result<BatchReferenceResponse[]>>> supplier) {
@@ -357,21 +475,70 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
     public static final int BATCH_SIZE = 100;
     public static final int POOL_SIZE = 1;
     public static final int AWAIT_TERMINATION_MS = 10_000;
+    public static final int LINGER_MS = 0;
+    public static final int MAX_PENDING_BATCHES = 0;
+    public static final int BACKPRESSURE_TIMEOUT_MS = 60_000;
 
     int batchSize;
+    /**
+     * Number of batches sent at the same time. They run on the worker threads shared by the client
+     * (see {@link io.weaviate.client.Config#getExecutors()}).
+     */
     int poolSize;
     int awaitTerminationMs;
+    /**
+     * Sends batches on the batcher's own virtual threads, on Java 21 and newer, instead of the shared workers.
+     */
+    boolean virtualThreads;
+    /**
+     * Time after which a partial batch is sent, counted from when its oldest reference was added.
+     * 0 disables it, leaving partial batches until flush() is called.
+     */
+    int lingerMs;
+    /**
+     * Limit of batches sent or waiting to be sent at the same time, 0 for no limit.
+     * Once it is reached and a full batch is waiting, added items are handled according to backpressurePolicy.
+     */
+    int maxPendingBatches;
+    BackpressurePolicy backpressurePolicy;
+    int backpressureTimeoutMs;
+    Consumer<List<BatchReference>> backpressureCallback;
+    /**
+     * Receives metrics events, e.g. a {@link io.weaviate.client.v1.batch.metrics.BatchMetrics}. null disables them.
+     */
+    BatchMetricsListener metricsListener;
     Consumer<Result<BatchReferenceResponse[]>> callback;
 
-    private AutoBatchConfig(int batchSize, int poolSize, int awaitTerminationMs,
+    private AutoBatchConfig(int batchSize, int poolSize, int awaitTerminationMs, boolean virtualThreads, int lingerMs,
+                            int maxPendingBatches, BackpressurePolicy backpressurePolicy, int backpressureTimeoutMs,
+                            Consumer<List<BatchReference>> backpressureCallback,
+                            BatchMetricsListener metricsListener,
                             Consumer<Result<BatchReferenceResponse[]>> callback) {
       Assert.requireGreaterEqual(batchSize, 1, "batchSize");
       Assert.requireGreaterEqual(poolSize, 1, "corePoolSize");
       Assert.requireGreater(awaitTerminationMs, 0, "awaitTerminationMs");
+      Assert.requireGreaterEqual(lingerMs, 0, "lingerMs");
+      Assert.requireGreaterEqual(maxPendingBatches, 0, "maxPendingBatches");
+      if (maxPendingBatches > 0) {
+        Assert.requiredNotNull(backpressurePolicy, "backpressurePolicy");
+        if (backpressurePolicy == BackpressurePolicy.BLOCK_WITH_TIMEOUT) {
+          Assert.requireGreater(backpressureTimeoutMs, 0, "backpressureTimeoutMs");
+        }
+        if (backpressurePolicy == BackpressurePolicy.CALLBACK) {
+          Assert.requiredNotNull(backpressureCallback, "backpressureCallback");
+        }
+      }
 
       this.batchSize = batchSize;
       this.poolSize = poolSize;
       this.awaitTerminationMs = awaitTerminationMs;
+      this.virtualThreads = virtualThreads;
+      this.lingerMs = lingerMs;
+      this.maxPendingBatches = maxPendingBatches;
+      this.backpressurePolicy = backpressurePolicy;
+      this.backpressureTimeoutMs = backpressureTimeoutMs;
+      this.backpressureCallback = backpressureCallback;
+      this.metricsListener = metricsListener;
       this.callback = callback;
     }
 
@@ -380,6 +547,13 @@ public class ReferencesBatcher extends BaseClient<BatchReferenceResponse[]>
         .batchSize(BATCH_SIZE)
         .poolSize(POOL_SIZE)
         .awaitTerminationMs(AWAIT_TERMINATION_MS)
+        .virtualThreads(false)
+        .lingerMs(LINGER_MS)
+        .maxPendingBatches(MAX_PENDING_BATCHES)
+        .backpressurePolicy(BackpressurePolicy.BLOCK)
+        .backpressureTimeoutMs(BACKPRESSURE_TIMEOUT_MS)
+        .backpressureCallback(null)
+        .metricsListener(null)
         .callback(null);
     }
   }
@@ -0,0 +1,232 @@
+package io.weaviate.client.v1.batch.loader;
+
+import io.weaviate.client.base.concurrent.ClientExecutors;
+import io.weaviate.client.v1.batch.api.ObjectsBatcher;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Loads NDJSON or CSV files into a class. The file is split into ranges of whole lines, which are
+ * memory-mapped and parsed in parallel, and the mapped objects are passed to the given batcher.
+ * Every line break ends a record, so CSV values with line breaks can not be loaded; the parts of such
+ * a record are reported to the error handler.
+ * <p>
+ * An auto batcher should be used, preferably an adaptive one. The batcher is flushed after every range,
+ * so the resume offset only covers lines already sent, but it is not closed at the end of the load.
+ */
+public class BulkFileLoader {
+
+  private static final int SCAN_BUFFER_BYTES = 8 * 1024;
+
+  private final ObjectsBatcher batcher;
+  private final FileLoadConfig config;
+  private final ClientExecutors executors;
+  private final AtomicLong rows = new AtomicLong();
+  private final AtomicLong bytes = new AtomicLong();
+  private final AtomicLong errors = new AtomicLong();
+  // start to end offsets of parsed ranges not yet contiguous with parsedOffset
+  private final TreeMap<Long, Long> parsedRanges = new TreeMap<>();
+  private long parsedOffset;
+  private volatile long startedAt;
+  private volatile long finishedAt;
+  private volatile long resumeOffset;
+
+  /**
+   * @param executors threads the ranges are parsed on, at most parallelism of them at once
+   */
+  public BulkFileLoader(ObjectsBatcher batcher, FileLoadConfig config, ClientExecutors executors) {
+    this.batcher = batcher;
+    this.config = config;
+    this.executors = executors;
+  }
+
+  public LoadStats load(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+      long size = channel.size();
+      long start = nextLineStart(channel, config.getStartOffset(), size);
+      String headerLine = null;
+      if (config.getFormat() == FileFormat.CSV) {
+        long headerEnd = nextLineStart(channel, Math.min(1, size), size);
+        headerLine = readLine(channel, 0, headerEnd);
+        start = Math.max(start, headerEnd);
+      }
+      RecordMapper mapper = new RecordMapper(config.getMapping(), config.getFormat(), config.getCsvDelimiter(), headerLine);
+
+      List<long[]> ranges = new ArrayList<>();
+      for (long from = start; from < size; ) {
+        long to = nextLineStart(channel, Math.min(size, from + config.getChunkBytes()), size);
+        ranges.add(new long[]{from, to});
+        from = to;
+      }
+
+      rows.set(0);
+      bytes.set(0);
+      errors.set(0);
+      parsedRanges.clear();
+      parsedOffset = start;
+      resumeOffset = start;
+      finishedAt = 0;
+      startedAt = System.nanoTime();
+      ExecutorService executor = executors.bounded(Math.min(config.getParallelism(), Math.max(1, ranges.size())));
+      try {
+        List<Future<?>> futures = new ArrayList<>(ranges.size());
+        for (long[] range : ranges) {
+          futures.add(executor.submit(() -> {
+            loadRange(channel, range[0], range[1], mapper);
+            return null;
+          }));
+        }
+        for (Future<?> future : futures) {
+          future.get();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IOException("load interrupted", e);
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof IOException) {
+          throw (IOException) e.getCause();
+        }
+        throw new IOException(e.getCause());
+      } finally {
+        executor.shutdownNow();
+      }
+
+      finishedAt = System.nanoTime();
+      return getStats();
+    }
+  }
+
+  /**
+   * Progress of the current or last load.
+   */
+  public LoadStats getStats() {
+    long end = finishedAt != 0 ? finishedAt : System.nanoTime();
+    return LoadStats.builder()
+      .rows(rows.get())
+      .bytes(bytes.get())
+      .errors(errors.get())
+      .elapsedNanos(startedAt != 0 ? end - startedAt : 0)
+      .resumeOffset(resumeOffset)
+      .build();
+  }
+
+  private void loadRange(FileChannel channel, long from, long to, RecordMapper mapper) throws IOException {
+    MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, from, to - from);
+    List<WeaviateObject> pending = new ArrayList<>(config.getObjectsPerCall());
+    byte[] line = new byte[1024];
+    int lineStart = 0;
+    long pendingBytes = 0;
+    int limit = buffer.limit();
+
+    for (int i = 0; i <= limit; i++) {
+      if (i < limit && buffer.get(i) != '\n') {
+        continue;
+      }
+      int length = i - lineStart;
+      if (length > 0 && buffer.get(lineStart + length - 1) == '\r') {
+        length--;
+      }
+      if (length > 0) {
+        if (line.length < length) {
+          line = new byte[Math.max(length, line.length * 2)];
+        }
+        ByteBuffer view = buffer.duplicate();
+        view.position(lineStart);
+        view.get(line, 0, length);
+        try {
+          pending.add(mapper.map(new String(line, 0, length, StandardCharsets.UTF_8)));
+        } catch (RuntimeException e) {
+          errors.incrementAndGet();
+          if (config.getErrorHandler() != null) {
+            config.getErrorHandler().accept(from + lineStart, e);
+          }
+        }
+      }
+      pendingBytes += Math.min(i + 1, limit) - lineStart;
+      lineStart = i + 1;
+
+      if (pending.size() >= config.getObjectsPerCall()) {
+        handOver(pending, pendingBytes);
+        pendingBytes = 0;
+      }
+    }
+    handOver(pending, pendingBytes);
+    long parsed = rangeParsed(from, to);
+    // lines before parsed were handed over, once flushed they are sent or passed to the dead letter callback
+    batcher.flush();
+    rangeSent(parsed);
+  }
+
+  private void handOver(List<WeaviateObject> pending, long pendingBytes) {
+    if (!pending.isEmpty()) {
+      batcher.withObjects(pending.toArray(new WeaviateObject[0]));
+      rows.addAndGet(pending.size());
+      pending.clear();
+    }
+    bytes.addAndGet(pendingBytes);
+  }
+
+  private synchronized long rangeParsed(long from, long to) {
+    parsedRanges.put(from, to);
+    Long next;
+    while ((next = parsedRanges.remove(parsedOffset)) != null) {
+      parsedOffset = next;
+    }
+    return parsedOffset;
+  }
+
+  private synchronized void rangeSent(long parsed) {
+    resumeOffset = Math.max(resumeOffset, parsed);
+  }
+
+  /**
+   * Offset following the first line break at or after position - 1, that is position itself
+   * if it starts a line, or size if there are no more line breaks.
+   */
+  private static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+    if (position <= 0 || position >= size) {
+      return Math.max(0, Math.min(position, size));
+    }
+    ByteBuffer scan = ByteBuffer.allocate(SCAN_BUFFER_BYTES);
+    long offset = position - 1;
+    while (offset < size) {
+      scan.clear();
+      int read = channel.read(scan, offset);
+      if (read <= 0) {
+        break;
+      }
+      for (int i = 0; i < read; i++) {
+        if (scan.get(i) == '\n') {
+          return offset + i + 1;
+        }
+      }
+      offset += read;
+    }
+    return size;
+  }
+
+  private static String readLine(FileChannel channel, long from, long to) throws IOException {
+    ByteBuffer line = ByteBuffer.allocate((int) (to - from));
+    while (line.hasRemaining() && channel.read(line, from + line.position()) > 0) {
+      // read until the whole line is in
+    }
+    int length = line.position();
+    while (length > 0 && (line.get(length - 1) == '\n' || line.get(length - 1) == '\r')) {
+      length--;
+    }
+    return new String(line.array(), 0, length, StandardCharsets.UTF_8);
+  }
+}
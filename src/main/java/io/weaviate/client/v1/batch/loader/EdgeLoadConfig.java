@@ -0,0 +1,42 @@
+package io.weaviate.client.v1.batch.loader;
+
+import io.weaviate.client.base.util.Assert;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Builder
+@ToString
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class EdgeLoadConfig {
+
+  public static final int REFERENCES_PER_CALL = 100;
+
+  /**
+   * Number of references passed to the batcher at once. Edges are read ahead by no more than that.
+   */
+  int referencesPerCall;
+  char csvDelimiter;
+  /**
+   * If the first line of an edge file is a header to be skipped.
+   */
+  boolean csvHeader;
+
+  private EdgeLoadConfig(int referencesPerCall, char csvDelimiter, boolean csvHeader) {
+    Assert.requireGreaterEqual(referencesPerCall, 1, "referencesPerCall");
+
+    this.referencesPerCall = referencesPerCall;
+    this.csvDelimiter = csvDelimiter;
+    this.csvHeader = csvHeader;
+  }
+
+  public static EdgeLoadConfigBuilder defaultConfig() {
+    return EdgeLoadConfig.builder()
+      .referencesPerCall(REFERENCES_PER_CALL)
+      .csvDelimiter(FileLoadConfig.CSV_DELIMITER)
+      .csvHeader(false);
+  }
+}
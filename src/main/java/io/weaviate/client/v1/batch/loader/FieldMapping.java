@@ -0,0 +1,56 @@
+package io.weaviate.client.v1.batch.loader;
+
+import io.weaviate.client.base.util.Assert;
+import java.util.Collections;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Tells how fields of a file record become an object of a class.
+ */
+@Getter
+@Builder
+@ToString
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class FieldMapping {
+
+  String className;
+  /**
+   * Field holding the object id, null to generate ids.
+   */
+  String idField;
+  /**
+   * Field holding the vector as an array of numbers (a JSON array string in CSV files), null for no vector.
+   */
+  String vectorField;
+  /**
+   * Source field to property name. If empty, all fields other than id and vector are properties of the same name.
+   */
+  Map<String, String> properties;
+  /**
+   * Type of CSV values per source field, TEXT if not given. NDJSON values keep their JSON type.
+   */
+  Map<String, FieldType> types;
+
+  private FieldMapping(String className, String idField, String vectorField, Map<String, String> properties,
+                       Map<String, FieldType> types) {
+    Assert.requiredNotNull(className, "className");
+
+    this.className = className;
+    this.idField = idField;
+    this.vectorField = vectorField;
+    this.properties = properties != null ? properties : Collections.emptyMap();
+    this.types = types != null ? types : Collections.emptyMap();
+  }
+
+  public enum FieldType {
+    TEXT,
+    INT,
+    NUMBER,
+    BOOLEAN
+  }
+}
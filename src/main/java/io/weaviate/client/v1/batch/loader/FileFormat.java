@@ -0,0 +1,13 @@
+package io.weaviate.client.v1.batch.loader;
+
+public enum FileFormat {
+  /**
+   * One JSON object per line.
+   */
+  NDJSON,
+  /**
+   * Delimited values with a header line naming the columns. Quoted values may contain
+   * delimiters and doubled quotes, but not line breaks.
+   */
+  CSV
+}
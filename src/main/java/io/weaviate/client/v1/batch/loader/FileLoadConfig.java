@@ -0,0 +1,70 @@
+package io.weaviate.client.v1.batch.loader;
+
+import io.weaviate.client.base.util.Assert;
+import java.util.function.BiConsumer;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Builder
+@ToString
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class FileLoadConfig {
+
+  public static final int CHUNK_BYTES = 32 * 1024 * 1024;
+  public static final int OBJECTS_PER_CALL = 100;
+  public static final char CSV_DELIMITER = ',';
+
+  FileFormat format;
+  FieldMapping mapping;
+  /**
+   * Approximate size of the file ranges parsed in parallel. Ranges are extended to whole lines.
+   */
+  int chunkBytes;
+  int parallelism;
+  /**
+   * Offset of the line to start from, as returned by {@link LoadStats#getResumeOffset()} of an interrupted load.
+   */
+  long startOffset;
+  /**
+   * Number of parsed objects passed to the batcher at once.
+   */
+  int objectsPerCall;
+  char csvDelimiter;
+  /**
+   * Receives the offset of every line which could not be parsed or mapped, along with the error.
+   */
+  BiConsumer<Long, Exception> errorHandler;
+
+  private FileLoadConfig(FileFormat format, FieldMapping mapping, int chunkBytes, int parallelism, long startOffset,
+                         int objectsPerCall, char csvDelimiter, BiConsumer<Long, Exception> errorHandler) {
+    Assert.requiredNotNull(format, "format");
+    Assert.requiredNotNull(mapping, "mapping");
+    Assert.requireGreaterEqual(chunkBytes, 1, "chunkBytes");
+    Assert.requireGreaterEqual(parallelism, 1, "parallelism");
+    Assert.requireGreaterEqual(startOffset, 0, "startOffset");
+    Assert.requireGreaterEqual(objectsPerCall, 1, "objectsPerCall");
+
+    this.format = format;
+    this.mapping = mapping;
+    this.chunkBytes = chunkBytes;
+    this.parallelism = parallelism;
+    this.startOffset = startOffset;
+    this.objectsPerCall = objectsPerCall;
+    this.csvDelimiter = csvDelimiter;
+    this.errorHandler = errorHandler;
+  }
+
+  public static FileLoadConfigBuilder defaultConfig() {
+    return FileLoadConfig.builder()
+      .chunkBytes(CHUNK_BYTES)
+      .parallelism(Runtime.getRuntime().availableProcessors())
+      .startOffset(0)
+      .objectsPerCall(OBJECTS_PER_CALL)
+      .csvDelimiter(CSV_DELIMITER)
+      .errorHandler(null);
+  }
+}
@@ -0,0 +1,22 @@
+package io.weaviate.client.v1.batch.loader;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Reference from the property of a source object to a target object.
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class GraphEdge {
+  String className;
+  String property;
+  String sourceId;
+  String targetClassName;
+  String targetId;
+}
@@ -0,0 +1,96 @@
+package io.weaviate.client.v1.batch.loader;
+
+import io.weaviate.client.v1.batch.api.ReferencesBatcher;
+import io.weaviate.client.v1.batch.model.BatchReference;
+import io.weaviate.client.v1.batch.util.BeaconEncoder;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Streams edges into a references batcher. Edges are read lazily and passed on in small groups, so memory
+ * stays bounded as long as the batcher limits its pending batches (see
+ * {@link ReferencesBatcher.AutoBatchConfig#getMaxPendingBatches()}). The batcher is flushed, but not closed,
+ * at the end of a load.
+ */
+public class GraphEdgeLoader {
+
+  private final ReferencesBatcher batcher;
+  private final BeaconEncoder encoder;
+  private final EdgeLoadConfig config;
+
+  public GraphEdgeLoader(ReferencesBatcher batcher, BeaconEncoder encoder, EdgeLoadConfig config) {
+    this.batcher = batcher;
+    this.encoder = encoder;
+    this.config = config;
+  }
+
+  /**
+   * @return number of references passed to the batcher
+   */
+  public long load(Iterator<GraphEdge> edges) {
+    long loaded = 0;
+    BatchReference[] references = new BatchReference[config.getReferencesPerCall()];
+    int size = 0;
+    while (edges.hasNext()) {
+      GraphEdge edge = edges.next();
+      references[size++] = reference(edge.getClassName(), edge.getProperty(), edge.getSourceId(),
+        edge.getTargetClassName(), edge.getTargetId());
+      if (size == references.length) {
+        batcher.withReferences(references);
+        loaded += size;
+        // the batcher may still hold on to the array, e.g. when passing it to the backpressure callback
+        references = new BatchReference[references.length];
+        size = 0;
+      }
+    }
+    if (size > 0) {
+      BatchReference[] rest = new BatchReference[size];
+      System.arraycopy(references, 0, rest, 0, size);
+      batcher.withReferences(rest);
+      loaded += size;
+    }
+    batcher.flush();
+    return loaded;
+  }
+
+  public long load(Stream<GraphEdge> edges) {
+    try (Stream<GraphEdge> stream = edges) {
+      return load(stream.iterator());
+    }
+  }
+
+  /**
+   * Loads a CSV file with columns: class name, property, source id, target class name (may be empty), target id.
+   */
+  public long loadFile(Path file) throws IOException {
+    try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+      Stream<String> lines = reader.lines();
+      if (config.isCsvHeader()) {
+        lines = lines.skip(1);
+      }
+      return load(lines.filter(line -> !line.isEmpty()).map(this::edge));
+    }
+  }
+
+  private GraphEdge edge(String line) {
+    List<String> values = RecordMapper.splitCsv(line, config.getCsvDelimiter());
+    if (values.size() != 5) {
+      throw new IllegalArgumentException(String.format("expected 5 values, found %d in: %s", values.size(), line));
+    }
+    return new GraphEdge(values.get(0), values.get(1), values.get(2), values.get(3), values.get(4));
+  }
+
+  private BatchReference reference(String className, String property, String sourceId, String targetClassName,
+                                   String targetId) {
+    return BatchReference.builder()
+      .from(encoder.from(className, sourceId, property))
+      .to(encoder.to(targetClassName, targetId))
+      .build();
+  }
+}
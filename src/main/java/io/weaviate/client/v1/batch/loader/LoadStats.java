@@ -0,0 +1,37 @@
+package io.weaviate.client.v1.batch.loader;
+
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Builder
+@ToString
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class LoadStats {
+
+  long rows;
+  long bytes;
+  long errors;
+  long elapsedNanos;
+  /**
+   * Offset up to which all lines were sent by the batcher, or passed to its dead letter callback.
+   * A load started from it skips no line, but lines sent after it may be sent again.
+   */
+  long resumeOffset;
+
+  public double getRowsPerSecond() {
+    return perSecond(rows);
+  }
+
+  public double getBytesPerSecond() {
+    return perSecond(bytes);
+  }
+
+  private double perSecond(long count) {
+    return elapsedNanos > 0 ? count * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos : 0;
+  }
+}
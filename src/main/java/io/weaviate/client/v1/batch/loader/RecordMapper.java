@@ -0,0 +1,145 @@
+package io.weaviate.client.v1.batch.loader;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.ToNumberPolicy;
+import com.google.gson.reflect.TypeToken;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Turns a single line of a file into an object, according to the field mapping.
+ * Thread safe.
+ */
+class RecordMapper {
+
+  private static final Type FIELDS_TYPE = new TypeToken<Map<String, Object>>() {}.getType();
+  private static final Type VECTOR_TYPE = new TypeToken<List<Number>>() {}.getType();
+
+  // numbers keep their literal form, so integers are not sent as 1.0
+  private final Gson gson = new GsonBuilder()
+    .setObjectToNumberStrategy(ToNumberPolicy.LAZILY_PARSED_NUMBER)
+    .create();
+  private final FieldMapping mapping;
+  private final FileFormat format;
+  private final char delimiter;
+  private final String[] header;
+
+  RecordMapper(FieldMapping mapping, FileFormat format, char delimiter, String headerLine) {
+    this.mapping = mapping;
+    this.format = format;
+    this.delimiter = delimiter;
+    this.header = headerLine != null ? splitCsv(headerLine, delimiter).toArray(new String[0]) : null;
+  }
+
+  WeaviateObject map(String line) {
+    Map<String, Object> fields = format == FileFormat.CSV ? csvFields(line) : gson.fromJson(line, FIELDS_TYPE);
+    if (fields == null) {
+      throw new IllegalArgumentException("not a JSON object");
+    }
+
+    Object id = mapping.getIdField() != null ? fields.get(mapping.getIdField()) : null;
+    return WeaviateObject.builder()
+      .className(mapping.getClassName())
+      .id(id != null ? id.toString() : UUID.randomUUID().toString())
+      .vector(mapping.getVectorField() != null ? vector(fields.get(mapping.getVectorField())) : null)
+      .properties(properties(fields))
+      .build();
+  }
+
+  private Map<String, Object> properties(Map<String, Object> fields) {
+    Map<String, Object> properties = new HashMap<>();
+    if (mapping.getProperties().isEmpty()) {
+      fields.forEach((field, value) -> {
+        if (value != null && !field.equals(mapping.getIdField()) && !field.equals(mapping.getVectorField())) {
+          properties.put(field, value);
+        }
+      });
+    } else {
+      mapping.getProperties().forEach((field, property) -> {
+        Object value = fields.get(field);
+        if (value != null) {
+          properties.put(property, value);
+        }
+      });
+    }
+    return properties;
+  }
+
+  private Float[] vector(Object value) {
+    if (value == null) {
+      return null;
+    }
+    List<?> numbers = value instanceof String ? gson.fromJson((String) value, VECTOR_TYPE) : (List<?>) value;
+    Float[] vector = new Float[numbers.size()];
+    for (int i = 0; i < vector.length; i++) {
+      vector[i] = ((Number) numbers.get(i)).floatValue();
+    }
+    return vector;
+  }
+
+  private Map<String, Object> csvFields(String line) {
+    List<String> values = splitCsv(line, delimiter);
+    if (values.size() != header.length) {
+      throw new IllegalArgumentException(String.format("expected %d values, found %d", header.length, values.size()));
+    }
+    Map<String, Object> fields = new HashMap<>();
+    for (int i = 0; i < header.length; i++) {
+      String value = values.get(i);
+      if (!value.isEmpty()) {
+        fields.put(header[i], convert(value, mapping.getTypes().getOrDefault(header[i], FieldMapping.FieldType.TEXT)));
+      }
+    }
+    return fields;
+  }
+
+  private static Object convert(String value, FieldMapping.FieldType type) {
+    switch (type) {
+      case INT:
+        return Long.parseLong(value.trim());
+      case NUMBER:
+        return Double.parseDouble(value.trim());
+      case BOOLEAN:
+        return Boolean.parseBoolean(value.trim());
+      default:
+        return value;
+    }
+  }
+
+  static List<String> splitCsv(String line, char delimiter) {
+    List<String> values = new ArrayList<>();
+    StringBuilder value = new StringBuilder();
+    boolean quoted = false;
+    for (int i = 0; i < line.length(); i++) {
+      char c = line.charAt(i);
+      if (quoted) {
+        if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+          value.append('"');
+          i++;
+        } else if (c == '"') {
+          quoted = false;
+        } else {
+          value.append(c);
+        }
+      } else if (c == '"') {
+        quoted = true;
+      } else if (c == delimiter) {
+        values.add(value.toString());
+        value.setLength(0);
+      } else {
+        value.append(c);
+      }
+    }
+    if (quoted) {
+      throw new IllegalArgumentException(
+        "quoted value not closed on its line, line breaks in quoted values are not supported");
+    }
+    values.add(value.toString());
+    return values;
+  }
+}
@@ -0,0 +1,214 @@
+package io.weaviate.client.v1.batch.loader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Memory-mapped file of float32 vectors, one row per vector. Rows are returned as views of the mapping,
+ * so vectors are neither copied to the heap nor boxed. Thread safe.
+ * <p>
+ * Supported are little-endian {@code .npy} files of 2 dimensions ({@code <f4}, C order),
+ * {@code .fvecs} files and raw float32 files of known dimensions.
+ */
+public class VectorFile implements Closeable {
+
+  private static final byte[] NPY_MAGIC = {(byte) 0x93, 'N', 'U', 'M', 'P', 'Y'};
+  private static final Pattern NPY_DESCR = Pattern.compile("'descr'\\s*:\\s*'([^']*)'");
+  private static final Pattern NPY_FORTRAN = Pattern.compile("'fortran_order'\\s*:\\s*(True|False)");
+  private static final Pattern NPY_SHAPE = Pattern.compile("'shape'\\s*:\\s*\\(\\s*(\\d+)\\s*,\\s*(\\d+)\\s*,?\\s*\\)");
+
+  private final FileChannel channel;
+  @Getter
+  private final long rows;
+  @Getter
+  private final int dimensions;
+  private final long dataOffset;
+  private final int rowBytes;
+  // floats of a row are preceded by its dimensions in fvecs files
+  private final int rowPrefixBytes;
+  private final int rowsPerRegion;
+  private final MappedByteBuffer[] regions;
+
+  private VectorFile(FileChannel channel, long dataOffset, long rows, int dimensions, int rowPrefixBytes) throws IOException {
+    checkDimensions(dimensions, rowPrefixBytes);
+    this.channel = channel;
+    this.rows = rows;
+    this.dimensions = dimensions;
+    this.dataOffset = dataOffset;
+    this.rowPrefixBytes = rowPrefixBytes;
+    this.rowBytes = rowPrefixBytes + dimensions * Float.BYTES;
+    // a single mapping is limited to 2GB, regions hold whole rows
+    this.rowsPerRegion = Integer.MAX_VALUE / rowBytes;
+    int regionCount = (int) ((rows + rowsPerRegion - 1) / rowsPerRegion);
+    this.regions = new MappedByteBuffer[regionCount];
+    for (int i = 0; i < regionCount; i++) {
+      long regionRows = Math.min(rowsPerRegion, rows - (long) i * rowsPerRegion);
+      regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, dataOffset + (long) i * rowsPerRegion * rowBytes, regionRows * rowBytes);
+    }
+  }
+
+  public static VectorFile open(Path file, VectorFileFormat format) throws IOException {
+    switch (format) {
+      case NPY:
+        return openNpy(file);
+      case FVECS:
+        return openFvecs(file);
+      default:
+        throw new IllegalArgumentException("dimensions are needed to open raw float32 files");
+    }
+  }
+
+  public static VectorFile openRaw(Path file, int dimensions) throws IOException {
+    checkDimensions(dimensions, 0);
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+    return create(channel, 0, channel.size() / ((long) dimensions * Float.BYTES), dimensions, 0);
+  }
+
+  /**
+   * Vector of the given row, as a little-endian view of the file.
+   */
+  public FloatBuffer row(long row) {
+    if (row < 0 || row >= rows) {
+      throw new IndexOutOfBoundsException("row " + row + " of " + rows);
+    }
+    ByteBuffer view = regions[(int) (row / rowsPerRegion)].duplicate();
+    int position = (int) (row % rowsPerRegion) * rowBytes + rowPrefixBytes;
+    view.position(position);
+    view.limit(position + dimensions * Float.BYTES);
+    return view.slice().order(ByteOrder.LITTLE_ENDIAN).asFloatBuffer();
+  }
+
+  /**
+   * Splits the rows into at most the given number of consecutive ranges of similar size,
+   * to be imported by parallel workers.
+   */
+  public List<Range> split(int parts) {
+    List<Range> ranges = new ArrayList<>();
+    long step = Math.max(1, (rows + parts - 1) / parts);
+    for (long from = 0; from < rows; from += step) {
+      ranges.add(new Range(from, Math.min(rows, from + step)));
+    }
+    return ranges;
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+
+  private static VectorFile openNpy(Path file) throws IOException {
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      ByteBuffer preamble = read(channel, 0, 12).order(ByteOrder.LITTLE_ENDIAN);
+      for (int i = 0; i < NPY_MAGIC.length; i++) {
+        if (preamble.get(i) != NPY_MAGIC[i]) {
+          throw new IOException("not a .npy file");
+        }
+      }
+      int major = preamble.get(6);
+      int headerLengthBytes = major == 1 ? 2 : 4;
+      int headerLength = major == 1 ? preamble.getShort(8) & 0xffff : preamble.getInt(8);
+      long headerOffset = 8 + headerLengthBytes;
+      String header = StandardCharsets.ISO_8859_1.decode(read(channel, headerOffset, headerLength)).toString();
+
+      String descr = group(NPY_DESCR, header, "descr");
+      if (!descr.equals("<f4") && !descr.equals("float32")) {
+        throw new IOException("unsupported .npy dtype " + descr + ", expected <f4");
+      }
+      if (group(NPY_FORTRAN, header, "fortran_order").equals("True")) {
+        throw new IOException("unsupported .npy fortran order");
+      }
+      Matcher shape = NPY_SHAPE.matcher(header);
+      if (!shape.find()) {
+        throw new IOException("unsupported .npy shape, expected 2 dimensions");
+      }
+      return create(channel, headerOffset + headerLength, Long.parseLong(shape.group(1)), Integer.parseInt(shape.group(2)), 0);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private static VectorFile openFvecs(Path file) throws IOException {
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+    try {
+      if (channel.size() == 0) {
+        return create(channel, 0, 0, 1, Integer.BYTES);
+      }
+      int dimensions = read(channel, 0, Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).getInt(0);
+      if (dimensions < 1) {
+        throw new IOException("invalid .fvecs dimensions " + dimensions);
+      }
+      long rowBytes = Integer.BYTES + (long) dimensions * Float.BYTES;
+      return create(channel, 0, channel.size() / rowBytes, dimensions, Integer.BYTES);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  /**
+   * Rows are mapped whole, so a row has to fit in a single 2GB mapping.
+   */
+  private static void checkDimensions(int dimensions, int rowPrefixBytes) {
+    if (dimensions < 1) {
+      throw new IllegalArgumentException("dimensions should be at least 1");
+    }
+    if (rowPrefixBytes + (long) dimensions * Float.BYTES > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("dimensions " + dimensions + " too large, a row should fit in 2GB");
+    }
+  }
+
+  private static VectorFile create(FileChannel channel, long dataOffset, long rows, int dimensions,
+                                   int rowPrefixBytes) throws IOException {
+    try {
+      return new VectorFile(channel, dataOffset, rows, dimensions, rowPrefixBytes);
+    } catch (IOException | RuntimeException e) {
+      channel.close();
+      throw e;
+    }
+  }
+
+  private static ByteBuffer read(FileChannel channel, long position, int length) throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(length);
+    while (buffer.hasRemaining()) {
+      if (channel.read(buffer, position + buffer.position()) < 0) {
+        throw new IOException("unexpected end of file");
+      }
+    }
+    buffer.flip();
+    return buffer;
+  }
+
+  private static String group(Pattern pattern, String header, String name) throws IOException {
+    Matcher matcher = pattern.matcher(header);
+    if (!matcher.find()) {
+      throw new IOException("missing " + name + " in .npy header");
+    }
+    return matcher.group(1);
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  @FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+  public static class Range {
+    long from;
+    long to;
+  }
+}
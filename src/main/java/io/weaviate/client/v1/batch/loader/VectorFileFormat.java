@@ -0,0 +1,16 @@
+package io.weaviate.client.v1.batch.loader;
+
+public enum VectorFileFormat {
+  /**
+   * NumPy array of shape (rows, dimensions) and dtype float32.
+   */
+  NPY,
+  /**
+   * Rows of an int32 dimension count followed by that many float32 values.
+   */
+  FVECS,
+  /**
+   * Little-endian float32 values only, dimensions have to be known.
+   */
+  RAW_FLOAT32
+}
@@ -0,0 +1,64 @@
+package io.weaviate.client.v1.batch.loader;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.util.Assert;
+import io.weaviate.client.v1.batch.api.ObjectsBatcher;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import java.util.function.Consumer;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Builder
+@ToString
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class VectorImportConfig {
+
+  public static final int BATCH_SIZE = 100;
+  public static final int PARALLELISM = 4;
+
+  String className;
+  int batchSize;
+  /**
+   * Number of row ranges imported at the same time, each sending one batch at a time.
+   */
+  int parallelism;
+  String consistencyLevel;
+  /**
+   * Receives the result of every sent batch.
+   */
+  Consumer<Result<ObjectGetResponse[]>> callback;
+  /**
+   * Retries of connection errors, timeouts and failed objects, and the dead letter callback receiving
+   * rows given up on, as used by the objects batcher.
+   */
+  ObjectsBatcher.BatchRetriesConfig retriesConfig;
+
+  private VectorImportConfig(String className, int batchSize, int parallelism, String consistencyLevel,
+                             Consumer<Result<ObjectGetResponse[]>> callback,
+                             ObjectsBatcher.BatchRetriesConfig retriesConfig) {
+    Assert.requiredNotNull(className, "className");
+    Assert.requireGreaterEqual(batchSize, 1, "batchSize");
+    Assert.requireGreaterEqual(parallelism, 1, "parallelism");
+    Assert.requiredNotNull(retriesConfig, "retriesConfig");
+
+    this.className = className;
+    this.batchSize = batchSize;
+    this.parallelism = parallelism;
+    this.consistencyLevel = consistencyLevel;
+    this.callback = callback;
+    this.retriesConfig = retriesConfig;
+  }
+
+  public static VectorImportConfigBuilder defaultConfig() {
+    return VectorImportConfig.builder()
+      .batchSize(BATCH_SIZE)
+      .parallelism(PARALLELISM)
+      .consistencyLevel(null)
+      .callback(null)
+      .retriesConfig(ObjectsBatcher.BatchRetriesConfig.defaultConfig().build());
+  }
+}
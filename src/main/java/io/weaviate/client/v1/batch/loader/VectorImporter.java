@@ -0,0 +1,223 @@
+package io.weaviate.client.v1.batch.loader;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.BaseClient;
+import io.weaviate.client.base.Response;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.cache.CacheInvalidator;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.v1.batch.api.ObjectsBatcher;
+import io.weaviate.client.v1.batch.model.FailedBatchObject;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.batch.model.VectorObject;
+import io.weaviate.client.v1.batch.model.VectorObjectsBatchRequestBody;
+import io.weaviate.client.v1.batch.util.BatchFailures;
+import io.weaviate.client.v1.batch.util.ObjectsPath;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.net.ConnectException;
+import java.net.SocketTimeoutException;
+import java.nio.FloatBuffer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.LongFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Imports the vectors of a {@link VectorFile}, row by row, as objects of a class. Vectors are written
+ * to the request body straight from the file mapping. The file is split into ranges imported in parallel.
+ */
+public class VectorImporter extends BaseClient<ObjectGetResponse[]> {
+
+  private final ObjectsPath objectsPath;
+  private final VectorImportConfig importConfig;
+  private final CacheInvalidator cacheInvalidator;
+
+  public VectorImporter(HttpClient httpClient, Config config, ObjectsPath objectsPath, VectorImportConfig importConfig) {
+    this(httpClient, config, objectsPath, importConfig, null);
+  }
+
+  public VectorImporter(HttpClient httpClient, Config config, ObjectsPath objectsPath, VectorImportConfig importConfig,
+                        CacheInvalidator cacheInvalidator) {
+    super(httpClient, config);
+    this.objectsPath = objectsPath;
+    this.importConfig = importConfig;
+    this.cacheInvalidator = cacheInvalidator;
+  }
+
+  /**
+   * @param ids        id of the object of a row
+   * @param properties properties of the object of a row, may be null
+   * @return number of objects stored without errors
+   */
+  public long importFile(VectorFile file, LongFunction<String> ids, LongFunction<Map<String, Object>> properties) {
+    List<VectorFile.Range> ranges = file.split(importConfig.getParallelism());
+    if (ranges.isEmpty()) {
+      return 0;
+    }
+    ExecutorService executor = executors().bounded(ranges.size());
+    try {
+      List<Future<Long>> futures = new ArrayList<>(ranges.size());
+      for (VectorFile.Range range : ranges) {
+        futures.add(executor.submit(() -> importRange(file, range, ids, properties)));
+      }
+      long imported = 0;
+      for (Future<Long> future : futures) {
+        imported += future.get();
+      }
+      return imported;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("import interrupted", e);
+    } catch (ExecutionException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      executor.shutdownNow();
+      if (cacheInvalidator != null) {
+        cacheInvalidator.invalidateClass(importConfig.getClassName());
+      }
+    }
+  }
+
+  private long importRange(VectorFile file, VectorFile.Range range, LongFunction<String> ids,
+                           LongFunction<Map<String, Object>> properties) {
+    String path = objectsPath.buildCreate(ObjectsPath.Params.builder()
+      .consistencyLevel(importConfig.getConsistencyLevel())
+      .build());
+    long imported = 0;
+    for (long from = range.getFrom(); from < range.getTo(); from += importConfig.getBatchSize()) {
+      int size = (int) Math.min(importConfig.getBatchSize(), range.getTo() - from);
+      List<VectorObject> objects = new ArrayList<>(size);
+      for (int i = 0; i < size; i++) {
+        long row = from + i;
+        objects.add(VectorObject.builder()
+          .id(ids.apply(row))
+          .className(importConfig.getClassName())
+          .properties(properties != null ? properties.apply(row) : null)
+          .vector(file.row(row))
+          .build());
+      }
+      imported += send(path, objects);
+    }
+    return imported;
+  }
+
+  /**
+   * Sends the objects, retrying them the way the objects batcher does. Objects are created with their ids,
+   * so a batch that timed out is sent again as a whole.
+   *
+   * @return number of objects stored without errors
+   */
+  private long send(String path, List<VectorObject> objects) {
+    ObjectsBatcher.BatchRetriesConfig retries = importConfig.getRetriesConfig();
+    int connectionErrorCount = 0;
+    int timeoutErrorCount = 0;
+    int objectErrorCount = 0;
+    long stored = 0;
+    while (true) {
+      VectorObjectsBatchRequestBody body = VectorObjectsBatchRequestBody.builder()
+        .fields(new String[]{"ALL"})
+        .objects(objects.toArray(new VectorObject[0]))
+        .build();
+      Response<ObjectGetResponse[]> response = sendPostRequest(path, body, ObjectGetResponse[].class);
+      Result<ObjectGetResponse[]> result = new Result<>(response);
+      if (importConfig.getCallback() != null) {
+        importConfig.getCallback().accept(result);
+      }
+
+      if (result.hasErrors()) {
+        List<WeaviateErrorMessage> messages = result.getError().getMessages();
+        Throwable throwable = messages.isEmpty() ? null : messages.get(0).getThrowable();
+        if (throwable instanceof ConnectException && connectionErrorCount++ < retries.getMaxConnectionRetries()) {
+          pause(connectionErrorCount * retries.getRetriesIntervalMs());
+          continue;
+        }
+        if (throwable instanceof SocketTimeoutException && timeoutErrorCount++ < retries.getMaxTimeoutRetries()) {
+          pause(timeoutErrorCount * retries.getRetriesIntervalMs());
+          continue;
+        }
+        List<String> errors = messages.stream().map(WeaviateErrorMessage::getMessage).collect(Collectors.toList());
+        boolean retryable = BatchFailures.isRetryable(result.getError());
+        deadLetter(objects.stream()
+          .map(object -> failed(object, errors, retryable))
+          .collect(Collectors.toList()));
+        return stored;
+      }
+
+      List<FailedBatchObject> failures = new ArrayList<>();
+      List<VectorObject> retryable = new ArrayList<>();
+      Map<String, VectorObject> objectsById = new HashMap<>();
+      objects.forEach(object -> objectsById.put(object.getId(), object));
+      for (ObjectGetResponse item : result.getResult() != null ? result.getResult() : new ObjectGetResponse[0]) {
+        if (item.getResult() == null || item.getResult().getErrors() == null) {
+          stored++;
+          continue;
+        }
+        VectorObject object = objectsById.get(item.getId());
+        if (object == null) {
+          continue;
+        }
+        List<String> errors = BatchFailures.errorMessages(item.getResult().getErrors());
+        FailedBatchObject failure = failed(object, errors,
+          !errors.isEmpty() && errors.stream().allMatch(retries.getRetryableError()));
+        if (failure.isRetryable() && objectErrorCount < retries.getMaxObjectRetries()) {
+          retryable.add(object);
+        } else {
+          failures.add(failure);
+        }
+      }
+      deadLetter(failures);
+      if (retryable.isEmpty()) {
+        return stored;
+      }
+      objects = retryable;
+      pause(++objectErrorCount * retries.getRetriesIntervalMs());
+    }
+  }
+
+  /**
+   * Failed objects get their vector copied, to be passed on like the ones of the objects batcher.
+   */
+  private static FailedBatchObject failed(VectorObject object, List<String> errors, boolean retryable) {
+    FloatBuffer vector = object.getVector().duplicate();
+    Float[] copy = new Float[vector.remaining()];
+    for (int i = 0; i < copy.length; i++) {
+      copy[i] = vector.get();
+    }
+    return FailedBatchObject.builder()
+      .object(WeaviateObject.builder()
+        .id(object.getId())
+        .className(object.getClassName())
+        .properties(object.getProperties())
+        .vector(copy)
+        .build())
+      .errors(errors)
+      .retryable(retryable)
+      .build();
+  }
+
+  private void deadLetter(List<FailedBatchObject> failures) {
+    Consumer<List<FailedBatchObject>> callback = importConfig.getRetriesConfig().getDeadLetterCallback();
+    if (callback != null && !failures.isEmpty()) {
+      callback.accept(failures);
+    }
+  }
+
+  private static void pause(long ms) {
+    try {
+      Thread.sleep(ms);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("import interrupted", e);
+    }
+  }
+}
@@ -0,0 +1,112 @@
+package io.weaviate.client.v1.batch.metrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Listener collecting batcher metrics in memory, read with {@link #snapshot()}.
+ * Can be shared by several batchers to get their totals, queue depth and batches in flight are then
+ * the ones last reported by any of them.
+ */
+public class BatchMetrics implements BatchMetricsListener {
+
+  public static final long[] LATENCY_BOUNDS_MS = {
+    1, 2, 5, 10, 20, 50, 100, 200, 500, 1_000, 2_000, 5_000, 10_000, 30_000, 60_000
+  };
+
+  private final long startedAt = System.nanoTime();
+  private final LongAdder submittedItems = new LongAdder();
+  private final LongAdder submittedBytes = new LongAdder();
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicInteger inFlight = new AtomicInteger();
+  private final LongAdder startedBatches = new LongAdder();
+  private final LongAdder completedBatches = new LongAdder();
+  private final LongAdder completedItems = new LongAdder();
+  private final LongAdder failedItems = new LongAdder();
+  private final LongAdder requests = new LongAdder();
+  private final LongAdder failedRequests = new LongAdder();
+  private final Map<RetryCause, LongAdder> retries = new EnumMap<>(RetryCause.class);
+  private final AtomicLongArray latencyCounts = new AtomicLongArray(LATENCY_BOUNDS_MS.length + 1);
+
+  public BatchMetrics() {
+    for (RetryCause cause : RetryCause.values()) {
+      retries.put(cause, new LongAdder());
+    }
+  }
+
+  @Override
+  public void onSubmitted(int items, long bytes, int queueDepth) {
+    submittedItems.add(items);
+    submittedBytes.add(bytes);
+    this.queueDepth.set(queueDepth);
+  }
+
+  @Override
+  public void onBatchStarted(int items, int inFlight) {
+    startedBatches.increment();
+    this.inFlight.set(inFlight);
+    queueDepth.updateAndGet(depth -> Math.max(0, depth - items));
+  }
+
+  @Override
+  public void onRequest(int items, long latencyNanos, boolean failed) {
+    requests.increment();
+    if (failed) {
+      failedRequests.increment();
+    }
+    latencyCounts.incrementAndGet(bucket(TimeUnit.NANOSECONDS.toMillis(latencyNanos)));
+  }
+
+  @Override
+  public void onRetry(RetryCause cause, int items) {
+    retries.get(cause).increment();
+  }
+
+  @Override
+  public void onFailed(int items) {
+    failedItems.add(items);
+  }
+
+  @Override
+  public void onBatchCompleted(int items, long elapsedNanos, int inFlight) {
+    completedBatches.increment();
+    completedItems.add(items);
+    this.inFlight.set(inFlight);
+  }
+
+  public BatchMetricsSnapshot snapshot() {
+    Map<RetryCause, Long> retryCounts = new EnumMap<>(RetryCause.class);
+    retries.forEach((cause, count) -> retryCounts.put(cause, count.sum()));
+    long[] latencies = new long[latencyCounts.length()];
+    for (int i = 0; i < latencies.length; i++) {
+      latencies[i] = latencyCounts.get(i);
+    }
+    return BatchMetricsSnapshot.builder()
+      .submittedItems(submittedItems.sum())
+      .submittedBytes(submittedBytes.sum())
+      .queueDepth(queueDepth.get())
+      .inFlight(inFlight.get())
+      .startedBatches(startedBatches.sum())
+      .completedBatches(completedBatches.sum())
+      .completedItems(completedItems.sum())
+      .failedItems(failedItems.sum())
+      .requests(requests.sum())
+      .failedRequests(failedRequests.sum())
+      .retries(Collections.unmodifiableMap(retryCounts))
+      .latencyBoundsMs(LATENCY_BOUNDS_MS.clone())
+      .latencyCounts(latencies)
+      .elapsedNanos(System.nanoTime() - startedAt)
+      .build();
+  }
+
+  private static int bucket(long latencyMs) {
+    int index = Arrays.binarySearch(LATENCY_BOUNDS_MS, latencyMs);
+    return index >= 0 ? index : -index - 1;
+  }
+}
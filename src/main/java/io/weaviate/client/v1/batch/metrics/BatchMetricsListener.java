@@ -0,0 +1,52 @@
+package io.weaviate.client.v1.batch.metrics;
+
+/**
+ * Receives events of an auto batcher, e.g. to feed a metrics library. Methods are called on the threads
+ * adding items and sending batches, so they should return quickly.
+ * <p>
+ * Items are objects or references, depending on the batcher.
+ */
+public interface BatchMetricsListener {
+
+  /**
+   * Items added to the batcher.
+   *
+   * @param bytes      estimated serialized size of the items
+   * @param queueDepth items waiting to be sent, including the added ones
+   */
+  default void onSubmitted(int items, long bytes, int queueDepth) {
+  }
+
+  /**
+   * Batch taken from the queue to be sent.
+   *
+   * @param inFlight batches being sent, including this one
+   */
+  default void onBatchStarted(int items, int inFlight) {
+  }
+
+  /**
+   * Single request sent to the server, a batch takes more than one if it is retried.
+   *
+   * @param failed request failed as a whole, e.g. with a connection error or an error status
+   */
+  default void onRequest(int items, long latencyNanos, boolean failed) {
+  }
+
+  default void onRetry(RetryCause cause, int items) {
+  }
+
+  /**
+   * Items which could not be stored, after all retries.
+   */
+  default void onFailed(int items) {
+  }
+
+  /**
+   * Batch done, after all its retries.
+   *
+   * @param inFlight batches still being sent
+   */
+  default void onBatchCompleted(int items, long elapsedNanos, int inFlight) {
+  }
+}
@@ -0,0 +1,68 @@
+package io.weaviate.client.v1.batch.metrics;
+
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Metrics of a batcher at a point in time, counted since the {@link BatchMetrics} was created.
+ * <p>
+ * A growing queue with all batches in flight and low request latency points at the client or network side,
+ * while rising latency and retries point at the server.
+ */
+@Getter
+@Builder
+@ToString
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class BatchMetricsSnapshot {
+  long submittedItems;
+  long submittedBytes;
+  int queueDepth;
+  int inFlight;
+  long startedBatches;
+  long completedBatches;
+  long completedItems;
+  long failedItems;
+  long requests;
+  long failedRequests;
+  Map<RetryCause, Long> retries;
+  /**
+   * Upper bounds of the request latency histogram buckets, the last bucket in latencyCounts has no bound.
+   */
+  long[] latencyBoundsMs;
+  long[] latencyCounts;
+  long elapsedNanos;
+
+  /**
+   * Items stored per second, failed items excluded.
+   */
+  public double getItemsPerSecond() {
+    return elapsedNanos > 0 ? (completedItems - failedItems) * 1e9 / elapsedNanos : 0;
+  }
+
+  /**
+   * Upper bound of the histogram bucket holding the given quantile (0..1) of request latencies,
+   * Long.MAX_VALUE if it falls into the last bucket, -1 if no request was sent yet.
+   */
+  public long getLatencyPercentileMs(double quantile) {
+    long total = 0;
+    for (long count : latencyCounts) {
+      total += count;
+    }
+    if (total == 0) {
+      return -1;
+    }
+    long rank = Math.max(1, (long) Math.ceil(quantile * total));
+    long seen = 0;
+    for (int i = 0; i < latencyBoundsMs.length; i++) {
+      seen += latencyCounts[i];
+      if (seen >= rank) {
+        return latencyBoundsMs[i];
+      }
+    }
+    return Long.MAX_VALUE;
+  }
+}
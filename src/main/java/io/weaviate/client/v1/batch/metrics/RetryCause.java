@@ -0,0 +1,16 @@
+package io.weaviate.client.v1.batch.metrics;
+
+public enum RetryCause {
+  /**
+   * Server could not be reached.
+   */
+  CONNECTION,
+  /**
+   * Request timed out, objects not stored meanwhile are sent again.
+   */
+  TIMEOUT,
+  /**
+   * Batch was stored, but single items were rejected with retryable errors.
+   */
+  ITEM_ERROR
+}
@@ -0,0 +1,26 @@
+package io.weaviate.client.v1.batch.model;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Totals of a bulk delete, reported as progress after each request and as its final result.
+ */
+@Getter
+@Builder
+@ToString
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class BulkDeleteResult {
+  long successful;
+  long failed;
+  long requests;
+  /**
+   * Number of filters (partitions or id chunks) with no matching objects left.
+   */
+  int completedFilters;
+  int totalFilters;
+  long elapsedMs;
+}
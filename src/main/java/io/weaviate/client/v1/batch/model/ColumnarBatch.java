@@ -0,0 +1,257 @@
+package io.weaviate.client.v1.batch.model;
+
+import com.google.gson.stream.JsonWriter;
+import io.weaviate.client.base.util.Assert;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Objects of a class held as columns: an array of ids, a row-major matrix of vectors and an array per property.
+ * Row i of every column makes up the i-th object. Objects are written to the request body straight from
+ * the columns, without creating an object or a property map per row.
+ * <p>
+ * Columns are not copied, and must not be changed while the batch is being sent.
+ */
+public class ColumnarBatch {
+
+  private final String className;
+  private final int rows;
+  private final String[] ids;
+  private final float[] vectors;
+  private final int dimensions;
+  private final List<Column> columns;
+
+  private ColumnarBatch(String className, int rows, String[] ids, float[] vectors, int dimensions,
+                        List<Column> columns) {
+    this.className = className;
+    this.rows = rows;
+    this.ids = ids;
+    this.vectors = vectors;
+    this.dimensions = dimensions;
+    this.columns = columns;
+  }
+
+  public static Builder builder(String className, int rows) {
+    return new Builder(className, rows);
+  }
+
+  public String getClassName() {
+    return className;
+  }
+
+  public int getRows() {
+    return rows;
+  }
+
+  /**
+   * Writes the objects of rows [from, to) as elements of the objects array of a batch request.
+   */
+  public void writeRows(JsonWriter out, int from, int to) throws IOException {
+    for (int row = from; row < to; row++) {
+      out.beginObject();
+      out.name("class").value(className);
+      if (ids != null && ids[row] != null) {
+        out.name("id").value(ids[row]);
+      }
+      if (vectors != null) {
+        out.name("vector").beginArray();
+        for (int i = row * dimensions, end = i + dimensions; i < end; i++) {
+          out.value(vectors[i]);
+        }
+        out.endArray();
+      }
+      out.name("properties").beginObject();
+      for (Column column : columns) {
+        column.write(out, row);
+      }
+      out.endObject();
+      out.endObject();
+    }
+  }
+
+  public static class Builder {
+    private final String className;
+    private final int rows;
+    private final List<Column> columns = new ArrayList<>();
+    private final Set<String> names = new HashSet<>();
+    private String[] ids;
+    private float[] vectors;
+    private int dimensions;
+
+    private Builder(String className, int rows) {
+      Assert.requiredNotNull(className, "className");
+      Assert.requireGreaterEqual(rows, 0, "rows");
+      this.className = className;
+      this.rows = rows;
+    }
+
+    /**
+     * Ids of the objects, null ones assigned by the server.
+     */
+    public Builder ids(String[] ids) {
+      this.ids = requireRows(ids, ids != null ? ids.length : 0, "ids");
+      return this;
+    }
+
+    /**
+     * @param vectors    row-major matrix holding the vector of row i at [i * dimensions, (i + 1) * dimensions)
+     * @param dimensions length of every vector
+     */
+    public Builder vectors(float[] vectors, int dimensions) {
+      Assert.requireGreaterEqual(dimensions, 1, "dimensions");
+      requireRows(vectors, vectors != null ? vectors.length / dimensions : 0, "vectors");
+      this.vectors = vectors;
+      this.dimensions = dimensions;
+      return this;
+    }
+
+    /**
+     * Text property, null values are left out.
+     */
+    public Builder text(String name, String[] values) {
+      return add(new TextColumn(name, requireRows(values, values != null ? values.length : 0, name)));
+    }
+
+    public Builder ints(String name, int[] values) {
+      return add(new IntColumn(name, requireRows(values, values != null ? values.length : 0, name)));
+    }
+
+    public Builder longs(String name, long[] values) {
+      return add(new LongColumn(name, requireRows(values, values != null ? values.length : 0, name)));
+    }
+
+    public Builder floats(String name, float[] values) {
+      return add(new FloatColumn(name, requireRows(values, values != null ? values.length : 0, name)));
+    }
+
+    public Builder doubles(String name, double[] values) {
+      return add(new DoubleColumn(name, requireRows(values, values != null ? values.length : 0, name)));
+    }
+
+    public Builder booleans(String name, boolean[] values) {
+      return add(new BooleanColumn(name, requireRows(values, values != null ? values.length : 0, name)));
+    }
+
+    public ColumnarBatch build() {
+      return new ColumnarBatch(className, rows, ids, vectors, dimensions, Collections.unmodifiableList(
+        new ArrayList<>(columns)));
+    }
+
+    private Builder add(Column column) {
+      if (!names.add(column.name)) {
+        throw new IllegalArgumentException(String.format("column %s is already set", column.name));
+      }
+      columns.add(column);
+      return this;
+    }
+
+    private <T> T requireRows(T column, int length, String name) {
+      Assert.requiredNotNull(column, name);
+      if (length < rows) {
+        throw new IllegalArgumentException(String.format("%s has %d rows, expected %d", name, length, rows));
+      }
+      return column;
+    }
+  }
+
+  private abstract static class Column {
+    final String name;
+
+    Column(String name) {
+      Assert.requiredNotNull(name, "name");
+      this.name = name;
+    }
+
+    abstract void write(JsonWriter out, int row) throws IOException;
+  }
+
+  private static class TextColumn extends Column {
+    private final String[] values;
+
+    TextColumn(String name, String[] values) {
+      super(name);
+      this.values = values;
+    }
+
+    @Override
+    void write(JsonWriter out, int row) throws IOException {
+      if (values[row] != null) {
+        out.name(name).value(values[row]);
+      }
+    }
+  }
+
+  private static class IntColumn extends Column {
+    private final int[] values;
+
+    IntColumn(String name, int[] values) {
+      super(name);
+      this.values = values;
+    }
+
+    @Override
+    void write(JsonWriter out, int row) throws IOException {
+      out.name(name).value(values[row]);
+    }
+  }
+
+  private static class LongColumn extends Column {
+    private final long[] values;
+
+    LongColumn(String name, long[] values) {
+      super(name);
+      this.values = values;
+    }
+
+    @Override
+    void write(JsonWriter out, int row) throws IOException {
+      out.name(name).value(values[row]);
+    }
+  }
+
+  private static class FloatColumn extends Column {
+    private final float[] values;
+
+    FloatColumn(String name, float[] values) {
+      super(name);
+      this.values = values;
+    }
+
+    @Override
+    void write(JsonWriter out, int row) throws IOException {
+      out.name(name).value(values[row]);
+    }
+  }
+
+  private static class DoubleColumn extends Column {
+    private final double[] values;
+
+    DoubleColumn(String name, double[] values) {
+      super(name);
+      this.values = values;
+    }
+
+    @Override
+    void write(JsonWriter out, int row) throws IOException {
+      out.name(name).value(values[row]);
+    }
+  }
+
+  private static class BooleanColumn extends Column {
+    private final boolean[] values;
+
+    BooleanColumn(String name, boolean[] values) {
+      super(name);
+      this.values = values;
+    }
+
+    @Override
+    void write(JsonWriter out, int row) throws IOException {
+      out.name(name).value(values[row]);
+    }
+  }
+}
@@ -0,0 +1,26 @@
+package io.weaviate.client.v1.batch.model;
+
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Object the batcher gave up on, either because it failed permanently
+ * (e.g. did not pass validation) or because retries were exhausted.
+ */
+@Getter
+@Builder
+@ToString
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class FailedBatchObject {
+  WeaviateObject object;
+  List<String> errors;
+  /**
+   * Sending the object again may succeed, e.g. after a transient error, a timeout or a server error (5xx).
+   */
+  boolean retryable;
+}
@@ -0,0 +1,29 @@
+package io.weaviate.client.v1.batch.model;
+
+import com.google.gson.annotations.JsonAdapter;
+import com.google.gson.annotations.SerializedName;
+import io.weaviate.client.v1.batch.util.FloatBufferTypeAdapter;
+import java.nio.FloatBuffer;
+import java.util.Map;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * Object of a batch whose vector is a view of a float buffer rather than a boxed array.
+ */
+@Getter
+@Builder
+@ToString
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class VectorObject {
+  String id;
+  @SerializedName("class")
+  String className;
+  Map<String, Object> properties;
+  @ToString.Exclude
+  @JsonAdapter(FloatBufferTypeAdapter.class)
+  FloatBuffer vector;
+}
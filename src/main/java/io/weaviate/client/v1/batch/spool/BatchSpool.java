@@ -0,0 +1,308 @@
+package io.weaviate.client.v1.batch.spool;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.TreeSet;
+import java.util.zip.CRC32;
+
+/**
+ * Append-only log of records kept in memory-mapped segment files.
+ * <p>
+ * Every record is framed as {@code [length][crc32][sequence][payload]}. Sequences not acknowledged yet
+ * are tracked, the checkpoint is the one before the earliest of them, and segments left without
+ * unacknowledged records are deleted, whatever older segments still hold. Records after the checkpoint
+ * found in the remaining segments on {@link #open(SpoolConfig)} are returned by {@link #recovered()}
+ * to be sent again (at-least-once).
+ */
+public class BatchSpool implements Closeable {
+
+  static final int HEADER_BYTES = 4 + 4 + 8;
+  static final String CHECKPOINT_FILE = "checkpoint";
+  private static final String SEGMENT_PREFIX = "segment-";
+  private static final String SEGMENT_SUFFIX = ".log";
+
+  private final SpoolConfig config;
+  private final List<Segment> segments = new ArrayList<>();
+  private final TreeSet<Long> unacknowledged = new TreeSet<>();
+  private final List<SpoolRecord> recovered;
+  private long lastSequence;
+  private long checkpoint;
+  private boolean closed;
+
+  private BatchSpool(SpoolConfig config) {
+    this.config = config;
+    this.recovered = new ArrayList<>();
+  }
+
+  public static BatchSpool open(SpoolConfig config) throws IOException {
+    Files.createDirectories(config.getDirectory());
+    BatchSpool spool = new BatchSpool(config);
+    spool.recover();
+    return spool;
+  }
+
+  /**
+   * Writes record to the spool and returns its sequence number.
+   */
+  public synchronized long append(byte[] payload) throws IOException {
+    ensureOpen();
+    int frameBytes = HEADER_BYTES + payload.length;
+    Segment segment = segments.isEmpty() ? null : segments.get(segments.size() - 1);
+    if (segment == null || segment.remaining() < frameBytes) {
+      segment = newSegment(lastSequence + 1, frameBytes);
+    }
+
+    long sequence = ++lastSequence;
+    if (segment.firstSequence == 0) {
+      segment.firstSequence = sequence;
+    }
+    CRC32 crc = new CRC32();
+    crc.update(payload, 0, payload.length);
+    MappedByteBuffer buffer = segment.buffer;
+    int position = buffer.position();
+    // length is written last, so a torn frame reads as the end of the segment
+    buffer.position(position + 4);
+    buffer.putInt((int) crc.getValue());
+    buffer.putLong(sequence);
+    buffer.put(payload);
+    if (buffer.remaining() >= 4) {
+      // ends reading here, whatever an earlier damaged frame left behind
+      buffer.putInt(buffer.position(), 0);
+    }
+    buffer.putInt(position, payload.length);
+    if (config.isSyncOnAppend()) {
+      buffer.force();
+    }
+    segment.lastSequence = sequence;
+    segment.unacknowledged++;
+    unacknowledged.add(sequence);
+    return sequence;
+  }
+
+  /**
+   * Marks records as confirmed by the server. Checkpoint moves forward up to the earliest record
+   * not acknowledged yet, and segments left without unacknowledged records are removed.
+   * Records never acknowledged only hold back the checkpoint and their own segments.
+   */
+  public synchronized void acknowledge(Collection<Long> sequences) throws IOException {
+    ensureOpen();
+    boolean removed = false;
+    for (Long sequence : sequences) {
+      if (unacknowledged.remove(sequence)) {
+        segmentOf(sequence).unacknowledged--;
+        removed = true;
+      }
+    }
+    if (!removed) {
+      return;
+    }
+    long advanced = unacknowledged.isEmpty() ? lastSequence : unacknowledged.first() - 1;
+    if (advanced != checkpoint) {
+      checkpoint = advanced;
+      writeCheckpoint();
+    }
+    deleteConfirmedSegments();
+  }
+
+  /**
+   * Records which were not confirmed before the spool was last closed.
+   */
+  public synchronized List<SpoolRecord> recovered() {
+    return Collections.unmodifiableList(recovered);
+  }
+
+  public synchronized long getCheckpoint() {
+    return checkpoint;
+  }
+
+  public synchronized long getLastSequence() {
+    return lastSequence;
+  }
+
+  public synchronized int getSegmentCount() {
+    return segments.size();
+  }
+
+  @Override
+  public synchronized void close() throws IOException {
+    if (closed) {
+      return;
+    }
+    closed = true;
+    IOException error = null;
+    for (Segment segment : segments) {
+      try {
+        segment.buffer.force();
+        segment.channel.close();
+      } catch (IOException e) {
+        error = e;
+      }
+    }
+    segments.clear();
+    if (error != null) {
+      throw error;
+    }
+  }
+
+  private void recover() throws IOException {
+    checkpoint = readCheckpoint();
+    lastSequence = checkpoint;
+
+    List<Path> files = new ArrayList<>();
+    try (DirectoryStream<Path> stream = Files.newDirectoryStream(config.getDirectory(), SEGMENT_PREFIX + "*" + SEGMENT_SUFFIX)) {
+      stream.forEach(files::add);
+    }
+    Collections.sort(files);
+
+    for (Path file : files) {
+      FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+      Segment segment = new Segment(file, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, channel.size()));
+      readRecords(segment);
+      if (segment.lastSequence > 0 && segment.lastSequence <= checkpoint && !file.equals(files.get(files.size() - 1))) {
+        segment.channel.close();
+        Files.deleteIfExists(file);
+        continue;
+      }
+      segments.add(segment);
+    }
+  }
+
+  private void readRecords(Segment segment) {
+    MappedByteBuffer buffer = segment.buffer;
+    while (buffer.remaining() >= HEADER_BYTES) {
+      int position = buffer.position();
+      int length = buffer.getInt(position);
+      if (length <= 0 || length > buffer.remaining() - HEADER_BYTES) {
+        break;
+      }
+      int crc = buffer.getInt(position + 4);
+      long sequence = buffer.getLong(position + 8);
+      byte[] payload = new byte[length];
+      ByteBuffer slice = buffer.duplicate();
+      slice.position(position + HEADER_BYTES);
+      slice.get(payload);
+
+      CRC32 actual = new CRC32();
+      actual.update(payload, 0, length);
+      if ((int) actual.getValue() != crc || sequence <= segment.lastSequence) {
+        break;
+      }
+      buffer.position(position + HEADER_BYTES + length);
+      if (segment.firstSequence == 0) {
+        segment.firstSequence = sequence;
+      }
+      segment.lastSequence = sequence;
+      lastSequence = Math.max(lastSequence, sequence);
+      if (sequence > checkpoint) {
+        recovered.add(new SpoolRecord(sequence, payload));
+        segment.unacknowledged++;
+        unacknowledged.add(sequence);
+      }
+    }
+    // anything after a damaged frame is discarded and overwritten by next appends
+    if (buffer.remaining() >= 4) {
+      buffer.putInt(buffer.position(), 0);
+    }
+  }
+
+  private Segment newSegment(long firstSequence, int frameBytes) throws IOException {
+    Path file = config.getDirectory().resolve(String.format("%s%020d%s", SEGMENT_PREFIX, firstSequence, SEGMENT_SUFFIX));
+    FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+    int capacity = Math.max(config.getSegmentBytes(), frameBytes + HEADER_BYTES);
+    Segment segment = new Segment(file, channel, channel.map(FileChannel.MapMode.READ_WRITE, 0, capacity));
+    segments.add(segment);
+    deleteConfirmedSegments();
+    return segment;
+  }
+
+  private Segment segmentOf(long sequence) {
+    for (int i = segments.size() - 1; i > 0; i--) {
+      if (segments.get(i).firstSequence != 0 && segments.get(i).firstSequence <= sequence) {
+        return segments.get(i);
+      }
+    }
+    return segments.get(0);
+  }
+
+  private void deleteConfirmedSegments() throws IOException {
+    if (segments.size() < 2) {
+      return;
+    }
+    // the active segment is kept, it is still being appended to
+    Iterator<Segment> it = segments.subList(0, segments.size() - 1).iterator();
+    while (it.hasNext()) {
+      Segment segment = it.next();
+      if (segment.unacknowledged == 0) {
+        it.remove();
+        segment.channel.close();
+        Files.deleteIfExists(segment.file);
+      }
+    }
+  }
+
+  private long readCheckpoint() throws IOException {
+    Path file = config.getDirectory().resolve(CHECKPOINT_FILE);
+    if (!Files.exists(file)) {
+      return 0;
+    }
+    ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+    if (buffer.remaining() < 12) {
+      return 0;
+    }
+    long value = buffer.getLong();
+    CRC32 crc = new CRC32();
+    crc.update(buffer.array(), 0, 8);
+    return (int) crc.getValue() == buffer.getInt() ? value : 0;
+  }
+
+  private void writeCheckpoint() throws IOException {
+    ByteBuffer buffer = ByteBuffer.allocate(12);
+    buffer.putLong(checkpoint);
+    CRC32 crc = new CRC32();
+    crc.update(buffer.array(), 0, 8);
+    buffer.putInt((int) crc.getValue());
+
+    Path file = config.getDirectory().resolve(CHECKPOINT_FILE);
+    Path tmp = config.getDirectory().resolve(CHECKPOINT_FILE + ".tmp");
+    Files.write(tmp, buffer.array());
+    Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+  }
+
+  private void ensureOpen() {
+    if (closed) {
+      throw new IllegalStateException("spool is closed");
+    }
+  }
+
+  private static class Segment {
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private long firstSequence;
+    private long lastSequence;
+    private int unacknowledged;
+
+    private Segment(Path file, FileChannel channel, MappedByteBuffer buffer) {
+      this.file = file;
+      this.channel = channel;
+      this.buffer = buffer;
+    }
+
+    private int remaining() {
+      return buffer.remaining();
+    }
+  }
+}
@@ -0,0 +1,44 @@
+package io.weaviate.client.v1.batch.spool;
+
+import io.weaviate.client.base.util.Assert;
+import java.nio.file.Path;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Builder
+@ToString
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class SpoolConfig {
+
+  public static final int SEGMENT_BYTES = 64 * 1024 * 1024;
+
+  /**
+   * Directory holding segment files and the checkpoint. Should be used by one spool at a time.
+   */
+  Path directory;
+  int segmentBytes;
+  /**
+   * Forces every appended record to the storage device. Without it records survive a crash
+   * of the process, but not of the operating system.
+   */
+  boolean syncOnAppend;
+
+  private SpoolConfig(Path directory, int segmentBytes, boolean syncOnAppend) {
+    Assert.requiredNotNull(directory, "directory");
+    Assert.requireGreaterEqual(segmentBytes, 1024, "segmentBytes");
+
+    this.directory = directory;
+    this.segmentBytes = segmentBytes;
+    this.syncOnAppend = syncOnAppend;
+  }
+
+  public static SpoolConfigBuilder defaultConfig() {
+    return SpoolConfig.builder()
+      .segmentBytes(SEGMENT_BYTES)
+      .syncOnAppend(false);
+  }
+}
@@ -0,0 +1,14 @@
+package io.weaviate.client.v1.batch.spool;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@AllArgsConstructor
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class SpoolRecord {
+  long sequence;
+  byte[] payload;
+}
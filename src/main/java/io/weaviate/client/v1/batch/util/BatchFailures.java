@@ -0,0 +1,47 @@
+package io.weaviate.client.v1.batch.util;
+
+import io.weaviate.client.base.WeaviateError;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Classifies failures of batch requests and of the single objects they hold.
+ */
+public class BatchFailures {
+
+  private BatchFailures() {
+  }
+
+  /**
+   * Tells if a failed batch may pass when sent again: connection errors, timeouts, server errors and throttling.
+   * Other client errors (4xx) fail again.
+   */
+  public static boolean isRetryable(WeaviateError error) {
+    List<WeaviateErrorMessage> messages = error.getMessages();
+    if (messages != null && !messages.isEmpty() && messages.get(0).getThrowable() instanceof IOException) {
+      return true;
+    }
+    return error.getStatusCode() >= 500 || error.getStatusCode() == 429;
+  }
+
+  /**
+   * Messages of the errors reported for a single object, e.g. {"error":[{"message":"..."}]}.
+   */
+  @SuppressWarnings("unchecked")
+  public static List<String> errorMessages(Object errors) {
+    Object items = errors instanceof Map ? ((Map<String, Object>) errors).get("error") : null;
+    if (items instanceof List) {
+      return ((List<Object>) items).stream()
+        .map(item -> item instanceof Map ? ((Map<String, Object>) item).get("message") : item)
+        .filter(Objects::nonNull)
+        .map(String::valueOf)
+        .collect(Collectors.toList());
+    }
+    return Collections.singletonList(String.valueOf(errors));
+  }
+}
@@ -0,0 +1,49 @@
+package io.weaviate.client.v1.batch.util;
+
+/**
+ * Builds batch reference beacons with a builder reused per thread, so that encoding a beacon
+ * allocates nothing but the resulting string. Same format as {@link io.weaviate.client.base.util.BeaconPath},
+ * without trimming or validating the parts.
+ */
+public class BeaconEncoder {
+
+  private static final String PREFIX = "weaviate://localhost/";
+
+  private final boolean classNameInTarget;
+  private final ThreadLocal<StringBuilder> builder = ThreadLocal.withInitial(() -> new StringBuilder(128).append(PREFIX));
+
+  /**
+   * @param classNameInTarget if target beacons should contain the class name, supported since Weaviate 1.14
+   */
+  public BeaconEncoder(boolean classNameInTarget) {
+    this.classNameInTarget = classNameInTarget;
+  }
+
+  /**
+   * "weaviate://localhost/{className}/{id}/{property}"
+   */
+  public String from(String className, String id, String property) {
+    StringBuilder beacon = reset();
+    beacon.append(className).append('/').append(id).append('/').append(property);
+    return beacon.toString();
+  }
+
+  /**
+   * "weaviate://localhost/{className}/{id}", or "weaviate://localhost/{id}" if class names are not used
+   * or the class name is not given.
+   */
+  public String to(String className, String id) {
+    StringBuilder beacon = reset();
+    if (classNameInTarget && className != null && !className.isEmpty()) {
+      beacon.append(className).append('/');
+    }
+    beacon.append(id);
+    return beacon.toString();
+  }
+
+  private StringBuilder reset() {
+    StringBuilder beacon = builder.get();
+    beacon.setLength(PREFIX.length());
+    return beacon;
+  }
+}
@@ -0,0 +1,49 @@
+package io.weaviate.client.v1.batch.util;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.nio.FloatBuffer;
+
+/**
+ * Writes vectors as JSON arrays straight from a (possibly memory-mapped) float buffer,
+ * without copying them into boxed arrays. The buffer position is left unchanged.
+ */
+public class FloatBufferTypeAdapter extends TypeAdapter<FloatBuffer> {
+
+  @Override
+  public void write(JsonWriter out, FloatBuffer vector) throws IOException {
+    if (vector == null) {
+      out.nullValue();
+      return;
+    }
+    out.beginArray();
+    for (int i = vector.position(); i < vector.limit(); i++) {
+      out.value(vector.get(i));
+    }
+    out.endArray();
+  }
+
+  @Override
+  public FloatBuffer read(JsonReader in) throws IOException {
+    if (in.peek() == JsonToken.NULL) {
+      in.nextNull();
+      return null;
+    }
+    float[] values = new float[16];
+    int size = 0;
+    in.beginArray();
+    while (in.hasNext()) {
+      if (size == values.length) {
+        float[] grown = new float[size * 2];
+        System.arraycopy(values, 0, grown, 0, size);
+        values = grown;
+      }
+      values[size++] = (float) in.nextDouble();
+    }
+    in.endArray();
+    return FloatBuffer.wrap(values, 0, size).slice();
+  }
+}
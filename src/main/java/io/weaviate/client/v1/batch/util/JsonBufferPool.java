@@ -0,0 +1,75 @@
+package io.weaviate.client.v1.batch.util;
+
+import java.io.ByteArrayOutputStream;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Reuses the byte buffers batch request bodies are serialized into. Buffers grow to the size of the largest
+ * body written to them; buffers grown beyond maxRetainedBytes are dropped on release instead of kept.
+ */
+public class JsonBufferPool {
+
+  public static final int INITIAL_BYTES = 64 * 1024;
+
+  private final int maxRetained;
+  private final int maxRetainedBytes;
+  // guarded by free
+  private final Deque<Buffer> free = new ArrayDeque<>();
+
+  /**
+   * @param maxRetained      number of released buffers kept for reuse
+   * @param maxRetainedBytes capacity above which a released buffer is not kept
+   */
+  public JsonBufferPool(int maxRetained, int maxRetainedBytes) {
+    this.maxRetained = maxRetained;
+    this.maxRetainedBytes = maxRetainedBytes;
+  }
+
+  public Buffer acquire() {
+    synchronized (free) {
+      Buffer buffer = free.pollFirst();
+      if (buffer != null) {
+        return buffer;
+      }
+    }
+    return new Buffer(INITIAL_BYTES);
+  }
+
+  public void release(Buffer buffer) {
+    if (buffer == null || buffer.capacity() > maxRetainedBytes) {
+      return;
+    }
+    buffer.reset();
+    synchronized (free) {
+      if (free.size() < maxRetained) {
+        free.addFirst(buffer);
+      }
+    }
+  }
+
+  int retained() {
+    synchronized (free) {
+      return free.size();
+    }
+  }
+
+  /**
+   * Output stream exposing its backing array, to be sent without copying.
+   * Holds the first {@link #size()} bytes of {@link #array()}.
+   */
+  public static class Buffer extends ByteArrayOutputStream {
+
+    public Buffer(int size) {
+      super(size);
+    }
+
+    public byte[] array() {
+      return buf;
+    }
+
+    int capacity() {
+      return buf.length;
+    }
+  }
+}
@@ -0,0 +1,108 @@
+package io.weaviate.client.v1.batch.util;
+
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Estimates how many bytes an object takes in a batch request body, without serializing it.
+ * Estimates are close to, but not exactly, the size of the json produced by the client's serializer.
+ */
+public class ObjectSizeEstimator {
+
+  // "-0.12345678," - floats are serialized with up to 9 significant digits
+  private static final int FLOAT_BYTES = 12;
+  private static final int NUMBER_BYTES = 20;
+  // separators, quotes and field names of the object envelope
+  private static final int ENVELOPE_BYTES = 64;
+
+  private ObjectSizeEstimator() {
+  }
+
+  public static long estimate(WeaviateObject object) {
+    long bytes = ENVELOPE_BYTES;
+    bytes += estimateString(object.getId());
+    bytes += estimateString(object.getClassName());
+    if (object.getVector() != null) {
+      bytes += 2L + (long) object.getVector().length * FLOAT_BYTES;
+    }
+    if (object.getProperties() != null) {
+      bytes += estimateValue(object.getProperties());
+    }
+    if (object.getVectorWeights() != null) {
+      bytes += estimateValue(object.getVectorWeights());
+    }
+    return bytes;
+  }
+
+  static long estimateValue(Object value) {
+    if (value == null) {
+      return 4;
+    }
+    if (value instanceof String) {
+      return estimateString((String) value);
+    }
+    if (value instanceof Number) {
+      return value instanceof Float || value instanceof Double ? FLOAT_BYTES : NUMBER_BYTES;
+    }
+    if (value instanceof Boolean) {
+      return 5;
+    }
+    if (value instanceof Map) {
+      long bytes = 2;
+      for (Map.Entry<?, ?> entry : ((Map<?, ?>) value).entrySet()) {
+        bytes += estimateString(String.valueOf(entry.getKey())) + 2 + estimateValue(entry.getValue());
+      }
+      return bytes;
+    }
+    if (value instanceof Collection) {
+      long bytes = 2;
+      for (Object item : (Collection<?>) value) {
+        bytes += estimateValue(item) + 1;
+      }
+      return bytes;
+    }
+    if (value instanceof Object[]) {
+      long bytes = 2;
+      for (Object item : (Object[]) value) {
+        bytes += estimateValue(item) + 1;
+      }
+      return bytes;
+    }
+    if (value instanceof float[]) {
+      return 2L + (long) ((float[]) value).length * FLOAT_BYTES;
+    }
+    if (value instanceof double[]) {
+      return 2L + (long) ((double[]) value).length * FLOAT_BYTES;
+    }
+    if (value instanceof int[] || value instanceof long[]) {
+      int length = value instanceof int[] ? ((int[]) value).length : ((long[]) value).length;
+      return 2L + (long) length * NUMBER_BYTES;
+    }
+    // beans (e.g. geo coordinates, phone numbers) are small
+    return estimateString(value.toString()) + ENVELOPE_BYTES;
+  }
+
+  static long estimateString(String value) {
+    if (value == null) {
+      return 4;
+    }
+    long bytes = 2;
+    for (int i = 0; i < value.length(); i++) {
+      char c = value.charAt(i);
+      if (c == '"' || c == '\\') {
+        bytes += 2;
+      } else if (c < 0x20) {
+        bytes += 6;
+      } else if (c < 0x80) {
+        bytes += 1;
+      } else if (c < 0x800 || Character.isSurrogate(c)) {
+        // a surrogate pair takes 4 bytes in utf-8
+        bytes += 2;
+      } else {
+        bytes += 3;
+      }
+    }
+    return bytes;
+  }
+}
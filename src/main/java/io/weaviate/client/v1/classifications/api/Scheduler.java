@@ -8,11 +8,15 @@ import io.weaviate.client.base.BaseClient;
 import io.weaviate.client.base.ClientResult;
 import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
+import io.weaviate.client.base.concurrent.ClientExecutors;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.v1.filters.WhereFilter;
+import java.util.concurrent.CompletableFuture;
 
 public class Scheduler extends BaseClient<Classification> implements ClientResult<Classification> {
 
+  private static final long WAIT_INTERVAL = 2000;
+
   private String classificationType;
   private String className;
   private String[] classifyProperties;
@@ -84,7 +88,7 @@ public class Scheduler extends BaseClient<Classification> implements ClientResul
       }
       Classification runningClassification = result.getResult();
       if (runningClassification.getStatus() == "running") {
-        Thread.sleep(2000);
+        Thread.sleep(WAIT_INTERVAL);
       } else {
         return runningClassification;
       }
@@ -93,14 +97,7 @@ public class Scheduler extends BaseClient<Classification> implements ClientResul
 
   @Override
   public Result<Classification> run() {
-    Classification config = Classification.builder()
-      .basedOnProperties(basedOnProperties)
-      .className(className)
-      .classifyProperties(classifyProperties)
-      .type(classificationType)
-      .settings(settings)
-      .filters(getClassificationFilters(sourceWhereFilter, targetWhereFilter, trainingSetWhereFilter))
-      .build();
+    Classification config = classification();
     Response<Classification> resp = sendPostRequest("/classifications", config, Classification.class);
     if (resp.getStatusCode() == 201) {
       if (waitForCompletion) {
@@ -116,6 +113,43 @@ public class Scheduler extends BaseClient<Classification> implements ClientResul
     return new Result<>(resp);
   }
 
+  /**
+   * Same as {@link #run()}, without blocking the caller. Requests run on the client's worker threads,
+   * and no thread is held while waiting for completion.
+   */
+  public CompletableFuture<Result<Classification>> runAsync() {
+    Classification config = classification();
+    ClientExecutors executors = executors();
+    return CompletableFuture.supplyAsync(() -> sendPostRequest("/classifications", config, Classification.class),
+        executors.getWorkers())
+      .thenCompose(resp -> {
+        if (resp.getStatusCode() != 201 || !waitForCompletion) {
+          return CompletableFuture.completedFuture(new Result<>(resp));
+        }
+        String id = resp.getBody().getId();
+        return executors.poll(() -> {
+          Result<Classification> result = getter.withID(id).run();
+          if (result == null || result.getResult() == null) {
+            return new Result<>(resp.getStatusCode(), null, null);
+          }
+          return "running".equals(result.getResult().getStatus())
+            ? null
+            : new Result<>(resp.getStatusCode(), result.getResult(), null);
+        }, WAIT_INTERVAL);
+      });
+  }
+
+  private Classification classification() {
+    return Classification.builder()
+      .basedOnProperties(basedOnProperties)
+      .className(className)
+      .classifyProperties(classifyProperties)
+      .type(classificationType)
+      .settings(settings)
+      .filters(getClassificationFilters(sourceWhereFilter, targetWhereFilter, trainingSetWhereFilter))
+      .build();
+  }
+
   private ClassificationFilters getClassificationFilters(WhereFilter sourceWhere, WhereFilter targetWhere, WhereFilter trainingSetWhere) {
     if (ObjectUtils.anyNotNull(sourceWhere, targetWhere, trainingSetWhere)) {
       return ClassificationFilters.builder()
@@ -1,5 +1,6 @@
 package io.weaviate.client.v1.data;
 
+import io.weaviate.client.base.cache.CacheInvalidator;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.base.util.BeaconPath;
 import io.weaviate.client.base.util.DbVersionSupport;
@@ -23,17 +24,23 @@ public class Data {
   private final ObjectsPath objectsPath;
   private final ReferencesPath referencesPath;
   private final BeaconPath beaconPath;
+  private final CacheInvalidator cacheInvalidator;
 
   public Data(HttpClient httpClient, Config config, DbVersionSupport dbVersionSupport) {
+    this(httpClient, config, dbVersionSupport, null);
+  }
+
+  public Data(HttpClient httpClient, Config config, DbVersionSupport dbVersionSupport, CacheInvalidator cacheInvalidator) {
     this.config = config;
     this.httpClient = httpClient;
     this.objectsPath = new ObjectsPath(dbVersionSupport);
     this.referencesPath = new ReferencesPath(dbVersionSupport);
     this.beaconPath = new BeaconPath(dbVersionSupport);
+    this.cacheInvalidator = cacheInvalidator;
   }
 
   public ObjectCreator creator() {
-    return new ObjectCreator(httpClient, config, objectsPath);
+    return new ObjectCreator(httpClient, config, objectsPath, cacheInvalidator);
   }
 
   public ObjectsGetter objectsGetter() {
@@ -45,11 +52,11 @@ public class Data {
   }
 
   public ObjectDeleter deleter() {
-    return new ObjectDeleter(httpClient, config, objectsPath);
+    return new ObjectDeleter(httpClient, config, objectsPath, cacheInvalidator);
   }
 
   public ObjectUpdater updater() {
-    return new ObjectUpdater(httpClient, config, objectsPath);
+    return new ObjectUpdater(httpClient, config, objectsPath, cacheInvalidator);
   }
 
   public ObjectValidator validator() {
@@ -61,14 +68,14 @@ public class Data {
   }
 
   public ReferenceCreator referenceCreator() {
-    return new ReferenceCreator(httpClient, config, referencesPath);
+    return new ReferenceCreator(httpClient, config, referencesPath, cacheInvalidator);
   }
 
   public ReferenceReplacer referenceReplacer() {
-    return new ReferenceReplacer(httpClient, config, referencesPath);
+    return new ReferenceReplacer(httpClient, config, referencesPath, cacheInvalidator);
   }
 
   public ReferenceDeleter referenceDeleter() {
-    return new ReferenceDeleter(httpClient, config, referencesPath);
+    return new ReferenceDeleter(httpClient, config, referencesPath, cacheInvalidator);
   }
 }
@@ -10,12 +10,14 @@ import io.weaviate.client.base.BaseClient;
 import io.weaviate.client.base.ClientResult;
 import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
+import io.weaviate.client.base.cache.CacheInvalidator;
 import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.v1.data.model.WeaviateObject;
 
 public class ObjectCreator extends BaseClient<WeaviateObject> implements ClientResult<WeaviateObject> {
 
   private final ObjectsPath objectsPath;
+  private final CacheInvalidator cacheInvalidator;
   private String id;
   private String className;
   private String consistencyLevel;
@@ -23,8 +25,13 @@ public class ObjectCreator extends BaseClient<WeaviateObject> implements ClientR
   private Float[] vector;
 
   public ObjectCreator(HttpClient httpClient, Config config, ObjectsPath objectsPath) {
+    this(httpClient, config, objectsPath, null);
+  }
+
+  public ObjectCreator(HttpClient httpClient, Config config, ObjectsPath objectsPath, CacheInvalidator cacheInvalidator) {
     super(httpClient, config);
     this.objectsPath = Objects.requireNonNull(objectsPath);
+    this.cacheInvalidator = cacheInvalidator;
   }
 
   public ObjectCreator withID(String id) {
@@ -71,6 +78,13 @@ public class ObjectCreator extends BaseClient<WeaviateObject> implements ClientR
             .id(getID())
             .build();
     Response<WeaviateObject> resp = sendPostRequest(path, obj, WeaviateObject.class);
+    invalidateCache();
     return new Result<>(resp);
   }
+
+  private void invalidateCache() {
+    if (cacheInvalidator != null) {
+      cacheInvalidator.invalidateClass(className);
+    }
+  }
 }
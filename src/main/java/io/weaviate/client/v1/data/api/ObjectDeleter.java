@@ -12,18 +12,25 @@ import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.WeaviateErrorMessage;
 import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.cache.CacheInvalidator;
 import io.weaviate.client.base.http.HttpClient;
 
 public class ObjectDeleter extends BaseClient<String> implements ClientResult<Boolean> {
 
   private final ObjectsPath objectsPath;
+  private final CacheInvalidator cacheInvalidator;
   private String id;
   private String className;
   private String consistencyLevel;
 
   public ObjectDeleter(HttpClient httpClient, Config config, ObjectsPath objectsPath) {
+    this(httpClient, config, objectsPath, null);
+  }
+
+  public ObjectDeleter(HttpClient httpClient, Config config, ObjectsPath objectsPath, CacheInvalidator cacheInvalidator) {
     super(httpClient, config);
     this.objectsPath = Objects.requireNonNull(objectsPath);
+    this.cacheInvalidator = cacheInvalidator;
   }
 
   public ObjectDeleter withID(String id) {
@@ -56,6 +63,13 @@ public class ObjectDeleter extends BaseClient<String> implements ClientResult<Bo
             .consistencyLevel(consistencyLevel)
             .build());
     Response<String> resp = sendDeleteRequest(path, null, String.class);
+    invalidateCache();
     return new Result<>(resp.getStatusCode(), resp.getStatusCode() == 204, resp.getErrors());
   }
+
+  private void invalidateCache() {
+    if (cacheInvalidator != null) {
+      cacheInvalidator.invalidateClass(className);
+    }
+  }
 }
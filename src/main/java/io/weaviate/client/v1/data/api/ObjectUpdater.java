@@ -15,11 +15,13 @@ import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
 import io.weaviate.client.base.WeaviateErrorMessage;
 import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.cache.CacheInvalidator;
 import io.weaviate.client.base.http.HttpClient;
 
 public class ObjectUpdater extends BaseClient<WeaviateObject> implements ClientResult<Boolean> {
 
   private final ObjectsPath objectsPath;
+  private final CacheInvalidator cacheInvalidator;
   private String id;
   private String className;
   private String consistencyLevel;
@@ -27,8 +29,13 @@ public class ObjectUpdater extends BaseClient<WeaviateObject> implements ClientR
   private Boolean withMerge;
 
   public ObjectUpdater(HttpClient httpClient, Config config, ObjectsPath objectsPath) {
+    this(httpClient, config, objectsPath, null);
+  }
+
+  public ObjectUpdater(HttpClient httpClient, Config config, ObjectsPath objectsPath, CacheInvalidator cacheInvalidator) {
     super(httpClient, config);
     this.objectsPath = Objects.requireNonNull(objectsPath);
+    this.cacheInvalidator = cacheInvalidator;
   }
 
   public ObjectUpdater withID(String id) {
@@ -77,9 +84,17 @@ public class ObjectUpdater extends BaseClient<WeaviateObject> implements ClientR
             .build();
     if (BooleanUtils.isTrue(withMerge)) {
       Response<WeaviateObject> resp = sendPatchRequest(path, obj, WeaviateObject.class);
+      invalidateCache();
       return new Result<>(resp.getStatusCode(), resp.getStatusCode() == 204, resp.getErrors());
     }
     Response<WeaviateObject> resp = sendPutRequest(path, obj, WeaviateObject.class);
+    invalidateCache();
     return new Result<>(resp.getStatusCode(), resp.getStatusCode() == 200, resp.getErrors());
   }
+
+  private void invalidateCache() {
+    if (cacheInvalidator != null) {
+      cacheInvalidator.invalidateClass(className);
+    }
+  }
 }
@@ -7,6 +7,7 @@ import io.weaviate.client.base.BaseClient;
 import io.weaviate.client.base.ClientResult;
 import io.weaviate.client.base.Response;
 import io.weaviate.client.base.Result;
+import io.weaviate.client.base.cache.CacheInvalidator;
 import io.weaviate.client.base.http.HttpClient;
 
 import java.util.Objects;
@@ -14,6 +15,7 @@ import java.util.Objects;
 public class ReferenceReplacer extends BaseClient<Object> implements ClientResult<Boolean> {
 
   private final ReferencesPath referencesPath;
+  private final CacheInvalidator cacheInvalidator;
   private String id;
   private String className;
   private String consistencyLevel;
@@ -21,8 +23,13 @@ public class ReferenceReplacer extends BaseClient<Object> implements ClientResul
   private SingleRef[] referencePayload;
 
   public ReferenceReplacer(HttpClient httpClient, Config config, ReferencesPath referencesPath) {
+    this(httpClient, config, referencesPath, null);
+  }
+
+  public ReferenceReplacer(HttpClient httpClient, Config config, ReferencesPath referencesPath, CacheInvalidator cacheInvalidator) {
     super(httpClient, config);
     this.referencesPath = Objects.requireNonNull(referencesPath);
+    this.cacheInvalidator = cacheInvalidator;
   }
 
   public ReferenceReplacer withID(String id) {
@@ -59,6 +66,13 @@ public class ReferenceReplacer extends BaseClient<Object> implements ClientResul
             .property(referenceProperty)
             .build());
     Response<Object> resp = sendPutRequest(path, referencePayload, Object.class);
+    invalidateCache();
     return new Result<>(resp.getStatusCode(), resp.getStatusCode() == 200, resp.getErrors());
   }
+
+  private void invalidateCache() {
+    if (cacheInvalidator != null) {
+      cacheInvalidator.invalidateClass(className);
+    }
+  }
 }
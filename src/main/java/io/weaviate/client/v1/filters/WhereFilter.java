@@ -32,6 +32,10 @@ public class WhereFilter {
   @Deprecated
   String valueString;
   String valueText;
+  /**
+   * Values matched with {@link Operator#ContainsAny} and {@link Operator#ContainsAll}, supported as of Weaviate v1.21.
+   */
+  String[] valueTextArray;
 
 
   @Getter
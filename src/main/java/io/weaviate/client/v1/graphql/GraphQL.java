@@ -1,9 +1,12 @@
 package io.weaviate.client.v1.graphql;
 
+import io.weaviate.client.v1.graphql.cache.QueryResultCache;
+import io.weaviate.client.v1.graphql.cache.SemanticQueryCache;
 import io.weaviate.client.v1.graphql.query.Aggregate;
 import io.weaviate.client.v1.graphql.query.Explore;
 import io.weaviate.client.v1.graphql.query.Get;
 import io.weaviate.client.v1.graphql.query.Raw;
+import io.weaviate.client.v1.graphql.query.ScatterGatherGet;
 import io.weaviate.client.v1.graphql.query.argument.AskArgument;
 import io.weaviate.client.v1.graphql.query.argument.Bm25Argument;
 import io.weaviate.client.v1.graphql.query.argument.GroupArgument;
@@ -20,6 +23,8 @@ import io.weaviate.client.base.http.HttpClient;
 public class GraphQL {
   private Config config;
   private HttpClient httpClient;
+  private QueryResultCache queryResultCache;
+  private SemanticQueryCache semanticQueryCache;
 
   public class Arguments {
     public NearTextArgument.NearTextArgumentBuilder nearTextArgBuilder() {
@@ -55,12 +60,27 @@ public class GraphQL {
   }
 
   public GraphQL(HttpClient httpClient, Config config) {
+    this(httpClient, config, null, null);
+  }
+
+  public GraphQL(HttpClient httpClient, Config config, QueryResultCache queryResultCache) {
+    this(httpClient, config, queryResultCache, null);
+  }
+
+  public GraphQL(HttpClient httpClient, Config config, QueryResultCache queryResultCache,
+                 SemanticQueryCache semanticQueryCache) {
     this.config = config;
     this.httpClient = httpClient;
+    this.queryResultCache = queryResultCache;
+    this.semanticQueryCache = semanticQueryCache;
   }
 
   public Get get() {
-    return new Get(httpClient, config);
+    return new Get(httpClient, config, queryResultCache, semanticQueryCache);
+  }
+
+  public ScatterGatherGet scatterGather() {
+    return new ScatterGatherGet(this::get, config.getExecutors());
   }
 
   public Raw raw() {
@@ -72,7 +92,7 @@ public class GraphQL {
   }
 
   public Aggregate aggregate() {
-    return new Aggregate(httpClient, config);
+    return new Aggregate(httpClient, config, queryResultCache);
   }
 
   public GraphQL.Arguments arguments() {
@@ -0,0 +1,251 @@
+package io.weaviate.client.v1.graphql.cache;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.cache.CacheInvalidator;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Size bounded (entries and estimated bytes) LRU cache of GraphQL Get/Aggregate results,
+ * keyed by the built query string. Entries expire after the configured TTL and are
+ * dropped once a write to their class goes through the same client.
+ * <p>
+ * Cached data is copied when stored and when served, so callers may modify the results they get.
+ */
+public class QueryResultCache implements CacheInvalidator {
+
+  // classes written to are remembered until then, past it all cached results are invalidated at once
+  static final int MAX_INVALIDATED_CLASSES = 1024;
+
+  private final QueryResultCacheConfig config;
+  private final LongSupplier clock;
+  private final LinkedHashMap<String, Entry> entries;
+  private final Map<String, Long> classInvalidatedAt;
+  private long epoch;
+  private long allInvalidatedAt;
+  private long bytes;
+
+  private long hits;
+  private long misses;
+  private long evictions;
+  private long expirations;
+  private long invalidations;
+
+  public QueryResultCache(QueryResultCacheConfig config) {
+    this(config, System::currentTimeMillis);
+  }
+
+  QueryResultCache(QueryResultCacheConfig config, LongSupplier clock) {
+    this.config = config;
+    this.clock = clock;
+    this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    this.classInvalidatedAt = new HashMap<>();
+  }
+
+  /**
+   * Returns cached result of the query or loads it with the given loader.
+   * Only results without errors are cached. Result loaded concurrently with a write
+   * to the same class is returned but not cached.
+   */
+  public Result<GraphQLResponse> getOrLoad(String query, String className, Supplier<Result<GraphQLResponse>> loader) {
+    Result<GraphQLResponse> cached = get(query);
+    if (cached != null) {
+      return cached;
+    }
+
+    long token = currentEpoch();
+    Result<GraphQLResponse> result = loader.get();
+    if (isCacheable(result)) {
+      put(query, className, token, result);
+    }
+    return result;
+  }
+
+  public synchronized Result<GraphQLResponse> get(String query) {
+    Entry entry = entries.get(query);
+    if (entry == null) {
+      misses++;
+      return null;
+    }
+    if (entry.expiresAt <= clock.getAsLong()) {
+      remove(query, entry);
+      expirations++;
+      misses++;
+      return null;
+    }
+    if (isInvalidated(entry)) {
+      remove(query, entry);
+      invalidations++;
+      misses++;
+      return null;
+    }
+    hits++;
+    return copy(entry.result);
+  }
+
+  synchronized long currentEpoch() {
+    return epoch;
+  }
+
+  synchronized void put(String query, String className, long token, Result<GraphQLResponse> result) {
+    Entry entry = new Entry(normalize(className), token, clock.getAsLong() + config.getTtlMs(),
+      estimateBytes(query) + estimateBytes(result.getResult().getData()), copy(result));
+    if (isInvalidated(entry) || entry.bytes > config.getMaxBytes()) {
+      return;
+    }
+
+    Entry previous = entries.put(query, entry);
+    if (previous != null) {
+      bytes -= previous.bytes;
+    }
+    bytes += entry.bytes;
+    evictIfNeeded();
+  }
+
+  @Override
+  public synchronized void invalidateClass(String className) {
+    if (StringUtils.isBlank(className)) {
+      invalidateAll();
+      return;
+    }
+    if (classInvalidatedAt.size() >= MAX_INVALIDATED_CLASSES) {
+      invalidateAll();
+      return;
+    }
+    classInvalidatedAt.put(normalize(className), ++epoch);
+  }
+
+  @Override
+  public synchronized void invalidateAll() {
+    allInvalidatedAt = ++epoch;
+    // invalidated at earlier epochs, classes need not be remembered anymore
+    classInvalidatedAt.clear();
+  }
+
+  synchronized int invalidatedClasses() {
+    return classInvalidatedAt.size();
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+    bytes = 0;
+  }
+
+  public synchronized QueryResultCacheStats getStats() {
+    return QueryResultCacheStats.builder()
+      .hits(hits)
+      .misses(misses)
+      .evictions(evictions)
+      .expirations(expirations)
+      .invalidations(invalidations)
+      .entries(entries.size())
+      .bytes(bytes)
+      .build();
+  }
+
+
+  private boolean isCacheable(Result<GraphQLResponse> result) {
+    return result != null && !result.hasErrors() && result.getResult() != null
+      && ArrayUtils.isEmpty(result.getResult().getErrors());
+  }
+
+  private boolean isInvalidated(Entry entry) {
+    if (allInvalidatedAt > entry.token) {
+      return true;
+    }
+    Long invalidatedAt = classInvalidatedAt.get(entry.className);
+    return invalidatedAt != null && invalidatedAt > entry.token;
+  }
+
+  private void evictIfNeeded() {
+    Iterator<Entry> it = entries.values().iterator();
+    while (it.hasNext() && (entries.size() > config.getMaxEntries() || bytes > config.getMaxBytes())) {
+      Entry eldest = it.next();
+      it.remove();
+      bytes -= eldest.bytes;
+      evictions++;
+    }
+  }
+
+  private void remove(String query, Entry entry) {
+    entries.remove(query);
+    bytes -= entry.bytes;
+  }
+
+  static Result<GraphQLResponse> copy(Result<GraphQLResponse> result) {
+    GraphQLResponse response = GraphQLResponse.builder()
+      .data(copyJson(result.getResult().getData()))
+      .errors(result.getResult().getErrors())
+      .build();
+    return new Result<>(200, response, null);
+  }
+
+  private static Object copyJson(Object value) {
+    if (value instanceof Map) {
+      Map<Object, Object> copy = new LinkedHashMap<>();
+      ((Map<?, ?>) value).forEach((key, item) -> copy.put(key, copyJson(item)));
+      return copy;
+    }
+    if (value instanceof Collection) {
+      List<Object> copy = new ArrayList<>(((Collection<?>) value).size());
+      ((Collection<?>) value).forEach(item -> copy.add(copyJson(item)));
+      return copy;
+    }
+    // strings, numbers and booleans are immutable
+    return value;
+  }
+
+  private static String normalize(String className) {
+    return StringUtils.capitalize(StringUtils.trimToEmpty(className));
+  }
+
+  // rough estimate of retained heap of deserialized json (strings are utf-16, numbers are boxed)
+  static long estimateBytes(Object value) {
+    if (value == null) {
+      return 8;
+    }
+    if (value instanceof String) {
+      return 40 + 2L * ((String) value).length();
+    }
+    if (value instanceof Number || value instanceof Boolean) {
+      return 16;
+    }
+    if (value instanceof Map) {
+      long size = 48;
+      for (Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+        size += 32 + estimateBytes(e.getKey()) + estimateBytes(e.getValue());
+      }
+      return size;
+    }
+    if (value instanceof Collection) {
+      long size = 40;
+      for (Object item : (Collection<?>) value) {
+        size += 8 + estimateBytes(item);
+      }
+      return size;
+    }
+    return 64;
+  }
+
+
+  @RequiredArgsConstructor
+  private static class Entry {
+    private final String className;
+    private final long token;
+    private final long expiresAt;
+    private final long bytes;
+    private final Result<GraphQLResponse> result;
+  }
+}
@@ -0,0 +1,38 @@
+package io.weaviate.client.v1.graphql.cache;
+
+import io.weaviate.client.base.util.Assert;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Builder
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class QueryResultCacheConfig {
+
+  public static final int MAX_ENTRIES = 1_000;
+  public static final long MAX_BYTES = 64L * 1024 * 1024;
+  public static final long TTL_MS = 30_000;
+
+  int maxEntries;
+  long maxBytes;
+  long ttlMs;
+
+  private QueryResultCacheConfig(int maxEntries, long maxBytes, long ttlMs) {
+    Assert.requireGreaterEqual(maxEntries, 1, "maxEntries");
+    Assert.requireGreaterEqual(maxBytes, 1L, "maxBytes");
+    Assert.requireGreaterEqual(ttlMs, 1L, "ttlMs");
+
+    this.maxEntries = maxEntries;
+    this.maxBytes = maxBytes;
+    this.ttlMs = ttlMs;
+  }
+
+  public static QueryResultCacheConfigBuilder defaultConfig() {
+    return QueryResultCacheConfig.builder()
+      .maxEntries(MAX_ENTRIES)
+      .maxBytes(MAX_BYTES)
+      .ttlMs(TTL_MS);
+  }
+}
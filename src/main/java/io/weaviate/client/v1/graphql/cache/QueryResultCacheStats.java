@@ -0,0 +1,26 @@
+package io.weaviate.client.v1.graphql.cache;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Builder
+@ToString
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class QueryResultCacheStats {
+  long hits;
+  long misses;
+  long evictions;
+  long expirations;
+  long invalidations;
+  int entries;
+  long bytes;
+
+  public double getHitRate() {
+    long requests = hits + misses;
+    return requests == 0 ? 0 : (double) hits / requests;
+  }
+}
@@ -0,0 +1,348 @@
+package io.weaviate.client.v1.graphql.cache;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.cache.CacheInvalidator;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import lombok.RequiredArgsConstructor;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+/**
+ * Approximate cache of nearVector query results. Query vectors are indexed with random hyperplane LSH
+ * (several tables of signed random projections); a query is answered from cache if a cached query
+ * of the same scope (class, filters, fields, limit) has a vector within the configured cosine distance.
+ * A configurable fraction of hits is verified against the server to report the false hit rate.
+ * <p>
+ * Cached data is copied when stored and when served, so callers may modify the results they get.
+ */
+public class SemanticQueryCache implements CacheInvalidator {
+
+  private final SemanticQueryCacheConfig config;
+  private final LongSupplier clock;
+  private final LinkedHashMap<Long, Entry> entries;
+  private final List<Map<Long, List<Entry>>> tables;
+  private final Map<Integer, float[][]> planesByDimension;
+  private final Map<String, Long> classInvalidatedAt;
+  private long nextId;
+  private long epoch;
+  private long allInvalidatedAt;
+  private long bytes;
+
+  private long hits;
+  private long misses;
+  private long evictions;
+  private long expirations;
+  private long invalidations;
+  private long verifiedHits;
+  private long falseHits;
+
+  public SemanticQueryCache(SemanticQueryCacheConfig config) {
+    this(config, System::currentTimeMillis);
+  }
+
+  SemanticQueryCache(SemanticQueryCacheConfig config, LongSupplier clock) {
+    this.config = config;
+    this.clock = clock;
+    this.entries = new LinkedHashMap<>(16, 0.75f,
+      config.getEvictionPolicy() == SemanticQueryCacheConfig.EvictionPolicy.LRU);
+    this.tables = new ArrayList<>(config.getHashTables());
+    for (int i = 0; i < config.getHashTables(); i++) {
+      tables.add(new HashMap<>());
+    }
+    this.planesByDimension = new HashMap<>();
+    this.classInvalidatedAt = new HashMap<>();
+  }
+
+  /**
+   * Returns result of a cached query close enough to the given vector or loads it with the given loader.
+   *
+   * @param scope     query built without the vector, only queries of the same scope are compared
+   * @param className queried class, used for invalidation
+   * @param vector    nearVector vector
+   * @param loader    sends the query to the server
+   */
+  public Result<GraphQLResponse> getOrLoad(String scope, String className, Float[] vector,
+                                           Supplier<Result<GraphQLResponse>> loader) {
+    float[] normalized = normalize(vector);
+    if (normalized == null) {
+      return loader.get();
+    }
+
+    Result<GraphQLResponse> cached = get(scope, normalized);
+    if (cached != null) {
+      if (ThreadLocalRandom.current().nextFloat() >= config.getVerificationRate()) {
+        return cached;
+      }
+      Result<GraphQLResponse> fresh = loader.get();
+      if (isCacheable(fresh)) {
+        recordVerification(sameResults(cached.getResult(), fresh.getResult()));
+      }
+      return fresh;
+    }
+
+    long token = currentEpoch();
+    Result<GraphQLResponse> result = loader.get();
+    if (isCacheable(result)) {
+      put(scope, className, normalized, token, result);
+    }
+    return result;
+  }
+
+  @Override
+  public synchronized void invalidateClass(String className) {
+    if (StringUtils.isBlank(className)) {
+      invalidateAll();
+      return;
+    }
+    if (classInvalidatedAt.size() >= QueryResultCache.MAX_INVALIDATED_CLASSES) {
+      invalidateAll();
+      return;
+    }
+    classInvalidatedAt.put(normalizeClassName(className), ++epoch);
+  }
+
+  @Override
+  public synchronized void invalidateAll() {
+    allInvalidatedAt = ++epoch;
+    // invalidated at earlier epochs, classes need not be remembered anymore
+    classInvalidatedAt.clear();
+  }
+
+  synchronized int invalidatedClasses() {
+    return classInvalidatedAt.size();
+  }
+
+  public synchronized void clear() {
+    entries.clear();
+    tables.forEach(Map::clear);
+    bytes = 0;
+  }
+
+  public synchronized SemanticQueryCacheStats getStats() {
+    return SemanticQueryCacheStats.builder()
+      .hits(hits)
+      .misses(misses)
+      .evictions(evictions)
+      .expirations(expirations)
+      .invalidations(invalidations)
+      .verifiedHits(verifiedHits)
+      .falseHits(falseHits)
+      .entries(entries.size())
+      .bytes(bytes)
+      .build();
+  }
+
+  synchronized Result<GraphQLResponse> get(String scope, float[] vector) {
+    long now = clock.getAsLong();
+    Entry best = null;
+    double bestDistance = Double.MAX_VALUE;
+
+    for (int table = 0; table < tables.size(); table++) {
+      List<Entry> bucket = tables.get(table).get(bucketKey(scope, vector, table));
+      if (bucket == null) {
+        continue;
+      }
+      for (Entry entry : new ArrayList<>(bucket)) {
+        if (entry.expiresAt <= now) {
+          remove(entry);
+          expirations++;
+          continue;
+        }
+        if (isInvalidated(entry)) {
+          remove(entry);
+          invalidations++;
+          continue;
+        }
+        if (!entry.scope.equals(scope) || entry.vector.length != vector.length) {
+          continue;
+        }
+        double distance = 1 - dot(entry.vector, vector);
+        if (distance <= config.getDistanceThreshold() && distance < bestDistance) {
+          best = entry;
+          bestDistance = distance;
+        }
+      }
+    }
+
+    if (best == null) {
+      misses++;
+      return null;
+    }
+    entries.get(best.id); // updates access order for LRU
+    hits++;
+    return QueryResultCache.copy(best.result);
+  }
+
+  synchronized long currentEpoch() {
+    return epoch;
+  }
+
+  synchronized void put(String scope, String className, float[] vector, long token, Result<GraphQLResponse> result) {
+    long entryBytes = 64 + 4L * vector.length + QueryResultCache.estimateBytes(scope)
+      + QueryResultCache.estimateBytes(result.getResult().getData());
+    long[] bucketKeys = new long[tables.size()];
+    for (int table = 0; table < tables.size(); table++) {
+      bucketKeys[table] = bucketKey(scope, vector, table);
+    }
+    Entry entry = new Entry(nextId++, scope, normalizeClassName(className), vector, bucketKeys, token,
+      clock.getAsLong() + config.getTtlMs(), entryBytes, QueryResultCache.copy(result));
+    if (isInvalidated(entry) || entryBytes > config.getMaxBytes()) {
+      return;
+    }
+
+    entries.put(entry.id, entry);
+    for (int table = 0; table < tables.size(); table++) {
+      tables.get(table).computeIfAbsent(bucketKeys[table], k -> new ArrayList<>()).add(entry);
+    }
+    bytes += entryBytes;
+    evictIfNeeded();
+  }
+
+  synchronized void recordVerification(boolean same) {
+    verifiedHits++;
+    if (!same) {
+      falseHits++;
+    }
+  }
+
+  private void evictIfNeeded() {
+    while (!entries.isEmpty() && (entries.size() > config.getMaxEntries() || bytes > config.getMaxBytes())) {
+      Iterator<Entry> it = entries.values().iterator();
+      remove(it.next());
+      evictions++;
+    }
+  }
+
+  private void remove(Entry entry) {
+    if (entries.remove(entry.id) == null) {
+      return;
+    }
+    for (int table = 0; table < tables.size(); table++) {
+      List<Entry> bucket = tables.get(table).get(entry.bucketKeys[table]);
+      if (bucket != null) {
+        bucket.remove(entry);
+        if (bucket.isEmpty()) {
+          tables.get(table).remove(entry.bucketKeys[table]);
+        }
+      }
+    }
+    bytes -= entry.bytes;
+  }
+
+  private boolean isInvalidated(Entry entry) {
+    if (allInvalidatedAt > entry.token) {
+      return true;
+    }
+    Long invalidatedAt = classInvalidatedAt.get(entry.className);
+    return invalidatedAt != null && invalidatedAt > entry.token;
+  }
+
+  private long bucketKey(String scope, float[] vector, int table) {
+    float[][] planes = planesByDimension.computeIfAbsent(vector.length, this::createPlanes);
+    int signature = 0;
+    for (int bit = 0; bit < config.getHashBits(); bit++) {
+      if (dot(planes[table * config.getHashBits() + bit], vector) >= 0) {
+        signature |= 1 << bit;
+      }
+    }
+    return ((long) scope.hashCode() << 32) | (signature & 0xffffffffL);
+  }
+
+  private float[][] createPlanes(int dimensions) {
+    Random random = new Random(config.getSeed() + dimensions);
+    float[][] planes = new float[config.getHashTables() * config.getHashBits()][dimensions];
+    for (float[] plane : planes) {
+      for (int i = 0; i < dimensions; i++) {
+        plane[i] = (float) random.nextGaussian();
+      }
+    }
+    return planes;
+  }
+
+  private boolean isCacheable(Result<GraphQLResponse> result) {
+    return result != null && !result.hasErrors() && result.getResult() != null
+      && ArrayUtils.isEmpty(result.getResult().getErrors());
+  }
+
+  private static double dot(float[] a, float[] b) {
+    double sum = 0;
+    for (int i = 0; i < a.length; i++) {
+      sum += a[i] * b[i];
+    }
+    return sum;
+  }
+
+  static float[] normalize(Float[] vector) {
+    if (ArrayUtils.isEmpty(vector)) {
+      return null;
+    }
+    float[] normalized = new float[vector.length];
+    double norm = 0;
+    for (int i = 0; i < vector.length; i++) {
+      normalized[i] = vector[i] != null ? vector[i] : 0;
+      norm += normalized[i] * normalized[i];
+    }
+    if (norm == 0) {
+      return null;
+    }
+    float scale = (float) (1 / Math.sqrt(norm));
+    for (int i = 0; i < normalized.length; i++) {
+      normalized[i] *= scale;
+    }
+    return normalized;
+  }
+
+  private static String normalizeClassName(String className) {
+    return StringUtils.capitalize(StringUtils.trimToEmpty(className));
+  }
+
+  // compares returned objects by _additional.id if requested, otherwise by all returned fields
+  static boolean sameResults(GraphQLResponse cached, GraphQLResponse fresh) {
+    return Objects.equals(resultObjects(cached.getData()), resultObjects(fresh.getData()));
+  }
+
+  private static List<Object> resultObjects(Object data) {
+    List<Object> objects = new ArrayList<>();
+    Object get = data instanceof Map ? ((Map<?, ?>) data).get("Get") : null;
+    if (!(get instanceof Map)) {
+      return objects;
+    }
+    for (Object classObjects : ((Map<?, ?>) get).values()) {
+      if (!(classObjects instanceof List)) {
+        continue;
+      }
+      for (Object object : (List<?>) classObjects) {
+        Object additional = object instanceof Map ? ((Map<?, ?>) object).get("_additional") : null;
+        Object id = additional instanceof Map ? ((Map<?, ?>) additional).get("id") : null;
+        objects.add(id != null ? id : object);
+      }
+    }
+    return objects;
+  }
+
+
+  @RequiredArgsConstructor
+  private static class Entry {
+    private final long id;
+    private final String scope;
+    private final String className;
+    private final float[] vector;
+    private final long[] bucketKeys;
+    private final long token;
+    private final long expiresAt;
+    private final long bytes;
+    private final Result<GraphQLResponse> result;
+  }
+}
@@ -0,0 +1,87 @@
+package io.weaviate.client.v1.graphql.cache;
+
+import io.weaviate.client.base.util.Assert;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.experimental.FieldDefaults;
+
+@Getter
+@Builder
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class SemanticQueryCacheConfig {
+
+  public static final int MAX_ENTRIES = 1_000;
+  public static final long MAX_BYTES = 64L * 1024 * 1024;
+  public static final long TTL_MS = 30_000;
+  public static final float DISTANCE_THRESHOLD = 0.02f;
+  public static final int HASH_TABLES = 4;
+  public static final int HASH_BITS = 12;
+  public static final float VERIFICATION_RATE = 0.01f;
+  public static final long SEED = 42;
+
+  int maxEntries;
+  long maxBytes;
+  long ttlMs;
+  /**
+   * Max cosine distance between a query vector and a cached one to answer the query from cache
+   */
+  float distanceThreshold;
+  int hashTables;
+  int hashBits;
+  EvictionPolicy evictionPolicy;
+  /**
+   * Fraction of cache hits that are also sent to the server to measure the false hit rate
+   */
+  float verificationRate;
+  long seed;
+
+  private SemanticQueryCacheConfig(int maxEntries, long maxBytes, long ttlMs, float distanceThreshold,
+                                   int hashTables, int hashBits, EvictionPolicy evictionPolicy,
+                                   float verificationRate, long seed) {
+    Assert.requireGreaterEqual(maxEntries, 1, "maxEntries");
+    Assert.requireGreaterEqual(maxBytes, 1L, "maxBytes");
+    Assert.requireGreaterEqual(ttlMs, 1L, "ttlMs");
+    Assert.requireGreaterEqual(hashTables, 1, "hashTables");
+    Assert.requireGreaterEqual(hashBits, 1, "hashBits");
+    Assert.requiredNotNull(evictionPolicy, "evictionPolicy");
+    if (distanceThreshold < 0 || distanceThreshold > 2) {
+      throw new IllegalArgumentException("distanceThreshold should be between 0 and 2");
+    }
+    if (verificationRate < 0 || verificationRate > 1) {
+      throw new IllegalArgumentException("verificationRate should be between 0 and 1");
+    }
+    if (hashBits > 32) {
+      throw new IllegalArgumentException("hashBits should be less than or equal 32");
+    }
+
+    this.maxEntries = maxEntries;
+    this.maxBytes = maxBytes;
+    this.ttlMs = ttlMs;
+    this.distanceThreshold = distanceThreshold;
+    this.hashTables = hashTables;
+    this.hashBits = hashBits;
+    this.evictionPolicy = evictionPolicy;
+    this.verificationRate = verificationRate;
+    this.seed = seed;
+  }
+
+  public static SemanticQueryCacheConfigBuilder defaultConfig() {
+    return SemanticQueryCacheConfig.builder()
+      .maxEntries(MAX_ENTRIES)
+      .maxBytes(MAX_BYTES)
+      .ttlMs(TTL_MS)
+      .distanceThreshold(DISTANCE_THRESHOLD)
+      .hashTables(HASH_TABLES)
+      .hashBits(HASH_BITS)
+      .evictionPolicy(EvictionPolicy.LRU)
+      .verificationRate(VERIFICATION_RATE)
+      .seed(SEED);
+  }
+
+
+  public enum EvictionPolicy {
+    LRU,
+    FIFO
+  }
+}
@@ -0,0 +1,21 @@
+package io.weaviate.client.v1.graphql.model;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import java.util.Map;
+
+@Getter
+@Builder
+@ToString
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class ScatterGatherHit {
+  String className;
+  String id;
+  Float distance;
+  Float score;
+  Map<String, Object> object;
+}
@@ -0,0 +1,28 @@
+package io.weaviate.client.v1.graphql.model;
+
+import io.weaviate.client.base.WeaviateError;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.ToString;
+import lombok.experimental.FieldDefaults;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@Builder
+@ToString
+@FieldDefaults(makeFinal = true, level = AccessLevel.PRIVATE)
+public class ScatterGatherResponse {
+  /**
+   * Merged top hits of all classes that answered in time
+   */
+  List<ScatterGatherHit> hits;
+  List<String> timedOutClasses;
+  Map<String, WeaviateError> failedClasses;
+
+  public boolean isPartial() {
+    return !timedOutClasses.isEmpty() || !failedClasses.isEmpty();
+  }
+}
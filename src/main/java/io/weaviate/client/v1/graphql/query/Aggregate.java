@@ -17,13 +17,20 @@ import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.v1.filters.WhereFilter;
 import io.weaviate.client.v1.graphql.model.GraphQLQuery;
 import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.cache.QueryResultCache;
 
 public class Aggregate extends BaseClient<GraphQLResponse> implements ClientResult<GraphQLResponse> {
   private final AggregateBuilder.AggregateBuilderBuilder aggregateBuilder;
+  private final QueryResultCache queryResultCache;
 
   public Aggregate(HttpClient httpClient, Config config) {
+    this(httpClient, config, null);
+  }
+
+  public Aggregate(HttpClient httpClient, Config config, QueryResultCache queryResultCache) {
     super(httpClient, config);
-    aggregateBuilder = AggregateBuilder.builder();
+    this.aggregateBuilder = AggregateBuilder.builder();
+    this.queryResultCache = queryResultCache;
   }
 
   public Aggregate withClassName(String className) {
@@ -78,9 +85,19 @@ public class Aggregate extends BaseClient<GraphQLResponse> implements ClientResu
 
   @Override
   public Result<GraphQLResponse> run() {
-    String aggregateQuery = aggregateBuilder.build().buildQuery();
+    long buildStart = System.nanoTime();
+    AggregateBuilder aggregate = aggregateBuilder.build();
+    String aggregateQuery = aggregate.buildQuery();
+    long buildNanos = System.nanoTime() - buildStart;
+    if (queryResultCache != null) {
+      return queryResultCache.getOrLoad(aggregateQuery, aggregate.getClassName(), () -> runQuery(aggregateQuery, buildNanos));
+    }
+    return runQuery(aggregateQuery, buildNanos);
+  }
+
+  private Result<GraphQLResponse> runQuery(String aggregateQuery, long buildNanos) {
     GraphQLQuery query = GraphQLQuery.builder().query(aggregateQuery).build();
-    Response<GraphQLResponse> resp = sendPostRequest("/graphql", query, GraphQLResponse.class);
+    Response<GraphQLResponse> resp = sendPostRequest("/graphql", query, GraphQLResponse.class, buildNanos);
     return new Result<>(resp);
   }
 }
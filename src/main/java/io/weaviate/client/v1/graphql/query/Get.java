@@ -25,13 +25,29 @@ import io.weaviate.client.base.http.HttpClient;
 import io.weaviate.client.v1.filters.WhereFilter;
 import io.weaviate.client.v1.graphql.model.GraphQLQuery;
 import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.cache.QueryResultCache;
+import io.weaviate.client.v1.graphql.cache.SemanticQueryCache;
 
 public class Get extends BaseClient<GraphQLResponse> implements ClientResult<GraphQLResponse> {
   private final GetBuilder.GetBuilderBuilder getBuilder;
+  private final QueryResultCache queryResultCache;
+  private final SemanticQueryCache semanticQueryCache;
+  private int requestTimeoutMs;
 
   public Get(HttpClient httpClient, Config config) {
+    this(httpClient, config, null, null);
+  }
+
+  public Get(HttpClient httpClient, Config config, QueryResultCache queryResultCache) {
+    this(httpClient, config, queryResultCache, null);
+  }
+
+  public Get(HttpClient httpClient, Config config, QueryResultCache queryResultCache,
+             SemanticQueryCache semanticQueryCache) {
     super(httpClient, config);
-    getBuilder = GetBuilder.builder();
+    this.getBuilder = GetBuilder.builder();
+    this.queryResultCache = queryResultCache;
+    this.semanticQueryCache = semanticQueryCache;
   }
 
   public Get withClassName(String className) {
@@ -129,11 +145,49 @@ public class Get extends BaseClient<GraphQLResponse> implements ClientResult<Gra
     return this;
   }
 
+  /**
+   * Gives up on the request after timeoutMs, 0 (default) keeps the client's timeouts.
+   * Frees the worker of a scatter-gather class query once its deadline passes.
+   */
+  Get withRequestTimeout(int timeoutMs) {
+    this.requestTimeoutMs = timeoutMs;
+    return this;
+  }
+
   @Override
   public Result<GraphQLResponse> run() {
-    String getQuery = getBuilder.build().buildQuery();
+    long buildStart = System.nanoTime();
+    GetBuilder get = getBuilder.build();
+    String getQuery = get.buildQuery();
+    long buildNanos = System.nanoTime() - buildStart;
+    NearVectorArgument nearVector = get.getWithNearVectorFilter();
+    if (semanticQueryCache != null && nearVector != null && nearVector.getVector() != null) {
+      // cached queries are comparable only if everything but the vector is the same
+      String scope = get.toBuilder()
+        .withNearVectorFilter(NearVectorArgument.builder()
+          .certainty(nearVector.getCertainty())
+          .distance(nearVector.getDistance())
+          .build())
+        .build()
+        .buildQuery();
+      return semanticQueryCache.getOrLoad(scope, get.getClassName(), nearVector.getVector(),
+        () -> runCached(getQuery, get.getClassName(), buildNanos));
+    }
+    return runCached(getQuery, get.getClassName(), buildNanos);
+  }
+
+  private Result<GraphQLResponse> runCached(String getQuery, String className, long buildNanos) {
+    if (queryResultCache != null) {
+      return queryResultCache.getOrLoad(getQuery, className, () -> runQuery(getQuery, buildNanos));
+    }
+    return runQuery(getQuery, buildNanos);
+  }
+
+  private Result<GraphQLResponse> runQuery(String getQuery, long buildNanos) {
     GraphQLQuery query = GraphQLQuery.builder().query(getQuery).build();
-    Response<GraphQLResponse> resp = sendPostRequest("/graphql", query, GraphQLResponse.class);
+    Response<GraphQLResponse> resp = requestTimeoutMs > 0
+      ? sendPostRequest("/graphql", query, GraphQLResponse.class, buildNanos, requestTimeoutMs)
+      : sendPostRequest("/graphql", query, GraphQLResponse.class, buildNanos);
     return new Result<>(resp);
   }
 }
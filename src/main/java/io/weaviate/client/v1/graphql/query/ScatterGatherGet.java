@@ -0,0 +1,396 @@
+package io.weaviate.client.v1.graphql.query;
+
+import io.weaviate.client.base.ClientResult;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateError;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.base.concurrent.ClientExecutors;
+import io.weaviate.client.v1.graphql.model.GraphQLError;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import io.weaviate.client.v1.graphql.model.ScatterGatherHit;
+import io.weaviate.client.v1.graphql.model.ScatterGatherResponse;
+import io.weaviate.client.v1.graphql.query.argument.Bm25Argument;
+import io.weaviate.client.v1.graphql.query.argument.HybridArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
+import io.weaviate.client.v1.graphql.query.argument.WhereArgument;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import org.apache.commons.lang3.ArrayUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs the same nearVector, hybrid or bm25 query against several classes in parallel
+ * and merges top hits by distance (nearVector) or score (hybrid, bm25).
+ * Classes which do not answer within their deadline are skipped and reported,
+ * the response is then marked as partial.
+ */
+public class ScatterGatherGet implements ClientResult<ScatterGatherResponse> {
+
+  private static final Comparator<ScatterGatherHit> BY_DISTANCE = Comparator.comparing(ScatterGatherHit::getDistance,
+    Comparator.nullsLast(Comparator.naturalOrder()));
+  private static final Comparator<ScatterGatherHit> BY_SCORE = Comparator.comparing(ScatterGatherHit::getScore,
+    Comparator.nullsLast(Comparator.reverseOrder()));
+
+  private final Supplier<Get> getFactory;
+  private final ClientExecutors executors;
+  private String[] classNames;
+  private Field[] fields;
+  private WhereArgument where;
+  private NearVectorArgument nearVector;
+  private HybridArgument hybrid;
+  private Bm25Argument bm25;
+  private Integer limit;
+  private String consistencyLevel;
+  private long classTimeoutMs;
+  private long deadlineMs;
+  private final Map<String, Long> classTimeoutsMs;
+  private ExecutorService executor;
+
+  public ScatterGatherGet(Supplier<Get> getFactory, ClientExecutors executors) {
+    this.getFactory = getFactory;
+    this.executors = executors;
+    this.classTimeoutsMs = new HashMap<>();
+  }
+
+  public ScatterGatherGet withClassNames(String... classNames) {
+    this.classNames = classNames;
+    return this;
+  }
+
+  public ScatterGatherGet withFields(Field... fields) {
+    this.fields = fields;
+    return this;
+  }
+
+  public ScatterGatherGet withWhere(WhereArgument where) {
+    this.where = where;
+    return this;
+  }
+
+  public ScatterGatherGet withNearVector(NearVectorArgument nearVector) {
+    this.nearVector = nearVector;
+    return this;
+  }
+
+  public ScatterGatherGet withHybrid(HybridArgument hybrid) {
+    this.hybrid = hybrid;
+    return this;
+  }
+
+  public ScatterGatherGet withBm25(Bm25Argument bm25) {
+    this.bm25 = bm25;
+    return this;
+  }
+
+  /**
+   * Number of merged hits to return, also used as limit of each class query
+   */
+  public ScatterGatherGet withLimit(Integer limit) {
+    this.limit = limit;
+    return this;
+  }
+
+  public ScatterGatherGet withConsistencyLevel(String consistencyLevel) {
+    this.consistencyLevel = consistencyLevel;
+    return this;
+  }
+
+  /**
+   * Deadline of every class query, counted from the start of the run. The request gives up by then as well,
+   * freeing its worker. 0 (default) waits until the query completes or fails.
+   */
+  public ScatterGatherGet withClassTimeout(long timeoutMs) {
+    this.classTimeoutMs = timeoutMs;
+    return this;
+  }
+
+  public ScatterGatherGet withClassTimeout(String className, long timeoutMs) {
+    this.classTimeoutsMs.put(className, timeoutMs);
+    return this;
+  }
+
+  /**
+   * Deadline of the whole run, counted from its start. Classes not answered by then are cancelled and
+   * reported as timed out, and the hits of the others are returned. Shortens longer class timeouts.
+   * 0 (default) waits for every class up to its own timeout.
+   */
+  public ScatterGatherGet withDeadline(long deadlineMs) {
+    this.deadlineMs = deadlineMs;
+    return this;
+  }
+
+  /**
+   * Executor running class queries. If not set, they run on the client's shared workers.
+   */
+  public ScatterGatherGet withExecutor(ExecutorService executor) {
+    this.executor = executor;
+    return this;
+  }
+
+  @Override
+  public Result<ScatterGatherResponse> run() {
+    if (ArrayUtils.isEmpty(classNames)) {
+      return errorResult("classNames cannot be empty");
+    }
+    if (Stream.of(nearVector, hybrid, bm25).filter(Objects::nonNull).count() != 1) {
+      return errorResult("exactly one of nearVector, hybrid or bm25 has to be set");
+    }
+    boolean byDistance = nearVector != null;
+
+    long start = System.currentTimeMillis();
+    ExecutorService runExecutor = executor != null ? executor : executors.bounded(classNames.length);
+    try {
+      Map<String, Future<Result<GraphQLResponse>>> futures = new LinkedHashMap<>();
+      for (String className : classNames) {
+        Get get = createGet(className, byDistance ? "distance" : "score");
+        futures.put(className, runExecutor.submit(get::run));
+      }
+
+      List<List<ScatterGatherHit>> classHits = new ArrayList<>();
+      List<String> timedOut = new ArrayList<>();
+      Map<String, WeaviateError> failed = new LinkedHashMap<>();
+      for (Map.Entry<String, Future<Result<GraphQLResponse>>> entry : futures.entrySet()) {
+        String className = entry.getKey();
+        Future<Result<GraphQLResponse>> future = entry.getValue();
+        try {
+          Result<GraphQLResponse> result = await(future, start, timeoutOf(className));
+          WeaviateError error = toError(result);
+          if (error != null) {
+            failed.put(className, error);
+          } else {
+            List<ScatterGatherHit> hits = toHits(className, result.getResult());
+            hits.sort(byDistance ? BY_DISTANCE : BY_SCORE);
+            classHits.add(hits);
+          }
+        } catch (TimeoutException e) {
+          future.cancel(true);
+          timedOut.add(className);
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          future.cancel(true);
+          timedOut.add(className);
+        } catch (ExecutionException e) {
+          failed.put(className, new WeaviateError(0, Collections.singletonList(WeaviateErrorMessage.builder()
+            .message(e.getCause().getMessage())
+            .throwable(e.getCause())
+            .build())));
+        }
+      }
+
+      ScatterGatherResponse response = ScatterGatherResponse.builder()
+        .hits(merge(classHits, byDistance ? BY_DISTANCE : BY_SCORE, limit))
+        .timedOutClasses(timedOut)
+        .failedClasses(failed)
+        .build();
+      if (classHits.isEmpty()) {
+        // status of the first failed class with a response, 0 as for requests without one otherwise
+        int statusCode = failed.values().stream().mapToInt(WeaviateError::getStatusCode)
+          .filter(status -> status != 0).findFirst().orElse(0);
+        return new Result<>(statusCode, response, WeaviateErrorResponse.builder()
+          .error(allClassesFailedMessages(timedOut, failed))
+          .build());
+      }
+      return new Result<>(200, response, null);
+    } finally {
+      if (executor == null) {
+        runExecutor.shutdownNow();
+      }
+    }
+  }
+
+  static List<ScatterGatherHit> merge(List<List<ScatterGatherHit>> sortedLists, Comparator<ScatterGatherHit> order,
+                                      Integer limit) {
+    int total = sortedLists.stream().mapToInt(List::size).sum();
+    int size = limit != null ? Math.min(limit, total) : total;
+    List<ScatterGatherHit> merged = new ArrayList<>(size);
+
+    // heap of cursors [list index, position in list] ordered by their current hit
+    PriorityQueue<int[]> heap = new PriorityQueue<>(Math.max(1, sortedLists.size()),
+      (a, b) -> order.compare(sortedLists.get(a[0]).get(a[1]), sortedLists.get(b[0]).get(b[1])));
+    for (int i = 0; i < sortedLists.size(); i++) {
+      if (!sortedLists.get(i).isEmpty()) {
+        heap.add(new int[]{i, 0});
+      }
+    }
+    while (merged.size() < size && !heap.isEmpty()) {
+      int[] cursor = heap.poll();
+      List<ScatterGatherHit> list = sortedLists.get(cursor[0]);
+      merged.add(list.get(cursor[1]));
+      if (++cursor[1] < list.size()) {
+        heap.add(cursor);
+      }
+    }
+    return merged;
+  }
+
+
+  private Get createGet(String className, String metric) {
+    Get get = getFactory.get()
+      .withClassName(className)
+      .withFields(withAdditional(fields, metric));
+    if (where != null) {
+      get.withWhere(where);
+    }
+    if (nearVector != null) {
+      get.withNearVector(nearVector);
+    }
+    if (hybrid != null) {
+      get.withHybrid(hybrid);
+    }
+    if (bm25 != null) {
+      get.withBm25(bm25);
+    }
+    if (limit != null) {
+      get.withLimit(limit);
+    }
+    if (consistencyLevel != null) {
+      get.withConsistencyLevel(consistencyLevel);
+    }
+    long timeoutMs = timeoutOf(className);
+    if (timeoutMs > 0) {
+      // cancelling the future does not abort a request, it has to give up by itself
+      get.withRequestTimeout((int) Math.min(timeoutMs, Integer.MAX_VALUE));
+    }
+    return get;
+  }
+
+  private long timeoutOf(String className) {
+    long timeoutMs = classTimeoutsMs.getOrDefault(className, classTimeoutMs);
+    if (deadlineMs <= 0) {
+      return timeoutMs;
+    }
+    return timeoutMs <= 0 ? deadlineMs : Math.min(timeoutMs, deadlineMs);
+  }
+
+  private Result<GraphQLResponse> await(Future<Result<GraphQLResponse>> future, long start, long timeoutMs)
+    throws InterruptedException, ExecutionException, TimeoutException {
+    if (timeoutMs <= 0) {
+      return future.get();
+    }
+    long remaining = start + timeoutMs - System.currentTimeMillis();
+    return future.get(Math.max(remaining, 0), TimeUnit.MILLISECONDS);
+  }
+
+  // adds _additional{id <metric>} needed to merge results, keeping requested fields
+  private Field[] withAdditional(Field[] requested, String metric) {
+    List<Field> all = requested != null ? new ArrayList<>(Arrays.asList(requested)) : new ArrayList<>();
+    int index = -1;
+    for (int i = 0; i < all.size(); i++) {
+      if ("_additional".equals(all.get(i).getName())) {
+        index = i;
+      }
+    }
+
+    List<Field> additional = new ArrayList<>();
+    if (index >= 0 && all.get(index).getFields() != null) {
+      additional.addAll(Arrays.asList(all.get(index).getFields()));
+    }
+    for (String name : new String[]{"id", metric}) {
+      if (additional.stream().noneMatch(f -> name.equals(f.getName()))) {
+        additional.add(Field.builder().name(name).build());
+      }
+    }
+
+    Field merged = Field.builder().name("_additional").fields(additional.toArray(new Field[0])).build();
+    if (index >= 0) {
+      all.set(index, merged);
+    } else {
+      all.add(merged);
+    }
+    return all.toArray(new Field[0]);
+  }
+
+  private WeaviateError toError(Result<GraphQLResponse> result) {
+    if (result.hasErrors()) {
+      return result.getError();
+    }
+    GraphQLError[] errors = result.getResult() != null ? result.getResult().getErrors() : null;
+    if (ArrayUtils.isNotEmpty(errors)) {
+      return new WeaviateError(200, Arrays.stream(errors)
+        .map(e -> WeaviateErrorMessage.builder().message(e.getMessage()).build())
+        .collect(Collectors.toList()));
+    }
+    return null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private List<ScatterGatherHit> toHits(String className, GraphQLResponse response) {
+    List<ScatterGatherHit> hits = new ArrayList<>();
+    Object get = response.getData() instanceof Map ? ((Map<String, Object>) response.getData()).get("Get") : null;
+    if (!(get instanceof Map)) {
+      return hits;
+    }
+    // single class is queried, its key is not necessarily spelled as requested
+    Object objects = ((Map<String, Object>) get).values().stream().findFirst().orElse(null);
+    if (!(objects instanceof List)) {
+      return hits;
+    }
+    for (Object item : (List<Object>) objects) {
+      Map<String, Object> object = (Map<String, Object>) item;
+      Map<String, Object> additional = object.get("_additional") instanceof Map
+        ? (Map<String, Object>) object.get("_additional")
+        : Collections.emptyMap();
+      hits.add(ScatterGatherHit.builder()
+        .className(className)
+        .id((String) additional.get("id"))
+        .distance(toFloat(additional.get("distance")))
+        .score(toFloat(additional.get("score")))
+        .object(object)
+        .build());
+    }
+    return hits;
+  }
+
+  // score is returned as string
+  private Float toFloat(Object value) {
+    if (value instanceof Number) {
+      return ((Number) value).floatValue();
+    }
+    if (value instanceof String) {
+      try {
+        return Float.parseFloat((String) value);
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  private Result<ScatterGatherResponse> errorResult(String message) {
+    WeaviateErrorMessage errorMessage = WeaviateErrorMessage.builder().message(message).build();
+    return new Result<>(500, null, WeaviateErrorResponse.builder()
+      .error(Collections.singletonList(errorMessage))
+      .build());
+  }
+
+  private List<WeaviateErrorMessage> allClassesFailedMessages(List<String> timedOut, Map<String, WeaviateError> failed) {
+    List<WeaviateErrorMessage> messages = new ArrayList<>();
+    if (!timedOut.isEmpty()) {
+      messages.add(WeaviateErrorMessage.builder().message("Timed out classes: " + String.join(", ", timedOut)).build());
+    }
+    failed.forEach((className, error) -> error.getMessages().forEach(message -> messages.add(
+      WeaviateErrorMessage.builder()
+        .message(className + ": " + message.getMessage())
+        .throwable(message.getThrowable())
+        .build())));
+    return messages;
+  }
+}
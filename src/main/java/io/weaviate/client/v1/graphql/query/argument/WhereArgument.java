@@ -55,6 +55,9 @@ public class WhereArgument implements Argument {
       if (f.getValueText() != null) {
         args.add(buildArg("valueText", Serializer.quote(f.getValueText())));
       }
+      if (f.getValueTextArray() != null) {
+        args.add(buildArg("valueTextArray", Serializer.arrayWithQuotes(f.getValueTextArray())));
+      }
       if (f.getValueDate() != null) {
         String date = DateFormatUtils.format(f.getValueDate(), "yyyy-MM-dd'T'HH:mm:ssZZZZZ");
         args.add(buildArg("valueDate", Serializer.quote(date)));
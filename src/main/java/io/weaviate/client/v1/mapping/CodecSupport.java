@@ -0,0 +1,304 @@
+package io.weaviate.client.v1.mapping;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import java.io.IOException;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.UUID;
+
+/**
+ * Conversions used by generated codecs. Values read from maps are either the types written by
+ * {@link WeaviateCodec#toObject(Object)} or the ones gson parses JSON into: Double for numbers, List for arrays.
+ */
+public class CodecSupport {
+
+  private CodecSupport() {
+  }
+
+  public static String formatDate(Date date) {
+    return DateTimeFormatter.ISO_INSTANT.format(date.toInstant());
+  }
+
+  public static Date parseDate(String date) {
+    return Date.from(OffsetDateTime.parse(date).toInstant());
+  }
+
+  // json
+
+  public static UUID readUuid(JsonReader in) throws IOException {
+    return UUID.fromString(in.nextString());
+  }
+
+  public static Date readDate(JsonReader in) throws IOException {
+    return parseDate(in.nextString());
+  }
+
+  public static void writeStringArray(JsonWriter out, String[] values) throws IOException {
+    out.beginArray();
+    for (String value : values) {
+      out.value(value);
+    }
+    out.endArray();
+  }
+
+  public static void writeIntArray(JsonWriter out, int[] values) throws IOException {
+    out.beginArray();
+    for (int value : values) {
+      out.value(value);
+    }
+    out.endArray();
+  }
+
+  public static void writeLongArray(JsonWriter out, long[] values) throws IOException {
+    out.beginArray();
+    for (long value : values) {
+      out.value(value);
+    }
+    out.endArray();
+  }
+
+  public static void writeFloatArray(JsonWriter out, float[] values) throws IOException {
+    out.beginArray();
+    for (float value : values) {
+      out.value(value);
+    }
+    out.endArray();
+  }
+
+  public static void writeDoubleArray(JsonWriter out, double[] values) throws IOException {
+    out.beginArray();
+    for (double value : values) {
+      out.value(value);
+    }
+    out.endArray();
+  }
+
+  public static void writeBooleanArray(JsonWriter out, boolean[] values) throws IOException {
+    out.beginArray();
+    for (boolean value : values) {
+      out.value(value);
+    }
+    out.endArray();
+  }
+
+  public static String[] readStringArray(JsonReader in) throws IOException {
+    String[] values = new String[8];
+    int size = 0;
+    in.beginArray();
+    while (in.hasNext()) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = in.nextString();
+    }
+    in.endArray();
+    return Arrays.copyOf(values, size);
+  }
+
+  public static int[] readIntArray(JsonReader in) throws IOException {
+    long[] values = readLongArray(in);
+    int[] ints = new int[values.length];
+    for (int i = 0; i < values.length; i++) {
+      ints[i] = (int) values[i];
+    }
+    return ints;
+  }
+
+  public static long[] readLongArray(JsonReader in) throws IOException {
+    long[] values = new long[8];
+    int size = 0;
+    in.beginArray();
+    while (in.hasNext()) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = in.nextLong();
+    }
+    in.endArray();
+    return Arrays.copyOf(values, size);
+  }
+
+  public static float[] readFloatArray(JsonReader in) throws IOException {
+    double[] values = readDoubleArray(in);
+    float[] floats = new float[values.length];
+    for (int i = 0; i < values.length; i++) {
+      floats[i] = (float) values[i];
+    }
+    return floats;
+  }
+
+  public static double[] readDoubleArray(JsonReader in) throws IOException {
+    double[] values = new double[16];
+    int size = 0;
+    in.beginArray();
+    while (in.hasNext()) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = in.nextDouble();
+    }
+    in.endArray();
+    return Arrays.copyOf(values, size);
+  }
+
+  public static boolean[] readBooleanArray(JsonReader in) throws IOException {
+    boolean[] values = new boolean[8];
+    int size = 0;
+    in.beginArray();
+    while (in.hasNext()) {
+      if (size == values.length) {
+        values = Arrays.copyOf(values, size * 2);
+      }
+      values[size++] = in.nextBoolean();
+    }
+    in.endArray();
+    return Arrays.copyOf(values, size);
+  }
+
+  // maps
+
+  public static String toText(Object value) {
+    return String.valueOf(value);
+  }
+
+  public static int toInt(Object value) {
+    return number(value).intValue();
+  }
+
+  public static long toLong(Object value) {
+    return number(value).longValue();
+  }
+
+  public static float toFloat(Object value) {
+    return number(value).floatValue();
+  }
+
+  public static double toDouble(Object value) {
+    return number(value).doubleValue();
+  }
+
+  public static boolean toBoolean(Object value) {
+    return value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(String.valueOf(value));
+  }
+
+  public static UUID toUuid(Object value) {
+    return value instanceof UUID ? (UUID) value : UUID.fromString(String.valueOf(value));
+  }
+
+  public static Date toDate(Object value) {
+    return value instanceof Date ? (Date) value : parseDate(String.valueOf(value));
+  }
+
+  public static String[] toStringArray(Object value) {
+    if (value instanceof String[]) {
+      return (String[]) value;
+    }
+    Collection<?> values = collection(value);
+    String[] array = new String[values.size()];
+    Iterator<?> it = values.iterator();
+    for (int i = 0; i < array.length; i++) {
+      array[i] = toText(it.next());
+    }
+    return array;
+  }
+
+  public static int[] toIntArray(Object value) {
+    if (value instanceof int[]) {
+      return (int[]) value;
+    }
+    Collection<?> values = collection(value);
+    int[] array = new int[values.size()];
+    Iterator<?> it = values.iterator();
+    for (int i = 0; i < array.length; i++) {
+      array[i] = toInt(it.next());
+    }
+    return array;
+  }
+
+  public static long[] toLongArray(Object value) {
+    if (value instanceof long[]) {
+      return (long[]) value;
+    }
+    Collection<?> values = collection(value);
+    long[] array = new long[values.size()];
+    Iterator<?> it = values.iterator();
+    for (int i = 0; i < array.length; i++) {
+      array[i] = toLong(it.next());
+    }
+    return array;
+  }
+
+  public static float[] toFloatArray(Object value) {
+    if (value instanceof float[]) {
+      return (float[]) value;
+    }
+    if (value instanceof Float[]) {
+      return unbox((Float[]) value);
+    }
+    Collection<?> values = collection(value);
+    float[] array = new float[values.size()];
+    Iterator<?> it = values.iterator();
+    for (int i = 0; i < array.length; i++) {
+      array[i] = toFloat(it.next());
+    }
+    return array;
+  }
+
+  public static double[] toDoubleArray(Object value) {
+    if (value instanceof double[]) {
+      return (double[]) value;
+    }
+    Collection<?> values = collection(value);
+    double[] array = new double[values.size()];
+    Iterator<?> it = values.iterator();
+    for (int i = 0; i < array.length; i++) {
+      array[i] = toDouble(it.next());
+    }
+    return array;
+  }
+
+  public static boolean[] toBooleanArray(Object value) {
+    if (value instanceof boolean[]) {
+      return (boolean[]) value;
+    }
+    Collection<?> values = collection(value);
+    boolean[] array = new boolean[values.size()];
+    Iterator<?> it = values.iterator();
+    for (int i = 0; i < array.length; i++) {
+      array[i] = toBoolean(it.next());
+    }
+    return array;
+  }
+
+  public static Float[] box(float[] values) {
+    Float[] boxed = new Float[values.length];
+    for (int i = 0; i < values.length; i++) {
+      boxed[i] = values[i];
+    }
+    return boxed;
+  }
+
+  public static float[] unbox(Float[] values) {
+    float[] unboxed = new float[values.length];
+    for (int i = 0; i < values.length; i++) {
+      unboxed[i] = values[i];
+    }
+    return unboxed;
+  }
+
+  private static Number number(Object value) {
+    return value instanceof Number ? (Number) value : Double.valueOf(String.valueOf(value));
+  }
+
+  private static Collection<?> collection(Object value) {
+    if (value instanceof Collection) {
+      return (Collection<?>) value;
+    }
+    throw new IllegalArgumentException(String.format("expected an array, found %s", value.getClass().getName()));
+  }
+}
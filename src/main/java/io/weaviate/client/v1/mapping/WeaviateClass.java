@@ -0,0 +1,27 @@
+package io.weaviate.client.v1.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class mapped to objects of a Weaviate class. A {@link WeaviateCodec} named
+ * {@code <SimpleName>WeaviateCodec} (nested classes joined with '_') is generated for it in the same package.
+ * <p>
+ * The class needs a non-private no-argument constructor. Only fields annotated with {@link WeaviateProperty},
+ * {@link WeaviateId} or {@link Vector} are mapped; private ones through their getters and setters.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface WeaviateClass {
+
+  /**
+   * Name of the Weaviate class, the simple name of the annotated class if empty.
+   */
+  String value() default "";
+
+  String description() default "";
+}
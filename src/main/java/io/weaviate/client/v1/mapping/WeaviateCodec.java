@@ -0,0 +1,49 @@
+package io.weaviate.client.v1.mapping;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.client.v1.graphql.query.fields.Fields;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Converts instances of a class annotated with {@link WeaviateClass} from and to Weaviate objects, without
+ * reflection. Implementations are generated at compile time; get them with {@link WeaviateCodecs#of(Class)}.
+ */
+public interface WeaviateCodec<T> {
+
+  Class<T> type();
+
+  String className();
+
+  /**
+   * Class definition with the mapped properties, to be created or extended with vectorizer and index settings.
+   */
+  io.weaviate.client.v1.schema.model.WeaviateClass schema();
+
+  /**
+   * GraphQL projection of the mapped properties, with the id and vector if mapped.
+   */
+  Fields fields();
+
+  /**
+   * Writes the object in the shape of a batch object: class, id, vector and properties.
+   * Null values are left out.
+   */
+  void write(JsonWriter out, T object) throws IOException;
+
+  /**
+   * Reads an object in the shape returned by the REST API. Unknown members are skipped.
+   */
+  T read(JsonReader in) throws IOException;
+
+  WeaviateObject toObject(T object);
+
+  T fromObject(WeaviateObject object);
+
+  /**
+   * Reads an item of a GraphQL Get result, with the id and vector under "_additional".
+   */
+  T fromGraphQL(Map<String, Object> item);
+}
@@ -0,0 +1,45 @@
+package io.weaviate.client.v1.mapping;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Finds the codecs generated for classes annotated with {@link WeaviateClass}.
+ */
+public class WeaviateCodecs {
+
+  public static final String CODEC_SUFFIX = "WeaviateCodec";
+
+  private static final Map<Class<?>, WeaviateCodec<?>> CODECS = new ConcurrentHashMap<>();
+
+  private WeaviateCodecs() {
+  }
+
+  /**
+   * @throws IllegalArgumentException if no codec was generated for the class
+   */
+  @SuppressWarnings("unchecked")
+  public static <T> WeaviateCodec<T> of(Class<T> type) {
+    return (WeaviateCodec<T>) CODECS.computeIfAbsent(type, WeaviateCodecs::load);
+  }
+
+  /**
+   * Name of the codec generated for a class: its binary name with '_' for '$', and the codec suffix.
+   */
+  public static String codecName(String binaryName) {
+    return binaryName.replace('$', '_') + CODEC_SUFFIX;
+  }
+
+  private static WeaviateCodec<?> load(Class<?> type) {
+    String name = codecName(type.getName());
+    try {
+      Class<?> codecClass = Class.forName(name, true, type.getClassLoader());
+      return (WeaviateCodec<?>) codecClass.getDeclaredConstructor().newInstance();
+    } catch (ClassNotFoundException e) {
+      throw new IllegalArgumentException(String.format("no codec %s generated for %s, is it annotated with @%s?",
+        name, type.getName(), WeaviateClass.class.getSimpleName()), e);
+    } catch (ReflectiveOperationException e) {
+      throw new IllegalArgumentException(String.format("codec %s could not be created", name), e);
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package io.weaviate.client.v1.mapping;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maps a field to a property. Supported types are String, UUID, Date, primitives and their wrappers,
+ * and arrays of String, int, long, float, double and boolean.
+ */
+@Documented
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.FIELD)
+public @interface WeaviateProperty {
+
+  /**
+   * Name of the property, the name of the field if empty.
+   */
+  String value() default "";
+
+  /**
+   * Data type of the property in the schema, derived from the field type if empty.
+   */
+  String dataType() default "";
+
+  String description() default "";
+}
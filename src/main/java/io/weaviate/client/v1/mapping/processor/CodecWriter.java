@@ -0,0 +1,366 @@
+package io.weaviate.client.v1.mapping.processor;
+
+import io.weaviate.client.v1.mapping.processor.WeaviateCodecProcessor.MappedClass;
+import io.weaviate.client.v1.mapping.processor.WeaviateCodecProcessor.MappedField;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes the source of the codec of a mapped class.
+ */
+class CodecWriter {
+
+  private final MappedClass mapped;
+  private final String type;
+  private final StringBuilder source = new StringBuilder();
+  private int indent;
+
+  CodecWriter(MappedClass mapped) {
+    this.mapped = mapped;
+    this.type = mapped.typeName;
+  }
+
+  String write() {
+    if (!mapped.packageName.isEmpty()) {
+      line("package %s;", mapped.packageName);
+      line("");
+    }
+    line("import com.google.gson.stream.JsonReader;");
+    line("import com.google.gson.stream.JsonToken;");
+    line("import com.google.gson.stream.JsonWriter;");
+    line("import io.weaviate.client.v1.data.model.WeaviateObject;");
+    line("import io.weaviate.client.v1.graphql.query.fields.Field;");
+    line("import io.weaviate.client.v1.graphql.query.fields.Fields;");
+    line("import io.weaviate.client.v1.mapping.CodecSupport;");
+    line("import io.weaviate.client.v1.mapping.WeaviateCodec;");
+    line("import io.weaviate.client.v1.schema.model.Property;");
+    line("import java.io.IOException;");
+    line("import java.util.Arrays;");
+    line("import java.util.Collections;");
+    line("import java.util.HashMap;");
+    line("import java.util.Map;");
+    line("");
+    line("/**");
+    line(" * Generated from {@link %s}, do not edit.", type);
+    line(" */");
+    open("public final class %s implements WeaviateCodec<%s>", mapped.codecName, type);
+    line("");
+    line("public static final String CLASS_NAME = %s;", literal(mapped.className));
+    line("");
+    writeType();
+    writeSchema();
+    writeFields();
+    writeJson();
+    writeReadJson();
+    writeToObject();
+    writeFromObject();
+    writeFromGraphQL();
+    writeFromProperties();
+    close();
+    return source.toString();
+  }
+
+  private void writeType() {
+    line("@Override");
+    open("public Class<%s> type()", type);
+    line("return %s.class;", type);
+    close();
+    line("");
+    line("@Override");
+    open("public String className()");
+    line("return CLASS_NAME;");
+    close();
+    line("");
+  }
+
+  private void writeSchema() {
+    line("@Override");
+    open("public io.weaviate.client.v1.schema.model.WeaviateClass schema()");
+    line("return io.weaviate.client.v1.schema.model.WeaviateClass.builder()");
+    line("  .className(CLASS_NAME)");
+    if (!mapped.description.isEmpty()) {
+      line("  .description(%s)", literal(mapped.description));
+    }
+    line("  .properties(Arrays.<Property>asList(");
+    for (int i = 0; i < mapped.properties.size(); i++) {
+      MappedField property = mapped.properties.get(i);
+      line("    Property.builder().name(%s).dataType(Collections.singletonList(%s))%s.build()%s",
+        literal(property.name), literal(property.dataType),
+        property.description.isEmpty() ? "" : ".description(" + literal(property.description) + ")",
+        i < mapped.properties.size() - 1 ? "," : "");
+    }
+    line("  ))");
+    line("  .build();");
+    close();
+    line("");
+  }
+
+  private void writeFields() {
+    List<String> fields = new ArrayList<>();
+    for (MappedField property : mapped.properties) {
+      fields.add(field(literal(property.name)));
+    }
+    if (mapped.id != null || mapped.vector != null) {
+      List<String> additional = new ArrayList<>();
+      if (mapped.id != null) {
+        additional.add(field("\"id\""));
+      }
+      if (mapped.vector != null) {
+        additional.add(field("\"vector\""));
+      }
+      fields.add("Field.builder().name(\"_additional\").fields(" + String.join(", ", additional) + ").build()");
+    }
+    line("@Override");
+    open("public Fields fields()");
+    line("return Fields.builder().fields(");
+    for (int i = 0; i < fields.size(); i++) {
+      line("  %s%s", fields.get(i), i < fields.size() - 1 ? "," : "");
+    }
+    line(").build();");
+    close();
+    line("");
+  }
+
+  private static String field(String name) {
+    return "Field.builder().name(" + name + ").build()";
+  }
+
+  private void writeJson() {
+    line("@Override");
+    open("public void write(JsonWriter out, %s object) throws IOException", type);
+    line("out.beginObject();");
+    line("out.name(\"class\").value(CLASS_NAME);");
+    if (mapped.id != null) {
+      nullable(mapped.id, "id", "out.name(\"id\").value(id.toString());");
+    }
+    if (mapped.vector != null) {
+      nullable(mapped.vector, "vector", "out.name(\"vector\");", "CodecSupport.writeFloatArray(out, vector);");
+    }
+    line("out.name(\"properties\").beginObject();");
+    for (MappedField property : mapped.properties) {
+      String name = "out.name(" + literal(property.name) + ");";
+      if (property.primitive) {
+        line("%s", name);
+        line("%s", property.kind.write(property.accessor.get("object")));
+      } else {
+        nullable(property, "value", name, property.kind.write("value"));
+      }
+    }
+    line("out.endObject();");
+    line("out.endObject();");
+    close();
+    line("");
+  }
+
+  private void writeReadJson() {
+    line("@Override");
+    open("public %s read(JsonReader in) throws IOException", type);
+    line("%s object = new %s();", type, type);
+    line("in.beginObject();");
+    open("while (in.hasNext())");
+    line("String name = in.nextName();");
+    open("if (in.peek() == JsonToken.NULL)");
+    line("in.skipValue();");
+    line("continue;");
+    close();
+    open("switch (name)");
+    if (mapped.id != null) {
+      line("case \"id\":");
+      line("  %s", mapped.id.accessor.set("object", idFrom("in.nextString()")));
+      line("  break;");
+    }
+    if (mapped.vector != null) {
+      line("case \"vector\":");
+      line("  %s", mapped.vector.accessor.set("object", "CodecSupport.readFloatArray(in)"));
+      line("  break;");
+    }
+    line("case \"properties\":");
+    line("  readProperties(in, object);");
+    line("  break;");
+    line("default:");
+    line("  in.skipValue();");
+    close();
+    close();
+    line("in.endObject();");
+    line("return object;");
+    close();
+    line("");
+
+    open("private static void readProperties(JsonReader in, %s object) throws IOException", type);
+    line("in.beginObject();");
+    open("while (in.hasNext())");
+    line("String name = in.nextName();");
+    open("if (in.peek() == JsonToken.NULL)");
+    line("in.skipValue();");
+    line("continue;");
+    close();
+    open("switch (name)");
+    for (MappedField property : mapped.properties) {
+      line("case %s:", literal(property.name));
+      line("  %s", property.accessor.set("object", property.kind.read()));
+      line("  break;");
+    }
+    line("default:");
+    line("  in.skipValue();");
+    close();
+    close();
+    line("in.endObject();");
+    close();
+    line("");
+  }
+
+  private void writeToObject() {
+    line("@Override");
+    open("public WeaviateObject toObject(%s object)", type);
+    line("Map<String, Object> properties = new HashMap<>();");
+    for (MappedField property : mapped.properties) {
+      String put = "properties.put(" + literal(property.name) + ", ";
+      if (property.primitive) {
+        line("%s%s);", put, property.kind.toMap(property.accessor.get("object")));
+      } else {
+        nullable(property, "value", put + property.kind.toMap("value") + ");");
+      }
+    }
+    line("WeaviateObject.WeaviateObjectBuilder builder = WeaviateObject.builder()");
+    line("  .className(CLASS_NAME)");
+    line("  .properties(properties);");
+    if (mapped.id != null) {
+      nullable(mapped.id, "id", "builder.id(id.toString());");
+    }
+    if (mapped.vector != null) {
+      nullable(mapped.vector, "vector", "builder.vector(CodecSupport.box(vector));");
+    }
+    line("return builder.build();");
+    close();
+    line("");
+  }
+
+  private void writeFromObject() {
+    line("@Override");
+    open("public %s fromObject(WeaviateObject source)", type);
+    line("%s object = fromProperties(source.getProperties());", type);
+    if (mapped.id != null) {
+      open("if (source.getId() != null)");
+      line("%s", mapped.id.accessor.set("object", idFrom("source.getId()")));
+      close();
+    }
+    if (mapped.vector != null) {
+      open("if (source.getVector() != null)");
+      line("%s", mapped.vector.accessor.set("object", "CodecSupport.unbox(source.getVector())"));
+      close();
+    }
+    line("return object;");
+    close();
+    line("");
+  }
+
+  private void writeFromGraphQL() {
+    line("@Override");
+    open("public %s fromGraphQL(Map<String, Object> item)", type);
+    line("%s object = fromProperties(item);", type);
+    if (mapped.id != null || mapped.vector != null) {
+      line("Object additional = item.get(\"_additional\");");
+      open("if (additional instanceof Map)");
+      if (mapped.id != null) {
+        line("Object id = ((Map<?, ?>) additional).get(\"id\");");
+        open("if (id != null)");
+        line("%s", mapped.id.accessor.set("object", idFrom("CodecSupport.toText(id)")));
+        close();
+      }
+      if (mapped.vector != null) {
+        line("Object vector = ((Map<?, ?>) additional).get(\"vector\");");
+        open("if (vector != null)");
+        line("%s", mapped.vector.accessor.set("object", "CodecSupport.toFloatArray(vector)"));
+        close();
+      }
+      close();
+    }
+    line("return object;");
+    close();
+    line("");
+  }
+
+  private void writeFromProperties() {
+    open("private static %s fromProperties(Map<String, Object> properties)", type);
+    line("%s object = new %s();", type, type);
+    if (!mapped.properties.isEmpty()) {
+      open("if (properties != null)");
+      line("Object value;");
+      for (MappedField property : mapped.properties) {
+        line("value = properties.get(%s);", literal(property.name));
+        open("if (value != null)");
+        line("%s", property.accessor.set("object", property.kind.fromMap("value")));
+        close();
+      }
+      close();
+    }
+    line("return object;");
+    close();
+  }
+
+  private String idFrom(String text) {
+    return mapped.id.typeName.equals("java.util.UUID") ? "java.util.UUID.fromString(" + text + ")" : text;
+  }
+
+  /**
+   * Runs the statements with the field's value in a local variable, unless it is null.
+   */
+  private void nullable(MappedField field, String variable, String... statements) {
+    open("");
+    line("%s %s = %s;", field.typeName, variable, field.accessor.get("object"));
+    open("if (%s != null)", variable);
+    for (String statement : statements) {
+      line("%s", statement);
+    }
+    close();
+    close();
+  }
+
+  private static String literal(String value) {
+    StringBuilder literal = new StringBuilder("\"");
+    for (char c : value.toCharArray()) {
+      switch (c) {
+        case '"':
+          literal.append("\\\"");
+          break;
+        case '\\':
+          literal.append("\\\\");
+          break;
+        case '\n':
+          literal.append("\\n");
+          break;
+        case '\r':
+          literal.append("\\r");
+          break;
+        case '\t':
+          literal.append("\\t");
+          break;
+        default:
+          literal.append(c);
+      }
+    }
+    return literal.append('"').toString();
+  }
+
+  private void open(String format, Object... args) {
+    String header = String.format(format, args);
+    line("%s", header.isEmpty() ? "{" : header + " {");
+    indent++;
+  }
+
+  private void close() {
+    indent--;
+    line("}");
+  }
+
+  private void line(String format, Object... args) {
+    String text = String.format(format, args);
+    if (!text.isEmpty()) {
+      for (int i = 0; i < indent; i++) {
+        source.append("  ");
+      }
+      source.append(text);
+    }
+    source.append('\n');
+  }
+}
@@ -0,0 +1,105 @@
+package io.weaviate.client.v1.mapping.processor;
+
+import io.weaviate.client.v1.schema.model.DataType;
+
+/**
+ * Supported property types, with the code generated to convert them. Formats take the value expression.
+ */
+enum PropertyKind {
+  TEXT(DataType.TEXT, "out.value(%s);", "in.nextString()", "CodecSupport.toText(%s)", "%s"),
+  INT(DataType.INT, "out.value(%s);", "in.nextInt()", "CodecSupport.toInt(%s)", "%s"),
+  LONG(DataType.INT, "out.value(%s);", "in.nextLong()", "CodecSupport.toLong(%s)", "%s"),
+  FLOAT(DataType.NUMBER, "out.value(%s);", "(float) in.nextDouble()", "CodecSupport.toFloat(%s)", "%s"),
+  DOUBLE(DataType.NUMBER, "out.value(%s);", "in.nextDouble()", "CodecSupport.toDouble(%s)", "%s"),
+  BOOLEAN(DataType.BOOLEAN, "out.value(%s);", "in.nextBoolean()", "CodecSupport.toBoolean(%s)", "%s"),
+  UUID(DataType.UUID, "out.value(%s.toString());", "CodecSupport.readUuid(in)", "CodecSupport.toUuid(%s)",
+    "%s.toString()"),
+  DATE(DataType.DATE, "out.value(CodecSupport.formatDate(%s));", "CodecSupport.readDate(in)",
+    "CodecSupport.toDate(%s)", "CodecSupport.formatDate(%s)"),
+  TEXT_ARRAY(DataType.TEXT_ARRAY, "CodecSupport.writeStringArray(out, %s);", "CodecSupport.readStringArray(in)",
+    "CodecSupport.toStringArray(%s)", "%s"),
+  INT_ARRAY(DataType.INT_ARRAY, "CodecSupport.writeIntArray(out, %s);", "CodecSupport.readIntArray(in)",
+    "CodecSupport.toIntArray(%s)", "%s"),
+  LONG_ARRAY(DataType.INT_ARRAY, "CodecSupport.writeLongArray(out, %s);", "CodecSupport.readLongArray(in)",
+    "CodecSupport.toLongArray(%s)", "%s"),
+  FLOAT_ARRAY(DataType.NUMBER_ARRAY, "CodecSupport.writeFloatArray(out, %s);", "CodecSupport.readFloatArray(in)",
+    "CodecSupport.toFloatArray(%s)", "%s"),
+  DOUBLE_ARRAY(DataType.NUMBER_ARRAY, "CodecSupport.writeDoubleArray(out, %s);", "CodecSupport.readDoubleArray(in)",
+    "CodecSupport.toDoubleArray(%s)", "%s"),
+  BOOLEAN_ARRAY(DataType.BOOLEAN_ARRAY, "CodecSupport.writeBooleanArray(out, %s);",
+    "CodecSupport.readBooleanArray(in)", "CodecSupport.toBooleanArray(%s)", "%s");
+
+  final String dataType;
+  private final String write;
+  private final String read;
+  private final String fromMap;
+  private final String toMap;
+
+  PropertyKind(String dataType, String write, String read, String fromMap, String toMap) {
+    this.dataType = dataType;
+    this.write = write;
+    this.read = read;
+    this.fromMap = fromMap;
+    this.toMap = toMap;
+  }
+
+  /**
+   * @param typeName canonical name of the field type
+   * @return null if the type is not supported
+   */
+  static PropertyKind of(String typeName) {
+    switch (typeName) {
+      case "java.lang.String":
+        return TEXT;
+      case "int":
+      case "java.lang.Integer":
+        return INT;
+      case "long":
+      case "java.lang.Long":
+        return LONG;
+      case "float":
+      case "java.lang.Float":
+        return FLOAT;
+      case "double":
+      case "java.lang.Double":
+        return DOUBLE;
+      case "boolean":
+      case "java.lang.Boolean":
+        return BOOLEAN;
+      case "java.util.UUID":
+        return UUID;
+      case "java.util.Date":
+        return DATE;
+      case "java.lang.String[]":
+        return TEXT_ARRAY;
+      case "int[]":
+        return INT_ARRAY;
+      case "long[]":
+        return LONG_ARRAY;
+      case "float[]":
+        return FLOAT_ARRAY;
+      case "double[]":
+        return DOUBLE_ARRAY;
+      case "boolean[]":
+        return BOOLEAN_ARRAY;
+      default:
+        return null;
+    }
+  }
+
+  String write(String value) {
+    return String.format(write, value);
+  }
+
+  String read() {
+    return read;
+  }
+
+  String fromMap(String value) {
+    return String.format(fromMap, value);
+  }
+
+  String toMap(String value) {
+    return String.format(toMap, value);
+  }
+}
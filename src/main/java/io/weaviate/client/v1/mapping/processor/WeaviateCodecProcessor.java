@@ -0,0 +1,236 @@
+package io.weaviate.client.v1.mapping.processor;
+
+import io.weaviate.client.v1.mapping.Vector;
+import io.weaviate.client.v1.mapping.WeaviateClass;
+import io.weaviate.client.v1.mapping.WeaviateCodecs;
+import io.weaviate.client.v1.mapping.WeaviateId;
+import io.weaviate.client.v1.mapping.WeaviateProperty;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+
+/**
+ * Generates a {@link io.weaviate.client.v1.mapping.WeaviateCodec} for every class annotated with
+ * {@link WeaviateClass}. Registered as a service only in the client's jar with classifier "processor", which is
+ * added to the annotation processor path of the compiler to opt in.
+ */
+@SupportedAnnotationTypes("io.weaviate.client.v1.mapping.WeaviateClass")
+public class WeaviateCodecProcessor extends AbstractProcessor {
+
+  @Override
+  public SourceVersion getSupportedSourceVersion() {
+    return SourceVersion.latestSupported();
+  }
+
+  @Override
+  public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+    for (Element element : roundEnv.getElementsAnnotatedWith(WeaviateClass.class)) {
+      if (element.getKind() != ElementKind.CLASS) {
+        error(element, "@WeaviateClass is only supported on classes");
+        continue;
+      }
+      MappedClass mapped = mappedClass((TypeElement) element);
+      if (mapped == null) {
+        continue;
+      }
+      try (Writer writer = processingEnv.getFiler().createSourceFile(mapped.qualifiedCodecName(), element).openWriter()) {
+        writer.write(new CodecWriter(mapped).write());
+      } catch (IOException e) {
+        error(element, "could not write " + mapped.qualifiedCodecName() + ": " + e.getMessage());
+      }
+    }
+    return true;
+  }
+
+  private MappedClass mappedClass(TypeElement type) {
+    boolean valid = true;
+    if (type.getModifiers().contains(Modifier.ABSTRACT) || !type.getTypeParameters().isEmpty()) {
+      error(type, "mapped classes can not be abstract or generic");
+      valid = false;
+    }
+    if (type.getNestingKind() == NestingKind.MEMBER && !type.getModifiers().contains(Modifier.STATIC)) {
+      error(type, "mapped nested classes must be static");
+      valid = false;
+    }
+    if (!hasNoArgConstructor(type)) {
+      error(type, "mapped classes need a non-private constructor without arguments");
+      valid = false;
+    }
+
+    WeaviateClass annotation = type.getAnnotation(WeaviateClass.class);
+    String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+    String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+    String codecName = WeaviateCodecs.codecName(packageName.isEmpty()
+      ? binaryName
+      : binaryName.substring(packageName.length() + 1));
+    MappedClass mapped = new MappedClass(packageName, type.getQualifiedName().toString(), codecName,
+      annotation.value().isEmpty() ? type.getSimpleName().toString() : annotation.value(), annotation.description());
+
+    for (VariableElement field : ElementFilter.fieldsIn(type.getEnclosedElements())) {
+      boolean isId = field.getAnnotation(WeaviateId.class) != null;
+      boolean isVector = field.getAnnotation(Vector.class) != null;
+      WeaviateProperty property = field.getAnnotation(WeaviateProperty.class);
+      if (!isId && !isVector && property == null) {
+        continue;
+      }
+      if ((isId ? 1 : 0) + (isVector ? 1 : 0) + (property != null ? 1 : 0) > 1) {
+        error(field, "a field can only be mapped once");
+        valid = false;
+        continue;
+      }
+      if (!isAccessible(field)) {
+        valid = false;
+        continue;
+      }
+      String typeName = field.asType().toString();
+      Accessor accessor = accessor(field);
+      if (isId) {
+        if (mapped.id != null || !(typeName.equals("java.lang.String") || typeName.equals("java.util.UUID"))) {
+          error(field, "one String or UUID field can be mapped with @WeaviateId");
+          valid = false;
+          continue;
+        }
+        mapped.id = new MappedField(null, null, null, typeName, false, accessor);
+      } else if (isVector) {
+        if (mapped.vector != null || !typeName.equals("float[]")) {
+          error(field, "one float[] field can be mapped with @Vector");
+          valid = false;
+          continue;
+        }
+        mapped.vector = new MappedField(null, null, null, typeName, false, accessor);
+      } else {
+        PropertyKind kind = PropertyKind.of(typeName);
+        if (kind == null) {
+          error(field, "unsupported property type " + typeName);
+          valid = false;
+          continue;
+        }
+        String name = property.value().isEmpty() ? field.getSimpleName().toString() : property.value();
+        String dataType = property.dataType().isEmpty() ? kind.dataType : property.dataType();
+        mapped.properties.add(new MappedField(name, dataType, property.description(), kind,
+          typeName, field.asType().getKind().isPrimitive(), accessor));
+      }
+    }
+    return valid ? mapped : null;
+  }
+
+  private static boolean hasNoArgConstructor(TypeElement type) {
+    List<ExecutableElement> constructors = ElementFilter.constructorsIn(type.getEnclosedElements());
+    return constructors.stream().anyMatch(constructor -> constructor.getParameters().isEmpty()
+      && !constructor.getModifiers().contains(Modifier.PRIVATE));
+  }
+
+  private boolean isAccessible(VariableElement field) {
+    if (field.getModifiers().contains(Modifier.STATIC)) {
+      error(field, "static fields can not be mapped");
+      return false;
+    }
+    if (field.getModifiers().contains(Modifier.FINAL)) {
+      error(field, "final fields can not be mapped");
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Private fields are accessed through getters and setters, which may be generated by other processors.
+   */
+  private static Accessor accessor(VariableElement field) {
+    String name = field.getSimpleName().toString();
+    if (!field.getModifiers().contains(Modifier.PRIVATE)) {
+      return new Accessor(name, null, null);
+    }
+    String capitalized = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    String getter = (field.asType().getKind() == TypeKind.BOOLEAN ? "is" : "get") + capitalized;
+    return new Accessor(null, getter, "set" + capitalized);
+  }
+
+  private void error(Element element, String message) {
+    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+  }
+
+  static class MappedClass {
+    final String packageName;
+    final String typeName;
+    final String codecName;
+    final String className;
+    final String description;
+    final List<MappedField> properties = new ArrayList<>();
+    MappedField id;
+    MappedField vector;
+
+    MappedClass(String packageName, String typeName, String codecName, String className, String description) {
+      this.packageName = packageName;
+      this.typeName = typeName;
+      this.codecName = codecName;
+      this.className = className;
+      this.description = description;
+    }
+
+    String qualifiedCodecName() {
+      return packageName.isEmpty() ? codecName : packageName + "." + codecName;
+    }
+  }
+
+  static class MappedField {
+    final String name;
+    final String dataType;
+    final String description;
+    final PropertyKind kind;
+    final String typeName;
+    final boolean primitive;
+    final Accessor accessor;
+
+    MappedField(String name, String dataType, String description, PropertyKind kind, String typeName,
+                boolean primitive, Accessor accessor) {
+      this.name = name;
+      this.dataType = dataType;
+      this.description = description;
+      this.kind = kind;
+      this.typeName = typeName;
+      this.primitive = primitive;
+      this.accessor = accessor;
+    }
+
+    MappedField(String name, String dataType, String description, String typeName, boolean primitive,
+                Accessor accessor) {
+      this(name, dataType, description, null, typeName, primitive, accessor);
+    }
+  }
+
+  static class Accessor {
+    private final String field;
+    private final String getter;
+    private final String setter;
+
+    Accessor(String field, String getter, String setter) {
+      this.field = field;
+      this.getter = getter;
+      this.setter = setter;
+    }
+
+    String get(String object) {
+      return field != null ? object + "." + field : object + "." + getter + "()";
+    }
+
+    String set(String object, String value) {
+      return field != null ? object + "." + field + " = " + value + ";" : object + "." + setter + "(" + value + ");";
+    }
+  }
+}
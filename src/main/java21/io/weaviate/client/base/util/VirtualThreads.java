@@ -0,0 +1,24 @@
+package io.weaviate.client.base.util;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Access to virtual threads, Java 21 version of the class.
+ */
+public class VirtualThreads {
+
+  private VirtualThreads() {}
+
+  public static boolean isSupported() {
+    return true;
+  }
+
+  /**
+   * Executor starting a new virtual thread, named namePrefix-N, for every task.
+   */
+  public static ExecutorService newThreadPerTaskExecutor(String namePrefix, Supplier<ExecutorService> platformFallback) {
+    return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(namePrefix + "-", 0).factory());
+  }
+}
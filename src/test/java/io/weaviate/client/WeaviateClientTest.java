@@ -0,0 +1,70 @@
+package io.weaviate.client;
+
+import io.weaviate.client.base.concurrent.ClientExecutors;
+import io.weaviate.client.base.concurrent.ExecutorsConfig;
+import io.weaviate.client.base.http.HttpClient;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@RunWith(MockitoJUnitRunner.class)
+public class WeaviateClientTest {
+
+  @Mock
+  private HttpClient httpClient;
+
+  @Test
+  public void shouldKeepSharedDefaultExecutorsUntilLastClientIsClosed() throws Exception {
+    Config config = new Config("http", "localhost:8080");
+    WeaviateClient first = new WeaviateClient(config, httpClient);
+    WeaviateClient second = new WeaviateClient(config, httpClient);
+    ClientExecutors executors = config.getExecutors();
+
+    first.close();
+    first.close();
+
+    // still usable by the second client
+    assertThat(executors.getWorkers().isShutdown()).isFalse();
+    assertThat(executors.getWorkers().submit(() -> "done").get(1, TimeUnit.SECONDS)).isEqualTo("done");
+    assertThat(config.getExecutors()).isSameAs(executors);
+
+    second.close();
+
+    assertThat(executors.getWorkers().isShutdown()).isTrue();
+    // nothing would shut down executors created now
+    assertThatThrownBy(config::getExecutors).isInstanceOf(IllegalStateException.class);
+
+    try (WeaviateClient third = new WeaviateClient(config, httpClient)) {
+      assertThat(config.getExecutors()).isNotSameAs(executors);
+      assertThat(config.getExecutors().getWorkers().isShutdown()).isFalse();
+    }
+  }
+
+  @Test
+  public void shouldUseSharedExecutorsWithoutClient() {
+    Config config = new Config("http", "localhost:8080");
+
+    assertThat(config.getExecutors()).isSameAs(ClientExecutors.shared());
+    config.getExecutors().close();
+    assertThat(ClientExecutors.shared().getWorkers().isShutdown()).isFalse();
+  }
+
+  @Test
+  public void shouldLeaveExecutorsSetOnConfigRunning() {
+    ClientExecutors executors = ClientExecutors.create(ExecutorsConfig.defaultConfig().build());
+    try {
+      Config config = new Config("http", "localhost:8080").withExecutors(executors);
+      new WeaviateClient(config, httpClient).close();
+
+      assertThat(executors.getWorkers().isShutdown()).isFalse();
+      assertThat(config.getExecutors()).isSameAs(executors);
+    } finally {
+      executors.close();
+    }
+  }
+}
@@ -0,0 +1,99 @@
+package io.weaviate.client.base;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.http.HttpResponse;
+import java.net.ConnectException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BaseClientTest {
+
+  @Mock
+  private HttpClient httpClient;
+
+  private Config config;
+  private List<RequestTimings> reported;
+
+  @Before
+  public void before() {
+    reported = new ArrayList<>();
+    config = new Config("http", "localhost:8080").withRequestTimingsListener(reported::add);
+  }
+
+  @Test
+  public void shouldAttachTimingsToResultAndListener() throws Exception {
+    when(httpClient.sendPostRequest(anyString(), anyString()))
+      .thenReturn(new HttpResponse(200, "{\"a\":1}", 10, 20, 30, 7, 7));
+
+    Result<Map> result = new Result<>(new TestClient(httpClient, config).post(123));
+
+    RequestTimings timings = result.getTimings();
+    assertThat(result.hasErrors()).isFalse();
+    assertThat(reported).containsExactly(timings);
+    assertThat(timings.getMethod()).isEqualTo("POST");
+    assertThat(timings.getUrl()).isEqualTo("http://localhost:8080/v1/test");
+    assertThat(timings.getStatusCode()).isEqualTo(200);
+    assertThat(timings.getBuildNanos()).isEqualTo(123);
+    assertThat(timings.getSerializeNanos()).isGreaterThanOrEqualTo(0);
+    assertThat(timings.getConnectionNanos()).isEqualTo(10);
+    assertThat(timings.getTimeToFirstByteNanos()).isEqualTo(20);
+    assertThat(timings.getBodyReadNanos()).isEqualTo(30);
+    assertThat(timings.getDeserializeNanos()).isGreaterThanOrEqualTo(0);
+    assertThat(timings.getTotalNanos()).isGreaterThanOrEqualTo(timings.getSerializeNanos() + timings.getDeserializeNanos());
+    assertThat(timings.getRequestBytes()).isEqualTo(7);
+    assertThat(timings.getResponseBytes()).isEqualTo(7);
+  }
+
+  @Test
+  public void shouldReportTimingsOfFailedRequest() throws Exception {
+    when(httpClient.sendPostRequest(anyString(), anyString()))
+      .thenThrow(new ConnectException("refused"));
+
+    Result<Map> result = new Result<>(new TestClient(httpClient, config).post(RequestTimings.NOT_MEASURED));
+
+    assertThat(result.hasErrors()).isTrue();
+    assertThat(reported).containsExactly(result.getTimings());
+    assertThat(result.getTimings().getStatusCode()).isZero();
+    assertThat(result.getTimings().getTimeToFirstByteNanos()).isEqualTo(RequestTimings.NOT_MEASURED);
+    assertThat(result.getTimings().getTotalNanos()).isGreaterThanOrEqualTo(0);
+  }
+
+  @Test
+  public void shouldKeepStatusOfErrorBodiesNotInJson() throws Exception {
+    when(httpClient.sendPostRequest(anyString(), anyString()))
+      .thenReturn(new HttpResponse(502, "Bad Gateway"))
+      .thenReturn(new HttpResponse(404, ""));
+    TestClient client = new TestClient(httpClient, config);
+
+    Result<Map> badGateway = new Result<>(client.post(RequestTimings.NOT_MEASURED));
+    Result<Map> notFound = new Result<>(client.post(RequestTimings.NOT_MEASURED));
+
+    assertThat(badGateway.getError().getStatusCode()).isEqualTo(502);
+    assertThat(badGateway.getError().getMessages().get(0).getMessage()).isEqualTo("Bad Gateway");
+    // empty bodies give no error, e.g. exists checks of missing classes
+    assertThat(notFound.hasErrors()).isFalse();
+    assertThat(notFound.getResult()).isNull();
+  }
+
+  private static class TestClient extends BaseClient<Map> {
+    TestClient(HttpClient httpClient, Config config) {
+      super(httpClient, config);
+    }
+
+    Response<Map> post(long buildNanos) {
+      return sendPostRequest("/test", new Object(), Map.class, buildNanos);
+    }
+  }
+}
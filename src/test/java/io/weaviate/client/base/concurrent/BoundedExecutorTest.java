@@ -0,0 +1,71 @@
+package io.weaviate.client.base.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.After;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BoundedExecutorTest {
+
+  private final ExecutorService workers = Executors.newCachedThreadPool();
+
+  @After
+  public void after() {
+    workers.shutdownNow();
+  }
+
+  @Test
+  public void shouldRunAtMostConcurrencyTasksAtOnce() throws Exception {
+    BoundedExecutor executor = new BoundedExecutor(workers, 2);
+    AtomicInteger running = new AtomicInteger();
+    AtomicInteger maxRunning = new AtomicInteger();
+
+    List<Future<?>> futures = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      futures.add(executor.submit(() -> {
+        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+        Thread.sleep(5);
+        running.decrementAndGet();
+        return null;
+      }));
+    }
+    for (Future<?> future : futures) {
+      future.get(2, TimeUnit.SECONDS);
+    }
+
+    assertThat(maxRunning).hasValue(2);
+    executor.shutdown();
+    assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void shouldDropQueuedAndInterruptRunningTasksOnShutdownNow() throws Exception {
+    BoundedExecutor executor = new BoundedExecutor(workers, 1);
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    executor.execute(() -> {
+      started.countDown();
+      try {
+        Thread.sleep(10_000);
+      } catch (InterruptedException e) {
+        interrupted.countDown();
+      }
+    });
+    executor.execute(() -> {
+    });
+    assertThat(started.await(1, TimeUnit.SECONDS)).isTrue();
+
+    assertThat(executor.shutdownNow()).hasSize(1);
+    assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+    assertThat(executor.awaitTermination(1, TimeUnit.SECONDS)).isTrue();
+    assertThat(workers.isShutdown()).isFalse();
+  }
+}
@@ -0,0 +1,47 @@
+package io.weaviate.client.base.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ClientExecutorsTest {
+
+  @Test
+  public void shouldPollOnWorkersUntilDone() throws Exception {
+    ClientExecutors executors = ClientExecutors.create(ExecutorsConfig.defaultConfig()
+      .threadNamePrefix("test")
+      .build());
+    AtomicInteger calls = new AtomicInteger();
+
+    CompletableFuture<String> result = executors.poll(
+      () -> calls.incrementAndGet() < 3 ? null : Thread.currentThread().getName(), 5);
+
+    assertThat(result.get(2, TimeUnit.SECONDS)).startsWith("test-worker-");
+    assertThat(calls).hasValue(3);
+
+    executors.close();
+    assertThat(executors.getScheduler().isShutdown()).isTrue();
+    assertThat(executors.getWorkers().isTerminated()).isTrue();
+  }
+
+  @Test
+  public void shouldLeaveSuppliedExecutorsRunning() {
+    ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    ExecutorService workers = Executors.newCachedThreadPool();
+    try {
+      ClientExecutors.of(scheduler, workers).close();
+
+      assertThat(scheduler.isShutdown()).isFalse();
+      assertThat(workers.isShutdown()).isFalse();
+    } finally {
+      scheduler.shutdownNow();
+      workers.shutdownNow();
+    }
+  }
+}
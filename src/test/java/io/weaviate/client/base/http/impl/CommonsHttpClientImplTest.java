@@ -3,6 +3,7 @@ package io.weaviate.client.base.http.impl;
 import org.apache.http.HttpEntityEnclosingRequest;
 import org.apache.http.HttpHeaders;
 import org.apache.http.StatusLine;
+import org.apache.http.client.config.RequestConfig;
 import org.apache.http.client.methods.CloseableHttpResponse;
 import org.apache.http.client.methods.HttpDelete;
 import org.apache.http.client.methods.HttpGet;
@@ -11,6 +12,7 @@ import org.apache.http.client.methods.HttpPatch;
 import org.apache.http.client.methods.HttpPost;
 import org.apache.http.client.methods.HttpPut;
 import org.apache.http.client.methods.HttpUriRequest;
+import org.apache.http.entity.StringEntity;
 import org.apache.http.impl.client.CloseableHttpClient;
 import org.apache.http.message.BasicHeader;
 import org.junit.Before;
@@ -119,6 +121,20 @@ public class CommonsHttpClientImplTest {
     assertContentEqual(request, JSON_PAYLOAD);
   }
 
+  @Test
+  public void shouldSetTimeoutsOnPostRequestWithTimeout() throws Exception {
+    CommonsHttpClientImpl client = new CommonsHttpClientImpl(ADDITIONAL_HEADERS, () -> clientMock);
+    HttpResponse response = client.sendPostRequest(URL, JSON_PAYLOAD, 250);
+
+    assertThat(response.getStatusCode()).isEqualTo(STATUS);
+    Mockito.verify(clientMock).execute(captor.capture());
+    RequestConfig config = ((HttpPost) captor.getValue()).getConfig();
+    assertThat(config.getConnectTimeout()).isEqualTo(250);
+    assertThat(config.getConnectionRequestTimeout()).isEqualTo(250);
+    assertThat(config.getSocketTimeout()).isEqualTo(250);
+    assertContentEqual(captor.getValue(), JSON_PAYLOAD);
+  }
+
   @Test
   public void shouldAddHeadersOnPatchRequest() throws Exception {
     Map<String, String> expectedHeaders = new HashMap<>(ADDITIONAL_HEADERS);
@@ -190,6 +206,24 @@ public class CommonsHttpClientImplTest {
     assertContentEmpty(request);
   }
 
+  @Test
+  public void shouldReportRequestAndResponseSizes() throws Exception {
+    String responseBody = "{\"name\":\"żółw\"}";
+    Mockito.when(responseMock.getEntity())
+      .thenReturn(new StringEntity(responseBody, StandardCharsets.UTF_8));
+
+    CommonsHttpClientImpl client = new CommonsHttpClientImpl(ADDITIONAL_HEADERS, () -> clientMock);
+    HttpResponse response = client.sendPostRequest(URL, JSON_PAYLOAD);
+
+    assertThat(response.getBody()).isEqualTo(responseBody);
+    assertThat(response.getRequestBytes()).isEqualTo(JSON_PAYLOAD.length());
+    assertThat(response.getResponseBytes()).isEqualTo(responseBody.getBytes(StandardCharsets.UTF_8).length);
+    assertThat(response.getTimeToFirstByteNanos()).isGreaterThanOrEqualTo(0);
+    assertThat(response.getBodyReadNanos()).isGreaterThanOrEqualTo(0);
+    // mocked client does not go through the timing request executor
+    assertThat(response.getConnectionNanos()).isEqualTo(-1);
+  }
+
   private void assertHeadersMatch(HttpUriRequest request, Map<String, String> expectedHeaders) {
     Map<String, String> headers = Arrays.stream(request.getAllHeaders())
       .map(BasicHeader.class::cast)
@@ -0,0 +1,103 @@
+package io.weaviate.client.v1.batch.api;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class AdaptiveBatchTunerTest {
+
+  private AtomicLong clock;
+  private AdaptiveBatchTuner tuner;
+
+  @Before
+  public void before() {
+    clock = new AtomicLong(1_000);
+    tuner = new AdaptiveBatchTuner(100, 10, 1000, 4, clock::get);
+  }
+
+  @Test
+  public void shouldGrowBatchSizeAndConcurrencyWhileThroughputHolds() {
+    completeWindow(1_000_000);
+    assertThat(tuner.getBatchSize()).isEqualTo(125);
+    assertThat(tuner.getConcurrency()).isEqualTo(1);
+    assertThat(tuner.getObjectsPerSecond()).isEqualTo(100_000d);
+
+    completeWindow(1_000_000);
+    assertThat(tuner.getBatchSize()).isEqualTo(125);
+    assertThat(tuner.getConcurrency()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldRevertGrowthThatLowersThroughput() {
+    completeWindow(1_000_000);
+    assertThat(tuner.getBatchSize()).isEqualTo(125);
+
+    // larger batches made it slower per object
+    completeWindow(2_000_000);
+    assertThat(tuner.getBatchSize()).isEqualTo(100);
+    assertThat(tuner.getConcurrency()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldHalveBatchSizeOnTimeout() {
+    long startedAt = clock.get();
+    clock.addAndGet(1_000);
+    tuner.onBatchCompleted(100, startedAt, AdaptiveBatchTuner.Outcome.TIMEOUT);
+
+    assertThat(tuner.getBatchSize()).isEqualTo(50);
+    assertThat(tuner.getErrorRate()).isGreaterThan(0);
+
+    // a batch sent before the decrease does not shrink it again
+    tuner.onBatchCompleted(100, startedAt, AdaptiveBatchTuner.Outcome.TIMEOUT);
+    assertThat(tuner.getBatchSize()).isEqualTo(50);
+
+    long laterStart = clock.get();
+    clock.addAndGet(1_000);
+    tuner.onBatchCompleted(50, laterStart, AdaptiveBatchTuner.Outcome.TIMEOUT);
+    assertThat(tuner.getBatchSize()).isEqualTo(25);
+  }
+
+  @Test
+  public void shouldHalveConcurrencyOnOverload() {
+    completeWindow(1_000_000);
+    completeWindow(1_000_000);
+    completeWindow(1_000_000);
+    completeWindow(1_000_000);
+    assertThat(tuner.getConcurrency()).isEqualTo(3);
+
+    long startedAt = clock.get();
+    clock.addAndGet(1_000);
+    tuner.onBatchCompleted(tuner.getBatchSize(), startedAt, AdaptiveBatchTuner.Outcome.OVERLOADED);
+
+    assertThat(tuner.getConcurrency()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldStayWithinLimits() {
+    AdaptiveBatchTuner bounded = new AdaptiveBatchTuner(5000, 10, 200, 1, clock::get);
+    assertThat(bounded.getBatchSize()).isEqualTo(200);
+
+    for (int i = 0; i < 10; i++) {
+      long startedAt = clock.get();
+      clock.addAndGet(1_000);
+      bounded.onBatchCompleted(10, startedAt, AdaptiveBatchTuner.Outcome.TIMEOUT);
+    }
+    assertThat(bounded.getBatchSize()).isEqualTo(10);
+    assertThat(bounded.getConcurrency()).isEqualTo(1);
+  }
+
+  /**
+   * Completes a window of sequential batches, each taking nanosPerBatch per 100 objects.
+   */
+  private void completeWindow(long nanosPerBatch) {
+    int batches = Math.max(4, tuner.getConcurrency() * 2);
+    int batchSize = tuner.getBatchSize();
+    for (int i = 0; i < batches; i++) {
+      long startedAt = clock.get();
+      clock.addAndGet(nanosPerBatch * batchSize / 100);
+      tuner.onBatchCompleted(batchSize, startedAt, AdaptiveBatchTuner.Outcome.SUCCESS);
+    }
+  }
+}
@@ -0,0 +1,128 @@
+package io.weaviate.client.v1.batch.api;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BatchQueueTest {
+
+  @Test
+  public void shouldCutFullBatchesOnly() {
+    BatchQueue<Integer> queue = new BatchQueue<>();
+    List<List<Integer>> batches = new ArrayList<>();
+
+    queue.addAll(new Integer[]{1, 2, 3, 4, 5});
+    queue.drainFull(2, batches::add);
+
+    assertThat(batches).containsExactly(Arrays.asList(1, 2), Arrays.asList(3, 4));
+    assertThat(queue.size()).isEqualTo(1);
+
+    queue.drainAll(2, batches::add);
+
+    assertThat(batches).hasSize(3);
+    assertThat(batches.get(2)).containsExactly(5);
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  @Test
+  public void shouldCutBatchesOnByteBudget() {
+    BatchQueue<Integer> queue = new BatchQueue<>(item -> item, 100);
+    List<List<Integer>> batches = new ArrayList<>();
+
+    queue.addAll(new Integer[]{40, 40, 40, 150, 10});
+    queue.drainFull(10, batches::add);
+
+    // an item above the budget makes its own batch
+    assertThat(batches).containsExactly(Arrays.asList(40, 40), Arrays.asList(40), Arrays.asList(150));
+    assertThat(queue.size()).isEqualTo(1);
+    assertThat(queue.bytes()).isEqualTo(10);
+  }
+
+  @Test
+  public void shouldReplaceQueuedItemsWithSameKey() {
+    BatchQueue<String> queue = new BatchQueue<>(String::length, 1000, item -> item.charAt(0));
+    List<List<String>> batches = new ArrayList<>();
+    List<String> superseded = new ArrayList<>();
+
+    queue.addAll(new String[]{"a1", "b1", "a22"}, superseded::add);
+    queue.addAll(new String[]{"b333"}, superseded::add);
+
+    assertThat(queue.size()).isEqualTo(2);
+    assertThat(queue.bytes()).isEqualTo(7);
+    assertThat(superseded).containsExactly("a1", "b1");
+
+    queue.drainAll(10, batches::add);
+    // items taken into a batch are not replaced anymore
+    queue.addAll(new String[]{"a4444"}, superseded::add);
+
+    assertThat(batches).containsExactly(Arrays.asList("a22", "b333"));
+    assertThat(superseded).hasSize(2);
+    assertThat(queue.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldDrainLingeringPartialBatches() {
+    BatchQueue<Integer> queue = new BatchQueue<>();
+    List<List<Integer>> batches = new ArrayList<>();
+    queue.addAll(new Integer[]{1, 2, 3});
+
+    long untilNext = queue.drainLingering(TimeUnit.HOURS.toNanos(1), () -> 2, () -> true, batches::add);
+
+    assertThat(batches).isEmpty();
+    assertThat(untilNext).isPositive();
+
+    untilNext = queue.drainLingering(0, () -> 2, () -> true, batches::add);
+
+    assertThat(batches).containsExactly(Arrays.asList(1, 2), Arrays.asList(3));
+    assertThat(untilNext).isEqualTo(-1);
+  }
+
+  @Test
+  public void shouldHandOutEveryItemOnceWithConcurrentProducers() throws Exception {
+    int producers = 8;
+    int itemsPerProducer = 10_000;
+    int batchSize = 37;
+    BatchQueue<Integer> queue = new BatchQueue<>();
+    List<List<Integer>> batches = Collections.synchronizedList(new ArrayList<>());
+
+    ExecutorService executor = Executors.newFixedThreadPool(producers);
+    CountDownLatch start = new CountDownLatch(1);
+    List<Future<?>> futures = new ArrayList<>();
+    for (int p = 0; p < producers; p++) {
+      int offset = p * itemsPerProducer;
+      futures.add(executor.submit(() -> {
+        start.await();
+        for (int i = 0; i < itemsPerProducer; i += 2) {
+          queue.addAll(new Integer[]{offset + i, offset + i + 1});
+          queue.drainFull(batchSize, batches::add);
+        }
+        return null;
+      }));
+    }
+    start.countDown();
+    for (Future<?> future : futures) {
+      future.get();
+    }
+    executor.shutdown();
+
+    assertThat(batches).allSatisfy(batch -> assertThat(batch).hasSize(batchSize));
+    queue.drainAll(batchSize, batches::add);
+
+    Set<Integer> seen = new HashSet<>();
+    batches.forEach(seen::addAll);
+    assertThat(seen).hasSize(producers * itemsPerProducer);
+    assertThat(batches.stream().mapToInt(List::size).sum()).isEqualTo(producers * itemsPerProducer);
+    assertThat(queue.size()).isZero();
+  }
+}
@@ -0,0 +1,103 @@
+package io.weaviate.client.v1.batch.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.http.HttpResponse;
+import io.weaviate.client.v1.batch.model.BulkDeleteResult;
+import io.weaviate.client.v1.batch.util.ObjectsPath;
+import io.weaviate.client.v1.filters.Operator;
+import io.weaviate.client.v1.filters.WhereFilter;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkObjectsDeleterTest {
+
+  @Mock
+  private HttpClient httpClient;
+
+  private final Config config = new Config("http", "localhost:8080");
+
+  @Test
+  public void shouldRepeatDeleteUntilNothingMatches() throws Exception {
+    when(httpClient.sendDeleteRequest(anyString(), anyString()))
+      .thenReturn(response(10000, 10000, 10000, 0))
+      .thenReturn(response(10000, 10000, 9990, 10))
+      .thenReturn(response(25, 10000, 25, 0));
+    List<BulkDeleteResult> progress = new CopyOnWriteArrayList<>();
+
+    Result<BulkDeleteResult> result = deleter()
+      .withClassName("Pizza")
+      .withWhere(WhereFilter.builder().path(new String[]{"name"}).operator(Operator.Like).valueText("*").build())
+      .withProgressCallback(progress::add)
+      .run();
+
+    assertThat(result.hasErrors()).isFalse();
+    assertThat(result.getResult().getSuccessful()).isEqualTo(20015);
+    assertThat(result.getResult().getFailed()).isEqualTo(10);
+    assertThat(result.getResult().getRequests()).isEqualTo(3);
+    assertThat(result.getResult().getCompletedFilters()).isEqualTo(1);
+    assertThat(progress).extracting(BulkDeleteResult::getSuccessful).containsExactly(10000L, 19990L, 20015L);
+  }
+
+  @Test
+  public void shouldDeleteIdsInChunks() throws Exception {
+    when(httpClient.sendDeleteRequest(anyString(), anyString())).thenReturn(response(2, 10000, 2, 0));
+
+    Result<BulkDeleteResult> result = deleter()
+      .withClassName("Pizza")
+      .withIds(Arrays.asList("id-1", "id-2", "id-3", "id-4", "id-5"))
+      .withIdsPerRequest(2)
+      .withParallelism(2)
+      .run();
+
+    ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+    verify(httpClient, times(3)).sendDeleteRequest(anyString(), body.capture());
+    assertThat(body.getAllValues()).anyMatch(value ->
+      value.contains("\"operator\":\"ContainsAny\"") && value.contains("\"valueTextArray\":[\"id-5\"]"));
+    assertThat(result.getResult().getTotalFilters()).isEqualTo(3);
+    assertThat(result.getResult().getCompletedFilters()).isEqualTo(3);
+  }
+
+  @Test
+  public void shouldRejectIdsPerRequestBelowOne() {
+    assertThatThrownBy(() -> deleter().withIdsPerRequest(0))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("idsPerRequest");
+  }
+
+  @Test
+  public void shouldStopWhenNothingCanBeDeleted() throws Exception {
+    when(httpClient.sendDeleteRequest(anyString(), anyString())).thenReturn(response(10000, 10000, 0, 10000));
+
+    Result<BulkDeleteResult> result = deleter().withClassName("Pizza").run();
+
+    verify(httpClient).sendDeleteRequest(anyString(), anyString());
+    assertThat(result.hasErrors()).isTrue();
+    assertThat(result.getError().getMessages().get(0).getMessage()).contains("no objects could be deleted");
+  }
+
+  private BulkObjectsDeleter deleter() {
+    return new BulkObjectsDeleter(() -> new ObjectsBatchDeleter(httpClient, config, new ObjectsPath()),
+      config.getExecutors());
+  }
+
+  private static HttpResponse response(long matches, long limit, long successful, long failed) {
+    return new HttpResponse(200, String.format(
+      "{\"results\":{\"matches\":%d,\"limit\":%d,\"successful\":%d,\"failed\":%d}}", matches, limit, successful, failed));
+  }
+}
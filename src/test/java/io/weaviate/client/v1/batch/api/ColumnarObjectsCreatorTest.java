@@ -0,0 +1,96 @@
+package io.weaviate.client.v1.batch.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.http.HttpResponse;
+import io.weaviate.client.v1.batch.model.ColumnarBatch;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.batch.util.ObjectsPath;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ColumnarObjectsCreatorTest {
+
+  @Mock
+  private HttpClient httpClient;
+
+  @Test
+  public void shouldSendRowsFromColumns() throws Exception {
+    List<String> bodies = new CopyOnWriteArrayList<>();
+    when(httpClient.sendPostRequest(anyString(), any(byte[].class), anyInt())).thenAnswer(invocation -> {
+      byte[] json = invocation.getArgument(1);
+      bodies.add(new String(json, 0, invocation.<Integer>getArgument(2), StandardCharsets.UTF_8));
+      return new HttpResponse(200, bodies.size() == 1
+        ? "[{\"id\":\"id-0\",\"result\":{}},{\"id\":\"id-1\",\"result\":{}}]"
+        : "[{\"id\":\"id-2\",\"result\":{}}]");
+    });
+    ColumnarBatch batch = ColumnarBatch.builder("Pizza", 3)
+      .ids(new String[]{"id-0", "id-1", "id-2"})
+      .vectors(new float[]{0.5f, 1, 2, 3, 4, 5}, 2)
+      .text("name", new String[]{"Hawaii", null, "Funghi"})
+      .longs("slices", new long[]{8, 6, 4})
+      .booleans("vegan", new boolean[]{false, true, true})
+      .build();
+
+    Result<ObjectGetResponse[]> result = creator().withBatch(batch).withBatchSize(2).run();
+
+    assertThat(result.hasErrors()).isFalse();
+    assertThat(result.getResult()).extracting(ObjectGetResponse::getId).containsExactly("id-0", "id-1", "id-2");
+    assertThat(bodies).containsExactly(
+      "{\"fields\":[\"ALL\"],\"objects\":[" +
+        "{\"class\":\"Pizza\",\"id\":\"id-0\",\"vector\":[0.5,1.0]," +
+        "\"properties\":{\"name\":\"Hawaii\",\"slices\":8,\"vegan\":false}}," +
+        "{\"class\":\"Pizza\",\"id\":\"id-1\",\"vector\":[2.0,3.0]," +
+        "\"properties\":{\"slices\":6,\"vegan\":true}}]}",
+      "{\"fields\":[\"ALL\"],\"objects\":[" +
+        "{\"class\":\"Pizza\",\"id\":\"id-2\",\"vector\":[4.0,5.0]," +
+        "\"properties\":{\"name\":\"Funghi\",\"slices\":4,\"vegan\":true}}]}");
+  }
+
+  @Test
+  public void shouldStopAtFailedRequest() throws Exception {
+    when(httpClient.sendPostRequest(anyString(), any(byte[].class), anyInt()))
+      .thenReturn(new HttpResponse(200, "[{\"id\":\"id-0\",\"result\":{}}]"))
+      .thenReturn(new HttpResponse(500, "{\"error\":[{\"message\":\"unavailable\"}]}"));
+    ColumnarBatch batch = ColumnarBatch.builder("Pizza", 3)
+      .ints("slices", new int[]{8, 6, 4})
+      .build();
+
+    Result<ObjectGetResponse[]> result = creator().withBatch(batch).withBatchSize(1).run();
+
+    assertThat(result.hasErrors()).isTrue();
+    assertThat(result.getError().getStatusCode()).isEqualTo(500);
+    assertThat(result.getResult()).extracting(ObjectGetResponse::getId).containsExactly("id-0");
+  }
+
+  @Test
+  public void shouldRejectShortColumns() {
+    assertThatThrownBy(() -> ColumnarBatch.builder("Pizza", 3).doubles("price", new double[2]))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("price has 2 rows, expected 3");
+    assertThatThrownBy(() -> ColumnarBatch.builder("Pizza", 2).vectors(new float[5], 3))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("vectors has 1 rows, expected 2");
+    assertThatThrownBy(() -> ColumnarBatch.builder("Pizza", 1).ints("a", new int[1]).longs("a", new long[1]))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessage("column a is already set");
+  }
+
+  private ColumnarObjectsCreator creator() {
+    return new ColumnarObjectsCreator(httpClient, new Config("http", "localhost:8080"), new ObjectsPath(), null);
+  }
+}
@@ -0,0 +1,135 @@
+package io.weaviate.client.v1.batch.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.http.HttpResponse;
+import io.weaviate.client.v1.batch.model.BatchReference;
+import io.weaviate.client.v1.batch.util.ObjectsPath;
+import io.weaviate.client.v1.batch.util.ReferencesPath;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GraphIngestionSchedulerTest {
+
+  @Mock
+  private HttpClient httpClient;
+
+  private final Config config = new Config("http", "localhost:8080");
+  private final List<BatchReference> unresolved = new CopyOnWriteArrayList<>();
+  private GraphIngestionScheduler scheduler;
+
+  @After
+  public void after() {
+    if (scheduler != null) {
+      scheduler.close();
+    }
+  }
+
+  @Test
+  public void shouldReleaseReferencesOnceEndpointsAreStored() throws Exception {
+    when(httpClient.sendPostRequest(contains("/batch/objects"), anyString())).thenReturn(new HttpResponse(200,
+      "[" + response("id-1", null) + "," + response("id-2", null) + "]"));
+    when(httpClient.sendPostRequest(contains("/batch/references"), anyString())).thenReturn(new HttpResponse(200, "[]"));
+    scheduler = create();
+
+    scheduler.withObjects(object("id-1"), object("id-2"));
+    scheduler.withReferences(reference("id-1", "id-2"), reference("id-1", "existing"), reference("other", "existing"));
+
+    // only the reference between objects not added to the scheduler can go
+    assertThat(scheduler.parkedReferences()).isEqualTo(2);
+    verify(httpClient, never()).sendPostRequest(contains("/batch/objects"), anyString());
+
+    scheduler.flush();
+
+    ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+    verify(httpClient).sendPostRequest(contains("/batch/references"), body.capture());
+    assertThat(body.getValue()).contains("/Pizza/id-1/hasTopping", "/Topping/id-2", "/Pizza/other/hasTopping");
+    assertThat(scheduler.parkedReferences()).isZero();
+    assertThat(unresolved).isEmpty();
+  }
+
+  @Test
+  public void shouldReportReferencesToFailedObjects() throws Exception {
+    when(httpClient.sendPostRequest(contains("/batch/objects"), anyString())).thenReturn(new HttpResponse(200,
+      "[" + response("id-1", null) + "," + response("id-2", "invalid property") + "]"));
+    scheduler = create();
+
+    scheduler.withObjects(object("id-1"), object("id-2"));
+    BatchReference dangling = reference("id-1", "id-2");
+    scheduler.withReferences(dangling);
+    scheduler.flush();
+
+    assertThat(unresolved).containsExactly(dangling);
+    verify(httpClient, never()).sendPostRequest(contains("/batch/references"), anyString());
+  }
+
+  @Test
+  public void shouldMatchIdsReturnedInLowercase() throws Exception {
+    when(httpClient.sendPostRequest(contains("/batch/objects"), anyString())).thenReturn(new HttpResponse(200,
+      "[" + response("00000000-0000-0000-0000-00000000000a", null) + ","
+        + response("00000000-0000-0000-0000-00000000000b", null) + "]"));
+    when(httpClient.sendPostRequest(contains("/batch/references"), anyString())).thenReturn(new HttpResponse(200, "[]"));
+    scheduler = create();
+
+    scheduler.withObjects(object("00000000-0000-0000-0000-00000000000A"), object("00000000-0000-0000-0000-00000000000B"));
+    scheduler.withReferences(reference("00000000-0000-0000-0000-00000000000a", "00000000-0000-0000-0000-00000000000B"));
+    assertThat(scheduler.parkedReferences()).isEqualTo(1);
+
+    scheduler.flush();
+
+    verify(httpClient).sendPostRequest(contains("/batch/references"), anyString());
+    assertThat(scheduler.parkedReferences()).isZero();
+  }
+
+  @Test
+  public void shouldFindIdsInBeacons() {
+    assertThat(GraphIngestionScheduler.fromId("weaviate://localhost/Pizza/id-1/hasTopping")).isEqualTo("id-1");
+    assertThat(GraphIngestionScheduler.toId("weaviate://localhost/Topping/id-2")).isEqualTo("id-2");
+    assertThat(GraphIngestionScheduler.toId("weaviate://localhost/id-3")).isEqualTo("id-3");
+    assertThat(GraphIngestionScheduler.toId("http://other")).isNull();
+  }
+
+  private GraphIngestionScheduler create() {
+    ReferencesBatcher referencesBatcher = ReferencesBatcher.createAuto(httpClient, config, new ReferencesPath(),
+      ReferencesBatcher.BatchRetriesConfig.defaultConfig().build(),
+      ReferencesBatcher.AutoBatchConfig.defaultConfig().batchSize(10).build());
+    return new GraphIngestionScheduler(
+      (retries, auto) -> ObjectsBatcher.createAuto(httpClient, config, null, new ObjectsPath(), retries, auto),
+      ObjectsBatcher.BatchRetriesConfig.defaultConfig().build(),
+      ObjectsBatcher.AutoBatchConfig.defaultConfig().batchSize(10).build(),
+      referencesBatcher, unresolved::addAll);
+  }
+
+  private static String response(String id, String error) {
+    String result = error == null
+      ? "{\"status\":\"SUCCESS\"}"
+      : "{\"status\":\"FAILED\",\"errors\":{\"error\":[{\"message\":\"" + error + "\"}]}}";
+    return "{\"id\":\"" + id + "\",\"class\":\"Pizza\",\"result\":" + result + "}";
+  }
+
+  private static WeaviateObject object(String id) {
+    return WeaviateObject.builder().id(id).className("Pizza").build();
+  }
+
+  private static BatchReference reference(String fromId, String toId) {
+    return BatchReference.builder()
+      .from("weaviate://localhost/Pizza/" + fromId + "/hasTopping")
+      .to("weaviate://localhost/Topping/" + toId)
+      .build();
+  }
+}
@@ -0,0 +1,155 @@
+package io.weaviate.client.v1.batch.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.http.HttpResponse;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.client.v1.graphql.query.Get;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.tuple.Pair;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ObjectsBatchVerifierTest {
+
+  private static final String ID_1 = "00000000-0000-0000-0000-000000000001";
+  private static final String ID_2 = "00000000-0000-0000-0000-000000000002";
+  private static final String ID_3 = "00000000-0000-0000-0000-000000000003";
+
+  @Mock
+  private HttpClient httpClient;
+
+  private final Config config = new Config("http", "localhost:8080");
+
+  @Test
+  public void shouldVerifyBatchWithSingleQuery() throws Exception {
+    when(httpClient.sendPostRequest(anyString(), anyString())).thenReturn(new HttpResponse(200, "{\"data\":{\"Get\":{\"Pizza\":[" +
+      "{\"name\":\"Hawaii\",\"price\":10,\"tags\":[\"a\",\"b\"],\"_additional\":{\"id\":\"" + ID_1 + "\",\"vector\":[0.1,0.2],\"creationTimeUnix\":\"1700000000000\"}}," +
+      "{\"name\":\"Other\",\"price\":10,\"tags\":[\"a\",\"b\"],\"_additional\":{\"id\":\"" + ID_2 + "\",\"vector\":[0.1,0.2]}}" +
+      "]}}}"));
+
+    List<WeaviateObject> batch = Arrays.asList(pizza(ID_1), pizza(ID_2), pizza(ID_3));
+    Pair<List<WeaviateObject>, List<WeaviateObject>> verified = verifier(100).verify(batch, null);
+
+    assertThat(verified.getLeft()).extracting(WeaviateObject::getId).containsExactly(ID_1);
+    assertThat(verified.getLeft().get(0).getCreationTimeUnix()).isEqualTo(1700000000000L);
+    // different property and missing object
+    assertThat(verified.getRight()).extracting(WeaviateObject::getId).containsExactly(ID_2, ID_3);
+
+    ArgumentCaptor<String> query = ArgumentCaptor.forClass(String.class);
+    verify(httpClient).sendPostRequest(anyString(), query.capture());
+    assertThat(query.getValue())
+      .contains("Get{Pizza(where:{path:[\\\"id\\\"] valueTextArray:[\\\"" + ID_1 + "\\\",\\\"" + ID_2 + "\\\",\\\"" + ID_3 + "\\\"] operator:ContainsAny},limit:3)")
+      .contains("name price tags _additional{id vector creationTimeUnix lastUpdateTimeUnix}");
+  }
+
+  @Test
+  public void shouldQueryInChunks() throws Exception {
+    when(httpClient.sendPostRequest(anyString(), anyString()))
+      .thenReturn(new HttpResponse(200, "{\"data\":{\"Get\":{\"Pizza\":[]}}}"));
+
+    List<WeaviateObject> batch = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      batch.add(pizza(String.format("00000000-0000-0000-0000-%012d", i)));
+    }
+    Pair<List<WeaviateObject>, List<WeaviateObject>> verified = verifier(10).verify(batch, null);
+
+    assertThat(verified.getLeft()).isEmpty();
+    assertThat(verified.getRight()).hasSize(25);
+    verify(httpClient, times(3)).sendPostRequest(anyString(), anyString());
+  }
+
+  @Test
+  public void shouldRerunAllWhenQueryFails() throws Exception {
+    when(httpClient.sendPostRequest(anyString(), anyString()))
+      .thenReturn(new HttpResponse(200, "{\"errors\":[{\"message\":\"unknown operator ContainsAny\"}]}"));
+
+    Pair<List<WeaviateObject>, List<WeaviateObject>> verified = verifier(100).verify(Arrays.asList(pizza(ID_1)), null);
+
+    assertThat(verified.getLeft()).isEmpty();
+    assertThat(verified.getRight()).extracting(WeaviateObject::getId).containsExactly(ID_1);
+  }
+
+  @Test
+  public void shouldRerunObjectsWithoutClass() throws Exception {
+    when(httpClient.sendPostRequest(anyString(), anyString())).thenReturn(new HttpResponse(200, "{\"data\":{\"Get\":{\"Pizza\":[" +
+      "{\"name\":\"Hawaii\",\"price\":10,\"tags\":[\"a\",\"b\"],\"_additional\":{\"id\":\"" + ID_1 + "\",\"vector\":[0.1,0.2]}}" +
+      "]}}}"));
+    WeaviateObject withoutClass = WeaviateObject.builder().id(ID_2).properties(map("name", "Hawaii")).build();
+
+    Pair<List<WeaviateObject>, List<WeaviateObject>> verified = verifier(100)
+      .verify(Arrays.asList(pizza(ID_1), withoutClass), null);
+
+    assertThat(verified.getLeft()).extracting(WeaviateObject::getId).containsExactly(ID_1);
+    assertThat(verified.getRight()).containsExactly(withoutClass);
+    verify(httpClient).sendPostRequest(anyString(), anyString());
+  }
+
+  @Test
+  public void shouldCompareValuesDeeply() {
+    assertThat(ObjectsBatchVerifier.isSame(10, 10.0)).isTrue();
+    assertThat(ObjectsBatchVerifier.isSame(0.1f, 0.1d)).isTrue();
+    assertThat(ObjectsBatchVerifier.isSame(new String[]{"a", "b"}, Arrays.asList("a", "b"))).isTrue();
+    assertThat(ObjectsBatchVerifier.isSame(Arrays.asList(1, 2), Arrays.asList(1.0, 2.0))).isTrue();
+    assertThat(ObjectsBatchVerifier.isSame(Arrays.asList(1, 2), Arrays.asList(2.0, 1.0))).isFalse();
+    assertThat(ObjectsBatchVerifier.isSame(map("lat", 52.1f), map("lat", 52.1d))).isTrue();
+    assertThat(ObjectsBatchVerifier.isSame(map("lat", 52.1f), map("lat", 52.2d))).isFalse();
+    assertThat(ObjectsBatchVerifier.isSame("a", null)).isFalse();
+    // references are not fetched
+    assertThat(ObjectsBatchVerifier.isSame(Collections.singletonList(map("beacon", "weaviate://localhost/x")), null)).isTrue();
+  }
+
+  @Test
+  public void shouldSelectNestedPropertiesAndSkipReferences() {
+    Map<String, Object> properties = new HashMap<>();
+    properties.put("location", map("latitude", 1f));
+    properties.put("ofPizza", Collections.singletonList(map("beacon", "weaviate://localhost/Pizza/id")));
+    properties.put("name", "x");
+
+    Field[] fields = ObjectsBatchVerifier.propertyFields(Collections.singletonList(
+      WeaviateObject.builder().className("Pizza").properties(properties).build()));
+
+    assertThat(Arrays.stream(fields).map(Field::build))
+      .containsExactlyInAnyOrder("location{latitude}", "name");
+  }
+
+  private ObjectsBatchVerifier verifier(int chunkSize) {
+    return new ObjectsBatchVerifier(() -> new Get(httpClient, config), null, config.getExecutors(), chunkSize, 2);
+  }
+
+  private static WeaviateObject pizza(String id) {
+    Map<String, Object> properties = new LinkedHashMap<>();
+    properties.put("name", "Hawaii");
+    properties.put("price", 10);
+    properties.put("tags", new String[]{"a", "b"});
+    return WeaviateObject.builder()
+      .id(id)
+      .className("Pizza")
+      .properties(properties)
+      .vector(new Float[]{0.1f, 0.2f})
+      .build();
+  }
+
+  private static Map<String, Object> map(String key, Object value) {
+    Map<String, Object> map = new HashMap<>();
+    map.put(key, value);
+    return map;
+  }
+}
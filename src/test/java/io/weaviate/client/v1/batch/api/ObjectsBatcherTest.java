@@ -0,0 +1,583 @@
+package io.weaviate.client.v1.batch.api;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.concurrent.ClientExecutors;
+import io.weaviate.client.base.concurrent.ExecutorsConfig;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.http.HttpResponse;
+import io.weaviate.client.v1.batch.metrics.BatchMetrics;
+import io.weaviate.client.v1.batch.metrics.BatchMetricsSnapshot;
+import io.weaviate.client.v1.batch.metrics.RetryCause;
+import io.weaviate.client.v1.batch.model.FailedBatchObject;
+import io.weaviate.client.v1.batch.model.ObjectGetResponse;
+import io.weaviate.client.v1.batch.spool.BatchSpool;
+import io.weaviate.client.v1.batch.spool.SpoolConfig;
+import io.weaviate.client.v1.batch.spool.SpoolRecord;
+import io.weaviate.client.v1.batch.util.ObjectsPath;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class ObjectsBatcherTest {
+
+  @Mock
+  private HttpClient httpClient;
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private final Config config = new Config("http", "localhost:8080");
+  private ObjectsBatcher batcher;
+
+  @Before
+  public void before() throws Exception {
+    when(httpClient.sendPostRequest(anyString(), anyString())).thenReturn(new HttpResponse(200, "[]"));
+  }
+
+  @After
+  public void after() {
+    if (batcher != null) {
+      batcher.close();
+    }
+  }
+
+  @Test
+  public void shouldSendPartialBatchAfterLinger() throws Exception {
+    batcher = createAuto(ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(100)
+      .lingerMs(50)
+      .build());
+
+    long start = System.nanoTime();
+    batcher.withObject(object());
+
+    verify(httpClient, timeout(2000)).sendPostRequest(anyString(), anyString());
+    assertThat(System.nanoTime() - start).isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+  }
+
+  @Test
+  public void shouldKeepPartialBatchWithoutLinger() throws Exception {
+    batcher = createAuto(ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(100)
+      .build());
+
+    batcher.withObject(object());
+
+    Thread.sleep(100);
+    verify(httpClient, never()).sendPostRequest(anyString(), anyString());
+  }
+
+  @Test
+  public void shouldRejectObjectsWhenPendingBatchesLimitIsReached() throws Exception {
+    CountDownLatch release = blockRequests();
+    batcher = createAuto(ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(1)
+      .poolSize(2)
+      .maxPendingBatches(1)
+      .backpressurePolicy(BackpressurePolicy.REJECT)
+      .build());
+
+    batcher.withObject(object());
+    verify(httpClient, timeout(2000)).sendPostRequest(anyString(), anyString());
+    // waits in the queue as a full batch
+    batcher.withObject(object());
+
+    assertThatThrownBy(() -> batcher.withObject(object()))
+      .isInstanceOf(RejectedExecutionException.class);
+
+    release.countDown();
+    batcher.flush();
+    verify(httpClient, times(2)).sendPostRequest(anyString(), anyString());
+  }
+
+  @Test
+  public void shouldPassObjectsToCallbackWhenPendingBatchesLimitIsReached() throws Exception {
+    CountDownLatch release = blockRequests();
+    List<WeaviateObject> rejected = new CopyOnWriteArrayList<>();
+    batcher = createAuto(ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(1)
+      .maxPendingBatches(1)
+      .backpressurePolicy(BackpressurePolicy.CALLBACK)
+      .backpressureCallback(rejected::addAll)
+      .build());
+
+    batcher.withObject(object());
+    verify(httpClient, timeout(2000)).sendPostRequest(anyString(), anyString());
+    batcher.withObject(object());
+    WeaviateObject third = object();
+    batcher.withObject(third);
+
+    assertThat(rejected).containsExactly(third);
+    release.countDown();
+  }
+
+  @Test
+  public void shouldBlockProducerUntilBatchCompletes() throws Exception {
+    CountDownLatch release = blockRequests();
+    batcher = createAuto(ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(1)
+      .maxPendingBatches(1)
+      .backpressurePolicy(BackpressurePolicy.BLOCK_WITH_TIMEOUT)
+      .backpressureTimeoutMs(5000)
+      .build());
+
+    batcher.withObject(object());
+    verify(httpClient, timeout(2000)).sendPostRequest(anyString(), anyString());
+    batcher.withObject(object());
+
+    Thread producer = new Thread(() -> batcher.withObject(object()));
+    producer.start();
+    producer.join(200);
+    assertThat(producer.isAlive()).isTrue();
+
+    release.countDown();
+    producer.join(5000);
+    assertThat(producer.isAlive()).isFalse();
+    batcher.flush();
+    verify(httpClient, times(3)).sendPostRequest(anyString(), anyString());
+  }
+
+  @Test
+  public void shouldRejectAfterBackpressureTimeout() throws Exception {
+    CountDownLatch release = blockRequests();
+    batcher = createAuto(ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(1)
+      .maxPendingBatches(1)
+      .backpressurePolicy(BackpressurePolicy.BLOCK_WITH_TIMEOUT)
+      .backpressureTimeoutMs(50)
+      .build());
+
+    batcher.withObject(object());
+    verify(httpClient, timeout(2000)).sendPostRequest(anyString(), anyString());
+    batcher.withObject(object());
+
+    assertThatThrownBy(() -> batcher.withObject(object()))
+      .isInstanceOf(RejectedExecutionException.class)
+      .hasMessageContaining("Timed out");
+    release.countDown();
+  }
+
+  @Test
+  public void shouldRetryOnlyObjectsWithTransientErrors() throws Exception {
+    List<FailedBatchObject> deadLetters = new CopyOnWriteArrayList<>();
+    when(httpClient.sendPostRequest(anyString(), anyString()))
+      .thenReturn(new HttpResponse(200, "[" +
+        response("id-1", null) + "," +
+        response("id-2", "context deadline exceeded") + "," +
+        response("id-3", "invalid text property 'name'") + "]"))
+      .thenReturn(new HttpResponse(200, "[" + response("id-2", null) + "]"));
+
+    ObjectsBatcher syncBatcher = ObjectsBatcher.create(httpClient, config, null, new ObjectsPath(),
+      ObjectsBatcher.BatchRetriesConfig.defaultConfig()
+        .maxObjectRetries(1)
+        .retriesIntervalMs(1)
+        .deadLetterCallback(deadLetters::addAll)
+        .build());
+    Result<ObjectGetResponse[]> result = syncBatcher
+      .withObjects(object("id-1"), object("id-2"), object("id-3"))
+      .run();
+
+    ArgumentCaptor<String> payloads = ArgumentCaptor.forClass(String.class);
+    verify(httpClient, times(2)).sendPostRequest(anyString(), payloads.capture());
+    assertThat(payloads.getAllValues().get(1)).contains("id-2").doesNotContain("id-1", "id-3");
+
+    assertThat(result.hasErrors()).isFalse();
+    assertThat(result.getResult()).extracting(ObjectGetResponse::getId)
+      .containsExactlyInAnyOrder("id-1", "id-2", "id-3");
+    assertThat(deadLetters).hasSize(1);
+    assertThat(deadLetters.get(0).getObject().getId()).isEqualTo("id-3");
+    assertThat(deadLetters.get(0).isRetryable()).isFalse();
+    assertThat(deadLetters.get(0).getErrors()).containsExactly("invalid text property 'name'");
+  }
+
+  @Test
+  public void shouldDeadLetterRejectedBatchAsNotRetryable() throws Exception {
+    List<FailedBatchObject> deadLetters = new CopyOnWriteArrayList<>();
+    when(httpClient.sendPostRequest(anyString(), anyString()))
+      .thenReturn(new HttpResponse(422, "{\"error\":[{\"message\":\"class Pizza does not exist\"}]}"));
+
+    ObjectsBatcher syncBatcher = ObjectsBatcher.create(httpClient, config, null, new ObjectsPath(),
+      ObjectsBatcher.BatchRetriesConfig.defaultConfig()
+        .deadLetterCallback(deadLetters::addAll)
+        .build());
+    syncBatcher.withObjects(object("id-1")).run();
+
+    verify(httpClient, times(1)).sendPostRequest(anyString(), anyString());
+    assertThat(deadLetters).extracting(f -> f.getObject().getId()).containsExactly("id-1");
+    assertThat(deadLetters.get(0).isRetryable()).isFalse();
+    assertThat(deadLetters.get(0).getErrors()).containsExactly("class Pizza does not exist");
+  }
+
+  @Test
+  public void shouldDeadLetterObjectsOutOfRetries() throws Exception {
+    List<FailedBatchObject> deadLetters = new CopyOnWriteArrayList<>();
+    when(httpClient.sendPostRequest(anyString(), anyString()))
+      .thenReturn(new HttpResponse(200, "[" + response("id-1", "too many requests") + "]"));
+
+    ObjectsBatcher syncBatcher = ObjectsBatcher.create(httpClient, config, null, new ObjectsPath(),
+      ObjectsBatcher.BatchRetriesConfig.defaultConfig()
+        .maxObjectRetries(2)
+        .retriesIntervalMs(1)
+        .deadLetterCallback(deadLetters::addAll)
+        .build());
+    syncBatcher.withObjects(object("id-1")).run();
+
+    verify(httpClient, times(3)).sendPostRequest(anyString(), anyString());
+    assertThat(deadLetters).extracting(f -> f.getObject().getId()).containsExactly("id-1");
+    assertThat(deadLetters.get(0).isRetryable()).isTrue();
+  }
+
+  @Test
+  public void shouldResendUnconfirmedSpooledObjectsAfterRestart() throws Exception {
+    when(httpClient.sendPostRequest(anyString(), anyString()))
+      .thenReturn(new HttpResponse(200, "[" + response("id-1", null) + "]"));
+    ObjectsBatcher.AutoBatchConfig autoBatchConfig = ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(2)
+      .spool(SpoolConfig.defaultConfig().directory(folder.getRoot().toPath()).build())
+      .build();
+
+    ObjectsBatcher first = createAuto(autoBatchConfig);
+    first.withObjects(object("id-1"), object("id-2"));
+    first.flush();
+    first.close();
+
+    batcher = createAuto(autoBatchConfig);
+    batcher.flush();
+
+    ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+    verify(httpClient, times(2)).sendPostRequest(anyString(), body.capture());
+    assertThat(body.getAllValues().get(1)).contains("id-2").doesNotContain("id-1");
+  }
+
+  @Test
+  public void shouldFreeSpoolSegmentsPastUnconfirmedObjects() throws Exception {
+    AtomicInteger requests = new AtomicInteger();
+    Pattern id = Pattern.compile("\"id\":\"([^\"]+)\"");
+    when(httpClient.sendPostRequest(anyString(), anyString())).thenAnswer(invocation -> {
+      Matcher matcher = id.matcher(invocation.<String>getArgument(1));
+      matcher.find();
+      // the first object is not confirmed, and left for the next batcher to send
+      return new HttpResponse(200, requests.getAndIncrement() == 0 ? "[]" : "[" + response(matcher.group(1), null) + "]");
+    });
+    SpoolConfig spoolConfig = SpoolConfig.defaultConfig()
+      .directory(folder.getRoot().toPath())
+      .segmentBytes(1024)
+      .build();
+
+    ObjectsBatcher first = createAuto(ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(1)
+      .poolSize(1)
+      .spool(spoolConfig)
+      .build());
+    for (int i = 0; i < 50; i++) {
+      first.withObject(object("id-" + i, "name-" + i));
+      first.flush();
+    }
+    first.close();
+
+    try (BatchSpool spool = BatchSpool.open(spoolConfig)) {
+      assertThat(spool.getSegmentCount()).isLessThanOrEqualTo(2);
+      assertThat(spool.recovered()).extracting(SpoolRecord::getSequence).contains(1L);
+    }
+  }
+
+  @Test
+  public void shouldAcknowledgeSpooledObjectsOfFailedBatchOnceDeadLettered() throws Exception {
+    List<FailedBatchObject> deadLetters = new CopyOnWriteArrayList<>();
+    when(httpClient.sendPostRequest(anyString(), anyString()))
+      .thenReturn(new HttpResponse(500, "{\"error\":[{\"message\":\"shard not ready\"}]}"));
+    SpoolConfig spoolConfig = SpoolConfig.defaultConfig().directory(folder.getRoot().toPath()).build();
+
+    ObjectsBatcher failing = ObjectsBatcher.createAuto(httpClient, config, null, new ObjectsPath(),
+      ObjectsBatcher.BatchRetriesConfig.defaultConfig()
+        .deadLetterCallback(deadLetters::addAll)
+        .build(),
+      ObjectsBatcher.AutoBatchConfig.defaultConfig()
+        .batchSize(2)
+        .spool(spoolConfig)
+        .build());
+    failing.withObjects(object("id-1"), object("id-2"));
+    failing.flush();
+    failing.close();
+
+    assertThat(deadLetters).extracting(f -> f.getObject().getId()).containsExactlyInAnyOrder("id-1", "id-2");
+    assertThat(deadLetters).allMatch(FailedBatchObject::isRetryable);
+    try (BatchSpool spool = BatchSpool.open(spoolConfig)) {
+      assertThat(spool.recovered()).isEmpty();
+      assertThat(spool.getCheckpoint()).isEqualTo(spool.getLastSequence());
+    }
+  }
+
+  @Test
+  public void shouldSendLatestVersionOfCoalescedObjects() throws Exception {
+    batcher = createAuto(ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(10)
+      .coalesceById(true)
+      .build());
+
+    batcher.withObjects(object("id-1", "old"), object("id-2", "other"));
+    batcher.withObject(object("id-1", "new"));
+    batcher.flush();
+
+    ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+    verify(httpClient).sendPostRequest(anyString(), body.capture());
+    assertThat(body.getValue()).contains("new", "other").doesNotContain("old");
+  }
+
+  @Test
+  public void shouldSendBatchesWithSameIdsInOrder() throws Exception {
+    CountDownLatch release = blockRequests();
+    batcher = createAuto(ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(1)
+      .poolSize(3)
+      .orderedById(true)
+      .build());
+
+    batcher.withObject(object("id-1", "first"));
+    batcher.withObject(object("id-1", "second"));
+    batcher.withObject(object("id-2", "other"));
+
+    ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+    verify(httpClient, timeout(2000).times(2)).sendPostRequest(anyString(), body.capture());
+    Thread.sleep(100);
+    assertThat(body.getAllValues()).hasSize(2).noneMatch(value -> value.contains("second"));
+
+    release.countDown();
+    batcher.flush();
+    verify(httpClient, times(3)).sendPostRequest(anyString(), body.capture());
+    assertThat(body.getAllValues().get(body.getAllValues().size() - 1)).contains("second");
+  }
+
+  @Test
+  public void shouldSendBatchesWithVirtualThreadsEnabled() throws Exception {
+    // virtual threads on Java 21 and newer, platform threads before
+    batcher = createAuto(ObjectsBatcher.AutoBatchConfig.defaultConfig()
+      .batchSize(2)
+      .poolSize(2)
+      .virtualThreads(true)
+      .lingerMs(20)
+      .build());
+
+    batcher.withObjects(object("id-1"), object("id-2"), object("id-3"));
+
+    verify(httpClient, timeout(2000).times(2)).sendPostRequest(anyString(), anyString());
+  }
+
+  @Test
+  public void shouldFireLingerOfVirtualThreadBatcherOnSharedScheduler() throws Exception {
+    ClientExecutors executors = ClientExecutors.create(ExecutorsConfig.defaultConfig().build());
+    Config sharedConfig = new Config("http", "localhost:8080").withExecutors(executors);
+    try {
+      ObjectsBatcher virtual = ObjectsBatcher.createAuto(httpClient, sharedConfig, null, new ObjectsPath(),
+        ObjectsBatcher.BatchRetriesConfig.defaultConfig().build(),
+        ObjectsBatcher.AutoBatchConfig.defaultConfig()
+          .batchSize(10)
+          .virtualThreads(true)
+          .lingerMs(20)
+          .build());
+      virtual.withObject(object("id-1"));
+
+      verify(httpClient, timeout(2000).times(1)).sendPostRequest(anyString(), anyString());
+      virtual.close();
+      assertThat(executors.getScheduler().isShutdown()).isFalse();
+    } finally {
+      executors.close();
+    }
+  }
+
+  @Test
+  public void shouldSendBatchesOnSharedClientThreads() throws Exception {
+    ClientExecutors executors = ClientExecutors.create(ExecutorsConfig.defaultConfig().threadNamePrefix("shared").build());
+    Config sharedConfig = new Config("http", "localhost:8080").withExecutors(executors);
+    List<String> threads = new CopyOnWriteArrayList<>();
+    // callbacks may run on the caller if the batch is done before they are attached, requests never do
+    when(httpClient.sendPostRequest(anyString(), anyString())).thenAnswer(invocation -> {
+      threads.add(Thread.currentThread().getName());
+      return new HttpResponse(200, "[]");
+    });
+    try {
+      for (int i = 0; i < 2; i++) {
+        ObjectsBatcher sharing = ObjectsBatcher.createAuto(httpClient, sharedConfig, null, new ObjectsPath(),
+          ObjectsBatcher.BatchRetriesConfig.defaultConfig().build(),
+          ObjectsBatcher.AutoBatchConfig.defaultConfig()
+            .batchSize(1)
+            .build());
+        sharing.withObject(object("id-" + i));
+        sharing.flush();
+        sharing.close();
+      }
+
+      assertThat(threads).hasSize(2).allMatch(name -> name.startsWith("shared-worker-"));
+      assertThat(executors.getWorkers().isShutdown()).isFalse();
+    } finally {
+      executors.close();
+    }
+  }
+
+  @Test
+  public void shouldRecordMetrics() throws Exception {
+    when(httpClient.sendPostRequest(anyString(), anyString()))
+      .thenReturn(new HttpResponse(200, "[" +
+        response("id-1", null) + "," +
+        response("id-2", "too many requests") + "," +
+        response("id-3", "invalid text property 'name'") + "]"))
+      .thenReturn(new HttpResponse(200, "[" + response("id-2", null) + "]"));
+    BatchMetrics metrics = new BatchMetrics();
+    batcher = ObjectsBatcher.createAuto(httpClient, config, null, new ObjectsPath(),
+      ObjectsBatcher.BatchRetriesConfig.defaultConfig().maxObjectRetries(1).retriesIntervalMs(1).build(),
+      ObjectsBatcher.AutoBatchConfig.defaultConfig().batchSize(10).metricsListener(metrics).build());
+
+    batcher.withObjects(object("id-1"), object("id-2"), object("id-3"));
+    assertThat(metrics.snapshot().getQueueDepth()).isEqualTo(3);
+    batcher.flush();
+
+    BatchMetricsSnapshot snapshot = metrics.snapshot();
+    assertThat(snapshot.getSubmittedItems()).isEqualTo(3);
+    assertThat(snapshot.getSubmittedBytes()).isPositive();
+    assertThat(snapshot.getQueueDepth()).isZero();
+    assertThat(snapshot.getInFlight()).isZero();
+    assertThat(snapshot.getStartedBatches()).isEqualTo(1);
+    assertThat(snapshot.getCompletedBatches()).isEqualTo(1);
+    assertThat(snapshot.getCompletedItems()).isEqualTo(3);
+    assertThat(snapshot.getFailedItems()).isEqualTo(1);
+    assertThat(snapshot.getRequests()).isEqualTo(2);
+    assertThat(snapshot.getRetries()).containsEntry(RetryCause.ITEM_ERROR, 1L).containsEntry(RetryCause.TIMEOUT, 0L);
+    assertThat(Arrays.stream(snapshot.getLatencyCounts()).sum()).isEqualTo(2);
+    assertThat(snapshot.getItemsPerSecond()).isPositive();
+  }
+
+  @Test
+  public void shouldSendPreSerializedBatches() throws Exception {
+    List<String> bodies = new CopyOnWriteArrayList<>();
+    when(httpClient.sendPostRequest(anyString(), any(byte[].class), anyInt())).thenAnswer(invocation -> {
+      // the buffer goes back to the pool once the batch is done, so it is read right away
+      byte[] json = invocation.getArgument(1);
+      bodies.add(new String(json, 0, invocation.<Integer>getArgument(2), StandardCharsets.UTF_8));
+      return new HttpResponse(200, "[" + response("id-1", null) + "," + response("id-2", "too many requests") + "]");
+    });
+    when(httpClient.sendPostRequest(anyString(), anyString()))
+      .thenReturn(new HttpResponse(200, "[" + response("id-2", null) + "]"));
+    batcher = ObjectsBatcher.createAuto(httpClient, config, null, new ObjectsPath(),
+      ObjectsBatcher.BatchRetriesConfig.defaultConfig().maxObjectRetries(1).retriesIntervalMs(1).build(),
+      ObjectsBatcher.AutoBatchConfig.defaultConfig().batchSize(2).preSerialize(true).build());
+
+    batcher.withObjects(object("id-1", "first"), object("id-2", "żółw"));
+    batcher.flush();
+
+    assertThat(bodies).hasSize(1);
+    assertThat(bodies.get(0)).contains("\"id\":\"id-1\"", "\"name\":\"żółw\"", "\"fields\":[\"ALL\"]");
+    // the retried subset is serialized when sent
+    ArgumentCaptor<String> retried = ArgumentCaptor.forClass(String.class);
+    verify(httpClient).sendPostRequest(anyString(), retried.capture());
+    assertThat(retried.getValue()).contains("id-2").doesNotContain("id-1");
+  }
+
+  @Test
+  public void shouldEncodePreSerializedBatchesOnWorkers() throws Exception {
+    ClientExecutors executors = ClientExecutors.create(ExecutorsConfig.defaultConfig().threadNamePrefix("shared").build());
+    Config sharedConfig = new Config("http", "localhost:8080").withExecutors(executors);
+    when(httpClient.sendPostRequest(anyString(), any(byte[].class), anyInt()))
+      .thenReturn(new HttpResponse(200, "[" + response("id-1", null) + "]"));
+    EncodingThreads properties = new EncodingThreads();
+    properties.put("name", "margherita");
+    try {
+      ObjectsBatcher encoding = ObjectsBatcher.createAuto(httpClient, sharedConfig, null, new ObjectsPath(),
+        ObjectsBatcher.BatchRetriesConfig.defaultConfig().build(),
+        ObjectsBatcher.AutoBatchConfig.defaultConfig().batchSize(1).preSerialize(true).build());
+      // the batch is cut by the producer, under the queue's drain lock
+      encoding.withObject(WeaviateObject.builder().id("id-1").className("Pizza").properties(properties).build());
+      encoding.flush();
+      encoding.close();
+
+      assertThat(properties.threads).isNotEmpty().allMatch(name -> name.startsWith("shared-worker-"));
+    } finally {
+      executors.close();
+    }
+  }
+
+  private static WeaviateObject object(String id, String name) {
+    WeaviateObject object = object(id);
+    object.setProperties(Collections.singletonMap("name", name));
+    return object;
+  }
+
+  private static String response(String id, String error) {
+    String result = error == null
+      ? "{\"status\":\"SUCCESS\"}"
+      : "{\"status\":\"FAILED\",\"errors\":{\"error\":[{\"message\":\"" + error + "\"}]}}";
+    return "{\"id\":\"" + id + "\",\"class\":\"Pizza\",\"result\":" + result + "}";
+  }
+
+  private static WeaviateObject object(String id) {
+    return WeaviateObject.builder().id(id).className("Pizza").build();
+  }
+
+  private CountDownLatch blockRequests() throws Exception {
+    CountDownLatch release = new CountDownLatch(1);
+    when(httpClient.sendPostRequest(anyString(), anyString())).thenAnswer(invocation -> {
+      release.await(5, TimeUnit.SECONDS);
+      return new HttpResponse(200, "[]");
+    });
+    return release;
+  }
+
+  private ObjectsBatcher createAuto(ObjectsBatcher.AutoBatchConfig autoBatchConfig) {
+    return ObjectsBatcher.createAuto(httpClient, config, null, new ObjectsPath(),
+      ObjectsBatcher.BatchRetriesConfig.defaultConfig().build(), autoBatchConfig);
+  }
+
+  private static WeaviateObject object() {
+    return WeaviateObject.builder().className("Pizza").build();
+  }
+
+  /**
+   * Properties recording the threads serializing them.
+   */
+  private static class EncodingThreads extends HashMap<String, Object> {
+    private final List<String> threads = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+      boolean serializing = Arrays.stream(Thread.currentThread().getStackTrace())
+        .anyMatch(frame -> frame.getClassName().startsWith("com.google.gson"));
+      if (serializing) {
+        threads.add(Thread.currentThread().getName());
+      }
+      return super.entrySet();
+    }
+  }
+}
@@ -0,0 +1,189 @@
+package io.weaviate.client.v1.batch.loader;
+
+import io.weaviate.client.base.Serializer;
+import io.weaviate.client.base.concurrent.ClientExecutors;
+import io.weaviate.client.base.concurrent.ExecutorsConfig;
+import io.weaviate.client.v1.batch.api.ObjectsBatcher;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class BulkFileLoaderTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Mock
+  private ObjectsBatcher batcher;
+
+  private final List<WeaviateObject> loaded = new CopyOnWriteArrayList<>();
+  private final ClientExecutors executors = ClientExecutors.create(ExecutorsConfig.defaultConfig().build());
+
+  @Before
+  public void before() {
+    doAnswer(invocation -> {
+      loaded.addAll(Arrays.asList((WeaviateObject[]) invocation.getRawArguments()[0]));
+      return batcher;
+    }).when(batcher).withObjects(any(WeaviateObject[].class));
+  }
+
+  @After
+  public void after() {
+    executors.close();
+  }
+
+  @Test
+  public void shouldLoadNdjsonInParallelChunks() throws Exception {
+    StringBuilder content = new StringBuilder();
+    for (int i = 0; i < 50; i++) {
+      content.append("{\"uuid\":\"id-").append(i).append("\",\"name\":\"pizza ").append(i)
+        .append("\",\"price\":").append(i).append(",\"emb\":[0.5,").append(i).append("]}\n");
+    }
+    content.append("not json\n");
+    Path file = write(content.toString());
+    List<Long> errorOffsets = new CopyOnWriteArrayList<>();
+
+    LoadStats stats = new BulkFileLoader(batcher, FileLoadConfig.defaultConfig()
+      .format(FileFormat.NDJSON)
+      .mapping(FieldMapping.builder().className("Pizza").idField("uuid").vectorField("emb").build())
+      .chunkBytes(200)
+      .parallelism(4)
+      .objectsPerCall(7)
+      .errorHandler((offset, e) -> errorOffsets.add(offset))
+      .build(), executors).load(file);
+
+    assertThat(stats.getRows()).isEqualTo(50);
+    assertThat(stats.getErrors()).isEqualTo(1);
+    assertThat(stats.getBytes()).isEqualTo(Files.size(file));
+    assertThat(stats.getResumeOffset()).isEqualTo(Files.size(file));
+    assertThat(errorOffsets).containsExactly(Files.size(file) - "not json\n".length());
+    assertThat(loaded).hasSize(50);
+
+    WeaviateObject object = loaded.stream().filter(o -> o.getId().equals("id-7")).findFirst().get();
+    assertThat(object.getClassName()).isEqualTo("Pizza");
+    assertThat(object.getVector()).containsExactly(0.5f, 7f);
+    assertThat(object.getProperties()).containsOnlyKeys("name", "price");
+    // integers are not turned into floating point numbers
+    assertThat(new Serializer().toJsonString(object.getProperties().get("price"))).isEqualTo("7");
+    verify(batcher, atLeastOnce()).flush();
+  }
+
+  @Test
+  public void shouldMapCsvColumns() throws Exception {
+    Path file = write("id;title;stock;vec\r\n"
+      + "id-1;\"Margherita; classic\";3;\"[1,2]\"\r\n"
+      + "id-2;\"Say \"\"cheese\"\"\";;\"[3,4]\"\r\n");
+    Map<String, String> properties = new HashMap<>();
+    properties.put("title", "name");
+    properties.put("stock", "stock");
+
+    LoadStats stats = new BulkFileLoader(batcher, FileLoadConfig.defaultConfig()
+      .format(FileFormat.CSV)
+      .csvDelimiter(';')
+      .mapping(FieldMapping.builder()
+        .className("Pizza")
+        .idField("id")
+        .vectorField("vec")
+        .properties(properties)
+        .types(Collections.singletonMap("stock", FieldMapping.FieldType.INT))
+        .build())
+      .build(), executors).load(file);
+
+    assertThat(stats.getRows()).isEqualTo(2);
+    assertThat(stats.getErrors()).isZero();
+    assertThat(loaded).extracting(WeaviateObject::getId).containsExactly("id-1", "id-2");
+    assertThat(loaded.get(0).getProperties()).containsEntry("name", "Margherita; classic").containsEntry("stock", 3L);
+    assertThat(loaded.get(0).getVector()).containsExactly(1f, 2f);
+    assertThat(loaded.get(1).getProperties()).containsOnlyKeys("name").containsEntry("name", "Say \"cheese\"");
+  }
+
+  @Test
+  public void shouldRejectCsvRecordsWithQuotedLineBreaks() throws Exception {
+    Path file = write("id,title\n"
+      + "id-1,first\n"
+      + "id-2,\"two\nlines\"\n"
+      + "id-3,third\n");
+    List<Exception> errors = new CopyOnWriteArrayList<>();
+
+    LoadStats stats = new BulkFileLoader(batcher, FileLoadConfig.defaultConfig()
+      .format(FileFormat.CSV)
+      .mapping(FieldMapping.builder().className("Pizza").idField("id").build())
+      .errorHandler((offset, e) -> errors.add(e))
+      .build(), executors).load(file);
+
+    assertThat(stats.getRows()).isEqualTo(2);
+    assertThat(stats.getErrors()).isEqualTo(2);
+    assertThat(loaded).extracting(WeaviateObject::getId).containsExactly("id-1", "id-3");
+    assertThat(errors).allMatch(e -> e.getMessage().contains("line breaks in quoted values are not supported"));
+  }
+
+  @Test
+  public void shouldResumeFromOffset() throws Exception {
+    String first = "{\"name\":\"first\"}\n";
+    Path file = write(first + "{\"name\":\"second\"}\n{\"name\":\"third\"}");
+
+    LoadStats stats = new BulkFileLoader(batcher, FileLoadConfig.defaultConfig()
+      .format(FileFormat.NDJSON)
+      .mapping(FieldMapping.builder().className("Pizza").build())
+      .startOffset(first.length())
+      .build(), executors).load(file);
+
+    assertThat(stats.getRows()).isEqualTo(2);
+    assertThat(loaded).extracting(o -> o.getProperties().get("name")).containsExactly("second", "third");
+    assertThat(loaded).allSatisfy(o -> assertThat(o.getId()).isNotNull());
+  }
+
+  @Test
+  public void shouldAdvanceResumeOffsetOnlyOnceRangesAreFlushed() throws Exception {
+    String first = "{\"name\":\"first\"}\n";
+    String second = "{\"name\":\"second\"}\n";
+    Path file = write(first + second + "{\"name\":\"third\"}\n");
+    List<Long> offsetsAtFlush = new CopyOnWriteArrayList<>();
+    BulkFileLoader loader = new BulkFileLoader(batcher, FileLoadConfig.defaultConfig()
+      .format(FileFormat.NDJSON)
+      .mapping(FieldMapping.builder().className("Pizza").build())
+      .chunkBytes(1)
+      .parallelism(1)
+      .build(), executors);
+    doAnswer(invocation -> offsetsAtFlush.add(loader.getStats().getResumeOffset())).when(batcher).flush();
+
+    LoadStats stats = loader.load(file);
+
+    assertThat(offsetsAtFlush).containsExactly(0L, (long) first.length(), (long) (first.length() + second.length()));
+    assertThat(stats.getResumeOffset()).isEqualTo(Files.size(file));
+  }
+
+  @Test
+  public void shouldSplitQuotedCsvValues() {
+    assertThat(RecordMapper.splitCsv("a,\"b,c\",,\"d\"\"e\"", ','))
+      .isEqualTo(Arrays.asList("a", "b,c", "", "d\"e"));
+  }
+
+  private Path write(String content) throws Exception {
+    Path file = folder.newFile().toPath();
+    Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+    return file;
+  }
+}
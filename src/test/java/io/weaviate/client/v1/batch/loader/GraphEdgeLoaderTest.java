@@ -0,0 +1,73 @@
+package io.weaviate.client.v1.batch.loader;
+
+import io.weaviate.client.v1.batch.api.ReferencesBatcher;
+import io.weaviate.client.v1.batch.model.BatchReference;
+import io.weaviate.client.v1.batch.util.BeaconEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.verify;
+
+@RunWith(MockitoJUnitRunner.class)
+public class GraphEdgeLoaderTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Mock
+  private ReferencesBatcher batcher;
+
+  private final List<BatchReference[]> calls = new ArrayList<>();
+
+  @Before
+  public void before() {
+    doAnswer(invocation -> {
+      calls.add((BatchReference[]) invocation.getRawArguments()[0]);
+      return batcher;
+    }).when(batcher).withReferences(any(BatchReference[].class));
+  }
+
+  @Test
+  public void shouldPassEdgesInGroups() {
+    GraphEdgeLoader loader = new GraphEdgeLoader(batcher, new BeaconEncoder(true),
+      EdgeLoadConfig.defaultConfig().referencesPerCall(2).build());
+
+    long loaded = loader.load(IntStream.range(0, 5)
+      .mapToObj(i -> new GraphEdge("Pizza", "hasTopping", "p-" + i, "Topping", "t-" + i)));
+
+    assertThat(loaded).isEqualTo(5);
+    assertThat(calls).extracting(references -> references.length).containsExactly(2, 2, 1);
+    assertThat(calls.get(2)[0].getFrom()).isEqualTo("weaviate://localhost/Pizza/p-4/hasTopping");
+    assertThat(calls.get(2)[0].getTo()).isEqualTo("weaviate://localhost/Topping/t-4");
+    verify(batcher).flush();
+  }
+
+  @Test
+  public void shouldLoadEdgeFile() throws Exception {
+    Path file = folder.newFile().toPath();
+    Files.write(file, Arrays.asList("class,property,source,targetClass,target", "Pizza,hasTopping,p-1,,t-1", "",
+      "Pizza,hasTopping,p-2,Topping,t-2"), StandardCharsets.UTF_8);
+    GraphEdgeLoader loader = new GraphEdgeLoader(batcher, new BeaconEncoder(true),
+      EdgeLoadConfig.defaultConfig().csvHeader(true).build());
+
+    assertThat(loader.loadFile(file)).isEqualTo(2);
+    assertThat(calls).hasSize(1);
+    assertThat(calls.get(0)).extracting(BatchReference::getTo)
+      .containsExactly("weaviate://localhost/t-1", "weaviate://localhost/Topping/t-2");
+  }
+}
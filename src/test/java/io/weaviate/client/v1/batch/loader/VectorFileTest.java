@@ -0,0 +1,112 @@
+package io.weaviate.client.v1.batch.loader;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.FloatBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+public class VectorFileTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldReadNpyRows() throws Exception {
+    String header = "{'descr': '<f4', 'fortran_order': False, 'shape': (3, 2), }";
+    ByteBuffer buffer = ByteBuffer.allocate(10 + header.length() + 6 * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.put(new byte[]{(byte) 0x93, 'N', 'U', 'M', 'P', 'Y', 1, 0});
+    buffer.putShort((short) header.length());
+    buffer.put(header.getBytes(StandardCharsets.ISO_8859_1));
+    putFloats(buffer, 1, 2, 3, 4, 5, 6);
+
+    try (VectorFile file = VectorFile.open(write(buffer), VectorFileFormat.NPY)) {
+      assertThat(file.getRows()).isEqualTo(3);
+      assertThat(file.getDimensions()).isEqualTo(2);
+      assertThat(floats(file.row(1))).containsExactly(3f, 4f);
+      assertThat(floats(file.row(2))).containsExactly(5f, 6f);
+    }
+  }
+
+  @Test
+  public void shouldReadFvecsRows() throws Exception {
+    ByteBuffer buffer = ByteBuffer.allocate(2 * (Integer.BYTES + 3 * Float.BYTES)).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(3);
+    putFloats(buffer, 1, 2, 3);
+    buffer.putInt(3);
+    putFloats(buffer, 4, 5, 6);
+
+    try (VectorFile file = VectorFile.open(write(buffer), VectorFileFormat.FVECS)) {
+      assertThat(file.getRows()).isEqualTo(2);
+      assertThat(file.getDimensions()).isEqualTo(3);
+      assertThat(floats(file.row(1))).containsExactly(4f, 5f, 6f);
+    }
+  }
+
+  @Test
+  public void shouldReadRawRowsAndSplitThem() throws Exception {
+    ByteBuffer buffer = ByteBuffer.allocate(10 * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    putFloats(buffer, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+
+    try (VectorFile file = VectorFile.openRaw(write(buffer), 2)) {
+      assertThat(file.getRows()).isEqualTo(5);
+      assertThat(floats(file.row(4))).containsExactly(8f, 9f);
+      assertThat(file.split(2)).extracting(VectorFile.Range::getFrom, VectorFile.Range::getTo)
+        .containsExactly(tuple(0L, 3L), tuple(3L, 5L));
+      assertThatThrownBy(() -> file.row(5)).isInstanceOf(IndexOutOfBoundsException.class);
+    }
+  }
+
+  @Test
+  public void shouldRejectUnsupportedNpyType() throws Exception {
+    String header = "{'descr': '<f8', 'fortran_order': False, 'shape': (1, 1), }";
+    ByteBuffer buffer = ByteBuffer.allocate(10 + header.length() + Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.put(new byte[]{(byte) 0x93, 'N', 'U', 'M', 'P', 'Y', 1, 0});
+    buffer.putShort((short) header.length());
+    buffer.put(header.getBytes(StandardCharsets.ISO_8859_1));
+    buffer.putDouble(1);
+    Path file = write(buffer);
+
+    assertThatThrownBy(() -> VectorFile.open(file, VectorFileFormat.NPY))
+      .hasMessageContaining("<f8");
+  }
+
+  @Test
+  public void shouldRejectRowsNotFittingAMapping() throws Exception {
+    ByteBuffer buffer = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    buffer.putInt(Integer.MAX_VALUE / 2);
+    Path file = write(buffer);
+
+    assertThatThrownBy(() -> VectorFile.open(file, VectorFileFormat.FVECS))
+      .isInstanceOf(IllegalArgumentException.class)
+      .hasMessageContaining("too large");
+    assertThatThrownBy(() -> VectorFile.openRaw(file, Integer.MAX_VALUE / 4 + 1))
+      .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private Path write(ByteBuffer buffer) throws Exception {
+    Path file = folder.newFile().toPath();
+    Files.write(file, buffer.array());
+    return file;
+  }
+
+  private static void putFloats(ByteBuffer buffer, float... values) {
+    for (float value : values) {
+      buffer.putFloat(value);
+    }
+  }
+
+  private static float[] floats(FloatBuffer vector) {
+    float[] values = new float[vector.remaining()];
+    vector.get(values);
+    return values;
+  }
+}
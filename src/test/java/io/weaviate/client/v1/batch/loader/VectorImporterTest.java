@@ -0,0 +1,109 @@
+package io.weaviate.client.v1.batch.loader;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.http.HttpResponse;
+import io.weaviate.client.v1.batch.api.ObjectsBatcher;
+import io.weaviate.client.v1.batch.model.FailedBatchObject;
+import io.weaviate.client.v1.batch.util.ObjectsPath;
+import java.net.ConnectException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.junit.runner.RunWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@RunWith(MockitoJUnitRunner.class)
+public class VectorImporterTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Mock
+  private HttpClient httpClient;
+
+  @Test
+  public void shouldSendRowsAsObjects() throws Exception {
+    when(httpClient.sendPostRequest(anyString(), anyString())).thenReturn(new HttpResponse(200,
+      "[{\"id\":\"id-0\",\"result\":{}},{\"id\":\"id-1\",\"result\":{}},{\"id\":\"id-2\",\"result\":{}}]"));
+    ByteBuffer buffer = ByteBuffer.allocate(6 * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    for (float value : new float[]{0.5f, 1, 2, 3, 4, 5}) {
+      buffer.putFloat(value);
+    }
+    Path path = folder.newFile().toPath();
+    Files.write(path, buffer.array());
+
+    VectorImporter importer = new VectorImporter(httpClient, new Config("http", "localhost:8080"), new ObjectsPath(),
+      VectorImportConfig.defaultConfig()
+        .className("Pizza")
+        .batchSize(2)
+        .parallelism(1)
+        .build());
+    long imported;
+    try (VectorFile file = VectorFile.openRaw(path, 2)) {
+      imported = importer.importFile(file, row -> "id-" + row, row -> Collections.singletonMap("row", row));
+    }
+
+    ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+    verify(httpClient, times(2)).sendPostRequest(anyString(), body.capture());
+    List<String> bodies = body.getAllValues();
+    assertThat(bodies.get(0)).isEqualTo("{\"fields\":[\"ALL\"],\"objects\":["
+      + "{\"id\":\"id-0\",\"class\":\"Pizza\",\"properties\":{\"row\":0},\"vector\":[0.5,1.0]},"
+      + "{\"id\":\"id-1\",\"class\":\"Pizza\",\"properties\":{\"row\":1},\"vector\":[2.0,3.0]}]}");
+    assertThat(bodies.get(1)).contains("\"vector\":[4.0,5.0]");
+    assertThat(imported).isEqualTo(6);
+  }
+
+  @Test
+  public void shouldRetryConnectionErrorsAndDeadLetterRejectedRows() throws Exception {
+    when(httpClient.sendPostRequest(anyString(), anyString()))
+      .thenThrow(new ConnectException("connection refused"))
+      .thenReturn(new HttpResponse(200, "[{\"id\":\"id-0\",\"result\":{}},"
+        + "{\"id\":\"id-1\",\"result\":{\"errors\":{\"error\":[{\"message\":\"invalid vector\"}]}}}]"));
+    ByteBuffer buffer = ByteBuffer.allocate(4 * Float.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+    for (float value : new float[]{0, 1, 2, 3}) {
+      buffer.putFloat(value);
+    }
+    Path path = folder.newFile().toPath();
+    Files.write(path, buffer.array());
+    List<FailedBatchObject> deadLettered = new ArrayList<>();
+
+    VectorImporter importer = new VectorImporter(httpClient, new Config("http", "localhost:8080"), new ObjectsPath(),
+      VectorImportConfig.defaultConfig()
+        .className("Pizza")
+        .batchSize(2)
+        .parallelism(1)
+        .retriesConfig(ObjectsBatcher.BatchRetriesConfig.defaultConfig()
+          .retriesIntervalMs(1)
+          .deadLetterCallback(deadLettered::addAll)
+          .build())
+        .build());
+    long imported;
+    try (VectorFile file = VectorFile.openRaw(path, 2)) {
+      imported = importer.importFile(file, row -> "id-" + row, null);
+    }
+
+    verify(httpClient, times(2)).sendPostRequest(anyString(), anyString());
+    assertThat(imported).isEqualTo(1);
+    assertThat(deadLettered).hasSize(1);
+    assertThat(deadLettered.get(0).getObject().getId()).isEqualTo("id-1");
+    assertThat(deadLettered.get(0).getObject().getVector()).containsExactly(2f, 3f);
+    assertThat(deadLettered.get(0).getErrors()).containsExactly("invalid vector");
+    assertThat(deadLettered.get(0).isRetryable()).isFalse();
+  }
+}
@@ -0,0 +1,45 @@
+package io.weaviate.client.v1.batch.metrics;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BatchMetricsTest {
+
+  @Test
+  public void shouldBucketRequestLatencies() {
+    BatchMetrics metrics = new BatchMetrics();
+    for (int i = 0; i < 98; i++) {
+      metrics.onRequest(10, TimeUnit.MILLISECONDS.toNanos(3), false);
+    }
+    metrics.onRequest(10, TimeUnit.MILLISECONDS.toNanos(150), true);
+    metrics.onRequest(10, TimeUnit.MINUTES.toNanos(5), true);
+
+    BatchMetricsSnapshot snapshot = metrics.snapshot();
+    assertThat(snapshot.getRequests()).isEqualTo(100);
+    assertThat(snapshot.getFailedRequests()).isEqualTo(2);
+    assertThat(snapshot.getLatencyPercentileMs(0.5)).isEqualTo(5);
+    assertThat(snapshot.getLatencyPercentileMs(0.99)).isEqualTo(200);
+    assertThat(snapshot.getLatencyPercentileMs(1)).isEqualTo(Long.MAX_VALUE);
+  }
+
+  @Test
+  public void shouldTrackQueueAndBatchesInFlight() {
+    BatchMetrics metrics = new BatchMetrics();
+    assertThat(metrics.snapshot().getLatencyPercentileMs(0.5)).isEqualTo(-1);
+
+    metrics.onSubmitted(30, 3000, 30);
+    metrics.onBatchStarted(10, 1);
+    metrics.onBatchStarted(10, 2);
+    metrics.onBatchCompleted(10, 1000, 1);
+    metrics.onRetry(RetryCause.CONNECTION, 10);
+
+    BatchMetricsSnapshot snapshot = metrics.snapshot();
+    assertThat(snapshot.getQueueDepth()).isEqualTo(10);
+    assertThat(snapshot.getInFlight()).isEqualTo(1);
+    assertThat(snapshot.getStartedBatches()).isEqualTo(2);
+    assertThat(snapshot.getCompletedItems()).isEqualTo(10);
+    assertThat(snapshot.getRetries()).containsEntry(RetryCause.CONNECTION, 1L);
+  }
+}
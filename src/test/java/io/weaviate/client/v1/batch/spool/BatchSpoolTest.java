@@ -0,0 +1,126 @@
+package io.weaviate.client.v1.batch.spool;
+
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BatchSpoolTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldRecoverRecordsAfterCheckpoint() throws Exception {
+    SpoolConfig config = config(1024);
+    try (BatchSpool spool = BatchSpool.open(config)) {
+      spool.append(bytes("a"));
+      spool.append(bytes("b"));
+      spool.append(bytes("c"));
+      spool.acknowledge(Arrays.asList(1L, 3L));
+      assertThat(spool.getCheckpoint()).isEqualTo(1);
+    }
+
+    try (BatchSpool spool = BatchSpool.open(config)) {
+      assertThat(spool.getCheckpoint()).isEqualTo(1);
+      assertThat(spool.recovered()).extracting(SpoolRecord::getSequence).containsExactly(2L, 3L);
+      assertThat(new String(spool.recovered().get(0).getPayload(), StandardCharsets.UTF_8)).isEqualTo("b");
+      assertThat(spool.append(bytes("d"))).isEqualTo(4);
+    }
+  }
+
+  @Test
+  public void shouldDeleteConfirmedSegments() throws Exception {
+    try (BatchSpool spool = BatchSpool.open(config(1024))) {
+      byte[] payload = new byte[400];
+      for (int i = 0; i < 6; i++) {
+        spool.append(payload);
+      }
+      assertThat(spool.getSegmentCount()).isEqualTo(3);
+
+      spool.acknowledge(Arrays.asList(1L, 2L, 3L, 4L));
+
+      assertThat(spool.getSegmentCount()).isEqualTo(1);
+      assertThat(segmentFiles()).hasSize(1);
+    }
+  }
+
+  @Test
+  public void shouldDeleteConfirmedSegmentsPastRecordsLeftForReplay() throws Exception {
+    SpoolConfig config = config(1024);
+    try (BatchSpool spool = BatchSpool.open(config)) {
+      byte[] payload = new byte[400];
+      long left = spool.append(payload);
+      for (int i = 0; i < 20; i++) {
+        spool.acknowledge(Arrays.asList(spool.append(payload)));
+      }
+
+      assertThat(spool.getCheckpoint()).isZero();
+      // the segment holding the unacknowledged record and the active one
+      assertThat(spool.getSegmentCount()).isEqualTo(2);
+      assertThat(segmentFiles()).hasSize(2);
+      assertThat(left).isEqualTo(1);
+    }
+
+    try (BatchSpool spool = BatchSpool.open(config)) {
+      assertThat(spool.recovered()).extracting(SpoolRecord::getSequence).containsExactly(1L, 2L, 21L);
+      spool.acknowledge(Arrays.asList(1L, 2L, 21L));
+      assertThat(spool.getCheckpoint()).isEqualTo(21);
+      assertThat(spool.getSegmentCount()).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void shouldStopRecoveryAtDamagedRecord() throws Exception {
+    SpoolConfig config = config(1024);
+    try (BatchSpool spool = BatchSpool.open(config)) {
+      spool.append(bytes("first"));
+      spool.append(bytes("second"));
+    }
+    Path segment = segmentFiles()[0];
+    try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+      // flip a payload byte of the second record
+      long offset = BatchSpool.HEADER_BYTES + "first".length() + BatchSpool.HEADER_BYTES;
+      file.seek(offset);
+      file.write('S');
+    }
+
+    try (BatchSpool spool = BatchSpool.open(config)) {
+      assertThat(spool.recovered()).extracting(SpoolRecord::getSequence).containsExactly(1L);
+      assertThat(spool.append(bytes("third"))).isEqualTo(2);
+    }
+    try (BatchSpool spool = BatchSpool.open(config)) {
+      assertThat(spool.recovered())
+        .extracting(r -> new String(r.getPayload(), StandardCharsets.UTF_8))
+        .containsExactly("first", "third");
+    }
+  }
+
+  private SpoolConfig config(int segmentBytes) {
+    return SpoolConfig.defaultConfig()
+      .directory(folder.getRoot().toPath())
+      .segmentBytes(segmentBytes)
+      .build();
+  }
+
+  private Path[] segmentFiles() throws Exception {
+    try (Stream<Path> files = Files.list(folder.getRoot().toPath())) {
+      return files.filter(p -> p.getFileName().toString().startsWith("segment-"))
+        .sorted()
+        .collect(Collectors.toList())
+        .toArray(new Path[0]);
+    }
+  }
+
+  private static byte[] bytes(String value) {
+    return value.getBytes(StandardCharsets.UTF_8);
+  }
+}
@@ -0,0 +1,25 @@
+package io.weaviate.client.v1.batch.util;
+
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class BeaconEncoderTest {
+
+  @Test
+  public void shouldEncodeBeacons() {
+    BeaconEncoder encoder = new BeaconEncoder(true);
+
+    assertThat(encoder.from("Pizza", "id-1", "hasTopping")).isEqualTo("weaviate://localhost/Pizza/id-1/hasTopping");
+    assertThat(encoder.to("Topping", "id-2")).isEqualTo("weaviate://localhost/Topping/id-2");
+    assertThat(encoder.to(null, "id-3")).isEqualTo("weaviate://localhost/id-3");
+  }
+
+  @Test
+  public void shouldSkipTargetClassNameIfNotSupported() {
+    BeaconEncoder encoder = new BeaconEncoder(false);
+
+    assertThat(encoder.to("Topping", "id-2")).isEqualTo("weaviate://localhost/id-2");
+    assertThat(encoder.from("Pizza", "id-1", "hasTopping")).isEqualTo("weaviate://localhost/Pizza/id-1/hasTopping");
+  }
+}
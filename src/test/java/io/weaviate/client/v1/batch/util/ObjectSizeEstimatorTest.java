@@ -0,0 +1,64 @@
+package io.weaviate.client.v1.batch.util;
+
+import io.weaviate.client.base.Serializer;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import org.junit.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+public class ObjectSizeEstimatorTest {
+
+  private final Serializer serializer = new Serializer();
+
+  @Test
+  public void shouldEstimateCloseToSerializedSize() {
+    Random random = new Random(1);
+    Float[] vector = new Float[768];
+    for (int i = 0; i < vector.length; i++) {
+      vector[i] = random.nextFloat() * 2 - 1;
+    }
+    Map<String, Object> properties = new HashMap<>();
+    properties.put("title", "Żółta łódź \"podwodna\"");
+    properties.put("body", String.join(" ", Collections.nCopies(200, "lorem ipsum")));
+    properties.put("tags", Arrays.asList("a", "b", "c"));
+    properties.put("count", 42);
+    properties.put("published", true);
+
+    WeaviateObject object = WeaviateObject.builder()
+      .id("c8f8f2a1-9c53-4b1c-a7c5-2e6c8c8f4b1a")
+      .className("Article")
+      .properties(properties)
+      .vector(vector)
+      .build();
+
+    long actual = serializer.toJsonString(object).getBytes(StandardCharsets.UTF_8).length;
+    long estimated = ObjectSizeEstimator.estimate(object);
+
+    assertThat((double) estimated).isCloseTo(actual, within(actual * 0.15));
+  }
+
+  @Test
+  public void shouldGrowWithVectorDimension() {
+    WeaviateObject small = WeaviateObject.builder().className("Article").vector(new Float[10]).build();
+    WeaviateObject large = WeaviateObject.builder().className("Article").vector(new Float[1000]).build();
+
+    assertThat(ObjectSizeEstimator.estimate(large) - ObjectSizeEstimator.estimate(small))
+      .isGreaterThanOrEqualTo(990L * 10);
+  }
+
+  @Test
+  public void shouldCountUtf8Bytes() {
+    assertThat(ObjectSizeEstimator.estimateString("abc")).isEqualTo(5);
+    assertThat(ObjectSizeEstimator.estimateString("ł")).isEqualTo(4);
+    assertThat(ObjectSizeEstimator.estimateString("水")).isEqualTo(5);
+    assertThat(ObjectSizeEstimator.estimateString("😀")).isEqualTo(6);
+    assertThat(ObjectSizeEstimator.estimateString("\"")).isEqualTo(4);
+  }
+}
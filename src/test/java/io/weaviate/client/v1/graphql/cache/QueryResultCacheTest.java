@@ -0,0 +1,175 @@
+package io.weaviate.client.v1.graphql.cache;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.WeaviateErrorMessage;
+import io.weaviate.client.base.WeaviateErrorResponse;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class QueryResultCacheTest {
+
+  private static final String QUERY_PIZZA = "{Get{Pizza{name}}}";
+  private static final String QUERY_SOUP = "{Get{Soup{name}}}";
+
+  private AtomicLong now;
+  private AtomicInteger loads;
+
+  @Before
+  public void before() {
+    now = new AtomicLong(1000);
+    loads = new AtomicInteger();
+  }
+
+  @Test
+  public void shouldServeCachedResult() {
+    QueryResultCache cache = cache(10, 1_000_000, 100);
+
+    Result<GraphQLResponse> first = cache.getOrLoad(QUERY_PIZZA, "Pizza", loader("pizza"));
+    Result<GraphQLResponse> second = cache.getOrLoad(QUERY_PIZZA, "Pizza", loader("pizza"));
+
+    assertThat(second.getResult().getData()).isEqualTo(first.getResult().getData());
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(cache.getStats().getHits()).isEqualTo(1);
+    assertThat(cache.getStats().getMisses()).isEqualTo(1);
+    assertThat(cache.getStats().getEntries()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldExpireEntriesAfterTtl() {
+    QueryResultCache cache = cache(10, 1_000_000, 100);
+
+    cache.getOrLoad(QUERY_PIZZA, "Pizza", loader("pizza"));
+    now.addAndGet(100);
+    cache.getOrLoad(QUERY_PIZZA, "Pizza", loader("pizza"));
+
+    assertThat(loads.get()).isEqualTo(2);
+    assertThat(cache.getStats().getExpirations()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldEvictLeastRecentlyUsed() {
+    QueryResultCache cache = cache(2, 1_000_000, 100);
+
+    cache.getOrLoad(QUERY_PIZZA, "Pizza", loader("pizza"));
+    cache.getOrLoad(QUERY_SOUP, "Soup", loader("soup"));
+    cache.getOrLoad(QUERY_PIZZA, "Pizza", loader("pizza"));
+    cache.getOrLoad("{Get{Risotto{name}}}", "Risotto", loader("risotto"));
+
+    assertThat(cache.get(QUERY_PIZZA)).isNotNull();
+    assertThat(cache.get(QUERY_SOUP)).isNull();
+    assertThat(cache.getStats().getEvictions()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldEvictWhenBytesExceeded() {
+    long oneEntry = QueryResultCache.estimateBytes(QUERY_PIZZA) + QueryResultCache.estimateBytes(data("pizza"));
+    QueryResultCache cache = cache(10, oneEntry + 10, 100);
+
+    cache.getOrLoad(QUERY_PIZZA, "Pizza", loader("pizza"));
+    cache.getOrLoad("{Get{Pizza{name price}}}", "Pizza", loader("pizza"));
+
+    assertThat(cache.getStats().getEntries()).isEqualTo(1);
+    assertThat(cache.getStats().getBytes()).isLessThanOrEqualTo(oneEntry + 10);
+  }
+
+  @Test
+  public void shouldInvalidateOnlyWrittenClass() {
+    QueryResultCache cache = cache(10, 1_000_000, 100);
+
+    cache.getOrLoad(QUERY_PIZZA, "Pizza", loader("pizza"));
+    cache.getOrLoad(QUERY_SOUP, "Soup", loader("soup"));
+    cache.invalidateClass("pizza");
+
+    assertThat(cache.get(QUERY_PIZZA)).isNull();
+    assertThat(cache.get(QUERY_SOUP)).isNotNull();
+    assertThat(cache.getStats().getInvalidations()).isEqualTo(1);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldServeCopiesOfCachedData() {
+    QueryResultCache cache = cache(10, 1_000_000, 100);
+    Map<String, Object> pizza = new HashMap<>();
+    pizza.put("name", "margherita");
+    cache.getOrLoad(QUERY_PIZZA, "Pizza",
+      () -> new Result<>(200, GraphQLResponse.builder().data(Collections.singletonMap("Get", pizza)).build(), null));
+
+    pizza.put("name", "changed by caller");
+    Result<GraphQLResponse> cached = cache.get(QUERY_PIZZA);
+    ((Map<String, Object>) ((Map<?, ?>) cached.getResult().getData()).get("Get")).put("name", "changed again");
+
+    assertThat(cache.get(QUERY_PIZZA).getResult().getData())
+      .isEqualTo(Collections.singletonMap("Get", Collections.singletonMap("name", "margherita")));
+  }
+
+  @Test
+  public void shouldBoundInvalidatedClasses() {
+    QueryResultCache cache = cache(10, 1_000_000, 100);
+    cache.getOrLoad(QUERY_SOUP, "Soup", loader("soup"));
+
+    for (int i = 0; i < QueryResultCache.MAX_INVALIDATED_CLASSES; i++) {
+      cache.invalidateClass("Class" + i);
+    }
+    assertThat(cache.invalidatedClasses()).isEqualTo(QueryResultCache.MAX_INVALIDATED_CLASSES);
+    assertThat(cache.get(QUERY_SOUP)).isNotNull();
+
+    cache.invalidateClass("Pizza");
+    assertThat(cache.invalidatedClasses()).isZero();
+    assertThat(cache.get(QUERY_SOUP)).isNull();
+  }
+
+  @Test
+  public void shouldNotCacheResultLoadedDuringWrite() {
+    QueryResultCache cache = cache(10, 1_000_000, 100);
+
+    cache.getOrLoad(QUERY_PIZZA, "Pizza", () -> {
+      cache.invalidateClass("Pizza");
+      return loader("pizza").get();
+    });
+
+    assertThat(cache.get(QUERY_PIZZA)).isNull();
+  }
+
+  @Test
+  public void shouldNotCacheErrors() {
+    QueryResultCache cache = cache(10, 1_000_000, 100);
+    WeaviateErrorResponse error = WeaviateErrorResponse.builder()
+      .error(Collections.singletonList(WeaviateErrorMessage.builder().message("failed").build()))
+      .build();
+
+    cache.getOrLoad(QUERY_PIZZA, "Pizza", () -> new Result<>(500, null, error));
+
+    assertThat(cache.getStats().getEntries()).isZero();
+  }
+
+
+  private QueryResultCache cache(int maxEntries, long maxBytes, long ttlMs) {
+    QueryResultCacheConfig config = QueryResultCacheConfig.defaultConfig()
+      .maxEntries(maxEntries)
+      .maxBytes(maxBytes)
+      .ttlMs(ttlMs)
+      .build();
+    return new QueryResultCache(config, now::get);
+  }
+
+  private Supplier<Result<GraphQLResponse>> loader(String name) {
+    return () -> {
+      loads.incrementAndGet();
+      return new Result<>(200, GraphQLResponse.builder().data(data(name)).build(), null);
+    };
+  }
+
+  private Object data(String name) {
+    return Collections.singletonMap("Get", Collections.singletonMap("name", name));
+  }
+}
@@ -0,0 +1,166 @@
+package io.weaviate.client.v1.graphql.cache;
+
+import io.weaviate.client.base.Result;
+import io.weaviate.client.v1.graphql.model.GraphQLResponse;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class SemanticQueryCacheTest {
+
+  private static final String SCOPE_PIZZA = "{Get{Pizza(nearVector:{distance:0.3}){name}}}";
+  private static final String SCOPE_SOUP = "{Get{Soup(nearVector:{distance:0.3}){name}}}";
+
+  private AtomicInteger loads;
+
+  @Before
+  public void before() {
+    loads = new AtomicInteger();
+  }
+
+  @Test
+  public void shouldAnswerSimilarVectorFromCache() {
+    SemanticQueryCache cache = cache(config().build());
+
+    Result<GraphQLResponse> first = cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{1f, 0.5f, 0.25f}, loader("id-1"));
+    Result<GraphQLResponse> second = cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{1f, 0.51f, 0.25f}, loader("id-1"));
+
+    assertThat(second.getResult().getData()).isEqualTo(first.getResult().getData());
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(cache.getStats().getHits()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotAnswerDistantVectorFromCache() {
+    SemanticQueryCache cache = cache(config().build());
+
+    cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{1f, 0f, 0f}, loader("id-1"));
+    cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{0f, 1f, 0f}, loader("id-2"));
+
+    assertThat(loads.get()).isEqualTo(2);
+    assertThat(cache.getStats().getEntries()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotMixScopes() {
+    SemanticQueryCache cache = cache(config().build());
+
+    cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{1f, 0.5f}, loader("id-1"));
+    cache.getOrLoad(SCOPE_SOUP, "Soup", new Float[]{1f, 0.5f}, loader("id-2"));
+
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldInvalidateClass() {
+    SemanticQueryCache cache = cache(config().build());
+
+    cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{1f, 0.5f}, loader("id-1"));
+    cache.invalidateClass("Pizza");
+    cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{1f, 0.5f}, loader("id-1"));
+
+    assertThat(loads.get()).isEqualTo(2);
+    assertThat(cache.getStats().getInvalidations()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldServeCopiesOfCachedData() {
+    SemanticQueryCache cache = cache(config().build());
+
+    Result<GraphQLResponse> loaded = cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{1f, 0.5f}, loader("id-1"));
+    pizzas(loaded).clear();
+    pizzas(cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{1f, 0.5f}, loader("id-1"))).clear();
+
+    Result<GraphQLResponse> cached = cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{1f, 0.5f}, loader("id-1"));
+    assertThat(loads.get()).isEqualTo(1);
+    assertThat(pizzas(cached)).hasSize(1);
+  }
+
+  @Test
+  public void shouldBoundInvalidatedClasses() {
+    SemanticQueryCache cache = cache(config().build());
+    cache.getOrLoad(SCOPE_SOUP, "Soup", new Float[]{1f, 0.5f}, loader("id-1"));
+
+    for (int i = 0; i < QueryResultCache.MAX_INVALIDATED_CLASSES; i++) {
+      cache.invalidateClass("Class" + i);
+    }
+    assertThat(cache.invalidatedClasses()).isEqualTo(QueryResultCache.MAX_INVALIDATED_CLASSES);
+
+    cache.invalidateClass("Pizza");
+    assertThat(cache.invalidatedClasses()).isZero();
+    cache.getOrLoad(SCOPE_SOUP, "Soup", new Float[]{1f, 0.5f}, loader("id-1"));
+    assertThat(loads.get()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldEvictInInsertionOrderWithFifo() {
+    SemanticQueryCache cache = cache(config()
+      .maxEntries(2)
+      .evictionPolicy(SemanticQueryCacheConfig.EvictionPolicy.FIFO)
+      .build());
+
+    cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{1f, 0f, 0f}, loader("id-1"));
+    cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{0f, 1f, 0f}, loader("id-2"));
+    cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{1f, 0f, 0f}, loader("id-1"));
+    cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{0f, 0f, 1f}, loader("id-3"));
+
+    assertThat(cache.getStats().getEvictions()).isEqualTo(1);
+    assertThat(cache.get(SCOPE_PIZZA, new float[]{1f, 0f, 0f})).isNull();
+    assertThat(cache.get(SCOPE_PIZZA, new float[]{0f, 1f, 0f})).isNotNull();
+  }
+
+  @Test
+  public void shouldReportFalseHits() {
+    SemanticQueryCache cache = cache(config().verificationRate(1f).build());
+
+    cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{1f, 0.5f}, loader("id-1"));
+    cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{1f, 0.501f}, loader("id-1"));
+    cache.getOrLoad(SCOPE_PIZZA, "Pizza", new Float[]{1f, 0.502f}, loader("id-2"));
+
+    SemanticQueryCacheStats stats = cache.getStats();
+    assertThat(stats.getVerifiedHits()).isEqualTo(2);
+    assertThat(stats.getFalseHits()).isEqualTo(1);
+    assertThat(stats.getFalseHitRate()).isEqualTo(0.5);
+  }
+
+
+  private SemanticQueryCacheConfig.SemanticQueryCacheConfigBuilder config() {
+    return SemanticQueryCacheConfig.defaultConfig()
+      .distanceThreshold(0.01f)
+      .verificationRate(0f);
+  }
+
+  private SemanticQueryCache cache(SemanticQueryCacheConfig config) {
+    return new SemanticQueryCache(config, () -> 1000L);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<Object> pizzas(Result<GraphQLResponse> result) {
+    Map<String, Object> get = (Map<String, Object>) ((Map<String, Object>) result.getResult().getData()).get("Get");
+    return (List<Object>) get.get("Pizza");
+  }
+
+  private Supplier<Result<GraphQLResponse>> loader(String id) {
+    return () -> {
+      loads.incrementAndGet();
+      Map<String, Object> object = new HashMap<>();
+      object.put("name", "Hawaii");
+      object.put("_additional", Collections.singletonMap("id", id));
+      // mutable, like the data deserialized from responses
+      Map<String, Object> get = new HashMap<>();
+      get.put("Pizza", new ArrayList<>(Collections.singletonList(object)));
+      Map<String, Object> data = new HashMap<>();
+      data.put("Get", get);
+      return new Result<>(200, GraphQLResponse.builder().data(data).build(), null);
+    };
+  }
+}
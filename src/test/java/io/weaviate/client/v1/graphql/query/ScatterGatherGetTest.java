@@ -0,0 +1,141 @@
+package io.weaviate.client.v1.graphql.query;
+
+import io.weaviate.client.Config;
+import io.weaviate.client.base.Result;
+import io.weaviate.client.base.http.HttpClient;
+import io.weaviate.client.base.http.HttpResponse;
+import io.weaviate.client.v1.graphql.model.ScatterGatherHit;
+import io.weaviate.client.v1.graphql.model.ScatterGatherResponse;
+import io.weaviate.client.v1.graphql.query.argument.HybridArgument;
+import io.weaviate.client.v1.graphql.query.argument.NearVectorArgument;
+import io.weaviate.client.v1.graphql.query.fields.Field;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class ScatterGatherGetTest {
+
+  private static final String PIZZA_EU = "{\"data\":{\"Get\":{\"PizzaEU\":["
+    + "{\"name\":\"Hawaii\",\"_additional\":{\"id\":\"eu-1\",\"distance\":0.1,\"score\":\"0.9\"}},"
+    + "{\"name\":\"Doener\",\"_additional\":{\"id\":\"eu-2\",\"distance\":0.4,\"score\":\"0.3\"}}]}}}";
+  private static final String PIZZA_US = "{\"data\":{\"Get\":{\"PizzaUS\":["
+    + "{\"name\":\"Chicago\",\"_additional\":{\"id\":\"us-1\",\"distance\":0.2,\"score\":\"0.8\"}},"
+    + "{\"name\":\"New York\",\"_additional\":{\"id\":\"us-2\",\"distance\":0.3,\"score\":\"0.5\"}}]}}}";
+
+  private final Config config = new Config("http", "localhost:8080");
+
+  @Test
+  public void shouldMergeTopHitsByDistance() throws Exception {
+    HttpClient httpClient = mockClient(0);
+
+    Result<ScatterGatherResponse> result = new ScatterGatherGet(() -> new Get(httpClient, config), config.getExecutors())
+      .withClassNames("PizzaEU", "PizzaUS")
+      .withFields(Field.builder().name("name").build())
+      .withNearVector(NearVectorArgument.builder().vector(new Float[]{1f, 2f}).build())
+      .withLimit(3)
+      .run();
+
+    assertThat(result.hasErrors()).isFalse();
+    assertThat(result.getResult().isPartial()).isFalse();
+    assertThat(ids(result.getResult())).isEqualTo("eu-1,us-1,us-2");
+    Mockito.verify(httpClient, Mockito.times(2)).sendPostRequest(ArgumentMatchers.anyString(),
+      ArgumentMatchers.contains("_additional{id distance}"));
+  }
+
+  @Test
+  public void shouldMergeTopHitsByScore() throws Exception {
+    HttpClient httpClient = mockClient(0);
+
+    Result<ScatterGatherResponse> result = new ScatterGatherGet(() -> new Get(httpClient, config), config.getExecutors())
+      .withClassNames("PizzaEU", "PizzaUS")
+      .withHybrid(HybridArgument.builder().query("pizza").build())
+      .withLimit(3)
+      .run();
+
+    assertThat(ids(result.getResult())).isEqualTo("eu-1,us-1,us-2");
+  }
+
+  @Test
+  public void shouldReturnPartialResultOnClassTimeout() throws Exception {
+    HttpClient httpClient = mockClient(2000);
+
+    Result<ScatterGatherResponse> result = new ScatterGatherGet(() -> new Get(httpClient, config), config.getExecutors())
+      .withClassNames("PizzaEU", "PizzaUS")
+      .withNearVector(NearVectorArgument.builder().vector(new Float[]{1f, 2f}).build())
+      .withClassTimeout(1000)
+      .withClassTimeout("PizzaUS", 100)
+      .run();
+
+    assertThat(result.hasErrors()).isFalse();
+    assertThat(result.getResult().isPartial()).isTrue();
+    assertThat(result.getResult().getTimedOutClasses()).containsExactly("PizzaUS");
+    assertThat(ids(result.getResult())).isEqualTo("eu-1,eu-2");
+  }
+
+  @Test
+  public void shouldReturnPartialResultOnceDeadlinePasses() throws Exception {
+    HttpClient httpClient = mockClient(2000);
+
+    long start = System.currentTimeMillis();
+    Result<ScatterGatherResponse> result = new ScatterGatherGet(() -> new Get(httpClient, config), config.getExecutors())
+      .withClassNames("PizzaEU", "PizzaUS")
+      .withNearVector(NearVectorArgument.builder().vector(new Float[]{1f, 2f}).build())
+      .withClassTimeout(5000)
+      .withDeadline(100)
+      .run();
+
+    assertThat(System.currentTimeMillis() - start).isLessThan(1000);
+    assertThat(result.getResult().getTimedOutClasses()).containsExactly("PizzaUS");
+    assertThat(ids(result.getResult())).isEqualTo("eu-1,eu-2");
+    Mockito.verify(httpClient).sendPostRequest(ArgumentMatchers.anyString(), ArgumentMatchers.contains("PizzaUS"),
+      ArgumentMatchers.eq(100));
+  }
+
+  @Test
+  public void shouldFailWithStatusOfFailedClassWhenAllClassesFail() throws Exception {
+    HttpClient httpClient = Mockito.mock(HttpClient.class);
+    Mockito.when(httpClient.sendPostRequest(ArgumentMatchers.anyString(), ArgumentMatchers.anyString()))
+      .thenReturn(new HttpResponse(500, "{\"error\":[{\"message\":\"shard unavailable\"}]}"));
+
+    Result<ScatterGatherResponse> result = new ScatterGatherGet(() -> new Get(httpClient, config), config.getExecutors())
+      .withClassNames("PizzaEU", "PizzaUS")
+      .withNearVector(NearVectorArgument.builder().vector(new Float[]{1f, 2f}).build())
+      .run();
+
+    assertThat(result.hasErrors()).isTrue();
+    assertThat(result.getError().getStatusCode()).isEqualTo(500);
+    assertThat(result.getResult().getFailedClasses()).containsOnlyKeys("PizzaEU", "PizzaUS");
+  }
+
+  @Test
+  public void shouldFailWithoutSearchArgument() {
+    Result<ScatterGatherResponse> result = new ScatterGatherGet(() -> new Get(null, config), config.getExecutors())
+      .withClassNames("PizzaEU")
+      .run();
+
+    assertThat(result.hasErrors()).isTrue();
+  }
+
+  // PizzaUS answers after given delay
+  private HttpClient mockClient(long usDelayMs) throws Exception {
+    HttpClient httpClient = Mockito.mock(HttpClient.class);
+    Mockito.when(httpClient.sendPostRequest(ArgumentMatchers.anyString(), ArgumentMatchers.contains("PizzaEU")))
+      .thenReturn(new HttpResponse(200, PIZZA_EU));
+    Mockito.when(httpClient.sendPostRequest(ArgumentMatchers.anyString(), ArgumentMatchers.contains("PizzaUS")))
+      .thenAnswer(invocation -> {
+        Thread.sleep(usDelayMs);
+        return new HttpResponse(200, PIZZA_US);
+      });
+    Mockito.when(httpClient.sendPostRequest(ArgumentMatchers.anyString(), ArgumentMatchers.anyString(),
+      ArgumentMatchers.anyInt())).thenCallRealMethod();
+    return httpClient;
+  }
+
+  private String ids(ScatterGatherResponse response) {
+    return response.getHits().stream().map(ScatterGatherHit::getId).collect(Collectors.joining(","));
+  }
+}
@@ -26,6 +26,21 @@ public class WhereArgumentTest {
     assertThat(str).isEqualTo("where:{path:[\"add\"] valueText:\"txt\" operator:And}");
   }
 
+  @Test
+  public void testValueTextArray() {
+    WhereArgument where = WhereArgument.builder()
+      .filter(WhereFilter.builder()
+        .valueTextArray(new String[]{ "id1", "id2" })
+        .operator(Operator.ContainsAny)
+        .path(new String[]{ "id" })
+        .build())
+      .build();
+
+    String str = where.build();
+
+    assertThat(str).isEqualTo("where:{path:[\"id\"] valueTextArray:[\"id1\",\"id2\"] operator:ContainsAny}");
+  }
+
   @Test
   public void testDeprecatedValueString() {
     WhereArgument where = WhereArgument.builder()
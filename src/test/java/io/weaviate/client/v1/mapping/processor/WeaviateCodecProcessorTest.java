@@ -0,0 +1,182 @@
+package io.weaviate.client.v1.mapping.processor;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import io.weaviate.client.v1.data.model.WeaviateObject;
+import io.weaviate.client.v1.mapping.WeaviateCodec;
+import io.weaviate.client.v1.mapping.WeaviateCodecs;
+import io.weaviate.client.v1.schema.model.Property;
+import java.io.File;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+public class WeaviateCodecProcessorTest {
+
+  private static final String PIZZA = String.join("\n",
+    "package food;",
+    "",
+    "import io.weaviate.client.v1.mapping.*;",
+    "import java.util.Date;",
+    "import java.util.UUID;",
+    "",
+    "@WeaviateClass(value = \"Pizza\", description = \"A \\\"tasty\\\" pizza\")",
+    "public class Pizza {",
+    "  @WeaviateId UUID id;",
+    "  @Vector private float[] embedding;",
+    "  @WeaviateProperty(description = \"Name of the pizza\") private String name;",
+    "  @WeaviateProperty(\"price_eur\") double price;",
+    "  @WeaviateProperty boolean vegan;",
+    "  @WeaviateProperty Integer slices;",
+    "  @WeaviateProperty String[] toppings;",
+    "  @WeaviateProperty Date bakedAt;",
+    "  String notMapped;",
+    "",
+    "  public float[] getEmbedding() { return embedding; }",
+    "  public void setEmbedding(float[] embedding) { this.embedding = embedding; }",
+    "  public String getName() { return name; }",
+    "  public void setName(String name) { this.name = name; }",
+    "",
+    "  @WeaviateClass public static class Slice {",
+    "    @WeaviateProperty long weight;",
+    "  }",
+    "}");
+
+  private static final String JSON = "{\"class\":\"Pizza\",\"id\":\"00000000-0000-0000-0000-000000000001\"," +
+    "\"vector\":[0.5,-1.0]," +
+    "\"properties\":{\"name\":\"Hawaii\",\"price_eur\":9.5,\"vegan\":true,\"toppings\":[\"ham\",\"pineapple\"]," +
+    "\"bakedAt\":\"2024-01-02T03:04:05Z\"}}";
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void shouldGenerateCodecs() throws Exception {
+    ClassLoader loader = compile(PIZZA);
+    WeaviateCodec<Object> codec = WeaviateCodecs.of((Class<Object>) loader.loadClass("food.Pizza"));
+
+    assertThat(codec.getClass().getName()).isEqualTo("food.PizzaWeaviateCodec");
+    assertThat(codec.className()).isEqualTo("Pizza");
+    assertThat(codec.schema().getDescription()).isEqualTo("A \"tasty\" pizza");
+    assertThat(codec.schema().getProperties()).extracting(Property::getName)
+      .containsExactly("name", "price_eur", "vegan", "slices", "toppings", "bakedAt");
+    assertThat(codec.schema().getProperties()).extracting(p -> p.getDataType().get(0))
+      .containsExactly("text", "number", "boolean", "int", "text[]", "date");
+    assertThat(codec.schema().getProperties().get(0).getDescription()).isEqualTo("Name of the pizza");
+    assertThat(codec.fields().build())
+      .isEqualTo("name price_eur vegan slices toppings bakedAt _additional{id vector}");
+
+    // read and written back, nulls left out
+    Object pizza = codec.read(new JsonReader(new StringReader(JSON.replace("}}", ",\"other\":{\"a\":1}}}"))));
+    StringWriter json = new StringWriter();
+    codec.write(new JsonWriter(json), pizza);
+    assertThat(json.toString()).isEqualTo(JSON);
+
+    WeaviateObject object = codec.toObject(pizza);
+    assertThat(object.getClassName()).isEqualTo("Pizza");
+    assertThat(object.getId()).isEqualTo("00000000-0000-0000-0000-000000000001");
+    assertThat(object.getVector()).containsExactly(0.5f, -1f);
+    assertThat(object.getProperties())
+      .containsEntry("name", "Hawaii")
+      .containsEntry("price_eur", 9.5)
+      .containsEntry("bakedAt", "2024-01-02T03:04:05Z")
+      .doesNotContainKey("slices");
+    StringWriter fromObject = new StringWriter();
+    codec.write(new JsonWriter(fromObject), codec.fromObject(object));
+    assertThat(fromObject.toString()).isEqualTo(JSON);
+
+    // GraphQL results hold numbers as doubles and arrays as lists
+    Map<String, Object> item = new HashMap<>();
+    item.put("name", "Margherita");
+    item.put("slices", 8.0);
+    item.put("toppings", Arrays.asList("basil"));
+    Map<String, Object> additional = new HashMap<>();
+    additional.put("id", "00000000-0000-0000-0000-000000000002");
+    additional.put("vector", Arrays.asList(1.0, 2.0));
+    item.put("_additional", additional);
+    WeaviateObject fromGraphQL = codec.toObject(codec.fromGraphQL(item));
+    assertThat(fromGraphQL.getId()).isEqualTo("00000000-0000-0000-0000-000000000002");
+    assertThat(fromGraphQL.getVector()).containsExactly(1f, 2f);
+    assertThat(fromGraphQL.getProperties())
+      .containsEntry("name", "Margherita")
+      .containsEntry("slices", 8)
+      .containsEntry("vegan", false);
+    assertThat((String[]) fromGraphQL.getProperties().get("toppings")).containsExactly("basil");
+
+    WeaviateCodec<Object> nested = WeaviateCodecs.of((Class<Object>) loader.loadClass("food.Pizza$Slice"));
+    assertThat(nested.getClass().getName()).isEqualTo("food.Pizza_SliceWeaviateCodec");
+    assertThat(nested.className()).isEqualTo("Slice");
+  }
+
+  @Test
+  public void shouldReportUnsupportedFields() throws Exception {
+    List<String> errors = errors(String.join("\n",
+      "import io.weaviate.client.v1.mapping.*;",
+      "@WeaviateClass",
+      "public class Broken {",
+      "  @WeaviateProperty java.util.List<String> tags;",
+      "  @WeaviateProperty final String name = null;",
+      "  @Vector double[] vector;",
+      "}"));
+
+    assertThat(errors).containsExactlyInAnyOrder(
+      "unsupported property type java.util.List<java.lang.String>",
+      "final fields can not be mapped",
+      "one float[] field can be mapped with @Vector");
+  }
+
+  private ClassLoader compile(String source) throws Exception {
+    assertThat(errors(source)).isEmpty();
+    return new URLClassLoader(new java.net.URL[]{folder.getRoot().toURI().toURL()}, getClass().getClassLoader());
+  }
+
+  private List<String> errors(String source) throws Exception {
+    JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+    assumeTrue("requires a JDK", compiler != null);
+    String name = source.contains("class Pizza") ? "Pizza.java" : "Broken.java";
+    Path file = folder.newFolder().toPath().resolve(name);
+    Files.write(file, source.getBytes(StandardCharsets.UTF_8));
+
+    DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+    try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, StandardCharsets.UTF_8)) {
+      String classpath = String.join(File.pathSeparator,
+        location(WeaviateCodec.class), location(JsonWriter.class), location(Collections.class));
+      List<String> options = Arrays.asList("-classpath", classpath, "-d", folder.getRoot().getPath(),
+        "-processor", WeaviateCodecProcessor.class.getName());
+      compiler.getTask(null, files, diagnostics, options, null, files.getJavaFileObjects(file.toFile())).call();
+    }
+    return diagnostics.getDiagnostics().stream()
+      .filter(d -> d.getKind() == Diagnostic.Kind.ERROR)
+      .map(d -> d.getMessage(null))
+      .collect(Collectors.toList());
+  }
+
+  private static String location(Class<?> type) throws Exception {
+    if (type.getProtectionDomain().getCodeSource() == null) {
+      return "";
+    }
+    return new File(type.getProtectionDomain().getCodeSource().getLocation().toURI()).getPath();
+  }
+}